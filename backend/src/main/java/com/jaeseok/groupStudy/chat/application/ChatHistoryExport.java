@@ -0,0 +1,67 @@
+package com.jaeseok.groupStudy.chat.application;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.jaeseok.groupStudy.chat.application.dto.ChatExportLine;
+import com.jaeseok.groupStudy.chat.domain.ChatMessage;
+import com.jaeseok.groupStudy.chat.domain.repository.ChatHistoryStore;
+import com.jaeseok.groupStudy.chat.infrastructure.ChatHistoryExportLimiter;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Function;
+
+/**
+ * 채팅방 전체 내역 내보내기 (NDJSON, 한 줄에 메세지 하나)
+ * - 저장소에서 오래된 순으로 한 건씩 읽는 대로 바로 쓰므로 채팅방 크기와 관계없이 메모리 사용량이 일정하다.
+ * - 쓰기는 버퍼 단위로 나가므로 응답은 chunked 로 조금씩 전송된다.
+ * - 동시 내보내기 자리를 잡고 있으므로 다 쓴 뒤(또는 실패하면) 반드시 close 한다.
+ */
+public class ChatHistoryExport implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Long roomId;
+    private final ChatHistoryStore chatHistoryStore;
+    private final Function<ChatMessage, ChatExportLine> mapper;
+    private final ObjectWriter writer;
+    private final ChatHistoryExportLimiter.Permit permit;
+
+    ChatHistoryExport(Long roomId, ChatHistoryStore chatHistoryStore, Function<ChatMessage, ChatExportLine> mapper,
+            ObjectWriter writer, ChatHistoryExportLimiter.Permit permit) {
+        this.roomId = roomId;
+        this.chatHistoryStore = chatHistoryStore;
+        this.mapper = mapper;
+        this.writer = writer;
+        this.permit = permit;
+    }
+
+    /**
+     * 전체 내역을 out 에 쓴다. (out 은 닫지 않는다.)
+     * @return 쓴 메세지 수
+     */
+    public long writeTo(OutputStream out) throws IOException {
+        BufferedOutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+        long[] count = new long[1];
+        try {
+            chatHistoryStore.forEachOldestFirst(roomId, message -> {
+                try {
+                    buffered.write(writer.writeValueAsBytes(mapper.apply(message)));
+                    buffered.write('\n');
+                    count[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        buffered.flush();
+        return count[0];
+    }
+
+    @Override
+    public void close() {
+        permit.close();
+    }
+}
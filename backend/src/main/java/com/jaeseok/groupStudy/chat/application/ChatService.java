@@ -1,56 +1,140 @@
 package com.jaeseok.groupStudy.chat.application;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jaeseok.groupStudy.chat.application.dto.ChatAttachmentDownload;
+import com.jaeseok.groupStudy.chat.application.dto.ChatAttachmentInfo;
+import com.jaeseok.groupStudy.chat.application.dto.ChatExportLine;
+import com.jaeseok.groupStudy.chat.application.dto.ChatHistorySlice;
+import com.jaeseok.groupStudy.chat.application.dto.ChatReplayInfo;
 import com.jaeseok.groupStudy.chat.application.dto.SendMessageCommand;
 import com.jaeseok.groupStudy.chat.application.dto.SendMessageInfo;
+import com.jaeseok.groupStudy.chat.application.dto.UnreadCountInfo;
+import com.jaeseok.groupStudy.chat.domain.ChatAttachment;
 import com.jaeseok.groupStudy.chat.domain.ChatMessage;
 import com.jaeseok.groupStudy.chat.domain.ChatRoom;
 import com.jaeseok.groupStudy.chat.domain.MessageType;
-import com.jaeseok.groupStudy.chat.domain.repository.ChatMessageRepository;
+import com.jaeseok.groupStudy.chat.domain.repository.ChatAttachmentRepository;
+import com.jaeseok.groupStudy.chat.domain.repository.ChatHistoryStore;
 import com.jaeseok.groupStudy.chat.domain.repository.ChatRoomRepository;
+import com.jaeseok.groupStudy.chat.domain.vo.ChatHistoryCursor;
+import com.jaeseok.groupStudy.chat.exception.ChatAttachmentNotFoundException;
 import com.jaeseok.groupStudy.chat.exception.ChatRoomNotFoundException;
-import com.jaeseok.groupStudy.member.domain.Member;
-import com.jaeseok.groupStudy.member.domain.MemberRepository;
-import com.jaeseok.groupStudy.member.exception.MemberNotFoundException;
-import com.jaeseok.groupStudy.studyGroup.domain.StudyGroup;
-import com.jaeseok.groupStudy.studyGroup.domain.StudyGroupCommandRepository;
+import com.jaeseok.groupStudy.chat.infrastructure.ChatHistoryExportLimiter;
+import com.jaeseok.groupStudy.chat.infrastructure.ChatMessageDeduplicator;
+import com.jaeseok.groupStudy.chat.infrastructure.ChatMessageWriteBehindQueue;
+import com.jaeseok.groupStudy.chat.infrastructure.ChatReadCursorTracker;
+import com.jaeseok.groupStudy.chat.infrastructure.ChatRoomSequencer;
+import com.jaeseok.groupStudy.chat.infrastructure.RecentChatMessageBuffer;
+import com.jaeseok.groupStudy.chat.infrastructure.attachment.ChatAttachmentBlobStore;
+import com.jaeseok.groupStudy.chat.infrastructure.attachment.ChatAttachmentBlobStore.StoredBlob;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.ChatMentionNotification;
+import com.jaeseok.groupStudy.chat.infrastructure.mention.ChatMentionIndex;
+import com.jaeseok.groupStudy.chat.infrastructure.mention.ChatMentionNotifier;
+import com.jaeseok.groupStudy.chat.infrastructure.moderation.ChatContentFilter;
+import com.jaeseok.groupStudy.chat.infrastructure.search.BigramTokenizer;
+import com.jaeseok.groupStudy.chat.infrastructure.search.ChatMessageSearchIndex;
+import com.jaeseok.groupStudy.member.application.MemberInfoCache;
+import com.jaeseok.groupStudy.member.application.dto.MemberInfoDto;
+import com.jaeseok.groupStudy.studyGroup.domain.participant.ParticipantStatus;
+import com.jaeseok.groupStudy.studyGroup.event.ParticipantStatusChangedEvent;
 import com.jaeseok.groupStudy.studyGroup.event.StudyGroupCreatedEvent;
-import com.jaeseok.groupStudy.studyGroup.exception.StudyGroupNotFoundException;
+import com.jaeseok.groupStudy.studyGroup.infrastructure.membership.StudyGroupMembershipIndex;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Service
 @RequiredArgsConstructor
 public class ChatService {
 
-    private final ChatMessageRepository chatMessageRepository;
+    private static final int MAX_HISTORY_SLICE_SIZE = 100;
+    private static final int MAX_SEARCH_SLICE_SIZE = 50;
+    // 한 번의 검색 요청에서 원문을 확인할 최대 후보 수 = 페이지 크기 x 배수 (bigram 만 일치하는 후보가 많을 때 응답 시간을 제한한다.)
+    private static final int MAX_SEARCH_SCAN_FACTOR = 10;
+    private static final String UNKNOWN_NICKNAME = "알 수 없음";
+    private static final int MAX_FILE_NAME_LENGTH = 255;
+    private static final int MAX_CONTENT_TYPE_LENGTH = 100;
+    private static final String DEFAULT_FILE_NAME = "attachment";
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    private final ChatHistoryStore chatHistoryStore;
     private final ChatRoomRepository chatRoomRepository;
-    private final StudyGroupCommandRepository studyGroupCommandRepository;
-    private final MemberRepository memberRepository;
+    private final StudyGroupMembershipIndex studyGroupMembershipIndex;
+    private final MemberInfoCache memberInfoCache;
+    private final ChatMessageWriteBehindQueue chatMessageWriteBehindQueue;
+    private final RecentChatMessageBuffer recentChatMessageBuffer;
+    private final ChatRoomSequencer chatRoomSequencer;
+    private final ChatMessageSearchIndex chatMessageSearchIndex;
+    private final ChatReadCursorTracker chatReadCursorTracker;
+    private final ChatHistoryExportLimiter chatHistoryExportLimiter;
+    private final ChatMessageDeduplicator chatMessageDeduplicator;
+    private final ChatAttachmentRepository chatAttachmentRepository;
+    private final ChatAttachmentBlobStore chatAttachmentBlobStore;
+    private final ChatContentFilter chatContentFilter;
+    private final ChatMentionIndex chatMentionIndex;
+    private final ChatMentionNotifier chatMentionNotifier;
+    private final ObjectMapper objectMapper;
+
+    // 채팅방 roomId -> 스터디 그룹 id (채팅방은 삭제되지 않으므로 한 번 확인한 매핑은 계속 유효하다)
+    private final Map<Long, Long> chatRoomStudyGroups = new ConcurrentHashMap<>();
 
     // 채팅방 생성
     @EventListener
     public Long createChatRoom(StudyGroupCreatedEvent event) {
         ChatRoom chatRoom = ChatRoom.of(event.studyGroupId());
         chatRoom = chatRoomRepository.save(chatRoom);
+        chatRoomStudyGroups.put(chatRoom.getStudyGroupId(), chatRoom.getStudyGroupId());
 
         return chatRoom.getId();
     }
 
-    // 메시지 전송
+    // 메시지 전송 (이미 받은 클라이언트 메세지 ID 면 null)
     @Transactional
     public SendMessageInfo sendMessage(SendMessageCommand cmd) {
-        validateChatAccess(cmd.roomId(), cmd.senderId());
+        Long studyGroupId = validateChatAccess(cmd.roomId(), cmd.senderId());
+        if (cmd.type() == MessageType.ATTACHMENT) {
+            throw new IllegalArgumentException("첨부 파일은 첨부 파일 업로드로만 보낼 수 있습니다.");
+        }
+
+        // 재전송된 메세지는 순번 발급/저장 전에 버린다. (원본은 이미 방송되었다.)
+        if (!chatMessageDeduplicator.register(cmd.roomId(), cmd.senderId(), cmd.clientMessageId())) {
+            return null;
+        }
 
-        Member member = checkMember(cmd.senderId());
+        SendMessageInfo messageInfo;
+        try {
+            MemberInfoDto member = checkMember(cmd.senderId());
 
-        ChatMessage chatMessage = ChatMessage.of(cmd.roomId(), cmd.senderId(), cmd.message(), cmd.type());
-        ChatMessage savedMessage = chatMessageRepository.save(chatMessage);
+            // 금칙어는 저장/방송 전에 가린다. (본문을 한 번만 훑는다.)
+            String content = chatContentFilter.mask(cmd.message());
+            ChatMessage chatMessage = ChatMessage.of(cmd.roomId(), cmd.senderId(), content, cmd.type());
 
-        return new SendMessageInfo(member.getId(), member.getUserInfoNickname(), savedMessage.getContent(), savedMessage.getCreatedAt());
+            messageInfo = saveMessage(chatMessage, member, cmd.clientMessageId(), null);
+        } catch (RuntimeException e) {
+            // 저장하지 못한 메세지는 클라이언트가 같은 ID 로 다시 보낼 수 있도록 잊는다.
+            chatMessageDeduplicator.forget(cmd.roomId(), cmd.senderId(), cmd.clientMessageId());
+            throw e;
+        }
+        notifyMentions(studyGroupId, cmd.roomId(), messageInfo);
+
+        return messageInfo;
     }
 
     // 채팅방 입장 메시지 메서드
@@ -58,15 +142,14 @@ public class ChatService {
     public SendMessageInfo enterChatRoom(Long roomId, Long senderId) {
         validateChatAccess(roomId, senderId);
 
-        Member member = checkMember(senderId);
+        MemberInfoDto member = checkMember(senderId);
 
-        String systemMessage = member.getUserInfoNickname() + "님이 입장하셨습니다.";
+        String systemMessage = member.nickname() + "님이 입장하셨습니다.";
 
         ChatMessage enterMessage = ChatMessage.of(roomId, senderId, systemMessage,
                 MessageType.ENTER);
-        chatMessageRepository.save(enterMessage);
 
-        return new SendMessageInfo(member.getId(), member.getUserInfoNickname(), enterMessage.getContent(), enterMessage.getCreatedAt());
+        return saveMessage(enterMessage, member, null, null);
     }
 
     // 채팅방 퇴장 메시지 메서드
@@ -74,14 +157,58 @@ public class ChatService {
     public SendMessageInfo leaveChatRoom(Long roomId, Long senderId) {
         validateChatAccess(roomId, senderId);
 
-        Member member = checkMember(senderId);
+        MemberInfoDto member = checkMember(senderId);
 
-        String systemMessage = member.getUserInfoNickname() + "님이 퇴장하셨습니다.";
+        String systemMessage = member.nickname() + "님이 퇴장하셨습니다.";
         ChatMessage chatMessage = ChatMessage.of(roomId, senderId, systemMessage,
                 MessageType.LEAVE);
-        chatMessageRepository.save(chatMessage);
 
-        return new SendMessageInfo(member.getId(), member.getUserInfoNickname(), chatMessage.getContent(), chatMessage.getCreatedAt());
+        return saveMessage(chatMessage, member, null, null);
+    }
+
+    // 첨부 파일 전송: 파일을 블롭 저장소에 저장한 뒤 첨부 파일 메세지를 보낸다. (이미 받은 클라이언트 메세지 ID 면 null)
+    // 업로드 스트림을 다 읽을 때까지 커넥션을 잡지 않도록 트랜잭션을 걸지 않는다.
+    public SendMessageInfo sendAttachment(Long roomId, Long senderId, String fileName, String contentType,
+            InputStream content, String clientMessageId) {
+        validateChatAccess(roomId, senderId);
+
+        MemberInfoDto member = checkMember(senderId);
+        StoredBlob blob = chatAttachmentBlobStore.store(content);
+
+        // 재전송된 업로드는 같은 내용이라 블롭이 늘지 않으므로, 저장 후 DB 반영 전에 거른다.
+        if (!chatMessageDeduplicator.register(roomId, senderId, clientMessageId)) {
+            return null;
+        }
+
+        try {
+            ChatAttachment attachment = chatAttachmentRepository.save(ChatAttachment.of(roomId, senderId,
+                    blob.hash(), chatContentFilter.mask(normalizeFileName(fileName)),
+                    normalizeContentType(contentType), blob.size()));
+            ChatMessage chatMessage = ChatMessage.of(roomId, senderId, String.valueOf(attachment.getId()),
+                    MessageType.ATTACHMENT);
+
+            return saveMessage(chatMessage, member, clientMessageId, ChatAttachmentInfo.from(attachment));
+        } catch (RuntimeException e) {
+            // 저장하지 못한 업로드는 클라이언트가 같은 ID 로 다시 보낼 수 있도록 잊는다.
+            chatMessageDeduplicator.forget(roomId, senderId, clientMessageId);
+            throw e;
+        }
+    }
+
+    // 첨부 파일 다운로드 대상 조회 (다른 채팅방의 첨부 파일은 없는 것으로 처리한다.)
+    @Transactional(readOnly = true)
+    public ChatAttachmentDownload getAttachment(Long roomId, Long memberId, Long attachmentId) {
+        validateChatAccess(roomId, memberId);
+
+        ChatAttachment attachment = chatAttachmentRepository.findById(attachmentId)
+                .filter(found -> found.getChatRoomId().equals(roomId))
+                .orElseThrow(() -> new ChatAttachmentNotFoundException("존재하지 않는 첨부 파일 입니다."));
+        Path path = chatAttachmentBlobStore.find(attachment.getContentHash());
+        if (path == null) {
+            throw new ChatAttachmentNotFoundException("첨부 파일 내용을 찾을 수 없습니다.");
+        }
+
+        return new ChatAttachmentDownload(ChatAttachmentInfo.from(attachment), attachment.getContentHash(), path);
     }
 
     // 채팅 내역 조회
@@ -89,35 +216,308 @@ public class ChatService {
     public Page<SendMessageInfo> getChatHistory(Long roomId, Long memberId, Pageable pageable) {
         validateChatAccess(roomId, memberId);
 
-        Page<Object[]> queryResult = chatMessageRepository.findChatMessageHistoryWithUser(
-                roomId, pageable);
+        // 요청 구간이 최근 메세지 버퍼에 모두 있으면 DB를 조회하지 않는다.
+        Optional<Page<SendMessageInfo>> recentPage = recentChatMessageBuffer.findPage(roomId, pageable);
+        if (recentPage.isPresent()) {
+            return recentPage.get();
+        }
+
+        chatMessageWriteBehindQueue.awaitPersisted(roomId);
+        Page<ChatMessage> queryResult = chatHistoryStore.findPage(roomId, pageable);
+
+        return new PageImpl<>(toSendMessageInfos(queryResult.getContent()), queryResult.getPageable(),
+                queryResult.getTotalElements());
+    }
+
+    // 채팅방 순번을 부여하고 최근 메세지 버퍼에 추가한 뒤 DB 반영은 쓰기 지연 큐에 맡기고 바로 응답한다. (브로드캐스트가 DB 왕복을 기다리지 않도록)
+    private SendMessageInfo saveMessage(ChatMessage chatMessage, MemberInfoDto member, String clientMessageId,
+            ChatAttachmentInfo attachment) {
+        chatMessage.assignSeq(chatRoomSequencer.next(chatMessage.getChatRoomId()));
+        SendMessageInfo messageInfo = new SendMessageInfo(member.userId(), member.nickname(),
+                chatMessage.getContent(), chatMessage.getCreatedAt(), chatMessage.getSeq(), clientMessageId,
+                attachment);
+
+        recentChatMessageBuffer.append(chatMessage.getChatRoomId(), messageInfo);
+        chatMessageWriteBehindQueue.enqueue(chatMessage);
+        chatMessageSearchIndex.add(chatMessage);
+        // 내가 보낸 메세지까지는 읽은 것으로 처리한다.
+        chatReadCursorTracker.markRead(chatMessage.getSenderId(), chatMessage.getChatRoomId(), chatMessage.getSeq());
+
+        return messageInfo;
+    }
+
+    // '@닉네임' 으로 언급된 회원에게만 따로 알린다. (방 전체 방송과 별개로, 채팅방을 보고 있지 않아도 받는다.)
+    private void notifyMentions(Long studyGroupId, Long roomId, SendMessageInfo messageInfo) {
+        List<Long> mentionedIds = chatMentionIndex.findMentionedIds(studyGroupId, messageInfo.senderId(),
+                messageInfo.content());
+        if (mentionedIds.isEmpty()) {
+            return;
+        }
+
+        chatMentionNotifier.send(mentionedIds, new ChatMentionNotification(roomId, messageInfo.seq(),
+                messageInfo.senderId(), messageInfo.nickname(), messageInfo.content(), messageInfo.timestamp()));
+    }
+
+    // 커서 기반 채팅 내역 조회: before 커서 이전의 메세지를 최신순으로 size 개 조회 (before 가 없으면 가장 최신부터)
+    @Transactional(readOnly = true)
+    public ChatHistorySlice getChatHistoryBefore(Long roomId, Long memberId, String before, int size) {
+        validateChatAccess(roomId, memberId);
+
+        int limit = Math.clamp(size, 1, MAX_HISTORY_SLICE_SIZE);
+        ChatHistoryCursor cursor = before == null || before.isBlank() ? null : ChatHistoryCursor.decode(before);
+
+        // 방금 보낸 메세지가 빠지지 않도록 이 방의 쓰기 지연 메세지가 저장된 뒤 조회한다.
+        chatMessageWriteBehindQueue.awaitPersisted(roomId);
+        // 다음 페이지 존재 여부를 COUNT 없이 판단하기 위해 하나 더 조회한다.
+        List<ChatMessage> rows = chatHistoryStore.findBefore(roomId, cursor, limit + 1);
+
+        boolean hasNext = rows.size() > limit;
+        List<ChatMessage> slice = hasNext ? rows.subList(0, limit) : rows;
+
+        List<SendMessageInfo> messages = toSendMessageInfos(slice);
+
+        String nextCursor = null;
+        if (hasNext) {
+            ChatMessage last = slice.get(slice.size() - 1);
+            nextCursor = ChatHistoryCursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new ChatHistorySlice(messages, hasNext, nextCursor);
+    }
+
+    // 순번 구간 조회: 브로드캐스트 순번이 건너뛴 구간 (fromSeq, toSeq] 의 메세지를 순번 오름차순으로 조회 (최대 100개)
+    @Transactional(readOnly = true)
+    public List<SendMessageInfo> getChatHistoryRange(Long roomId, Long memberId, long fromSeq, long toSeq) {
+        validateChatAccess(roomId, memberId);
+
+        long from = Math.max(fromSeq, 0L);
+        long to = Math.min(toSeq, from + MAX_HISTORY_SLICE_SIZE);
+        if (to <= from) {
+            return List.of();
+        }
+
+        // 재연결 직후의 짧은 구간은 대부분 최근 메세지 버퍼에 있다.
+        Optional<List<SendMessageInfo>> recent = recentChatMessageBuffer.findRange(roomId, from, to);
+        if (recent.isPresent()) {
+            return recent.get();
+        }
+
+        chatMessageWriteBehindQueue.awaitPersisted(roomId);
+        return toSendMessageInfos(chatHistoryStore.findRange(roomId, from, to));
+    }
+
+    // 채팅 내역 내보내기: 권한을 확인하고 동시 내보내기 자리를 잡는다. (쓰기는 호출한 쪽에서 응답 스트림에 직접 한다.)
+    // 스트리밍 조회가 커넥션을 점유하므로 트랜잭션을 걸지 않는다.
+    public ChatHistoryExport openChatHistoryExport(Long roomId, Long memberId) {
+        validateChatAccess(roomId, memberId);
+
+        ChatHistoryExportLimiter.Permit permit = chatHistoryExportLimiter.acquire(memberId);
+        // 내보내기를 연 시점까지 보낸 메세지는 모두 포함되도록 쓰기 지연 메세지가 저장된 뒤 읽는다.
+        chatMessageWriteBehindQueue.awaitPersisted(roomId);
+        return new ChatHistoryExport(roomId, chatHistoryStore, this::toExportLine,
+                objectMapper.writerFor(ChatExportLine.class), permit);
+    }
+
+    // 재연결 replay: 마지막으로 받은 순번 이후의 메세지를 최근 메세지 버퍼에서만 찾는다. (재연결이 몰려도 DB를 거치지 않는다.)
+    // 구간이 버퍼 밖이면 빈 응답(complete = false)을 보내고, 클라이언트가 구간 조회 API 로 다시 받는다.
+    public ChatReplayInfo replayAfter(Long roomId, Long memberId, long afterSeq) {
+        validateChatAccess(roomId, memberId);
+
+        long latestSeq = chatRoomSequencer.current(roomId);
+        long from = Math.max(afterSeq, 0L);
+        if (from >= latestSeq) {
+            return ChatReplayInfo.complete(roomId, List.of(), latestSeq);
+        }
+
+        return recentChatMessageBuffer.findRange(roomId, from, latestSeq)
+                .map(messages -> ChatReplayInfo.complete(roomId, messages, latestSeq))
+                .orElseGet(() -> ChatReplayInfo.incomplete(roomId, latestSeq));
+    }
+
+    // 채팅 검색: 검색어를 포함하는 메세지를 최신순으로 size 개 조회 (before 는 이전 응답의 nextCursor = 마지막으로 확인한 순번)
+    @Transactional(readOnly = true)
+    public ChatHistorySlice searchChatHistory(Long roomId, Long memberId, String query, String before, int size) {
+        validateChatAccess(roomId, memberId);
+
+        int limit = Math.clamp(size, 1, MAX_SEARCH_SLICE_SIZE);
+        long beforeSeq = parseSeqCursor(before);
+        long[] candidates = chatMessageSearchIndex.search(roomId, query, beforeSeq);
+        String keyword = BigramTokenizer.normalize(query).strip();
+
+        // bigram 이 모두 있어도 붙어 있지 않을 수 있으므로 후보를 페이지 크기만큼씩 읽어 원문을 확인한다.
+        List<SendMessageInfo> hits = new ArrayList<>(limit + 1);
+        int scanned = 0;
+        int maxScan = limit * MAX_SEARCH_SCAN_FACTOR;
+        while (hits.size() <= limit && scanned < candidates.length && scanned < maxScan) {
+            int end = Math.min(candidates.length, scanned + limit);
+            for (SendMessageInfo messageInfo : findBySeqs(roomId, Arrays.copyOfRange(candidates, scanned, end))) {
+                if (BigramTokenizer.normalize(messageInfo.content()).contains(keyword)) {
+                    hits.add(messageInfo);
+                }
+            }
+            scanned = end;
+        }
+
+        if (hits.size() > limit) {
+            List<SendMessageInfo> slice = hits.subList(0, limit);
+            return new ChatHistorySlice(List.copyOf(slice), true, String.valueOf(slice.get(limit - 1).seq()));
+        }
+        // 확인 한도에 걸렸으면 마지막으로 확인한 후보부터 이어서 찾는다.
+        boolean hasNext = scanned < candidates.length;
+        String nextCursor = hasNext ? String.valueOf(candidates[scanned - 1]) : null;
+        return new ChatHistorySlice(hits, hasNext, nextCursor);
+    }
+
+    // 최근 메세지 버퍼에 있는 순번은 버퍼에서, 나머지는 저장소에서 읽어 순번 내림차순으로 반환한다.
+    private List<SendMessageInfo> findBySeqs(Long roomId, long[] seqs) {
+        List<SendMessageInfo> found = new ArrayList<>(seqs.length);
+        List<Long> missing = new ArrayList<>();
+        for (long seq : seqs) {
+            recentChatMessageBuffer.findRange(roomId, seq - 1, seq)
+                    .ifPresentOrElse(found::addAll, () -> missing.add(seq));
+        }
+        if (!missing.isEmpty()) {
+            chatMessageWriteBehindQueue.awaitPersisted(roomId);
+            found.addAll(toSendMessageInfos(chatHistoryStore.findBySeqs(roomId, missing)));
+        }
+        found.sort(Comparator.comparing(SendMessageInfo::seq).reversed());
+        return found;
+    }
+
+    private long parseSeqCursor(String before) {
+        if (before == null || before.isBlank()) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Long.parseLong(before);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    // 읽음 처리: 채팅방을 seq 까지 읽은 것으로 기록한다. (아직 발급되지 않은 순번은 최신 순번으로 맞춘다.)
+    public void markRead(Long roomId, Long memberId, long seq) {
+        validateChatAccess(roomId, memberId);
+
+        chatReadCursorTracker.markRead(memberId, roomId, Math.min(seq, chatRoomSequencer.current(roomId)));
+    }
 
-        return queryResult.map(result -> {
-            ChatMessage chatMessage = (ChatMessage) result[0];
-            String nickname = (String) result[1];
-            Long userId = (Long) result[2];
-            return new SendMessageInfo(userId, nickname, chatMessage.getContent(), chatMessage.getCreatedAt());
-        });
+    // 안 읽은 메세지 수: 채팅방 최신 순번 - 마지막으로 읽은 순번 (메세지를 보낼 때 회원마다 갱신하지 않고 조회할 때 계산한다.)
+    @Transactional(readOnly = true)
+    public List<UnreadCountInfo> getUnreadCounts(Long memberId) {
+        Map<Long, Long> cursors = chatReadCursorTracker.getCursors(memberId);
+
+        List<UnreadCountInfo> unreadCounts = new ArrayList<>();
+        for (Long roomId : studyGroupMembershipIndex.findStudyGroupIds(memberId)) {
+            long lastSeq = chatRoomSequencer.current(roomId);
+            Long lastReadSeq = cursors.get(roomId);
+            if (lastReadSeq == null) {
+                // 커서가 없는 채팅방(읽음 커서 도입 이전 가입)은 지금까지를 읽은 것으로 시작한다.
+                chatReadCursorTracker.markRead(memberId, roomId, lastSeq);
+                lastReadSeq = lastSeq;
+            }
+            unreadCounts.add(new UnreadCountInfo(roomId, Math.max(lastSeq - lastReadSeq, 0L), lastSeq));
+        }
+        return unreadCounts;
     }
 
-    private void validateChatAccess(Long roomId, Long memberId) {
-        ChatRoom chatRoom = checkChatRoom(roomId);
-        StudyGroup studyGroup = checkStudyGroup(chatRoom.getStudyGroupId());
-        studyGroup.isMember(memberId);
+    // 새로 승인된 참여자는 승인 시점까지를 읽은 것으로 시작한다. (가입 전 내역이 모두 안 읽음으로 보이지 않도록)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onParticipantStatusChanged(ParticipantStatusChangedEvent event) {
+        if (event.status() == ParticipantStatus.APPROVED) {
+            chatReadCursorTracker.markRead(event.userId(), event.studyGroupId(),
+                    chatRoomSequencer.current(event.studyGroupId()));
+        }
     }
 
-    private StudyGroup checkStudyGroup(Long studyGroupId) {
-        return studyGroupCommandRepository.findById(studyGroupId)
-                .orElseThrow(() -> new StudyGroupNotFoundException("존재하지 않는 스터디 그룹 입니다."));
+    // 첨부 파일 정보는 목록의 첨부 파일 메세지를 모아 한 번에 조회한다.
+    private List<SendMessageInfo> toSendMessageInfos(List<ChatMessage> chatMessages) {
+        List<Long> attachmentIds = chatMessages.stream()
+                .filter(chatMessage -> chatMessage.getType() == MessageType.ATTACHMENT)
+                .map(chatMessage -> parseAttachmentId(chatMessage.getContent()))
+                .filter(Objects::nonNull)
+                .toList();
+        Map<Long, ChatAttachmentInfo> attachments = attachmentIds.isEmpty()
+                ? Map.of()
+                : chatAttachmentRepository.findAllById(attachmentIds).stream()
+                        .filter(attachment -> chatMessages.get(0).getChatRoomId().equals(attachment.getChatRoomId()))
+                        .map(ChatAttachmentInfo::from)
+                        .collect(Collectors.toMap(ChatAttachmentInfo::id, Function.identity()));
+
+        return chatMessages.stream()
+                .map(chatMessage -> toSendMessageInfo(chatMessage, attachments))
+                .toList();
     }
 
-    private ChatRoom checkChatRoom(Long roomId) {
-        return chatRoomRepository.findByStudyGroupId(roomId)
+    // 닉네임은 유저 캐시에서 매핑한다. (한 페이지의 발신자는 대부분 같은 몇 명이라 캐시 적중률이 높다.)
+    private SendMessageInfo toSendMessageInfo(ChatMessage chatMessage, Map<Long, ChatAttachmentInfo> attachments) {
+        String nickname = memberInfoCache.find(chatMessage.getSenderId())
+                .map(MemberInfoDto::nickname)
+                .orElse(UNKNOWN_NICKNAME);
+        ChatAttachmentInfo attachment = chatMessage.getType() == MessageType.ATTACHMENT
+                ? attachments.get(parseAttachmentId(chatMessage.getContent()))
+                : null;
+        return new SendMessageInfo(chatMessage.getSenderId(), nickname, chatMessage.getContent(),
+                chatMessage.getCreatedAt(), chatMessage.getSeq(), null, attachment);
+    }
+
+    private static Long parseAttachmentId(String content) {
+        try {
+            return Long.valueOf(content);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // 경로가 붙어 오는 브라우저가 있으므로 마지막 이름만 남긴다.
+    private static String normalizeFileName(String fileName) {
+        if (fileName == null || fileName.isBlank()) {
+            return DEFAULT_FILE_NAME;
+        }
+        int separator = Math.max(fileName.lastIndexOf('/'), fileName.lastIndexOf('\\'));
+        String name = fileName.substring(separator + 1).strip();
+        if (name.isEmpty()) {
+            return DEFAULT_FILE_NAME;
+        }
+        return name.length() > MAX_FILE_NAME_LENGTH ? name.substring(0, MAX_FILE_NAME_LENGTH) : name;
+    }
+
+    private static String normalizeContentType(String contentType) {
+        if (contentType == null || contentType.isBlank() || contentType.length() > MAX_CONTENT_TYPE_LENGTH) {
+            return DEFAULT_CONTENT_TYPE;
+        }
+        return contentType;
+    }
+
+    private ChatExportLine toExportLine(ChatMessage chatMessage) {
+        String nickname = memberInfoCache.find(chatMessage.getSenderId())
+                .map(MemberInfoDto::nickname)
+                .orElse(UNKNOWN_NICKNAME);
+        return new ChatExportLine(chatMessage.getSeq(), chatMessage.getSenderId(), nickname, chatMessage.getType(),
+                chatMessage.getContent(), chatMessage.getCreatedAt());
+    }
+
+    // 메세지마다 호출되므로 DB 조회 없이 메모리 인덱스로 권한을 확인한다.
+    // @return 채팅방의 스터디 그룹 id
+    private Long validateChatAccess(Long roomId, Long memberId) {
+        Long studyGroupId = checkChatRoom(roomId);
+        studyGroupMembershipIndex.checkMember(studyGroupId, memberId);
+        return studyGroupId;
+    }
+
+    private Long checkChatRoom(Long roomId) {
+        Long studyGroupId = chatRoomStudyGroups.get(roomId);
+        if (studyGroupId != null) {
+            return studyGroupId;
+        }
+
+        ChatRoom chatRoom = chatRoomRepository.findByStudyGroupId(roomId)
                 .orElseThrow(() -> new ChatRoomNotFoundException("존재하지 않는 채팅방 입니다."));
+        chatRoomStudyGroups.put(roomId, chatRoom.getStudyGroupId());
+        return chatRoom.getStudyGroupId();
     }
 
-    private Member checkMember(Long memberId) {
-        return memberRepository.findById(memberId)
-                .orElseThrow(() -> new MemberNotFoundException("존재하지 않는 유저입니다."));
+    private MemberInfoDto checkMember(Long memberId) {
+        return memberInfoCache.get(memberId);
     }
 }
@@ -0,0 +1,11 @@
+package com.jaeseok.groupStudy.chat.application.dto;
+
+import java.nio.file.Path;
+
+/**
+ * 첨부 파일 다운로드 대상
+ * @param contentHash 내용 해시 (내용이 같으면 항상 같으므로 강한 ETag 로 쓴다.)
+ * @param path 블롭 파일 경로
+ */
+public record ChatAttachmentDownload(ChatAttachmentInfo info, String contentHash, Path path) {
+}
@@ -0,0 +1,16 @@
+package com.jaeseok.groupStudy.chat.application.dto;
+
+import com.jaeseok.groupStudy.chat.domain.ChatAttachment;
+
+/**
+ * 첨부 파일 메세지에 담아 보내는 첨부 파일 정보
+ * @param id 다운로드할 때 쓰는 첨부 파일 ID
+ * @param size 바이트 단위 크기
+ */
+public record ChatAttachmentInfo(Long id, String fileName, String contentType, long size) {
+
+    public static ChatAttachmentInfo from(ChatAttachment attachment) {
+        return new ChatAttachmentInfo(attachment.getId(), attachment.getFileName(), attachment.getContentType(),
+                attachment.getSize());
+    }
+}
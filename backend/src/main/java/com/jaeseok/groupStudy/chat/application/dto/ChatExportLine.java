@@ -0,0 +1,12 @@
+package com.jaeseok.groupStudy.chat.application.dto;
+
+import com.jaeseok.groupStudy.chat.domain.MessageType;
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 내역 내보내기의 한 줄 (NDJSON)
+ * @param seq 채팅방 내 순번 (순번 도입 이전 메세지는 null)
+ */
+public record ChatExportLine(Long seq, Long senderId, String nickname, MessageType type, String content,
+                             LocalDateTime timestamp) {
+}
@@ -0,0 +1,13 @@
+package com.jaeseok.groupStudy.chat.application.dto;
+
+import java.util.List;
+
+/**
+ * 커서 기반 채팅 내역 응답 (전체 개수를 세지 않는다.)
+ * @param messages 최신순 채팅 내역
+ * @param hasNext 더 이전 메세지가 있는지 여부
+ * @param nextCursor 다음(더 이전) 페이지 요청 시 before 로 전달할 커서, 없으면 null
+ */
+public record ChatHistorySlice(List<SendMessageInfo> messages, boolean hasNext, String nextCursor) {
+
+}
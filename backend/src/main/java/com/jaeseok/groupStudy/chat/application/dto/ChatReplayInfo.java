@@ -0,0 +1,20 @@
+package com.jaeseok.groupStudy.chat.application.dto;
+
+import java.util.List;
+
+/**
+ * 재연결한 세션에 다시 보내는 놓친 메세지
+ * @param messages 순번 오름차순
+ * @param latestSeq 채팅방의 최신 순번
+ * @param complete 놓친 구간이 모두 담겼는지 여부 (false 면 클라이언트가 구간 조회 API 로 다시 받는다.)
+ */
+public record ChatReplayInfo(Long roomId, List<SendMessageInfo> messages, long latestSeq, boolean complete) {
+
+    public static ChatReplayInfo complete(Long roomId, List<SendMessageInfo> messages, long latestSeq) {
+        return new ChatReplayInfo(roomId, messages, latestSeq, true);
+    }
+
+    public static ChatReplayInfo incomplete(Long roomId, long latestSeq) {
+        return new ChatReplayInfo(roomId, List.of(), latestSeq, false);
+    }
+}
@@ -6,7 +6,11 @@ public record SendMessageCommand(
         Long roomId,
         Long senderId,
         String message,
-        MessageType type
+        MessageType type,
+        String clientMessageId
 ) {
 
+    public SendMessageCommand(Long roomId, Long senderId, String message, MessageType type) {
+        this(roomId, senderId, message, type, null);
+    }
 }
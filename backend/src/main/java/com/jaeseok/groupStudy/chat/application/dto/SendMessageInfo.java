@@ -7,7 +7,20 @@ public record SendMessageInfo(
         @JsonProperty("senderId") Long senderId,
         @JsonProperty("nickname") String nickname,
         @JsonProperty("content") String content,
-        @JsonProperty("timestamp") LocalDateTime timestamp
+        @JsonProperty("timestamp") LocalDateTime timestamp,
+        @JsonProperty("seq") Long seq,
+        @JsonProperty("clientMessageId") String clientMessageId,
+        // 첨부 파일 메세지일 때만 있다.
+        @JsonProperty("attachment") ChatAttachmentInfo attachment
 ) {
 
+    // 클라이언트 메세지 ID 가 없는 메세지 (입장/퇴장, 저장된 내역)
+    public SendMessageInfo(Long senderId, String nickname, String content, LocalDateTime timestamp, Long seq) {
+        this(senderId, nickname, content, timestamp, seq, null, null);
+    }
+
+    public SendMessageInfo(Long senderId, String nickname, String content, LocalDateTime timestamp, Long seq,
+            String clientMessageId) {
+        this(senderId, nickname, content, timestamp, seq, clientMessageId, null);
+    }
 }
@@ -0,0 +1,11 @@
+package com.jaeseok.groupStudy.chat.application.dto;
+
+/**
+ * 채팅방별 안 읽은 메세지 수
+ * @param roomId 채팅방 ID
+ * @param unreadCount 마지막으로 읽은 순번 이후의 메세지 수
+ * @param lastSeq 채팅방의 최신 메세지 순번
+ */
+public record UnreadCountInfo(Long roomId, long unreadCount, long lastSeq) {
+
+}
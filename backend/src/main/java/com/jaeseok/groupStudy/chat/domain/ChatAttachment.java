@@ -0,0 +1,69 @@
+package com.jaeseok.groupStudy.chat.domain;
+
+import com.jaeseok.groupStudy.common.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채팅 첨부 파일 정보
+ * - 파일 내용은 내용 해시(SHA-256)를 이름으로 블롭 저장소에 한 번만 저장하고, 여기에는 올린 채팅방/이름/형식만 기록한다.
+ *   (같은 파일을 여러 번 올려도 첨부 파일 정보만 늘어난다.)
+ */
+@Entity
+@Table(
+        name = "chat_attachment",
+        indexes = {
+                @Index(name = "idx_chat_attachment_room", columnList = "chat_room_id")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatAttachment extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "chat_room_id")
+    private Long chatRoomId;
+
+    @Column(name = "uploader_id")
+    private Long uploaderId;
+
+    // 블롭 저장소의 내용 해시 (SHA-256, 16진수)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "file_name")
+    private String fileName;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Column(name = "size")
+    private long size;
+
+    public static ChatAttachment of(Long chatRoomId, Long uploaderId, String contentHash, String fileName,
+            String contentType, long size) {
+        return new ChatAttachment(null, chatRoomId, uploaderId, contentHash, fileName, contentType, size);
+    }
+
+    private ChatAttachment(Long id, Long chatRoomId, Long uploaderId, String contentHash, String fileName,
+            String contentType, long size) {
+        this.id = id;
+        this.chatRoomId = chatRoomId;
+        this.uploaderId = uploaderId;
+        this.contentHash = contentHash;
+        this.fileName = fileName;
+        this.contentType = contentType;
+        this.size = size;
+    }
+}
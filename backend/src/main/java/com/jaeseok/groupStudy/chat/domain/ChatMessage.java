@@ -1,28 +1,44 @@
 package com.jaeseok.groupStudy.chat.domain;
 
 import com.jaeseok.groupStudy.common.BaseTimeEntity;
+import com.jaeseok.groupStudy.common.id.TimeOrderedId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(
+        name = "chat_message",
+        indexes = {
+                @Index(name = "idx_chat_message_room_created_id", columnList = "chat_room_id, created_at, id"),
+                // 재연결 시 놓친 구간((fromSeq, toSeq])만 조회할 때 사용
+                @Index(name = "idx_chat_message_room_seq", columnList = "chat_room_id, seq"),
+                // 보관 기간이 지난 메세지를 오래된 순으로 아카이브할 때 사용
+                @Index(name = "idx_chat_message_created_id", columnList = "created_at, id")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ChatMessage extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     Long id;
 
     @Column(name = "chat_room_id")
     Long chatRoomId;
 
+    // 채팅방 안에서 단조 증가하는 메세지 순번 (순번 도입 이전 메세지는 null)
+    @Column(name = "seq")
+    Long seq;
+
     @Column(name = "sender_id")
     Long senderId;
 
@@ -36,11 +52,48 @@ public class ChatMessage extends BaseTimeEntity {
         return new ChatMessage(null, chatRoomId, senderId, content, type);
     }
 
+    // 아카이브 등 DB 밖에 보관된 메세지를 복원할 때 사용한다.
+    public static ChatMessage restore(Long id, Long chatRoomId, Long senderId, String content, MessageType type,
+            LocalDateTime createdAt) {
+        return restore(id, chatRoomId, null, senderId, content, type, createdAt);
+    }
+
+    public static ChatMessage restore(Long id, Long chatRoomId, Long seq, Long senderId, String content,
+            MessageType type, LocalDateTime createdAt) {
+        ChatMessage chatMessage = new ChatMessage(id, chatRoomId, senderId, content, type, createdAt);
+        chatMessage.seq = seq;
+        return chatMessage;
+    }
+
     private ChatMessage(Long id, Long chatRoomId, Long senderId, String content, MessageType type) {
+        // 메세지는 DB에 비동기로 반영되므로 브로드캐스트에 사용할 생성 시각을 생성 시점에 확정한다.
+        // DB(DATETIME(6))와 같은 정밀도로 맞춰 커서 비교 시 반올림 차이가 생기지 않도록 한다.
+        this(id, chatRoomId, senderId, content, type, LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+    }
+
+    private ChatMessage(Long id, Long chatRoomId, Long senderId, String content, MessageType type,
+            LocalDateTime createdAt) {
         this.id = id;
         this.chatRoomId = chatRoomId;
         this.senderId = senderId;
         this.content = content;
         this.type = type;
+        initCreatedAt(createdAt);
+    }
+
+    // JPA 를 거치지 않고 저장(쓰기 지연)할 때 저장 전에 식별자를 부여한다.
+    public void assignId(Long id) {
+        if (this.id != null) {
+            throw new IllegalStateException("이미 식별자가 부여된 메세지입니다.");
+        }
+        this.id = id;
+    }
+
+    // 브로드캐스트 전에 채팅방 순번을 부여한다.
+    public void assignSeq(long seq) {
+        if (this.seq != null) {
+            throw new IllegalStateException("이미 순번이 부여된 메세지입니다.");
+        }
+        this.seq = seq;
     }
 }
@@ -0,0 +1,51 @@
+package com.jaeseok.groupStudy.chat.domain;
+
+import com.jaeseok.groupStudy.chat.domain.vo.ChatReadCursorId;
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원이 채팅방에서 마지막으로 읽은 메세지 순번
+ * - 읽음 처리는 메모리에서 모아 두었다가 주기적으로 반영하므로 엔티티로 수정하지 않는다. (ChatReadCursorTracker)
+ */
+@Entity
+@Table(
+        name = "chat_read_cursor",
+        indexes = {
+                // 회원의 모든 채팅방 커서를 한 번에 적재할 때 사용
+                @Index(name = "idx_chat_read_cursor_member", columnList = "member_id")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatReadCursor {
+
+    @EmbeddedId
+    private ChatReadCursorId id;
+
+    @Column(name = "last_read_seq")
+    private long lastReadSeq;
+
+    public static ChatReadCursor of(Long memberId, Long chatRoomId, long lastReadSeq) {
+        return new ChatReadCursor(ChatReadCursorId.of(memberId, chatRoomId), lastReadSeq);
+    }
+
+    private ChatReadCursor(ChatReadCursorId id, long lastReadSeq) {
+        this.id = id;
+        this.lastReadSeq = lastReadSeq;
+    }
+
+    public Long getMemberId() {
+        return id.getMemberId();
+    }
+
+    public Long getChatRoomId() {
+        return id.getChatRoomId();
+    }
+}
@@ -3,5 +3,7 @@ package com.jaeseok.groupStudy.chat.domain;
 public enum MessageType {
     ENTER,
     CHAT,
-    LEAVE
+    LEAVE,
+    // 첨부 파일 메세지 (content 에 첨부 파일 ID 를 담는다. 순서(ordinal)로 저장되므로 항상 마지막에 추가한다.)
+    ATTACHMENT
 }
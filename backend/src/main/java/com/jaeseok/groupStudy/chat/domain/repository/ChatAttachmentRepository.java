@@ -0,0 +1,7 @@
+package com.jaeseok.groupStudy.chat.domain.repository;
+
+import com.jaeseok.groupStudy.chat.domain.ChatAttachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ChatAttachmentRepository extends JpaRepository<ChatAttachment, Long> {
+}
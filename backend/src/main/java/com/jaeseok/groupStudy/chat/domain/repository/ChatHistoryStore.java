@@ -0,0 +1,102 @@
+package com.jaeseok.groupStudy.chat.domain.repository;
+
+import com.jaeseok.groupStudy.chat.domain.ChatMessage;
+import com.jaeseok.groupStudy.chat.domain.vo.ChatHistoryCursor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 채팅 내역 저장소
+ * - 채팅 내역은 채팅방별로 추가만 되고 최신순으로 읽히므로, 저장 엔진을 교체할 수 있도록 채팅 서비스는 이 인터페이스만 사용한다.
+ * - 기본 구현은 DB(chat_message) + 콜드 아카이브이며, chat-log-store 프로필에서는 로컬 로그 구조 저장소를 사용한다.
+ */
+public interface ChatHistoryStore {
+
+    // 기본 전체 순회 구현에서 한 번에 조회할 순번 구간 크기
+    int EXPORT_WINDOW_SIZE = 1000;
+
+    /**
+     * 메세지를 일괄 저장한다.
+     * @param messages 식별자가 미리 부여된 메세지 목록
+     */
+    void appendAll(List<ChatMessage> messages);
+
+    /**
+     * 해당 채팅방에서 순번이 seq 보다 작은 메세지 수 (순번이 없는 메세지도 포함하며, findPage 의 전체 개수와 같은 범위를 센다.)
+     * @param roomId
+     * @param seq 제외
+     * @return 메세지 수
+     */
+    long countBeforeSeq(Long roomId, long seq);
+
+    /**
+     * 해당 채팅방의 메세지를 최신순으로 페이징하여 조회한다.
+     * @param roomId
+     * @param pageable
+     * @return 메세지 페이지
+     */
+    Page<ChatMessage> findPage(Long roomId, Pageable pageable);
+
+    /**
+     * 커서 이전의 메세지를 최신순으로 최대 limit 개 조회한다.
+     * @param roomId
+     * @param cursor null 이면 가장 최신 메세지부터
+     * @param limit
+     * @return 메세지 목록
+     */
+    List<ChatMessage> findBefore(Long roomId, ChatHistoryCursor cursor, int limit);
+
+    /**
+     * 해당 채팅방에 저장된 가장 큰 메세지 순번을 조회한다.
+     * @param roomId
+     * @return 순번이 있는 메세지가 없으면 0
+     */
+    long findMaxSeq(Long roomId);
+
+    /**
+     * 순번이 (fromSeq, toSeq] 구간인 메세지를 순번 오름차순으로 조회한다.
+     * @param roomId
+     * @param fromSeq 제외
+     * @param toSeq 포함
+     * @return 메세지 목록
+     */
+    List<ChatMessage> findRange(Long roomId, long fromSeq, long toSeq);
+
+    /**
+     * 지정한 순번의 메세지를 조회한다. (순서 보장 없음, 없는 순번은 건너뛴다.)
+     * 기본 구현은 연속된 순번끼리 묶어 구간 조회한다.
+     * @param roomId
+     * @param seqs 조회할 순번
+     * @return 메세지 목록
+     */
+    default List<ChatMessage> findBySeqs(Long roomId, Collection<Long> seqs) {
+        List<Long> sorted = seqs.stream().distinct().sorted().toList();
+        List<ChatMessage> result = new ArrayList<>(sorted.size());
+        int start = 0;
+        for (int i = 1; i <= sorted.size(); i++) {
+            if (i == sorted.size() || sorted.get(i) - sorted.get(i - 1) != 1) {
+                result.addAll(findRange(roomId, sorted.get(start) - 1, sorted.get(i - 1)));
+                start = i;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 해당 채팅방의 모든 메세지를 오래된 순으로 하나씩 넘긴다. (내보내기)
+     * 채팅방 전체를 메모리에 올리지 않도록 구현은 나눠 읽거나 스트리밍으로 읽어야 한다.
+     * 기본 구현은 순번 구간을 나눠 조회한다. (순번이 없는 메세지는 빠진다.)
+     * @param roomId
+     * @param action 메세지마다 호출
+     */
+    default void forEachOldestFirst(Long roomId, Consumer<ChatMessage> action) {
+        long maxSeq = findMaxSeq(roomId);
+        for (long from = 0; from < maxSeq; from += EXPORT_WINDOW_SIZE) {
+            findRange(roomId, from, Math.min(from + EXPORT_WINDOW_SIZE, maxSeq)).forEach(action);
+        }
+    }
+}
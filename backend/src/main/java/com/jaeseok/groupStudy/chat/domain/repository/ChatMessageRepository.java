@@ -1,6 +1,9 @@
 package com.jaeseok.groupStudy.chat.domain.repository;
 
 import com.jaeseok.groupStudy.chat.domain.ChatMessage;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,14 +13,90 @@ import org.springframework.data.repository.query.Param;
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
 
     /**
-     * 해당 채팅방의 메세지 기록 최신순으로 페이징하여 조회한다.
+     * 해당 채팅방에서 순번이 seq 보다 작거나 순번이 없는 메세지 수를 조회한다.
+     * @param chatRoomId
+     * @param seq 제외
+     * @return 메세지 수
+     */
+    @Query("SELECT COUNT(cm) FROM ChatMessage cm "
+            + "WHERE cm.chatRoomId = :chatRoomId AND (cm.seq IS NULL OR cm.seq < :seq)")
+    long countBeforeSeq(@Param("chatRoomId") Long chatRoomId, @Param("seq") long seq);
+
+    /**
+     * 해당 채팅방의 메세지 기록을 최신순으로 페이징하여 조회한다. (닉네임은 유저 캐시에서 매핑하므로 JOIN 하지 않는다.)
      * @param chatRoomId
      * @param pageable
-     * @return 페이지 요구 개수에 맞는 메세지 개수 배열을 반환
+     * @return 페이지 요구 개수에 맞는 메세지 목록
      */
-    @Query("SELECT cm, me.memberInfoEntity.nickname, me.id "
-            + "FROM ChatMessage cm JOIN MemberEntity me ON cm.senderId = me.id "
+    @Query(value = "SELECT cm FROM ChatMessage cm "
             + "WHERE cm.chatRoomId = :chatRoomId "
-            + "ORDER BY cm.createdAt DESC")
-    Page<Object[]> findChatMessageHistoryWithUser(@Param("chatRoomId") Long chatRoomId, Pageable pageable);
+            + "ORDER BY cm.createdAt DESC, cm.id DESC",
+            countQuery = "SELECT COUNT(cm) FROM ChatMessage cm WHERE cm.chatRoomId = :chatRoomId")
+    Page<ChatMessage> findChatMessageHistory(@Param("chatRoomId") Long chatRoomId, Pageable pageable);
+
+    /**
+     * 해당 채팅방의 최신 메세지를 (createdAt, id) 역순으로 조회한다. (전체 개수 조회 없음)
+     * @param chatRoomId
+     * @param pageable 조회 개수 (offset 은 항상 0)
+     * @return 메세지 목록
+     */
+    @Query("SELECT cm FROM ChatMessage cm "
+            + "WHERE cm.chatRoomId = :chatRoomId "
+            + "ORDER BY cm.createdAt DESC, cm.id DESC")
+    List<ChatMessage> findLatestChatMessages(@Param("chatRoomId") Long chatRoomId, Pageable pageable);
+
+    /**
+     * 커서(createdAt, id) 이전의 메세지를 (createdAt, id) 역순으로 조회한다. (전체 개수 조회 없음)
+     * @param chatRoomId
+     * @param createdAt 커서 메세지의 생성 시각
+     * @param id 커서 메세지의 id
+     * @param pageable 조회 개수 (offset 은 항상 0)
+     * @return 메세지 목록
+     */
+    @Query("SELECT cm FROM ChatMessage cm "
+            + "WHERE cm.chatRoomId = :chatRoomId "
+            + "AND (cm.createdAt < :createdAt OR (cm.createdAt = :createdAt AND cm.id < :id)) "
+            + "ORDER BY cm.createdAt DESC, cm.id DESC")
+    List<ChatMessage> findChatMessagesBefore(@Param("chatRoomId") Long chatRoomId,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 기준 시각 이전에 생성된 메세지를 오래된 순으로 조회한다. (아카이브 대상)
+     * @param cutoff 기준 시각
+     * @param pageable 조회 개수 (offset 은 항상 0)
+     * @return 메세지 목록
+     */
+    @Query("SELECT cm FROM ChatMessage cm "
+            + "WHERE cm.createdAt < :cutoff "
+            + "ORDER BY cm.createdAt ASC, cm.id ASC")
+    List<ChatMessage> findChatMessagesCreatedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * 해당 채팅방의 가장 큰 메세지 순번을 조회한다.
+     * @param chatRoomId
+     * @return 순번이 있는 메세지가 없으면 null
+     */
+    @Query("SELECT MAX(cm.seq) FROM ChatMessage cm WHERE cm.chatRoomId = :chatRoomId")
+    Long findMaxSeq(@Param("chatRoomId") Long chatRoomId);
+
+    /**
+     * 순번이 (fromSeq, toSeq] 구간인 메세지를 순번 오름차순으로 조회한다.
+     * @param chatRoomId
+     * @param fromSeq 제외
+     * @param toSeq 포함
+     * @return 메세지 목록
+     */
+    @Query("SELECT cm FROM ChatMessage cm "
+            + "WHERE cm.chatRoomId = :chatRoomId AND cm.seq > :fromSeq AND cm.seq <= :toSeq "
+            + "ORDER BY cm.seq ASC")
+    List<ChatMessage> findChatMessagesBySeqRange(@Param("chatRoomId") Long chatRoomId,
+            @Param("fromSeq") long fromSeq, @Param("toSeq") long toSeq);
+
+    /**
+     * 지정한 순번의 메세지를 조회한다.
+     * @param chatRoomId
+     * @param seqs 조회할 순번
+     * @return 메세지 목록 (순서 보장 없음)
+     */
+    List<ChatMessage> findByChatRoomIdAndSeqIn(Long chatRoomId, Collection<Long> seqs);
 }
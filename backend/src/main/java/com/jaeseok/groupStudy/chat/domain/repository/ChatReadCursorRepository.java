@@ -0,0 +1,19 @@
+package com.jaeseok.groupStudy.chat.domain.repository;
+
+import com.jaeseok.groupStudy.chat.domain.ChatReadCursor;
+import com.jaeseok.groupStudy.chat.domain.vo.ChatReadCursorId;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ChatReadCursorRepository extends JpaRepository<ChatReadCursor, ChatReadCursorId> {
+
+    /**
+     * 회원의 모든 채팅방 읽음 커서를 조회한다.
+     * @param memberId
+     * @return 읽음 커서 목록
+     */
+    @Query("SELECT c FROM ChatReadCursor c WHERE c.id.memberId = :memberId")
+    List<ChatReadCursor> findByMemberId(@Param("memberId") Long memberId);
+}
@@ -0,0 +1,43 @@
+package com.jaeseok.groupStudy.chat.domain.vo;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 채팅 내역 커서 (created_at, id)
+ * - 클라이언트에는 Base64(URL-safe) 문자열로만 노출하여 내부 구조에 의존하지 않도록 한다.
+ * - 같은 시각에 저장된 메세지도 id로 구분되므로 페이지 경계에서 누락/중복이 없다.
+ */
+public record ChatHistoryCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public ChatHistoryCursor {
+        if (createdAt == null || id == null) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    public static ChatHistoryCursor of(LocalDateTime createdAt, Long id) {
+        return new ChatHistoryCursor(createdAt, id);
+    }
+
+    public static ChatHistoryCursor decode(String value) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+            LocalDateTime createdAt = LocalDateTime.parse(decoded.substring(0, delimiterIndex));
+            Long id = Long.parseLong(decoded.substring(delimiterIndex + 1));
+            return new ChatHistoryCursor(createdAt, id);
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,34 @@
+package com.jaeseok.groupStudy.chat.domain.vo;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 읽음 커서 식별자 (회원, 채팅방)
+ */
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatReadCursorId implements Serializable {
+
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "chat_room_id")
+    private Long chatRoomId;
+
+    public static ChatReadCursorId of(Long memberId, Long chatRoomId) {
+        return new ChatReadCursorId(memberId, chatRoomId);
+    }
+
+    private ChatReadCursorId(Long memberId, Long chatRoomId) {
+        this.memberId = memberId;
+        this.chatRoomId = chatRoomId;
+    }
+}
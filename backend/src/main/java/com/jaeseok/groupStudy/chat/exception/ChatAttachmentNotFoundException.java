@@ -0,0 +1,8 @@
+package com.jaeseok.groupStudy.chat.exception;
+
+public class ChatAttachmentNotFoundException extends RuntimeException {
+
+    public ChatAttachmentNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.jaeseok.groupStudy.chat.exception;
+
+public class ChatAttachmentTooLargeException extends RuntimeException {
+
+    public ChatAttachmentTooLargeException(String message) {
+        super(message);
+    }
+}
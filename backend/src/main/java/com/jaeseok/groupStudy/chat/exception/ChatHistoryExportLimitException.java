@@ -0,0 +1,8 @@
+package com.jaeseok.groupStudy.chat.exception;
+
+public class ChatHistoryExportLimitException extends RuntimeException {
+
+    public ChatHistoryExportLimitException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,84 @@
+package com.jaeseok.groupStudy.chat.infrastructure;
+
+import com.jaeseok.groupStudy.chat.exception.ChatHistoryExportLimitException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 내역 내보내기 동시 실행 제한
+ * - 내보내기는 끝날 때까지 DB 커넥션 하나를 잡고 스트리밍하므로, 회원별/전체 동시 실행 수를 제한한다.
+ * - 자리가 없으면 기다리지 않고 바로 거절한다.
+ */
+@Component
+public class ChatHistoryExportLimiter {
+
+    private final int maxPerMember;
+    private final Semaphore slots;
+
+    // <회원 ID, 진행 중인 내보내기 수>
+    private final Map<Long, Integer> running = new ConcurrentHashMap<>();
+
+    public ChatHistoryExportLimiter(
+            @Value("${chat.export.max-concurrent-per-member:1}") int maxPerMember,
+            @Value("${chat.export.max-concurrent:4}") int maxConcurrent
+    ) {
+        this.maxPerMember = maxPerMember;
+        this.slots = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * 내보내기 자리를 잡는다. 다 쓴 뒤 반드시 close 한다.
+     * @throws ChatHistoryExportLimitException 회원 또는 전체 동시 실행 한도를 넘은 경우
+     */
+    public Permit acquire(Long memberId) {
+        boolean[] acquired = new boolean[1];
+        running.compute(memberId, (id, count) -> {
+            int current = count == null ? 0 : count;
+            if (current >= maxPerMember) {
+                return count;
+            }
+            acquired[0] = true;
+            return current + 1;
+        });
+        if (!acquired[0]) {
+            throw new ChatHistoryExportLimitException("이미 진행 중인 채팅 내역 내보내기가 있습니다. 끝난 뒤 다시 시도해주세요.");
+        }
+
+        if (!slots.tryAcquire()) {
+            releaseMember(memberId);
+            throw new ChatHistoryExportLimitException("채팅 내역 내보내기 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return new Permit(memberId);
+    }
+
+    public int getRunningCount(Long memberId) {
+        return running.getOrDefault(memberId, 0);
+    }
+
+    private void releaseMember(Long memberId) {
+        running.computeIfPresent(memberId, (id, count) -> count <= 1 ? null : count - 1);
+    }
+
+    public final class Permit implements AutoCloseable {
+
+        private final Long memberId;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Long memberId) {
+            this.memberId = memberId;
+        }
+
+        // 여러 번 호출해도 한 번만 반납한다.
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                slots.release();
+                releaseMember(memberId);
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.jaeseok.groupStudy.chat.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jaeseok.groupStudy.chat.domain.ChatMessage;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.ArchivedChatMessage;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장하지 못한 채팅 메세지 보관소 (dead letter, 로컬 디스크)
+ * - 쓰기 지연 큐가 재시도와 배치 분할 후에도 저장하지 못한 메세지를 날짜별 NDJSON 파일에 덧붙인다.
+ *   {dir}/chat-dead-letter-{yyyy-MM-dd}.ndjson
+ * - 이미 방송된 메세지이므로 버리지 않고, 원인을 고친 뒤 다시 넣을 수 있도록 아카이브와 같은 형식(ArchivedChatMessage)에 채팅방 id와 오류를 붙여 기록한다.
+ * - DB 장애 중에도 기록할 수 있도록 DB가 아닌 파일에 쓴다.
+ */
+@Component
+public class ChatMessageDeadLetterStore {
+
+    private static final String FILE_PREFIX = "chat-dead-letter-";
+    private static final String FILE_SUFFIX = ".ndjson";
+
+    private final ObjectMapper objectMapper;
+    private final Path baseDir;
+
+    public ChatMessageDeadLetterStore(
+            ObjectMapper objectMapper,
+            @Value("${chat.write-behind.dead-letter-dir:data/chat-dead-letter}") String baseDir
+    ) {
+        this.objectMapper = objectMapper;
+        this.baseDir = Paths.get(baseDir);
+    }
+
+    // 메세지를 오늘 날짜 파일에 덧붙인다. (기록하지 못하면 UncheckedIOException)
+    public synchronized void write(List<ChatMessage> messages, Throwable cause) {
+        Path file = baseDir.resolve(FILE_PREFIX + LocalDate.now() + FILE_SUFFIX);
+        String error = cause == null ? null : cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        try {
+            Files.createDirectories(baseDir);
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (ChatMessage message : messages) {
+                    writer.write(objectMapper.writeValueAsString(
+                            new DeadLetter(message.getChatRoomId(), ArchivedChatMessage.from(message), error)));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("저장하지 못한 채팅 메세지 기록에 실패했습니다. path=" + file, e);
+        }
+    }
+
+    /**
+     * dead letter 파일의 한 줄
+     * @param error 마지막 저장 실패 원인
+     */
+    public record DeadLetter(Long roomId, ArchivedChatMessage message, String error) {
+
+    }
+}
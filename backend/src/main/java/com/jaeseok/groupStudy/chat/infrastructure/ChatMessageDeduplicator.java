@@ -0,0 +1,120 @@
+package com.jaeseok.groupStudy.chat.infrastructure;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메세지 중복 발행 차단 (클라이언트 메세지 ID 기준)
+ * - SockJS 전환이나 타임아웃 재시도로 같은 메세지가 다시 오면 저장/방송 전에 버린다.
+ * - 채팅방마다 최근 windowSize 개의 (발신자, 클라이언트 메세지 ID)만 기억한다. 오래된 ID 는 링 버퍼에서 밀려나며 잊는다.
+ * - 세션을 이어받으면 세션 ID 가 바뀌므로 세션이 아니라 발신자 기준으로 구분한다.
+ * - 등록은 ConcurrentHashMap 의 putIfAbsent 와 원자적 슬롯 교체만 쓰므로 락을 잡지 않는다.
+ * - 저장하지 못한 메세지의 ID 는 forget 으로 잊어, 클라이언트가 같은 ID 로 다시 보낼 수 있게 한다.
+ */
+@Component
+public class ChatMessageDeduplicator {
+
+    private final int windowSize;
+    private final long idleNanos;
+
+    // <채팅방 ID, 최근 메세지 ID 창>
+    private final Map<Long, Window> windows = new ConcurrentHashMap<>();
+
+    private final Counter duplicateCounter;
+
+    public ChatMessageDeduplicator(
+            MeterRegistry meterRegistry,
+            @Value("${chat.dedup.window-size:256}") int windowSize,
+            @Value("${chat.dedup.idle-evict-millis:600000}") long idleEvictMillis
+    ) {
+        this.windowSize = Math.max(windowSize, 1);
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(idleEvictMillis);
+        this.duplicateCounter = Counter.builder("chat.message.duplicate-dropped")
+                .description("클라이언트 메세지 ID 가 중복되어 버린 메세지 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 처음 보는 메세지인지 확인하고 기억한다.
+     * @param clientMessageId 클라이언트가 만든 메세지 ID (없으면 중복 확인을 하지 않는다.)
+     * @return 처음 보는 메세지면 true, 창 안에서 이미 받은 메세지면 false
+     */
+    public boolean register(Long roomId, Long senderId, String clientMessageId) {
+        if (clientMessageId == null || clientMessageId.isBlank()) {
+            return true;
+        }
+        long now = System.nanoTime();
+        Window window = windows.computeIfAbsent(roomId, id -> new Window(windowSize, now));
+        if (!window.register(senderId + ":" + clientMessageId, now)) {
+            duplicateCounter.increment();
+            return false;
+        }
+        return true;
+    }
+
+    // 등록한 메세지를 저장하지 못했을 때 호출한다. (다시 보낸 메세지를 중복으로 버리지 않도록)
+    public void forget(Long roomId, Long senderId, String clientMessageId) {
+        if (clientMessageId == null || clientMessageId.isBlank()) {
+            return;
+        }
+        Window window = windows.get(roomId);
+        if (window != null) {
+            window.forget(senderId + ":" + clientMessageId);
+        }
+    }
+
+    // 한동안 메세지가 없던 채팅방의 창은 정리한다. (그 사이의 재시도는 이미 끝났다.)
+    @Scheduled(fixedDelayString = "${chat.dedup.cleanup-interval-millis:60000}")
+    public void evictIdleWindows() {
+        long now = System.nanoTime();
+        windows.values().removeIf(window -> now - window.lastUsed >= idleNanos);
+    }
+
+    public int getWindowCount() {
+        return windows.size();
+    }
+
+    private static final class Window {
+
+        // <ID, 등록 토큰> (슬롯에서 밀려날 때 같은 등록인 경우에만 잊는다.)
+        private final Map<String, Object> seen = new ConcurrentHashMap<>();
+        private final AtomicReferenceArray<Slot> ring;
+        private final AtomicLong cursor = new AtomicLong();
+        private volatile long lastUsed;
+
+        private Window(int size, long now) {
+            this.ring = new AtomicReferenceArray<>(size);
+            this.lastUsed = now;
+        }
+
+        private boolean register(String key, long now) {
+            lastUsed = now;
+            Object token = new Object();
+            if (seen.putIfAbsent(key, token) != null) {
+                return false;
+            }
+            // 슬롯을 차지하고, 밀려난 가장 오래된 ID 는 잊는다. (잊은 뒤 다시 등록된 ID 는 남긴다.)
+            int slot = (int) (cursor.getAndIncrement() % ring.length());
+            Slot evicted = ring.getAndSet(slot, new Slot(key, token));
+            if (evicted != null) {
+                seen.remove(evicted.key(), evicted.token());
+            }
+            return true;
+        }
+
+        private void forget(String key) {
+            seen.remove(key);
+        }
+
+        private record Slot(String key, Object token) {
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.jaeseok.groupStudy.chat.infrastructure;
+
+import com.jaeseok.groupStudy.chat.domain.ChatMessage;
+import com.jaeseok.groupStudy.chat.domain.repository.ChatHistoryStore;
+import com.jaeseok.groupStudy.common.id.SnowflakeIdGenerator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메세지 쓰기 지연(write-behind) 저장소
+ * - 메세지를 메모리 큐에 넣고 바로 반환하여, 브로드캐스트가 DB 왕복을 기다리지 않도록 한다.
+ * - 큐에 쌓인 메세지는 개수(batch-size) 또는 주기(flush-interval) 기준으로 채팅 내역 저장소에 한 번에 반영된다.
+ * - 큐가 가득 차면 호출 스레드에서 바로 저장하여 메세지를 잃지 않는다.
+ * - 재시도 후에도 배치 저장에 실패하면 배치를 반씩 나눠 저장할 수 있는 행은 저장하고, 끝내 저장하지 못한 행만
+ *   dead letter 파일(ChatMessageDeadLetterStore)에 남긴다. (이미 방송된 메세지이므로 버리지 않는다.)
+ * - 애플리케이션 종료 시 큐에 남은 메세지를 모두 반영한다.
+ * - 식별자는 큐에 넣을 때 시간 순서 id로 미리 부여한다. (저장소가 JPA save 를 거치지 않으므로)
+ * - 채팅방별 대기 메세지 수를 세어 두고, 저장소를 조회하기 전에 그 방의 대기 메세지가 저장될 때까지 기다릴 수 있게 한다.
+ *   (방금 보낸 메세지가 커서 조회나 내보내기에서 빠지지 않도록)
+ */
+@Slf4j
+@Component
+public class ChatMessageWriteBehindQueue {
+
+    private final ChatHistoryStore chatHistoryStore;
+    private final SnowflakeIdGenerator idGenerator;
+    private final ChatMessageDeadLetterStore deadLetterStore;
+    private final Counter deadLetteredCounter;
+    private final Counter droppedCounter;
+    private final BlockingQueue<ChatMessage> queue;
+    private final int batchSize;
+    private final int maxRetries;
+    private final long retryBackoffMillis;
+    private final long awaitTimeoutMillis;
+    private final ScheduledExecutorService flusher;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    // <채팅방 ID, 아직 저장되지 않은 메세지 수> (저장 중인 배치 포함)
+    private final Map<Long, Integer> pendingByRoom = new ConcurrentHashMap<>();
+
+    public ChatMessageWriteBehindQueue(
+            ChatHistoryStore chatHistoryStore,
+            SnowflakeIdGenerator idGenerator,
+            ChatMessageDeadLetterStore deadLetterStore,
+            MeterRegistry meterRegistry,
+            @Value("${chat.write-behind.capacity:10000}") int capacity,
+            @Value("${chat.write-behind.batch-size:100}") int batchSize,
+            @Value("${chat.write-behind.flush-interval-millis:200}") long flushIntervalMillis,
+            @Value("${chat.write-behind.max-retries:3}") int maxRetries,
+            @Value("${chat.write-behind.retry-backoff-millis:100}") long retryBackoffMillis,
+            @Value("${chat.write-behind.await-timeout-millis:2000}") long awaitTimeoutMillis
+    ) {
+        this.chatHistoryStore = chatHistoryStore;
+        this.idGenerator = idGenerator;
+        this.deadLetterStore = deadLetterStore;
+        this.deadLetteredCounter = Counter.builder("chat.write-behind.dead-lettered")
+                .description("저장하지 못해 dead letter 파일에 남긴 채팅 메세지 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("chat.write-behind.dropped")
+                .description("dead letter 파일에도 남기지 못해 잃은 채팅 메세지 수")
+                .register(meterRegistry);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.maxRetries = maxRetries;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.awaitTimeoutMillis = awaitTimeoutMillis;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chat-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    // 메세지에 식별자를 부여하고 저장 대기열에 추가
+    public void enqueue(ChatMessage chatMessage) {
+        if (chatMessage.getId() == null) {
+            chatMessage.assignId(idGenerator.nextId());
+        }
+        pendingByRoom.merge(chatMessage.getChatRoomId(), 1, Integer::sum);
+        if (!queue.offer(chatMessage)) {
+            log.warn("채팅 메세지 저장 대기열이 가득 차 호출 스레드에서 바로 저장합니다. roomId={}", chatMessage.getChatRoomId());
+            write(List.of(chatMessage));
+            return;
+        }
+
+        // 배치 크기만큼 쌓이면 주기를 기다리지 않고 바로 반영 (중복 요청은 하나로 합친다)
+        if (queue.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(() -> {
+                flushRequested.set(false);
+                flushSafely();
+            });
+        }
+    }
+
+    // 아직 DB에 반영되지 않은 메세지 수
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * 채팅방의 대기 메세지가 저장될 때까지 기다린다. (대기 메세지가 없으면 바로 반환한다.)
+     * 저장은 호출한 스레드의 트랜잭션(읽기 전용 등)에 섞이지 않도록 저장 스레드에서 하고,
+     * await-timeout 안에 끝나지 않으면 기다리지 않고 반환한다.
+     */
+    public void awaitPersisted(Long roomId) {
+        if (!pendingByRoom.containsKey(roomId)) {
+            return;
+        }
+        try {
+            flusher.submit(this::flushSafely).get(awaitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException | RejectedExecutionException e) {
+            log.warn("채팅 메세지 저장을 기다리지 못하고 조회합니다. roomId={}", roomId, e);
+        }
+    }
+
+    // 대기열이 빌 때까지 배치 단위로 반영
+    public void flush() {
+        flushLock.lock();
+        try {
+            while (true) {
+                // 저장소가 배치 목록을 보관할 수 있도록 배치마다 새 목록을 사용한다.
+                List<ChatMessage> batch = new ArrayList<>(batchSize);
+                if (queue.drainTo(batch, batchSize) == 0) {
+                    return;
+                }
+                write(batch);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(5, TimeUnit.SECONDS)) {
+                flusher.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            flusher.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        log.info("채팅 메세지 저장 대기열을 모두 반영하고 종료합니다.");
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("채팅 메세지 일괄 저장 중 예상치 못한 오류가 발생했습니다.", e);
+        }
+    }
+
+    // 저장(또는 dead letter)이 끝난 메세지는 채팅방별 대기 수에서 뺀다.
+    private void write(List<ChatMessage> batch) {
+        try {
+            writeWithRetry(batch);
+        } finally {
+            for (ChatMessage message : batch) {
+                pendingByRoom.computeIfPresent(message.getChatRoomId(),
+                        (roomId, count) -> count > 1 ? count - 1 : null);
+            }
+        }
+    }
+
+    // 전체 배치를 재시도하고, 그래도 실패하면 나눠서 저장한다.
+    private void writeWithRetry(List<ChatMessage> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                chatHistoryStore.appendAll(batch);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt > maxRetries) {
+                    log.error("채팅 메세지 {}건 저장에 최종 실패해 나누어 저장합니다.", batch.size(), e);
+                    writeSplit(batch, e);
+                    return;
+                }
+                log.warn("채팅 메세지 {}건 저장 실패, 재시도합니다. attempt={}", batch.size(), attempt);
+                if (!backoff(attempt)) {
+                    log.error("재시도 대기 중 인터럽트되어 채팅 메세지 {}건을 dead letter 로 남깁니다.", batch.size());
+                    deadLetter(batch, e);
+                    return;
+                }
+            }
+        }
+    }
+
+    // 다중 행 INSERT 는 한 행만 잘못되어도 배치 전체가 실패하므로, 반씩 나눠 저장할 수 있는 행은 저장한다.
+    // 일시적인 오류는 전체 배치 재시도에서 걸렀으므로 나눈 배치는 한 번씩만 시도한다.
+    private void writeSplit(List<ChatMessage> batch, RuntimeException cause) {
+        if (batch.size() == 1) {
+            deadLetter(batch, cause);
+            return;
+        }
+
+        int middle = batch.size() / 2;
+        for (List<ChatMessage> half : List.of(batch.subList(0, middle), batch.subList(middle, batch.size()))) {
+            // 저장소가 배치 목록을 보관할 수 있도록 새 목록을 사용한다.
+            List<ChatMessage> part = new ArrayList<>(half);
+            try {
+                chatHistoryStore.appendAll(part);
+            } catch (RuntimeException e) {
+                writeSplit(part, e);
+            }
+        }
+    }
+
+    private void deadLetter(List<ChatMessage> messages, Throwable cause) {
+        try {
+            deadLetterStore.write(messages, cause);
+            deadLetteredCounter.increment(messages.size());
+            log.error("저장하지 못한 채팅 메세지 {}건을 dead letter 로 남겼습니다. ids={}", messages.size(),
+                    messages.stream().map(ChatMessage::getId).toList());
+        } catch (RuntimeException e) {
+            droppedCounter.increment(messages.size());
+            for (ChatMessage message : messages) {
+                log.error("채팅 메세지를 잃었습니다. id={}, roomId={}, seq={}, senderId={}", message.getId(),
+                        message.getChatRoomId(), message.getSeq(), message.getSenderId(), e);
+            }
+        }
+    }
+
+    private boolean backoff(int attempt) {
+        try {
+            Thread.sleep(retryBackoffMillis * attempt);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
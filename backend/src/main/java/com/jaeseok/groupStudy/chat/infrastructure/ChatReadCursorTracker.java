@@ -0,0 +1,115 @@
+package com.jaeseok.groupStudy.chat.infrastructure;
+
+import com.jaeseok.groupStudy.chat.domain.ChatReadCursor;
+import com.jaeseok.groupStudy.chat.domain.repository.ChatReadCursorRepository;
+import com.jaeseok.groupStudy.chat.domain.vo.ChatReadCursorId;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원별 채팅방 읽음 커서 (마지막으로 읽은 메세지 순번)
+ * - 읽음 처리는 메세지를 받을 때마다 자주 일어나므로 메모리에서만 갱신하고, 바뀐 커서만 주기적으로 DB에 한 번에 반영한다.
+ * - 커서는 앞으로만 움직인다. (늦게 도착한 읽음 처리나 다른 탭의 처리가 커서를 되돌리지 않는다.)
+ * - 회원의 커서를 처음 조회할 때 DB 값을 적재해 메모리 값과 합친다.
+ * - 비정상 종료 시 마지막 반영 이후의 읽음 처리는 유실될 수 있다. (안 읽은 수가 조금 많게 보일 뿐이다.)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatReadCursorTracker {
+
+    // MySQL 다중 행 upsert: 이미 더 큰 순번이 반영되어 있으면 유지한다.
+    private static final String UPSERT_SQL = "INSERT INTO chat_read_cursor (member_id, chat_room_id, last_read_seq) "
+            + "VALUES (?, ?, ?) ON DUPLICATE KEY UPDATE last_read_seq = GREATEST(last_read_seq, VALUES(last_read_seq))";
+
+    private final ChatReadCursorRepository chatReadCursorRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    // <회원 ID, 채팅방별 커서>
+    private final Map<Long, MemberCursors> members = new ConcurrentHashMap<>();
+    // 아직 DB에 반영하지 않은 커서 <(회원, 채팅방), 순번>
+    private final Map<ChatReadCursorId, Long> dirty = new ConcurrentHashMap<>();
+
+    /**
+     * 채팅방을 seq 까지 읽은 것으로 처리한다.
+     * @return 커서가 앞으로 움직였으면 true
+     */
+    public boolean markRead(Long memberId, Long roomId, long seq) {
+        MemberCursors cursors = members.computeIfAbsent(memberId, id -> new MemberCursors());
+        long merged = cursors.seqs.merge(roomId, seq, Math::max);
+        if (merged != seq) {
+            return false;
+        }
+        dirty.merge(ChatReadCursorId.of(memberId, roomId), seq, Math::max);
+        return true;
+    }
+
+    /**
+     * 회원의 채팅방별 마지막으로 읽은 순번
+     * @param memberId
+     * @return <채팅방 ID, 순번> (읽기 전용)
+     */
+    public Map<Long, Long> getCursors(Long memberId) {
+        MemberCursors cursors = members.computeIfAbsent(memberId, id -> new MemberCursors());
+        if (!cursors.loaded) {
+            synchronized (cursors) {
+                if (!cursors.loaded) {
+                    for (ChatReadCursor cursor : chatReadCursorRepository.findByMemberId(memberId)) {
+                        cursors.seqs.merge(cursor.getChatRoomId(), cursor.getLastReadSeq(), Math::max);
+                    }
+                    cursors.loaded = true;
+                }
+            }
+        }
+        return Collections.unmodifiableMap(cursors.seqs);
+    }
+
+    // 바뀐 커서를 DB에 반영한다. 실패하면 다음 주기에 다시 반영한다.
+    @Scheduled(fixedDelayString = "${chat.read-cursor.checkpoint-interval-millis:10000}",
+            scheduler = "maintenanceTaskScheduler")
+    public void checkpoint() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>(dirty.size());
+        for (ChatReadCursorId key : dirty.keySet()) {
+            Long seq = dirty.remove(key);
+            if (seq != null) {
+                rows.add(new Object[]{key.getMemberId(), key.getChatRoomId(), seq});
+            }
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+        } catch (RuntimeException e) {
+            rows.forEach(row ->
+                    dirty.merge(ChatReadCursorId.of((Long) row[0], (Long) row[1]), (Long) row[2], Math::max));
+            log.error("읽음 커서 반영에 실패했습니다. 다음 주기에 다시 시도합니다. count={}", rows.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        checkpoint();
+    }
+
+    public int getPendingCount() {
+        return dirty.size();
+    }
+
+    private static final class MemberCursors {
+
+        private final Map<Long, Long> seqs = new ConcurrentHashMap<>();
+        private volatile boolean loaded;
+    }
+}
@@ -0,0 +1,20 @@
+package com.jaeseok.groupStudy.chat.infrastructure;
+
+/**
+ * 채팅방별 마지막 순번 저장소
+ * - 한 채팅방의 순번은 어느 노드에서 발급하든 이 저장소 하나에서 증가시키므로, 여러 노드가 같은 채팅방을 맡아도 겹치거나 빠지지 않는다.
+ * - 처음 쓰는 채팅방은 값이 없으며, ChatRoomSequencer 가 저장소의 최대 순번으로 채운 뒤 증가시킨다.
+ */
+public interface ChatRoomSequenceStore {
+
+    long NONE = -1L;
+
+    // 값이 있으면 1 증가시킨 순번, 없으면 NONE
+    long incrementIfPresent(Long roomId);
+
+    // 마지막 순번, 없으면 NONE
+    long get(Long roomId);
+
+    // 값이 없을 때만 채운다. (다른 노드가 먼저 채웠으면 그 값을 쓴다.)
+    void initializeIfAbsent(Long roomId, long seq);
+}
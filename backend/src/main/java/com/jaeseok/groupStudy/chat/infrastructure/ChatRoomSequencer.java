@@ -0,0 +1,42 @@
+package com.jaeseok.groupStudy.chat.infrastructure;
+
+import com.jaeseok.groupStudy.chat.domain.repository.ChatHistoryStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방별 메세지 순번 발급기
+ * - 순번은 노드 사이에 공유되는 순번 저장소(ChatRoomSequenceStore)에서 발급하므로, 한 채팅방의 순번은 노드가 여럿이어도 겹치거나 빠지지 않는다.
+ * - 저장소에 값이 없는 채팅방은 저장소의 최대 순번에서 이어서 발급한다. (재시작 직후에는 쓰기 지연 큐가 비어 있다.)
+ * - 최대 순번 조회는 맵 락 밖에서 하므로, 처음 쓰는 채팅방의 조회가 다른 채팅방의 발급을 막지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatRoomSequencer {
+
+    private final ChatHistoryStore chatHistoryStore;
+    private final ChatRoomSequenceStore chatRoomSequenceStore;
+
+    public long next(Long roomId) {
+        long seq = chatRoomSequenceStore.incrementIfPresent(roomId);
+        while (seq == ChatRoomSequenceStore.NONE) {
+            initialize(roomId);
+            seq = chatRoomSequenceStore.incrementIfPresent(roomId);
+        }
+        return seq;
+    }
+
+    // 마지막으로 발급한 순번 (발급한 적이 없으면 저장소의 최대 순번)
+    public long current(Long roomId) {
+        long seq = chatRoomSequenceStore.get(roomId);
+        while (seq == ChatRoomSequenceStore.NONE) {
+            initialize(roomId);
+            seq = chatRoomSequenceStore.get(roomId);
+        }
+        return seq;
+    }
+
+    private void initialize(Long roomId) {
+        chatRoomSequenceStore.initializeIfAbsent(roomId, chatHistoryStore.findMaxSeq(roomId));
+    }
+}
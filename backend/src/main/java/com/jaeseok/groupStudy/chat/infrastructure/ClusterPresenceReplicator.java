@@ -0,0 +1,225 @@
+package com.jaeseok.groupStudy.chat.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.ParticipantInfo;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.PresenceDelta;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.PresenceReplication;
+import com.jaeseok.groupStudy.common.cluster.ClusterBroadcastRelay;
+import com.jaeseok.groupStudy.common.cluster.ClusterTransport;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 간 온라인 명단 복제기
+ * - 이 노드에 접속한 세션의 입장/퇴장/이어받기를 다른 노드로 보내고, 다른 노드의 변경을 이 노드의 명단에 합친다.
+ * - 합친 명단에서 생긴 변경분은 이 노드의 구독자에게만 보낸다. (버전은 노드마다 따로 증가하므로 변경분 자체는 중계하지 않는다.)
+ * - 주기적으로 이 노드의 전체 세션 목록(HEARTBEAT)을 보내 유실된 메세지를 바로잡고,
+ *   node-timeout 동안 소식이 없는 노드의 세션은 명단에서 뺀다. (새로 뜬 노드는 다음 HEARTBEAT 때 다른 노드의 명단을 채운다.)
+ */
+@Slf4j
+@Component
+public class ClusterPresenceReplicator implements OnlineParticipantRepository.LocalChangeListener {
+
+    static final String CHANNEL = "group-study:presence";
+
+    private final ClusterTransport clusterTransport;
+    private final OnlineParticipantRepository onlineParticipantRepository;
+    private final PresenceBroadcaster presenceBroadcaster;
+    private final ObjectMapper objectMapper;
+    private final String nodeId;
+    private final long nodeTimeoutNanos;
+
+    // 이 노드의 세션 (HEARTBEAT 용), 변경과 발행 순서를 맞추기 위해 localLock 안에서만 바꾼다.
+    private final Map<String, ParticipantInfo> localSessions = new HashMap<>();
+    private final Object localLock = new Object();
+
+    // <노드 ID, 그 노드의 세션> (remoteNodes 락 안에서만 바꾼다.)
+    private final Map<String, RemoteNode> remoteNodes = new HashMap<>();
+
+    public ClusterPresenceReplicator(
+            ClusterTransport clusterTransport,
+            OnlineParticipantRepository onlineParticipantRepository,
+            PresenceBroadcaster presenceBroadcaster,
+            ObjectMapper objectMapper,
+            ClusterBroadcastRelay clusterBroadcastRelay,
+            @Value("${cluster.presence.node-timeout-millis:15000}") long nodeTimeoutMillis
+    ) {
+        this.clusterTransport = clusterTransport;
+        this.onlineParticipantRepository = onlineParticipantRepository;
+        this.presenceBroadcaster = presenceBroadcaster;
+        this.objectMapper = objectMapper;
+        this.nodeId = clusterBroadcastRelay.getNodeId();
+        this.nodeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(nodeTimeoutMillis);
+    }
+
+    @PostConstruct
+    public void start() {
+        clusterTransport.subscribe(CHANNEL, this::onFrameSafely);
+        onlineParticipantRepository.setLocalChangeListener(this);
+    }
+
+    // 종료하는 노드는 빈 세션 목록을 보내 다른 노드의 명단에서 바로 빠진다.
+    @PreDestroy
+    public void stop() {
+        onlineParticipantRepository.setLocalChangeListener(LocalChangeListener.NONE);
+        synchronized (localLock) {
+            localSessions.clear();
+            publish(PresenceReplication.heartbeat(nodeId, List.of()));
+        }
+        clusterTransport.unsubscribe(CHANNEL);
+    }
+
+    @Override
+    public void joined(Long roomId, ParticipantInfo participantInfo) {
+        synchronized (localLock) {
+            localSessions.put(participantInfo.sessionId(), participantInfo);
+            publish(PresenceReplication.join(nodeId, participantInfo));
+        }
+    }
+
+    @Override
+    public void left(String sessionId) {
+        synchronized (localLock) {
+            if (localSessions.remove(sessionId) != null) {
+                publish(PresenceReplication.leave(nodeId, sessionId));
+            }
+        }
+    }
+
+    @Override
+    public void rebound(String previousSessionId, String sessionId) {
+        synchronized (localLock) {
+            ParticipantInfo previous = localSessions.remove(previousSessionId);
+            if (previous != null) {
+                localSessions.put(sessionId, rebound(previous, sessionId));
+                publish(PresenceReplication.rebind(nodeId, previousSessionId, sessionId));
+            }
+        }
+    }
+
+    // 이 노드의 전체 세션 목록을 보내고, 소식이 끊긴 노드의 세션을 정리한다.
+    @Scheduled(fixedDelayString = "${cluster.presence.heartbeat-millis:5000}")
+    public void heartbeat() {
+        synchronized (localLock) {
+            publish(PresenceReplication.heartbeat(nodeId, List.copyOf(localSessions.values())));
+        }
+        expireSilentNodes(System.nanoTime());
+    }
+
+    void expireSilentNodes(long now) {
+        List<PresenceDelta> deltas = new ArrayList<>();
+        synchronized (remoteNodes) {
+            Iterator<Map.Entry<String, RemoteNode>> iterator = remoteNodes.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, RemoteNode> node = iterator.next();
+                if (now - node.getValue().lastSeenNanos > nodeTimeoutNanos) {
+                    log.warn("응답이 없는 노드의 접속자를 명단에서 제외합니다. node={}, sessions={}",
+                            node.getKey(), node.getValue().sessions.size());
+                    node.getValue().sessions.keySet()
+                            .forEach(sessionId -> deltas.addAll(onlineParticipantRepository.removeReplica(sessionId)));
+                    iterator.remove();
+                }
+            }
+            presenceBroadcaster.broadcastDeltas(deltas);
+        }
+    }
+
+    // 다른 노드에서 받은 변경을 명단에 반영하고, 생긴 변경분을 이 노드의 구독자에게 보낸다.
+    public void onFrame(byte[] bytes) throws IOException {
+        PresenceReplication replication = objectMapper.readValue(bytes, PresenceReplication.class);
+        if (nodeId.equals(replication.origin())) {
+            return;
+        }
+
+        List<PresenceDelta> deltas = new ArrayList<>();
+        synchronized (remoteNodes) {
+            RemoteNode node = remoteNodes.computeIfAbsent(replication.origin(), origin -> new RemoteNode());
+            node.lastSeenNanos = System.nanoTime();
+            switch (replication.type()) {
+                case JOIN -> {
+                    node.sessions.put(replication.sessionId(), replication.participant());
+                    deltas.addAll(onlineParticipantRepository.addReplica(replication.participant().roomId(),
+                            replication.participant()));
+                }
+                case LEAVE -> {
+                    if (node.sessions.remove(replication.sessionId()) != null) {
+                        deltas.addAll(onlineParticipantRepository.removeReplica(replication.sessionId()));
+                    }
+                }
+                case REBIND -> {
+                    ParticipantInfo previous = node.sessions.remove(replication.previousSessionId());
+                    if (previous != null) {
+                        node.sessions.put(replication.sessionId(), rebound(previous, replication.sessionId()));
+                        onlineParticipantRepository.rebindReplica(replication.previousSessionId(),
+                                replication.sessionId());
+                    }
+                }
+                case HEARTBEAT -> reconcile(node, replication.sessions(), deltas);
+            }
+            if (node.sessions.isEmpty() && replication.type() == PresenceReplication.Type.HEARTBEAT
+                    && replication.sessions().isEmpty()) {
+                // 접속자가 없는 노드는 다음 소식 때 다시 만든다.
+                remoteNodes.remove(replication.origin());
+            }
+            presenceBroadcaster.broadcastDeltas(deltas);
+        }
+    }
+
+    // HEARTBEAT 의 세션 목록에 맞춰 빠진 세션은 추가하고, 없어진 세션은 제거한다.
+    private void reconcile(RemoteNode node, List<ParticipantInfo> sessions, List<PresenceDelta> deltas) {
+        Map<String, ParticipantInfo> reported = new HashMap<>();
+        sessions.forEach(session -> reported.put(session.sessionId(), session));
+
+        Iterator<Map.Entry<String, ParticipantInfo>> iterator = node.sessions.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, ParticipantInfo> known = iterator.next();
+            if (!reported.containsKey(known.getKey())) {
+                deltas.addAll(onlineParticipantRepository.removeReplica(known.getKey()));
+                iterator.remove();
+            }
+        }
+        reported.forEach((sessionId, session) -> {
+            if (!Objects.equals(node.sessions.get(sessionId), session)) {
+                node.sessions.put(sessionId, session);
+                deltas.addAll(onlineParticipantRepository.addReplica(session.roomId(), session));
+            }
+        });
+    }
+
+    private void publish(PresenceReplication replication) {
+        try {
+            clusterTransport.publish(CHANNEL, objectMapper.writeValueAsBytes(replication));
+        } catch (IOException | RuntimeException e) {
+            log.error("온라인 명단 복제 메세지 발행에 실패했습니다. type={}", replication.type(), e);
+        }
+    }
+
+    private void onFrameSafely(byte[] bytes) {
+        try {
+            onFrame(bytes);
+        } catch (IOException | RuntimeException e) {
+            log.error("온라인 명단 복제 메세지 처리에 실패했습니다.", e);
+        }
+    }
+
+    private static ParticipantInfo rebound(ParticipantInfo previous, String sessionId) {
+        return ParticipantInfo.of(previous.roomId(), previous.userId(), previous.nickname(), sessionId);
+    }
+
+    private static final class RemoteNode {
+        private final Map<String, ParticipantInfo> sessions = new HashMap<>();
+        private long lastSeenNanos;
+    }
+}
@@ -0,0 +1,88 @@
+package com.jaeseok.groupStudy.chat.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.TypingReplication;
+import com.jaeseok.groupStudy.common.cluster.ClusterBroadcastRelay;
+import com.jaeseok.groupStudy.common.cluster.ClusterTransport;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 간 입력 중 신호 복제기
+ * - 이 노드의 세션이 보낸 입력 시작/중단 신호를 다른 노드로 보내고, 다른 노드의 신호를 이 노드의 입력 중 상태에 합친다.
+ * - 각 노드는 합친 목록을 자기 구독자에게만 방송한다. (노드마다 전체 목록을 방송하므로 목록 자체는 중계하지 않는다.)
+ * - 중단 신호가 유실되어도 다른 노드의 상태는 ttl 이 지나면 빠진다.
+ */
+@Slf4j
+@Component
+public class ClusterTypingReplicator {
+
+    static final String CHANNEL = "group-study:typing";
+
+    private final ClusterTransport clusterTransport;
+    private final TypingIndicatorRepository typingIndicatorRepository;
+    private final ObjectMapper objectMapper;
+    private final String nodeId;
+
+    public ClusterTypingReplicator(
+            ClusterTransport clusterTransport,
+            TypingIndicatorRepository typingIndicatorRepository,
+            ObjectMapper objectMapper,
+            ClusterBroadcastRelay clusterBroadcastRelay
+    ) {
+        this.clusterTransport = clusterTransport;
+        this.typingIndicatorRepository = typingIndicatorRepository;
+        this.objectMapper = objectMapper;
+        this.nodeId = clusterBroadcastRelay.getNodeId();
+    }
+
+    @PostConstruct
+    public void start() {
+        clusterTransport.subscribe(CHANNEL, this::onFrameSafely);
+    }
+
+    @PreDestroy
+    public void stop() {
+        clusterTransport.unsubscribe(CHANNEL);
+    }
+
+    public void started(Long roomId, Long userId, String nickname) {
+        publish(TypingReplication.start(nodeId, roomId, userId, nickname));
+    }
+
+    public void stopped(Long roomId, Long userId) {
+        publish(TypingReplication.stop(nodeId, roomId, userId));
+    }
+
+    // 다른 노드의 신호를 이 노드의 입력 중 상태에 반영 (방송은 다음 tick 에 이 노드의 구독자에게만 한다.)
+    public void onFrame(byte[] bytes) throws IOException {
+        TypingReplication replication = objectMapper.readValue(bytes, TypingReplication.class);
+        if (nodeId.equals(replication.origin())) {
+            return;
+        }
+        if (replication.typing()) {
+            typingIndicatorRepository.start(replication.roomId(), replication.userId(), replication.nickname());
+        } else {
+            typingIndicatorRepository.stop(replication.roomId(), replication.userId());
+        }
+    }
+
+    private void publish(TypingReplication replication) {
+        try {
+            clusterTransport.publish(CHANNEL, objectMapper.writeValueAsBytes(replication));
+        } catch (IOException | RuntimeException e) {
+            log.error("입력 중 신호 복제 메세지 발행에 실패했습니다. roomId={}", replication.roomId(), e);
+        }
+    }
+
+    private void onFrameSafely(byte[] bytes) {
+        try {
+            onFrame(bytes);
+        } catch (IOException | RuntimeException e) {
+            log.error("입력 중 신호 복제 메세지 처리에 실패했습니다.", e);
+        }
+    }
+}
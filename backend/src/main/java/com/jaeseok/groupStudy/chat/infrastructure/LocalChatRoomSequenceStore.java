@@ -0,0 +1,32 @@
+package com.jaeseok.groupStudy.chat.infrastructure;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메모리 순번 저장소 (단일 인스턴스 기본값, cluster.transport=loopback)
+ * - 채팅방마다 AtomicLong 하나로 순번을 발급하므로 메세지 전송 경로에서 락을 잡지 않는다.
+ */
+public class LocalChatRoomSequenceStore implements ChatRoomSequenceStore {
+
+    // <채팅방 ID, 마지막으로 발급한 순번>
+    private final Map<Long, AtomicLong> sequences = new ConcurrentHashMap<>();
+
+    @Override
+    public long incrementIfPresent(Long roomId) {
+        AtomicLong sequence = sequences.get(roomId);
+        return sequence == null ? NONE : sequence.incrementAndGet();
+    }
+
+    @Override
+    public long get(Long roomId) {
+        AtomicLong sequence = sequences.get(roomId);
+        return sequence == null ? NONE : sequence.get();
+    }
+
+    @Override
+    public void initializeIfAbsent(Long roomId, long seq) {
+        sequences.putIfAbsent(roomId, new AtomicLong(seq));
+    }
+}
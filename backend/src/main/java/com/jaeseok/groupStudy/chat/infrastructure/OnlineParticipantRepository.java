@@ -1,54 +1,305 @@
 package com.jaeseok.groupStudy.chat.infrastructure;
 
 import com.jaeseok.groupStudy.chat.infrastructure.dto.ParticipantInfo;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.PresenceDelta;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.PresenceSnapshot;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import org.springframework.stereotype.Component;
 
 /**
- * 스터디 그룹 실시간 기능에 온라인 참여자가 누가 있는지 접속자 정보를 메모리로 관리하는 싱글톤 Bean
+ * 스터디 그룹 실시간 기능에 온라인 참여자가 누가 있는지 접속자 정보를 메모리로 관리하는 싱글톤 Bean (Presence Registry)
+ * - 방 -> 유저 -> 세션 구조로 관리하여 한 유저가 여러 탭(세션)으로 접속해도 명단에는 한 번만 나타난다.
+ * - 마지막 세션이 나간 방은 즉시 제거하여, 방문했던 모든 방이 메모리에 남지 않도록 한다.
+ * - 명단이 바뀔 때마다 버전이 붙은 불변 스냅샷을 만들어 두고, 변경분(JOIN/LEAVE)에는 직전 버전을 함께 실어 반환한다.
+ * - 다른 노드에 접속한 세션도 ClusterPresenceReplicator 가 같은 명단에 넣으므로, 명단과 버전은 이 노드 기준으로 클러스터 전체를 담는다.
+ *   이 노드의 세션이 바뀐 경우에만 리스너(LocalChangeListener)로 알려 다른 노드에 전달한다.
  */
-
 @Component
 public class OnlineParticipantRepository {
-    // <스터디 방 ID, 참여자 정보 Set>
-    private final Map<Long, Set<ParticipantInfo>> onlineParticipantByRoom  = new ConcurrentHashMap<>();
+
+    // 스냅샷 버전 (방이 비워졌다 다시 생겨도 버전이 되돌아가지 않도록 전역으로 증가시킨다.)
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    // <스터디 방 ID, 방의 접속 현황>
+    private final Map<Long, RoomPresence> rooms = new ConcurrentHashMap<>();
 
     // <웹소켓 세션 ID, 참여자 정보> -> 퇴장 시 타켓 사용자를 세션 ID로 빠르게 찾을 수 있음
     private final Map<String, ParticipantInfo> sessionToParticipantMap = new ConcurrentHashMap<>();
 
-    // 새로운 참여자 추가
-    public void add(Long roomId, ParticipantInfo participantInfo) {
-        // 데이터 정합성을 위해서 같은 userId를 가진 기존 정보가 있는지 확인후 제거
-        onlineParticipantByRoom.getOrDefault(roomId, ConcurrentHashMap.newKeySet())
-                .stream()
-                .filter(p -> p.userId().equals(participantInfo.userId()))
-                .findFirst()
-                .ifPresent(oldInfo -> {
-                    onlineParticipantByRoom.get(roomId).remove(oldInfo);
-                    sessionToParticipantMap.remove(oldInfo.sessionId());
-                });
+    // <유저 ID, 접속 중인 방 ID Set>
+    private final Map<Long, Set<Long>> roomsByUser = new ConcurrentHashMap<>();
+
+    private volatile LocalChangeListener localChangeListener = LocalChangeListener.NONE;
+
+    public void setLocalChangeListener(LocalChangeListener localChangeListener) {
+        this.localChangeListener = localChangeListener;
+    }
+
+    // 새로운 참여자 세션 추가 (같은 세션이 다른 방을 구독하면 이전 방에서는 빠진다.)
+    public List<PresenceDelta> add(Long roomId, ParticipantInfo participantInfo) {
+        List<PresenceDelta> deltas = addSession(roomId, participantInfo);
+        localChangeListener.joined(roomId, participantInfo);
+        return deltas;
+    }
+
+    // 참여자 세션 제거 (세션 ID 기반), 명단이 바뀐 경우에만 변경분을 반환한다.
+    public List<PresenceDelta> remove(String sessionId) {
+        boolean present = sessionToParticipantMap.containsKey(sessionId);
+        List<PresenceDelta> deltas = removeSession(sessionId);
+        if (present) {
+            localChangeListener.left(sessionId);
+        }
+        return deltas;
+    }
+
+    /**
+     * 이전 세션의 참여자 정보를 이어받은 세션으로 옮긴다. (재연결)
+     * 명단에 보이는 유저와 닉네임은 그대로이므로 버전을 올리지 않고 변경분도 만들지 않는다.
+     * @return 옮겼으면 true (이전 세션이 구독 중인 방이 없으면 false)
+     */
+    public boolean rebind(String previousSessionId, String sessionId) {
+        boolean moved = rebindSession(previousSessionId, sessionId);
+        if (moved) {
+            localChangeListener.rebound(previousSessionId, sessionId);
+        }
+        return moved;
+    }
+
+    // 다른 노드에서 전달받은 변경 반영 (리스너로 다시 알리지 않는다.)
+    List<PresenceDelta> addReplica(Long roomId, ParticipantInfo participantInfo) {
+        return addSession(roomId, participantInfo);
+    }
+
+    List<PresenceDelta> removeReplica(String sessionId) {
+        return removeSession(sessionId);
+    }
 
-        // 방이 없으면 새로 만들고, 방이 존재하면 참여자 추가
-        onlineParticipantByRoom.computeIfAbsent(roomId, key -> ConcurrentHashMap.newKeySet())
-                .add(participantInfo);
-        sessionToParticipantMap.put(participantInfo.sessionId(), participantInfo);
+    boolean rebindReplica(String previousSessionId, String sessionId) {
+        return rebindSession(previousSessionId, sessionId);
     }
 
-    // 참여자 제거 (세션 ID 기반)
-    public ParticipantInfo remove(String sessionId) {
+    private List<PresenceDelta> addSession(Long roomId, ParticipantInfo participantInfo) {
+        List<PresenceDelta> deltas = new ArrayList<>(2);
+        ParticipantInfo previous = sessionToParticipantMap.put(participantInfo.sessionId(), participantInfo);
+        if (previous != null) {
+            detach(previous, deltas);
+        }
+
+        rooms.compute(roomId, (id, room) -> {
+            RoomPresence presence = room == null ? new RoomPresence(id) : room;
+            if (presence.put(participantInfo)) {
+                roomsByUser.compute(participantInfo.userId(), (userId, roomIds) -> {
+                    Set<Long> joinedRooms = roomIds == null ? ConcurrentHashMap.newKeySet() : roomIds;
+                    joinedRooms.add(id);
+                    return joinedRooms;
+                });
+            }
+            // 새 세션이 유저의 대표 세션이 되므로 항상 JOIN(갱신)
+            long version = versionSequence.incrementAndGet();
+            deltas.add(PresenceDelta.join(id, version, presence.publish(version), participantInfo));
+            return presence;
+        });
+        return deltas;
+    }
+
+    private List<PresenceDelta> removeSession(String sessionId) {
         ParticipantInfo participantInfo = sessionToParticipantMap.remove(sessionId);
-        if (participantInfo != null) {
-            onlineParticipantByRoom.getOrDefault(participantInfo.roomId(), ConcurrentHashMap.newKeySet()).remove(participantInfo);
+        if (participantInfo == null) {
+            return List.of();
+        }
+        List<PresenceDelta> deltas = new ArrayList<>(1);
+        detach(participantInfo, deltas);
+        return deltas;
+    }
+
+    private boolean rebindSession(String previousSessionId, String sessionId) {
+        ParticipantInfo previous = sessionToParticipantMap.remove(previousSessionId);
+        if (previous == null) {
+            return false;
         }
-        return participantInfo;
+        ParticipantInfo rebound = ParticipantInfo.of(previous.roomId(), previous.userId(), previous.nickname(),
+                sessionId);
+        sessionToParticipantMap.put(sessionId, rebound);
+
+        boolean[] moved = new boolean[1];
+        rooms.computeIfPresent(previous.roomId(), (id, room) -> {
+            moved[0] = room.replace(previous, rebound);
+            if (moved[0]) {
+                room.publish(room.snapshot.version());
+            }
+            return room;
+        });
+        if (!moved[0]) {
+            sessionToParticipantMap.remove(sessionId, rebound);
+        }
+        return moved[0];
     }
 
-    // 특정 방의 모든 참여자 정보 가져오기
+    // 특정 방의 모든 참여자 정보 가져오기 (유저당 하나)
     public Set<ParticipantInfo> getParticipants(Long roomId) {
-        return onlineParticipantByRoom.getOrDefault(roomId, ConcurrentHashMap.newKeySet());
+        return getSnapshot(roomId).participants();
+    }
+
+    // 세션의 참여자 정보 (구독 중인 방이 없으면 null)
+    public ParticipantInfo findBySessionId(String sessionId) {
+        return sessionToParticipantMap.get(sessionId);
+    }
+
+    // 특정 방의 현재 명단 스냅샷 (빈 방은 현재 버전의 빈 명단)
+    public PresenceSnapshot getSnapshot(Long roomId) {
+        RoomPresence room = rooms.get(roomId);
+        if (room == null) {
+            return PresenceSnapshot.empty(roomId, versionSequence.get());
+        }
+        return room.snapshot;
+    }
+
+    // 유저가 접속 중인 방 ID 목록
+    public Set<Long> getRoomIds(Long userId) {
+        Set<Long> roomIds = roomsByUser.get(userId);
+        return roomIds == null ? Set.of() : Set.copyOf(roomIds);
     }
 
+    public boolean isOnline(Long roomId, Long userId) {
+        return getRoomIds(userId).contains(roomId);
+    }
+
+    // 참여자가 한 명 이상 있는 방의 수
+    public int getActiveRoomCount() {
+        return rooms.size();
+    }
+
+    private void detach(ParticipantInfo participantInfo, List<PresenceDelta> deltas) {
+        rooms.computeIfPresent(participantInfo.roomId(), (id, room) -> {
+            Change change = room.remove(participantInfo);
+            if (change == Change.NONE) {
+                return room;
+            }
+
+            long version = versionSequence.incrementAndGet();
+            if (change == Change.UPDATED) {
+                // 대표 세션이 빠졌지만 다른 탭이 남아 있으면 남은 세션 정보로 갱신
+                deltas.add(PresenceDelta.join(id, version, room.publish(version),
+                        room.representative(participantInfo.userId())));
+                return room;
+            }
+
+            roomsByUser.computeIfPresent(participantInfo.userId(), (userId, roomIds) -> {
+                roomIds.remove(id);
+                return roomIds.isEmpty() ? null : roomIds;
+            });
+            if (room.isEmpty()) {
+                // 빈 방은 제거 -> 이후 조회는 현재 버전의 빈 명단을 받는다.
+                deltas.add(PresenceDelta.leave(id, version, room.snapshot.version(), participantInfo));
+                return null;
+            }
+            deltas.add(PresenceDelta.leave(id, version, room.publish(version), participantInfo));
+            return room;
+        });
+    }
+
+    /**
+     * 이 노드에 접속한 세션의 명단 변경 알림 (다른 노드에 전달하기 위해 사용한다.)
+     */
+    public interface LocalChangeListener {
+
+        LocalChangeListener NONE = new LocalChangeListener() {
+        };
+
+        default void joined(Long roomId, ParticipantInfo participantInfo) {
+        }
+
+        default void left(String sessionId) {
+        }
+
+        default void rebound(String previousSessionId, String sessionId) {
+        }
+    }
+
+    private enum Change {
+        NONE,    // 명단에 보이는 변화 없음 (대표가 아닌 세션이 빠짐)
+        UPDATED, // 유저의 대표 세션이 바뀜
+        LEFT     // 유저의 마지막 세션이 빠짐
+    }
 
+    /**
+     * 한 방의 접속 현황. 변경은 rooms.compute 안에서만 일어나므로 방 단위로 직렬화된다.
+     */
+    private static final class RoomPresence {
+
+        private final Long roomId;
+
+        // <유저 ID, <세션 ID, 참여자 정보>> (유저는 입장 순서, 세션은 접속 순서)
+        private final LinkedHashMap<Long, LinkedHashMap<String, ParticipantInfo>> sessionsByUser =
+                new LinkedHashMap<>();
+
+        private volatile PresenceSnapshot snapshot;
+
+        private RoomPresence(Long roomId) {
+            this.roomId = roomId;
+        }
+
+        // 유저가 이 방에 새로 들어왔으면 true
+        private boolean put(ParticipantInfo participantInfo) {
+            LinkedHashMap<String, ParticipantInfo> sessions = sessionsByUser.get(participantInfo.userId());
+            boolean joined = sessions == null;
+            if (joined) {
+                sessions = new LinkedHashMap<>();
+                sessionsByUser.put(participantInfo.userId(), sessions);
+            }
+            sessions.remove(participantInfo.sessionId());
+            sessions.put(participantInfo.sessionId(), participantInfo);
+            return joined;
+        }
+
+        private Change remove(ParticipantInfo participantInfo) {
+            LinkedHashMap<String, ParticipantInfo> sessions = sessionsByUser.get(participantInfo.userId());
+            if (sessions == null || !sessions.containsKey(participantInfo.sessionId())) {
+                return Change.NONE;
+            }
+            boolean representative = sessions.lastEntry().getKey().equals(participantInfo.sessionId());
+            sessions.remove(participantInfo.sessionId());
+            if (sessions.isEmpty()) {
+                sessionsByUser.remove(participantInfo.userId());
+                return Change.LEFT;
+            }
+            return representative ? Change.UPDATED : Change.NONE;
+        }
+
+        // 같은 유저의 세션 정보를 바꾼다. (바뀐 세션이 대표 세션이 된다.)
+        private boolean replace(ParticipantInfo previous, ParticipantInfo rebound) {
+            LinkedHashMap<String, ParticipantInfo> sessions = sessionsByUser.get(previous.userId());
+            if (sessions == null || sessions.remove(previous.sessionId()) == null) {
+                return false;
+            }
+            sessions.put(rebound.sessionId(), rebound);
+            return true;
+        }
+
+        private ParticipantInfo representative(Long userId) {
+            return sessionsByUser.get(userId).lastEntry().getValue();
+        }
+
+        private boolean isEmpty() {
+            return sessionsByUser.isEmpty();
+        }
+
+        // 유저마다 가장 최근 세션의 정보를 명단에 싣고, 직전 스냅샷의 버전을 반환한다. (새 방이면 0)
+        private long publish(long version) {
+            long previousVersion = snapshot == null ? 0L : snapshot.version();
+            Set<ParticipantInfo> participants = new LinkedHashSet<>();
+            for (LinkedHashMap<String, ParticipantInfo> sessions : sessionsByUser.values()) {
+                participants.add(sessions.lastEntry().getValue());
+            }
+            this.snapshot = new PresenceSnapshot(roomId, version, participants);
+            return previousVersion;
+        }
+    }
 }
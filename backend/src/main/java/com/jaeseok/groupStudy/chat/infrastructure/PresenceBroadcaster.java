@@ -0,0 +1,71 @@
+package com.jaeseok.groupStudy.chat.infrastructure;
+
+import com.jaeseok.groupStudy.chat.infrastructure.dto.PresenceDelta;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.PresenceSnapshot;
+import com.jaeseok.groupStudy.common.broadcast.BroadcastPublisher;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 온라인 명단 전송기
+ * - 입장/퇴장은 방 전체에 변경분(JOIN/LEAVE)만 방송한다. (/sub/chatroom/{roomId}/participants)
+ * - 전체 명단은 요청한 세션에만 보낸다. (/user/queue/chatroom/{roomId}/participants)
+ * - 전체 명단 JSON 은 방의 버전별로 한 번만 직렬화해 두고, 같은 버전을 다시 요청하면 그대로 재사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PresenceBroadcaster {
+
+    private final OnlineParticipantRepository onlineParticipantRepository;
+    private final BroadcastPublisher broadcastPublisher;
+
+    // <스터디 방 ID, 직렬화된 최신 명단>
+    private final Map<Long, SerializedSnapshot> snapshotCache = new ConcurrentHashMap<>();
+
+    public void broadcastDeltas(List<PresenceDelta> deltas) {
+        for (PresenceDelta delta : deltas) {
+            broadcastPublisher.publish(topicDestination(delta.roomId()), delta);
+            if (delta.type() == PresenceDelta.Type.LEAVE
+                    && onlineParticipantRepository.getSnapshot(delta.roomId()).participants().isEmpty()) {
+                // 방이 비면 캐시도 함께 비운다.
+                snapshotCache.remove(delta.roomId());
+            }
+        }
+    }
+
+    /**
+     * 현재 전체 명단을 요청한 세션에만 전송한다.
+     * @param userName 웹소켓 Principal 이름 (유저 목적지 해석용)
+     * @param sessionId 요청한 웹소켓 세션 ID (같은 유저의 다른 탭에는 보내지 않는다.)
+     */
+    public void sendSnapshot(Long roomId, String userName, String sessionId) {
+        // 이미 직렬화된 JSON 이므로 메세지 컨버터를 거치지 않고 그대로 보낸다.
+        broadcastPublisher.sendJsonToSession(userName, sessionId,
+                "/queue/chatroom/" + roomId + "/participants", serializedSnapshot(roomId));
+    }
+
+    private byte[] serializedSnapshot(Long roomId) {
+        PresenceSnapshot snapshot = onlineParticipantRepository.getSnapshot(roomId);
+        if (snapshot.participants().isEmpty()) {
+            // 빈 방은 캐시에 남기지 않는다.
+            snapshotCache.remove(roomId);
+            return broadcastPublisher.serialize(snapshot);
+        }
+
+        return snapshotCache.compute(roomId, (id, cached) ->
+                cached != null && cached.version() >= snapshot.version()
+                        ? cached
+                        : new SerializedSnapshot(snapshot.version(), broadcastPublisher.serialize(snapshot))
+        ).json();
+    }
+
+    private static String topicDestination(Long roomId) {
+        return "/sub/chatroom/" + roomId + "/participants";
+    }
+
+    private record SerializedSnapshot(long version, byte[] json) {
+    }
+}
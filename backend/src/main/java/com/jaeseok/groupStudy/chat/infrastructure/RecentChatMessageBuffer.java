@@ -0,0 +1,251 @@
+package com.jaeseok.groupStudy.chat.infrastructure;
+
+import com.jaeseok.groupStudy.chat.application.dto.SendMessageInfo;
+import com.jaeseok.groupStudy.chat.domain.repository.ChatHistoryStore;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방별 최근 메세지 링 버퍼
+ * - 입장 직후의 "최근 N개" 내역 조회를 DB(JOIN) 없이 메모리에서 응답하기 위해 사용한다.
+ * - 채팅방마다 최근 capacity 개의 메세지를 생성 시각 순으로 보관하고, 방의 전체 메세지 수를 함께 관리한다.
+ * - 요청한 페이지 구간이 버퍼에 모두 들어 있을 때만 응답하고, 그렇지 않으면 DB 조회로 넘긴다.
+ * - 전송 경로에서는 DB를 조회하지 않는다. 전체 메세지 수는 첫 페이지 조회 때
+ *   "버퍼의 첫 순번 이전에 저장된 메세지 수 + 버퍼에 추가된 메세지 수" 로 맞춘다. (버퍼 메세지의 저장 여부와 무관하게 정확하다.)
+ * - 버퍼에는 이 노드에서 보낸 메세지만 들어온다. 다른 노드에서 보낸 메세지(또는 저장하지 못한 순번)로 순번이 비었거나
+ *   버퍼의 마지막 순번이 발급된 최신 순번보다 작으면, 최신 페이지와 전체 개수를 버퍼만으로 알 수 없으므로 페이지 조회를 DB로 넘긴다.
+ * - 한동안 쓰이지 않은 채팅방 버퍼는 정리한다.
+ */
+@Component
+public class RecentChatMessageBuffer {
+
+    private final ChatHistoryStore chatHistoryStore;
+    private final ChatRoomSequencer chatRoomSequencer;
+    private final int capacity;
+    private final long idleNanos;
+
+    // roomId -> 해당 채팅방의 최근 메세지 버퍼
+    private final Map<Long, RoomBuffer> rooms = new ConcurrentHashMap<>();
+
+    public RecentChatMessageBuffer(
+            ChatHistoryStore chatHistoryStore,
+            ChatRoomSequencer chatRoomSequencer,
+            @Value("${chat.recent-buffer.capacity:100}") int capacity,
+            @Value("${chat.recent-buffer.idle-evict-millis:1800000}") long idleEvictMillis
+    ) {
+        this.chatHistoryStore = chatHistoryStore;
+        this.chatRoomSequencer = chatRoomSequencer;
+        this.capacity = capacity;
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(idleEvictMillis);
+    }
+
+    /**
+     * 채팅방 버퍼에 메세지를 추가한다.
+     * 메세지를 저장 대기열에 넣기 전에 호출해야 한다. (버퍼에 없는 메세지가 버퍼의 첫 순번 이후에 저장되지 않도록)
+     */
+    public void append(Long roomId, SendMessageInfo messageInfo) {
+        long now = System.nanoTime();
+        // 메모리 작업만 하므로 맵 락 안에서 추가해 유휴 정리와 겹치지 않게 한다.
+        rooms.compute(roomId, (id, buffer) -> {
+            RoomBuffer target = buffer == null ? new RoomBuffer(capacity) : buffer;
+            target.append(messageInfo, now);
+            return target;
+        });
+    }
+
+    /**
+     * 요청한 페이지 구간이 버퍼에 모두 있으면 최신순 페이지를 반환한다.
+     * 버퍼가 없거나, 구간이 버퍼 밖이거나, 별도 정렬이 요청되거나, 버퍼에 없는 순번이 있으면 empty 를 반환한다.
+     */
+    public Optional<Page<SendMessageInfo>> findPage(Long roomId, Pageable pageable) {
+        RoomBuffer buffer = rooms.get(roomId);
+        if (buffer == null || pageable.isUnpaged() || pageable.getSort().isSorted()) {
+            return Optional.empty();
+        }
+        if (!buffer.isSeeded() && !seed(roomId, buffer)) {
+            return Optional.empty();
+        }
+        return buffer.page(pageable, chatRoomSequencer.current(roomId), System.nanoTime());
+    }
+
+    /**
+     * 순번이 (fromSeq, toSeq] 인 메세지가 버퍼에 모두 있으면 순번 오름차순으로 반환한다.
+     * 하나라도 버퍼 밖이면 empty 를 반환한다.
+     */
+    public Optional<List<SendMessageInfo>> findRange(Long roomId, long fromSeq, long toSeq) {
+        RoomBuffer buffer = rooms.get(roomId);
+        if (buffer == null) {
+            return Optional.empty();
+        }
+        return buffer.range(fromSeq, toSeq, System.nanoTime());
+    }
+
+    // 아카이브로 옮겨져 핫 저장소에서 빠진 메세지 수만큼 전체 메세지 수를 줄인다.
+    public void onArchived(Long roomId, int archivedCount) {
+        RoomBuffer buffer = rooms.get(roomId);
+        if (buffer != null) {
+            buffer.archived(archivedCount);
+        }
+    }
+
+    // 한동안 추가/조회가 없던 채팅방 버퍼는 정리한다. (다음 메세지 때 다시 만든다.)
+    @Scheduled(fixedDelayString = "${chat.recent-buffer.cleanup-interval-millis:60000}")
+    public void evictIdleRooms() {
+        long now = System.nanoTime();
+        rooms.keySet().forEach(roomId ->
+                rooms.computeIfPresent(roomId, (id, buffer) -> now - buffer.lastUsed >= idleNanos ? null : buffer));
+    }
+
+    public int getRoomCount() {
+        return rooms.size();
+    }
+
+    // 첫 순번 이전에 저장된 메세지 수를 버퍼 락 밖에서 조회해 전체 메세지 수를 맞춘다.
+    private boolean seed(Long roomId, RoomBuffer buffer) {
+        long firstSeq;
+        long generation;
+        synchronized (buffer) {
+            firstSeq = buffer.firstSeq;
+            generation = buffer.generation;
+        }
+        if (firstSeq == Long.MAX_VALUE) {
+            return false;
+        }
+        return buffer.seed(firstSeq, generation, chatHistoryStore.countBeforeSeq(roomId, firstSeq));
+    }
+
+    private static final class RoomBuffer {
+
+        private static final long UNSEEDED = -1L;
+
+        private final SendMessageInfo[] ring;
+        private int start;  // 가장 오래된 메세지의 위치
+        private int size;
+        private long appended;                  // 버퍼에 추가된 메세지 수 (밀려난 메세지 포함)
+        private long firstSeq = Long.MAX_VALUE; // 버퍼에 추가된 가장 작은 순번
+        private long lastSeq = Long.MIN_VALUE;  // 버퍼에 추가된 가장 큰 순번
+        private long sequenced;                 // 버퍼에 추가된 순번 있는 메세지 수
+        private long persistedBefore = UNSEEDED; // firstSeq 이전에 저장된 메세지 수
+        private long generation;                // 아카이브 반영 횟수 (조회 도중 바뀌면 조회 결과를 버린다.)
+        private volatile long lastUsed;
+
+        private RoomBuffer(int capacity) {
+            this.ring = new SendMessageInfo[capacity];
+        }
+
+        private synchronized boolean isSeeded() {
+            return persistedBefore != UNSEEDED;
+        }
+
+        // 조회하는 동안 더 작은 순번이 추가되었거나 아카이브가 반영되었으면 다음 조회 때 다시 맞춘다.
+        private synchronized boolean seed(long seq, long seenGeneration, long countBeforeSeq) {
+            if (persistedBefore != UNSEEDED) {
+                return true;
+            }
+            if (seq != firstSeq || seenGeneration != generation) {
+                return false;
+            }
+            persistedBefore = countBeforeSeq;
+            return true;
+        }
+
+        private synchronized void archived(int archivedCount) {
+            generation++;
+            if (persistedBefore != UNSEEDED) {
+                persistedBefore = Math.max(persistedBefore - archivedCount, 0);
+            }
+        }
+
+        // 채팅방 전체 메세지 수 (저장된 이전 메세지 + 버퍼에 추가된 메세지)
+        private long total() {
+            return persistedBefore + appended;
+        }
+
+        private synchronized void append(SendMessageInfo messageInfo, long now) {
+            lastUsed = now;
+            appended++;
+            if (messageInfo.seq() != null) {
+                firstSeq = Math.min(firstSeq, messageInfo.seq());
+                lastSeq = Math.max(lastSeq, messageInfo.seq());
+                sequenced++;
+            }
+            if (size == ring.length) {
+                // 가장 오래된 메세지를 밀어낸다.
+                start = (start + 1) % ring.length;
+                size--;
+            }
+            int index = size++;
+            ring[physical(index)] = messageInfo;
+
+            // 스레드 간 추가 순서가 생성 시각 순서와 다를 수 있으므로 뒤에서부터 자리를 맞춘다. (DB 조회 순서와 동일하게)
+            while (index > 0 && ring[physical(index - 1)].timestamp().isAfter(ring[physical(index)].timestamp())) {
+                SendMessageInfo previous = ring[physical(index - 1)];
+                ring[physical(index - 1)] = ring[physical(index)];
+                ring[physical(index)] = previous;
+                index--;
+            }
+        }
+
+        /**
+         * 첫 순번부터 발급된 최신 순번까지 빠짐없이 추가되었는지 확인한다.
+         * 순번은 메세지마다 하나씩이므로, 추가된 수가 순번 폭과 같으면 중간에 빈 순번이 없다. (밀려난 메세지 포함)
+         */
+        private boolean isContiguousUpTo(long currentSeq) {
+            return sequenced == appended && lastSeq - firstSeq + 1 == sequenced && lastSeq >= currentSeq;
+        }
+
+        private synchronized Optional<Page<SendMessageInfo>> page(Pageable pageable, long currentSeq, long now) {
+            lastUsed = now;
+            if (!isContiguousUpTo(currentSeq)) {
+                return Optional.empty();
+            }
+            long offset = pageable.getOffset();
+            int pageSize = pageable.getPageSize();
+            long total = total();
+            boolean holdsWholeRoom = size == total;
+
+            if (!holdsWholeRoom && offset + pageSize > size) {
+                return Optional.empty();
+            }
+
+            List<SendMessageInfo> content = new ArrayList<>(pageSize);
+            for (long i = offset; i < offset + pageSize && i < size; i++) {
+                // 최신 메세지부터
+                content.add(ring[physical(size - 1 - (int) i)]);
+            }
+            return Optional.of(new PageImpl<>(content, pageable, total));
+        }
+
+        private synchronized Optional<List<SendMessageInfo>> range(long fromSeq, long toSeq, long now) {
+            lastUsed = now;
+            List<SendMessageInfo> content = new ArrayList<>((int) (toSeq - fromSeq));
+            for (int i = 0; i < size; i++) {
+                SendMessageInfo messageInfo = ring[physical(i)];
+                if (messageInfo.seq() != null && messageInfo.seq() > fromSeq && messageInfo.seq() <= toSeq) {
+                    content.add(messageInfo);
+                }
+            }
+            if (content.size() < toSeq - fromSeq) {
+                return Optional.empty();
+            }
+            // 버퍼는 생성 시각 순이므로 순번 순으로 다시 정렬한다.
+            content.sort(Comparator.comparing(SendMessageInfo::seq));
+            return Optional.of(content);
+        }
+
+        private int physical(int logicalIndex) {
+            return (start + logicalIndex) % ring.length;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.jaeseok.groupStudy.chat.infrastructure;
+
+import java.util.List;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * Redis 순번 저장소 (cluster.transport=redis)
+ * - 채팅방마다 키 하나를 INCR 하므로, 여러 노드가 같은 채팅방의 메세지를 받아도 순번은 한 곳에서만 증가한다.
+ * - 키가 없을 때 INCR 이 1 부터 다시 시작하지 않도록, 키가 있을 때만 증가시키는 스크립트를 쓴다. (없으면 저장소 최대 순번으로 다시 채운다.)
+ * - Redis 가 키를 잃으면 아직 쓰기 지연 큐에 있는 순번을 다시 발급할 수 있으므로, Redis 는 영속화(AOF 등)를 켜고 운영한다.
+ */
+public class RedisChatRoomSequenceStore implements ChatRoomSequenceStore {
+
+    private static final String KEY_PREFIX = "group-study:chat:seq:";
+    private static final RedisScript<Long> INCREMENT_IF_PRESENT = RedisScript.of(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return redis.call('INCR', KEYS[1]) end return -1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisChatRoomSequenceStore(RedisConnectionFactory connectionFactory) {
+        this.redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @Override
+    public long incrementIfPresent(Long roomId) {
+        Long seq = redisTemplate.execute(INCREMENT_IF_PRESENT, List.of(key(roomId)));
+        return seq == null ? NONE : seq;
+    }
+
+    @Override
+    public long get(Long roomId) {
+        String seq = redisTemplate.opsForValue().get(key(roomId));
+        return seq == null ? NONE : Long.parseLong(seq);
+    }
+
+    @Override
+    public void initializeIfAbsent(Long roomId, long seq) {
+        redisTemplate.opsForValue().setIfAbsent(key(roomId), String.valueOf(seq));
+    }
+
+    private static String key(Long roomId) {
+        return KEY_PREFIX + roomId;
+    }
+}
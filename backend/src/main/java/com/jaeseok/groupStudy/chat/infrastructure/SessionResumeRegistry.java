@@ -0,0 +1,126 @@
+package com.jaeseok.groupStudy.chat.infrastructure;
+
+import com.jaeseok.groupStudy.chat.infrastructure.dto.SessionResumeInfo;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 웹소켓 세션 이어받기(resume) 토큰 저장소
+ * - CONNECT 마다 토큰을 발급하고, 재연결한 클라이언트가 CONNECT 헤더로 토큰을 보내면 이전 세션을 이어받는다.
+ * - 이어받은 세션은 이전 세션의 온라인 명단 자리를 그대로 넘겨받으므로 입장 처리(명단 추가, JOIN 방송)를 다시 하지 않는다.
+ * - 연결이 끊긴 세션의 퇴장 처리는 유예 시간 동안 미뤄 두고, 그 안에 이어받지 않으면 그때 처리한다.
+ * - 토큰은 발급받은 유저만 한 번 쓸 수 있고, 이어받으면 새 토큰으로 바뀐다.
+ * - 연결이 끊겨 유예 중인 세션만 이어받을 수 있다. (토큰이 새어 나가도 살아 있는 세션을 가로챌 수 없다.)
+ */
+@Component
+public class SessionResumeRegistry {
+
+    private static final int TOKEN_BYTES = 16;
+
+    private final OnlineParticipantRepository onlineParticipantRepository;
+    private final PresenceBroadcaster presenceBroadcaster;
+    private final long graceNanos;
+    private final SecureRandom random = new SecureRandom();
+
+    // <토큰, 세션 정보>
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // <웹소켓 세션 ID, 토큰>
+    private final Map<String, String> tokensBySession = new ConcurrentHashMap<>();
+
+    public SessionResumeRegistry(
+            OnlineParticipantRepository onlineParticipantRepository,
+            PresenceBroadcaster presenceBroadcaster,
+            @Value("${chat.resume.grace-millis:30000}") long graceMillis
+    ) {
+        this.onlineParticipantRepository = onlineParticipantRepository;
+        this.presenceBroadcaster = presenceBroadcaster;
+        this.graceNanos = TimeUnit.MILLISECONDS.toNanos(graceMillis);
+    }
+
+    /**
+     * 연결된 세션에 토큰을 발급한다. 유예 중인 이전 세션의 토큰을 보냈으면 그 세션을 이어받는다.
+     * @param presentedToken 클라이언트가 보낸 이전 토큰 (없으면 null)
+     */
+    public SessionResumeInfo connect(String sessionId, Long userId, String presentedToken) {
+        boolean resumed = false;
+        Entry previous = presentedToken == null ? null : entries.get(presentedToken);
+        if (previous != null && previous.detached() && previous.userId().equals(userId)
+                && !isExpired(previous, System.nanoTime()) && entries.remove(presentedToken, previous)) {
+            tokensBySession.remove(previous.sessionId(), presentedToken);
+            onlineParticipantRepository.rebind(previous.sessionId(), sessionId);
+            resumed = true;
+        }
+
+        String token = newToken();
+        entries.put(token, new Entry(userId, sessionId, resumed, false, 0L));
+        tokensBySession.put(sessionId, token);
+        return new SessionResumeInfo(token, resumed);
+    }
+
+    // 세션에 발급한 토큰 (발급한 적이 없으면 null)
+    public SessionResumeInfo find(String sessionId) {
+        String token = tokensBySession.get(sessionId);
+        Entry entry = token == null ? null : entries.get(token);
+        if (entry == null) {
+            return null;
+        }
+        return new SessionResumeInfo(token, entry.resumed());
+    }
+
+    /**
+     * 연결이 끊긴 세션의 토큰을 정리한다.
+     * @param resumable 이어받기를 기다릴지 여부 (클라이언트가 정상적으로 끊은 연결은 기다리지 않는다.)
+     * @return 유예 상태로 바뀌었으면 true (퇴장 처리는 유예 시간이 지난 뒤에 한다.)
+     */
+    public boolean detach(String sessionId, boolean resumable) {
+        String token = tokensBySession.remove(sessionId);
+        if (token == null) {
+            return false;
+        }
+        if (!resumable) {
+            entries.remove(token);
+            return false;
+        }
+        long now = System.nanoTime();
+        return entries.computeIfPresent(token, (key, entry) -> entry.detach(now)) != null;
+    }
+
+    // 유예 시간 안에 이어받지 않은 세션을 퇴장 처리한다.
+    @Scheduled(fixedDelayString = "${chat.resume.sweep-interval-millis:1000}", scheduler = "realtimeTaskScheduler")
+    public void expire() {
+        long now = System.nanoTime();
+        entries.forEach((token, entry) -> {
+            if (isExpired(entry, now) && entries.remove(token, entry)) {
+                presenceBroadcaster.broadcastDeltas(onlineParticipantRepository.remove(entry.sessionId()));
+            }
+        });
+    }
+
+    // 이어받기를 기다리는 세션 수
+    public long getDetachedCount() {
+        return entries.values().stream().filter(Entry::detached).count();
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return entry.detached() && now - entry.detachedAt() >= graceNanos;
+    }
+
+    private String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private record Entry(Long userId, String sessionId, boolean resumed, boolean detached, long detachedAt) {
+
+        private Entry detach(long now) {
+            return detached ? this : new Entry(userId, sessionId, resumed, true, now);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.jaeseok.groupStudy.chat.infrastructure;
+
+import com.jaeseok.groupStudy.chat.infrastructure.dto.ParticipantInfo;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.TypingState;
+import com.jaeseok.groupStudy.common.broadcast.BroadcastPublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 입력 중 표시 전송기
+ * - 입력 중 신호는 채팅 서비스와 DB를 거치지 않는다. 보낸 세션이 해당 방의 온라인 참여자인지만 접속 명단으로 확인한다.
+ * - 방송은 주기(tick)마다 목록이 바뀐 방에만 한 번씩 한다. (/sub/chatroom/{roomId}/typing)
+ * - 시작/중단 신호는 ClusterTypingReplicator 로 다른 노드에도 보내, 노드마다 모든 노드의 입력 중 유저를 합쳐 방송한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TypingIndicatorBroadcaster {
+
+    private final TypingIndicatorRepository typingIndicatorRepository;
+    private final OnlineParticipantRepository onlineParticipantRepository;
+    private final BroadcastPublisher broadcastPublisher;
+    private final ClusterTypingReplicator clusterTypingReplicator;
+
+    /**
+     * 세션의 입력 중 상태를 갱신한다.
+     * @param sessionId 신호를 보낸 웹소켓 세션 ID (해당 방을 구독 중인 세션만 반영한다.)
+     */
+    public void update(Long roomId, String sessionId, boolean typing) {
+        ParticipantInfo participant = onlineParticipantRepository.findBySessionId(sessionId);
+        if (participant == null || !participant.roomId().equals(roomId)) {
+            return;
+        }
+        if (typing) {
+            if (typingIndicatorRepository.start(roomId, participant.userId(), participant.nickname())) {
+                clusterTypingReplicator.started(roomId, participant.userId(), participant.nickname());
+            }
+        } else {
+            clear(roomId, participant.userId());
+        }
+    }
+
+    // 메세지를 보내면 입력이 끝난 것으로 본다.
+    public void clear(Long roomId, Long userId) {
+        if (typingIndicatorRepository.stop(roomId, userId)) {
+            clusterTypingReplicator.stopped(roomId, userId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${chat.typing.tick-millis:500}", scheduler = "realtimeTaskScheduler")
+    public void flush() {
+        for (TypingState state : typingIndicatorRepository.collectChanges()) {
+            broadcastPublisher.publish("/sub/chatroom/" + state.roomId() + "/typing", state);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.jaeseok.groupStudy.chat.infrastructure;
+
+import com.jaeseok.groupStudy.chat.infrastructure.dto.TypingState;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.TypingState.TypingUser;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방별 입력 중 상태를 메모리로 관리하는 싱글톤 Bean
+ * - 입력 중 신호는 저장하지 않고, 마지막 신호로부터 ttl 이 지나면 자동으로 빠진다.
+ * - 목록이 바뀐 방만 표시해 두었다가 주기(tick)마다 한 번에 모아 반환하므로, 키 입력마다 방송하지 않는다.
+ * - 다른 노드의 입력 신호도 같은 방식으로 반영한다. 다른 노드로 알리는 신호는 시작/중단과, 입력이 이어질 때 ttl 의 절반마다 한 번뿐이다.
+ */
+@Component
+public class TypingIndicatorRepository {
+
+    private final long ttlNanos;
+
+    // <채팅방 ID, 방의 입력 중 현황>
+    private final Map<Long, RoomTyping> rooms = new ConcurrentHashMap<>();
+
+    public TypingIndicatorRepository(@Value("${chat.typing.ttl-millis:5000}") long ttlMillis) {
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    }
+
+    /**
+     * 입력 중 신호 (이미 입력 중이면 만료 시각만 늘린다.)
+     * @return 다른 노드로 알려야 하면 true (새로 입력을 시작했거나, 마지막으로 알린 뒤 ttl 의 절반이 지났을 때)
+     */
+    public boolean start(Long roomId, Long userId, String nickname) {
+        long now = System.nanoTime();
+        boolean[] announce = new boolean[1];
+        rooms.compute(roomId, (id, room) -> {
+            RoomTyping typing = room == null ? new RoomTyping() : room;
+            Typer previous = typing.typers.get(userId);
+            announce[0] = previous == null || now - previous.announcedAt() >= ttlNanos / 2;
+            long announcedAt = announce[0] ? now : previous.announcedAt();
+            typing.typers.put(userId, new Typer(nickname, now + ttlNanos, announcedAt));
+            if (previous == null) {
+                typing.dirty = true;
+            }
+            return typing;
+        });
+        return announce[0];
+    }
+
+    /**
+     * 입력 중단 신호 (메세지 전송, 입력창 비움 등)
+     * @return 입력 중이던 유저가 빠졌으면 true
+     */
+    public boolean stop(Long roomId, Long userId) {
+        boolean[] removed = new boolean[1];
+        rooms.computeIfPresent(roomId, (id, room) -> {
+            if (room.typers.remove(userId) != null) {
+                room.dirty = true;
+                removed[0] = true;
+            }
+            return room;
+        });
+        return removed[0];
+    }
+
+    /**
+     * 만료된 입력 중 상태를 정리하고, 마지막으로 반환한 뒤 목록이 바뀐 방의 현재 목록을 반환한다.
+     * 주기 작업 한 곳에서만 호출한다.
+     */
+    public List<TypingState> collectChanges() {
+        long now = System.nanoTime();
+        List<TypingState> changes = new ArrayList<>();
+        rooms.forEach((roomId, room) -> {
+            if (room.typers.entrySet().removeIf(entry -> entry.getValue().expiresAt() - now <= 0)) {
+                room.dirty = true;
+            }
+            if (room.dirty) {
+                room.dirty = false;
+                List<TypingUser> users = room.currentUsers();
+                if (!users.equals(room.published)) {
+                    room.published = users;
+                    changes.add(new TypingState(roomId, users));
+                }
+            }
+            // 아무도 입력하지 않고, 빈 목록까지 방송한 방은 제거한다.
+            rooms.computeIfPresent(roomId, (id, current) ->
+                    current.typers.isEmpty() && current.published.isEmpty() && !current.dirty ? null : current);
+        });
+        return changes;
+    }
+
+    public int getActiveRoomCount() {
+        return rooms.size();
+    }
+
+    // announcedAt: 다른 노드로 마지막으로 알린 시각
+    private record Typer(String nickname, long expiresAt, long announcedAt) {
+    }
+
+    private static final class RoomTyping {
+
+        // <유저 ID, 입력 중 상태>
+        private final Map<Long, Typer> typers = new ConcurrentHashMap<>();
+        private volatile boolean dirty;
+        private List<TypingUser> published = List.of(); // 마지막으로 방송한 목록 (주기 작업에서만 접근)
+
+        private List<TypingUser> currentUsers() {
+            return typers.entrySet().stream()
+                    .map(entry -> new TypingUser(entry.getKey(), entry.getValue().nickname()))
+                    .sorted(Comparator.comparing(TypingUser::userId))
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package com.jaeseok.groupStudy.chat.infrastructure.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jaeseok.groupStudy.chat.domain.ChatMessage;
+import com.jaeseok.groupStudy.chat.domain.vo.ChatHistoryCursor;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.ArchivedChatMessage;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메세지 콜드 아카이브 (로컬 디스크)
+ * - 보관 기간이 지난 메세지를 채팅방/월 단위 디렉토리에 gzip 압축 NDJSON 세그먼트로 보관한다.
+ *   {dir}/{roomId}/{yyyy-MM}/{첫 id}-{마지막 id}.ndjson.gz
+ * - 세그먼트는 임시 파일에 모두 쓴 뒤 이름을 바꿔 공개하므로, 읽는 쪽은 완성된 세그먼트만 본다.
+ *   기록한 뒤 핫 테이블에서 지우므로, 파일과 디렉토리를 디스크에 내린(fsync) 뒤에 반환한다.
+ * - 모든 노드가 같은 아카이브를 읽어야 하므로, 여러 노드로 운영할 때는 dir 을 공유 스토리지로 둔다.
+ * - 같은 메세지가 두 번 기록되어도(삭제 전 실패 후 재실행) 읽을 때 id로 중복을 제거한다.
+ * - 페이지마다 한 달치를 다시 풀지 않도록, 풀어 둔 월(오래된 순 메세지 + 순번 범위)을 메세지 수 기준 LRU 로 캐시한다.
+ *   월 디렉토리의 세그먼트 이름 목록이 캐시 시점과 다르면 다시 읽고, 캐시된 메세지는 호출자끼리 공유하므로 읽기 전용으로 다룬다.
+ */
+@Slf4j
+@Component
+public class ChatMessageArchive {
+
+    private static final String SEGMENT_SUFFIX = ".ndjson.gz";
+    private static final Comparator<ChatMessage> OLDEST_FIRST =
+            Comparator.comparing(ChatMessage::getCreatedAt).thenComparing(ChatMessage::getId);
+
+    private final ObjectMapper objectMapper;
+    private final Path baseDir;
+    private final int monthCacheMessages;
+
+    // (채팅방, 월) -> 풀어 둔 월 (접근 순서, 메세지 수 합계가 monthCacheMessages 를 넘으면 오래 안 쓴 월부터 뺀다.)
+    private final Map<MonthKey, DecodedMonth> decodedMonths = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedMessages;
+
+    public ChatMessageArchive(
+            ObjectMapper objectMapper,
+            @Value("${chat.archive.dir:data/chat-archive}") String baseDir,
+            @Value("${chat.archive.month-cache-messages:100000}") int monthCacheMessages
+    ) {
+        this.objectMapper = objectMapper;
+        this.baseDir = Paths.get(baseDir);
+        this.monthCacheMessages = monthCacheMessages;
+    }
+
+    // 같은 채팅방의 메세지를 월별 세그먼트로 기록
+    public void append(Long roomId, List<ChatMessage> messages) {
+        Map<YearMonth, List<ChatMessage>> byMonth = messages.stream()
+                .collect(Collectors.groupingBy(message -> YearMonth.from(message.getCreatedAt()), TreeMap::new,
+                        Collectors.toList()));
+
+        byMonth.forEach((month, monthMessages) -> {
+            writeSegment(monthDir(roomId, month), monthMessages);
+            forget(new MonthKey(roomId, month));
+        });
+    }
+
+    /**
+     * 커서 이전의 아카이브 메세지를 최신순으로 최대 limit 개 조회한다.
+     * @param cursor null 이면 가장 최근 아카이브 메세지부터
+     */
+    public List<ChatMessage> findBefore(Long roomId, ChatHistoryCursor cursor, int limit) {
+        List<ChatMessage> result = new ArrayList<>(limit);
+        for (YearMonth month : archivedMonthsDesc(roomId)) {
+            if (cursor != null && month.isAfter(YearMonth.from(cursor.createdAt()))) {
+                continue;
+            }
+            readMonth(roomId, month, true).messages().reversed().stream()
+                    .filter(message -> cursor == null || isBefore(message, cursor))
+                    .limit(limit - result.size())
+                    .forEach(result::add);
+
+            if (result.size() >= limit) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    // 가장 큰 아카이브 메세지 순번 (없으면 0)
+    public long findMaxSeq(Long roomId) {
+        for (YearMonth month : archivedMonthsDesc(roomId)) {
+            DecodedMonth decoded = readMonth(roomId, month, true);
+            if (decoded.hasSeq()) {
+                return decoded.maxSeq();
+            }
+        }
+        return 0L;
+    }
+
+    /**
+     * 순번이 (fromSeq, toSeq] 인 아카이브 메세지를 순번 오름차순으로 조회한다.
+     * 최근 월부터 거슬러 올라가며, fromSeq 이하의 순번을 만난 월(또는 순번이 없는 월)에서 멈춘다.
+     */
+    public List<ChatMessage> findRange(Long roomId, long fromSeq, long toSeq) {
+        List<ChatMessage> result = new ArrayList<>();
+        for (YearMonth month : archivedMonthsDesc(roomId)) {
+            DecodedMonth decoded = readMonth(roomId, month, true);
+            if (!decoded.hasSeq()) {
+                break;
+            }
+            // 순번 범위가 구간과 겹치는 월만 훑는다.
+            if (decoded.minSeq() <= toSeq && decoded.maxSeq() > fromSeq) {
+                for (ChatMessage message : decoded.messages()) {
+                    if (message.getSeq() != null && message.getSeq() > fromSeq && message.getSeq() <= toSeq) {
+                        result.add(message);
+                    }
+                }
+            }
+            if (decoded.minSeq() <= fromSeq + 1) {
+                break;
+            }
+        }
+        result.sort(Comparator.comparing(ChatMessage::getSeq));
+        return result;
+    }
+
+    /**
+     * 아카이브 메세지를 오래된 순으로 하나씩 넘긴다. (내보내기)
+     * 한 번에 한 달치만 메모리에 올리고, 내보내기 때문에 조회용 캐시가 밀려나지 않도록 새로 푼 월은 캐시하지 않는다.
+     */
+    public void forEachOldestFirst(Long roomId, Consumer<ChatMessage> action) {
+        List<YearMonth> months = new ArrayList<>(archivedMonthsDesc(roomId));
+        Collections.reverse(months);
+        for (YearMonth month : months) {
+            readMonth(roomId, month, false).messages().forEach(action);
+        }
+    }
+
+    private void writeSegment(Path monthDir, List<ChatMessage> messages) {
+        String name = messages.get(0).getId() + "-" + messages.get(messages.size() - 1).getId() + SEGMENT_SUFFIX;
+        Path segment = monthDir.resolve(name);
+        Path temp = monthDir.resolve(name + ".tmp");
+
+        try {
+            Files.createDirectories(monthDir);
+            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+                for (ChatMessage message : messages) {
+                    writer.write(objectMapper.writeValueAsString(ArchivedChatMessage.from(message)));
+                    writer.newLine();
+                }
+            }
+            force(temp, StandardOpenOption.WRITE);
+            Files.move(temp, segment, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            // 이름 바꾸기와 새로 만든 월 디렉토리까지 디스크에 남긴다.
+            forceDirectory(monthDir);
+            forceDirectory(monthDir.getParent());
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 메세지 아카이브 세그먼트 기록에 실패했습니다. path=" + segment, e);
+        }
+    }
+
+    private static void force(Path path, StandardOpenOption mode) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, mode)) {
+            channel.force(true);
+        }
+    }
+
+    // 디렉토리 fsync 를 지원하지 않는 파일 시스템(Windows 등)에서는 건너뛴다.
+    private static void forceDirectory(Path dir) {
+        try {
+            force(dir, StandardOpenOption.READ);
+        } catch (IOException e) {
+            log.debug("아카이브 디렉토리를 디스크에 내리지 못했습니다. path={}", dir, e);
+        }
+    }
+
+    /**
+     * 한 달치 아카이브 메세지를 오래된 순으로 돌려준다.
+     * 세그먼트 이름 목록이 캐시된 것과 같으면 캐시를 쓰고, 아니면 모든 세그먼트를 풀어 읽는다.
+     * @param keepDecoded 새로 푼 결과를 캐시에 남길지 여부
+     */
+    private DecodedMonth readMonth(Long roomId, YearMonth month, boolean keepDecoded) {
+        MonthKey key = new MonthKey(roomId, month);
+        List<Path> segments = listSegments(roomId, month);
+        List<String> segmentNames = segments.stream().map(path -> path.getFileName().toString()).toList();
+
+        synchronized (decodedMonths) {
+            DecodedMonth cached = decodedMonths.get(key);
+            if (cached != null && cached.segmentNames().equals(segmentNames)) {
+                return cached;
+            }
+        }
+
+        DecodedMonth decoded = decode(roomId, segments, segmentNames);
+        if (keepDecoded) {
+            cache(key, decoded);
+        }
+        return decoded;
+    }
+
+    private List<Path> listSegments(Long roomId, YearMonth month) {
+        try (Stream<Path> paths = Files.list(monthDir(roomId, month))) {
+            return paths.filter(path -> path.toString().endsWith(SEGMENT_SUFFIX)).sorted().toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 메세지 아카이브 조회에 실패했습니다. roomId=" + roomId, e);
+        }
+    }
+
+    private DecodedMonth decode(Long roomId, List<Path> segments, List<String> segmentNames) {
+        Map<Long, ChatMessage> messages = new LinkedHashMap<>();
+        try {
+            for (Path segment : segments) {
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                        new GZIPInputStream(Files.newInputStream(segment)), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        ChatMessage message = objectMapper.readValue(line, ArchivedChatMessage.class)
+                                .toChatMessage(roomId);
+                        messages.putIfAbsent(message.getId(), message);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 메세지 아카이브 조회에 실패했습니다. roomId=" + roomId, e);
+        }
+
+        List<ChatMessage> oldestFirst = new ArrayList<>(messages.values());
+        oldestFirst.sort(OLDEST_FIRST);
+        long minSeq = Long.MAX_VALUE;
+        long maxSeq = Long.MIN_VALUE;
+        for (ChatMessage message : oldestFirst) {
+            if (message.getSeq() != null) {
+                minSeq = Math.min(minSeq, message.getSeq());
+                maxSeq = Math.max(maxSeq, message.getSeq());
+            }
+        }
+        return new DecodedMonth(segmentNames, List.copyOf(oldestFirst), minSeq, maxSeq);
+    }
+
+    private void cache(MonthKey key, DecodedMonth decoded) {
+        if (decoded.messages().size() > monthCacheMessages) {
+            return;
+        }
+        synchronized (decodedMonths) {
+            DecodedMonth previous = decodedMonths.put(key, decoded);
+            cachedMessages += decoded.messages().size() - (previous == null ? 0 : previous.messages().size());
+
+            // 방금 넣은 월은 가장 최근에 쓴 월이라 맨 뒤에 있으므로 앞에서부터 뺀다.
+            Iterator<DecodedMonth> eldest = decodedMonths.values().iterator();
+            while (cachedMessages > monthCacheMessages && eldest.hasNext()) {
+                cachedMessages -= eldest.next().messages().size();
+                eldest.remove();
+            }
+        }
+    }
+
+    private void forget(MonthKey key) {
+        synchronized (decodedMonths) {
+            DecodedMonth removed = decodedMonths.remove(key);
+            if (removed != null) {
+                cachedMessages -= removed.messages().size();
+            }
+        }
+    }
+
+    private List<YearMonth> archivedMonthsDesc(Long roomId) {
+        Path roomDir = baseDir.resolve(String.valueOf(roomId));
+        if (!Files.isDirectory(roomDir)) {
+            return List.of();
+        }
+        try (Stream<Path> months = Files.list(roomDir)) {
+            return months.filter(Files::isDirectory)
+                    .map(path -> parseMonth(path.getFileName().toString()))
+                    .flatMap(Optional::stream)
+                    .sorted(Comparator.reverseOrder())
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 메세지 아카이브 조회에 실패했습니다. roomId=" + roomId, e);
+        }
+    }
+
+    private Optional<YearMonth> parseMonth(String name) {
+        try {
+            return Optional.of(YearMonth.parse(name));
+        } catch (DateTimeParseException e) {
+            log.warn("아카이브 디렉토리 이름이 월 형식이 아니라 무시합니다. name={}", name);
+            return Optional.empty();
+        }
+    }
+
+    private Path monthDir(Long roomId, YearMonth month) {
+        return baseDir.resolve(String.valueOf(roomId)).resolve(month.toString());
+    }
+
+    private static boolean isBefore(ChatMessage message, ChatHistoryCursor cursor) {
+        int compared = message.getCreatedAt().compareTo(cursor.createdAt());
+        return compared < 0 || (compared == 0 && message.getId() < cursor.id());
+    }
+
+    private record MonthKey(Long roomId, YearMonth month) {
+    }
+
+    // 풀어 둔 한 달치 메세지 (오래된 순) 와 순번 범위 (순번이 하나도 없으면 minSeq > maxSeq)
+    private record DecodedMonth(List<String> segmentNames, List<ChatMessage> messages, long minSeq, long maxSeq) {
+
+        boolean hasSeq() {
+            return minSeq <= maxSeq;
+        }
+    }
+}
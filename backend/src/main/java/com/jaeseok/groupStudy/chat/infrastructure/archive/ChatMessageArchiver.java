@@ -0,0 +1,114 @@
+package com.jaeseok.groupStudy.chat.infrastructure.archive;
+
+import com.jaeseok.groupStudy.chat.domain.ChatMessage;
+import com.jaeseok.groupStudy.chat.domain.repository.ChatMessageRepository;
+import com.jaeseok.groupStudy.chat.infrastructure.RecentChatMessageBuffer;
+import com.jaeseok.groupStudy.common.cluster.ClusterLock;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보관 기간(retention-days)이 지난 채팅 메세지를 chat_message 테이블에서 아카이브로 옮긴다.
+ * - 핫 테이블을 최근 메세지로만 유지하여 인덱스/버퍼 풀 작업 집합을 작게 유지하기 위해 사용한다.
+ * - 오래된 순으로 batch-size 개씩 아카이브에 기록한 뒤 삭제한다. (기록 실패 시 삭제하지 않는다.)
+ * - DB 채팅 내역 저장소를 사용할 때만 동작한다.
+ * - 핫 테이블은 노드가 공유하므로 클러스터 락(chat-archive)을 잡은 노드 한 곳에서만 실행한다.
+ * - 아카이브 디렉토리(chat.archive.dir)는 모든 노드가 같은 내용을 읽어야 하므로 공유 스토리지여야 한다.
+ *   cluster.transport=redis 인데 chat.archive.shared-storage=true 가 아니면, 노드 로컬 디스크로 보고 아카이브하지 않는다.
+ */
+@Slf4j
+@Component
+@Profile("!chat-log-store")
+public class ChatMessageArchiver {
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageArchive chatMessageArchive;
+    private final RecentChatMessageBuffer recentChatMessageBuffer;
+    private final ClusterLock clusterLock;
+    private final long retentionDays;
+    private final int batchSize;
+    private final Duration lockLease;
+    private final boolean enabled;
+
+    public ChatMessageArchiver(
+            ChatMessageRepository chatMessageRepository,
+            ChatMessageArchive chatMessageArchive,
+            RecentChatMessageBuffer recentChatMessageBuffer,
+            ClusterLock clusterLock,
+            @Value("${chat.archive.retention-days:180}") long retentionDays,
+            @Value("${chat.archive.batch-size:1000}") int batchSize,
+            @Value("${chat.archive.lock-lease-millis:3600000}") long lockLeaseMillis,
+            @Value("${cluster.transport:loopback}") String clusterTransport,
+            @Value("${chat.archive.shared-storage:false}") boolean sharedStorage
+    ) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.chatMessageArchive = chatMessageArchive;
+        this.recentChatMessageBuffer = recentChatMessageBuffer;
+        this.clusterLock = clusterLock;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.lockLease = Duration.ofMillis(lockLeaseMillis);
+        this.enabled = !"redis".equals(clusterTransport) || sharedStorage;
+    }
+
+    @PostConstruct
+    public void checkStorage() {
+        if (!enabled) {
+            log.error("클러스터 모드에서 아카이브 디렉토리가 공유 스토리지로 설정되지 않아 채팅 메세지 아카이브를 하지 않습니다. "
+                    + "(공유 스토리지라면 chat.archive.shared-storage=true 로 설정하세요.)");
+        }
+    }
+
+    @Scheduled(cron = "${chat.archive.cron:0 30 4 * * *}", scheduler = "maintenanceTaskScheduler")
+    public void archiveScheduled() {
+        if (!enabled) {
+            return;
+        }
+        ClusterLock.Lease lease = clusterLock.tryAcquire("chat-archive", lockLease);
+        if (lease == null) {
+            log.info("다른 노드에서 채팅 메세지 아카이브를 실행 중이라 건너뜁니다.");
+            return;
+        }
+        try (lease) {
+            int archived = archiveExpiredMessages(LocalDateTime.now().minusDays(retentionDays));
+            log.info("보관 기간이 지난 채팅 메세지 {}건을 아카이브했습니다.", archived);
+        } catch (RuntimeException e) {
+            log.error("채팅 메세지 아카이브 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    // cutoff 이전에 생성된 메세지를 모두 아카이브로 옮기고 옮긴 건수를 반환
+    public int archiveExpiredMessages(LocalDateTime cutoff) {
+        int archived = 0;
+        while (true) {
+            List<ChatMessage> batch = chatMessageRepository.findChatMessagesCreatedBefore(cutoff,
+                    PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                return archived;
+            }
+
+            Map<Long, List<ChatMessage>> byRoom = batch.stream()
+                    .collect(Collectors.groupingBy(ChatMessage::getChatRoomId));
+            byRoom.forEach(chatMessageArchive::append);
+
+            chatMessageRepository.deleteAllByIdInBatch(batch.stream().map(ChatMessage::getId).toList());
+            // 버퍼의 전체 메세지 수를 핫 테이블에 맞춘다.
+            byRoom.forEach((roomId, messages) -> recentChatMessageBuffer.onArchived(roomId, messages.size()));
+
+            archived += batch.size();
+            if (batch.size() < batchSize) {
+                return archived;
+            }
+        }
+    }
+}
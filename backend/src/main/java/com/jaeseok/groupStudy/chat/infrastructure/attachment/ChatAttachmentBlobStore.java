@@ -0,0 +1,134 @@
+package com.jaeseok.groupStudy.chat.infrastructure.attachment;
+
+import com.jaeseok.groupStudy.chat.exception.ChatAttachmentTooLargeException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 첨부 파일 블롭 저장소 (로컬 디스크, 내용 주소 방식)
+ * - 파일은 내용의 SHA-256 해시를 이름으로 {dir}/{해시 앞 2자리}/{해시} 에 저장한다. 같은 내용은 한 번만 저장된다.
+ * - 업로드 스트림을 고정 크기 버퍼로 읽으며 임시 파일에 쓰고 해시를 함께 계산하므로 파일 전체를 메모리에 올리지 않는다.
+ * - 임시 파일에 모두 쓴 뒤 이름을 바꿔 공개하므로, 읽는 쪽은 완성된 파일만 본다.
+ */
+@Slf4j
+@Component
+public class ChatAttachmentBlobStore {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String TEMP_DIR = "tmp";
+    private static final Pattern HASH = Pattern.compile("^[0-9a-f]{64}$");
+
+    private final Path baseDir;
+    private final long maxSize;
+
+    public ChatAttachmentBlobStore(
+            @Value("${chat.attachment.dir:data/chat-attachments}") String baseDir,
+            @Value("${chat.attachment.max-size-bytes:20971520}") long maxSize
+    ) {
+        this.baseDir = Paths.get(baseDir);
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 스트림을 끝까지 읽어 저장한다. (스트림은 닫지 않는다.)
+     * @return 내용 해시와 크기
+     * @throws ChatAttachmentTooLargeException 최대 크기를 넘은 경우 (쓰던 임시 파일은 지운다.)
+     */
+    public StoredBlob store(InputStream in) {
+        Path temp = null;
+        try {
+            Path tempDir = Files.createDirectories(baseDir.resolve(TEMP_DIR));
+            temp = Files.createTempFile(tempDir, "upload-", ".tmp");
+
+            MessageDigest digest = sha256();
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long size = 0;
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxSize) {
+                        throw new ChatAttachmentTooLargeException(
+                                "첨부 파일은 " + (maxSize / (1024 * 1024)) + "MB 까지 올릴 수 있습니다.");
+                    }
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Path target = resolve(hash);
+            if (Files.exists(target)) {
+                // 이미 같은 내용이 있으면 새로 쓴 파일은 버린다.
+                return new StoredBlob(hash, size);
+            }
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                log.debug("같은 내용의 첨부 파일이 동시에 저장되었습니다. hash={}", hash);
+            }
+            return new StoredBlob(hash, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException("첨부 파일 저장에 실패했습니다.", e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    /**
+     * 내용 해시의 블롭 파일 경로
+     * @return 파일이 없으면 null
+     */
+    public Path find(String hash) {
+        if (hash == null || !HASH.matcher(hash).matches()) {
+            return null;
+        }
+        Path path = resolve(hash);
+        return Files.isRegularFile(path) ? path : null;
+    }
+
+    private Path resolve(String hash) {
+        return baseDir.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("첨부 파일 임시 파일 삭제에 실패했습니다. path={}", path, e);
+        }
+    }
+
+    /**
+     * @param hash 내용 해시 (SHA-256, 16진수)
+     * @param size 바이트 단위 크기
+     */
+    public record StoredBlob(String hash, long size) {
+    }
+}
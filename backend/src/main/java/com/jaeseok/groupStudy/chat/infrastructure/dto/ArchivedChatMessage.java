@@ -0,0 +1,19 @@
+package com.jaeseok.groupStudy.chat.infrastructure.dto;
+
+import com.jaeseok.groupStudy.chat.domain.ChatMessage;
+import com.jaeseok.groupStudy.chat.domain.MessageType;
+import java.time.LocalDateTime;
+
+// 아카이브 세그먼트의 한 줄(NDJSON)에 기록되는 메세지 (채팅방 id는 디렉토리로 구분하므로 담지 않는다.)
+// seq 는 순번 도입 이전에 기록된 줄에는 없다.
+public record ArchivedChatMessage(Long id, Long seq, Long senderId, String content, MessageType type,
+                                  String createdAt) {
+    public static ArchivedChatMessage from(ChatMessage chatMessage) {
+        return new ArchivedChatMessage(chatMessage.getId(), chatMessage.getSeq(), chatMessage.getSenderId(),
+                chatMessage.getContent(), chatMessage.getType(), chatMessage.getCreatedAt().toString());
+    }
+
+    public ChatMessage toChatMessage(Long roomId) {
+        return ChatMessage.restore(id, roomId, seq, senderId, content, type, LocalDateTime.parse(createdAt));
+    }
+}
@@ -0,0 +1,13 @@
+package com.jaeseok.groupStudy.chat.infrastructure.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 언급 알림
+ * @param roomId 언급된 메세지의 채팅방 ID
+ * @param seq 언급된 메세지의 순번 (채팅방에 들어가 이 순번까지 이동할 때 쓴다.)
+ */
+public record ChatMentionNotification(Long roomId, Long seq, Long senderId, String nickname, String content,
+                                      LocalDateTime timestamp) {
+
+}
@@ -0,0 +1,12 @@
+package com.jaeseok.groupStudy.chat.infrastructure.dto;
+
+import java.util.List;
+
+/**
+ * 노드 간 언급 알림 전달 메세지
+ * @param origin 발신 노드 ID
+ * @param memberIds 언급된 회원 id
+ * @param json 직렬화된 알림 (ChatMentionNotification)
+ */
+public record MentionReplication(String origin, List<Long> memberIds, byte[] json) {
+}
@@ -0,0 +1,22 @@
+package com.jaeseok.groupStudy.chat.infrastructure.dto;
+
+/**
+ * 채팅방 온라인 명단의 변경분
+ * - JOIN: userId 기준으로 명단에 추가(또는 갱신), LEAVE: userId 기준으로 명단에서 제거
+ * - 클라이언트는 자신이 가진 명단의 version 이 previousVersion 과 같을 때만 적용하고,
+ *   다르면 버전이 빠진 것이므로 전체 스냅샷을 다시 요청한다.
+ */
+public record PresenceDelta(Type type, Long roomId, long version, long previousVersion, ParticipantInfo participant) {
+
+    public enum Type {
+        JOIN, LEAVE
+    }
+
+    public static PresenceDelta join(Long roomId, long version, long previousVersion, ParticipantInfo participant) {
+        return new PresenceDelta(Type.JOIN, roomId, version, previousVersion, participant);
+    }
+
+    public static PresenceDelta leave(Long roomId, long version, long previousVersion, ParticipantInfo participant) {
+        return new PresenceDelta(Type.LEAVE, roomId, version, previousVersion, participant);
+    }
+}
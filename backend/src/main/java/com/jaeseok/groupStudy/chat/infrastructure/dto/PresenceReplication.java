@@ -0,0 +1,35 @@
+package com.jaeseok.groupStudy.chat.infrastructure.dto;
+
+import java.util.List;
+
+/**
+ * 노드 간 온라인 명단 복제 메세지
+ * @param origin 발신 노드 ID
+ * @param participant JOIN 한 세션 (JOIN 에만 있음)
+ * @param sessionId LEAVE 한 세션 또는 REBIND 로 이어받은 세션
+ * @param previousSessionId REBIND 이전 세션
+ * @param sessions 발신 노드의 전체 세션 목록 (HEARTBEAT 에만 있음)
+ */
+public record PresenceReplication(String origin, Type type, ParticipantInfo participant, String sessionId,
+                                  String previousSessionId, List<ParticipantInfo> sessions) {
+
+    public enum Type {
+        JOIN, LEAVE, REBIND, HEARTBEAT
+    }
+
+    public static PresenceReplication join(String origin, ParticipantInfo participant) {
+        return new PresenceReplication(origin, Type.JOIN, participant, participant.sessionId(), null, null);
+    }
+
+    public static PresenceReplication leave(String origin, String sessionId) {
+        return new PresenceReplication(origin, Type.LEAVE, null, sessionId, null, null);
+    }
+
+    public static PresenceReplication rebind(String origin, String previousSessionId, String sessionId) {
+        return new PresenceReplication(origin, Type.REBIND, null, sessionId, previousSessionId, null);
+    }
+
+    public static PresenceReplication heartbeat(String origin, List<ParticipantInfo> sessions) {
+        return new PresenceReplication(origin, Type.HEARTBEAT, null, null, null, sessions);
+    }
+}
@@ -0,0 +1,28 @@
+package com.jaeseok.groupStudy.chat.infrastructure.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 특정 시점의 채팅방 온라인 참여자 명단 (불변)
+ * - version 은 명단이 바뀔 때마다 증가하며, 같은 방에서 더 큰 version 이 더 최신 명단이다.
+ * - participants 는 유저당 하나(가장 최근 세션)의 정보를 입장 순서대로 담는다.
+ */
+public record PresenceSnapshot(Long roomId, long version, Set<ParticipantInfo> participants) {
+
+    public PresenceSnapshot {
+        participants = Collections.unmodifiableSet(new LinkedHashSet<>(participants));
+    }
+
+    public static PresenceSnapshot empty(Long roomId, long version) {
+        return new PresenceSnapshot(roomId, version, Set.of());
+    }
+
+    // 참여자 토픽에서 변경분(JOIN/LEAVE)과 구분하기 위한 타입
+    @JsonProperty("type")
+    public String type() {
+        return "SNAPSHOT";
+    }
+}
@@ -0,0 +1,9 @@
+package com.jaeseok.groupStudy.chat.infrastructure.dto;
+
+/**
+ * 세션 이어받기 토큰 응답
+ * @param resumeToken 다음 재연결 때 CONNECT 헤더(resume-token)로 보낼 토큰
+ * @param resumed 이번 연결이 이전 세션을 이어받았는지 여부
+ */
+public record SessionResumeInfo(String resumeToken, boolean resumed) {
+}
@@ -0,0 +1,18 @@
+package com.jaeseok.groupStudy.chat.infrastructure.dto;
+
+/**
+ * 노드 간 입력 중 신호 복제 메세지
+ * @param origin 발신 노드 ID
+ * @param nickname 입력을 시작한 유저의 닉네임 (typing 이 true 일 때만 있음)
+ * @param typing false 면 입력을 멈춤
+ */
+public record TypingReplication(String origin, Long roomId, Long userId, String nickname, boolean typing) {
+
+    public static TypingReplication start(String origin, Long roomId, Long userId, String nickname) {
+        return new TypingReplication(origin, roomId, userId, nickname, true);
+    }
+
+    public static TypingReplication stop(String origin, Long roomId, Long userId) {
+        return new TypingReplication(origin, roomId, userId, null, false);
+    }
+}
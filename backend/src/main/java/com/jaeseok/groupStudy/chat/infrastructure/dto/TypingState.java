@@ -0,0 +1,10 @@
+package com.jaeseok.groupStudy.chat.infrastructure.dto;
+
+import java.util.List;
+
+// 채팅방에서 지금 입력 중인 유저 목록 (바뀔 때만 방송한다.)
+public record TypingState(Long roomId, List<TypingUser> users) {
+
+    public record TypingUser(Long userId, String nickname) {
+    }
+}
@@ -0,0 +1,120 @@
+package com.jaeseok.groupStudy.chat.infrastructure.mention;
+
+import com.jaeseok.groupStudy.member.application.MemberInfoCache;
+import com.jaeseok.groupStudy.member.application.dto.MemberInfoDto;
+import com.jaeseok.groupStudy.member.event.MemberInfoChangedEvent;
+import com.jaeseok.groupStudy.studyGroup.domain.participant.ParticipantStatus;
+import com.jaeseok.groupStudy.studyGroup.event.ParticipantStatusChangedEvent;
+import com.jaeseok.groupStudy.studyGroup.infrastructure.membership.StudyGroupMembershipIndex;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 채팅방별 '@닉네임' 언급 인덱스
+ * - 스터디 그룹의 승인된 참여자 닉네임으로 채팅방마다 트라이를 만들어 두고, 메세지 본문을 한 번 훑어 언급된 회원을 찾는다.
+ * - 처음 조회될 때 승인 참여자 인덱스와 유저 캐시로 적재하고, 이후에는 참여자 상태/유저 정보 변경 이벤트(커밋 이후)로 한 명씩 고친다.
+ * - 적재(닉네임 N 번 조회)는 맵의 잠금 밖에서 하고 putIfAbsent 로 공개한다. 적재 도중 변경 이벤트가 지나가면 만든 트라이는 그 조회에만 쓰고 버린다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatMentionIndex {
+
+    private final StudyGroupMembershipIndex studyGroupMembershipIndex;
+    private final MemberInfoCache memberInfoCache;
+
+    // <스터디 그룹 ID, 닉네임 트라이>
+    private final Map<Long, NicknameTrie> tries = new ConcurrentHashMap<>();
+    // 변경 이벤트를 반영하기 전에 올린다. (이벤트가 드물어 그룹 구분 없이 하나로 센다.)
+    private final AtomicLong changeStamp = new AtomicLong();
+
+    /**
+     * 본문에서 언급된 회원을 찾는다.
+     * - 적재와 이벤트 반영 순서가 엇갈려도 참여자가 아닌 회원에게 알림이 가지 않도록 승인 참여자 인덱스로 한 번 더 확인한다.
+     * @return 언급된 회원 id (보낸 사람 제외, 처음 나온 순서)
+     */
+    public List<Long> findMentionedIds(Long studyGroupId, Long senderId, String content) {
+        if (content == null || content.indexOf('@') < 0) {
+            return List.of();
+        }
+
+        return getTrie(studyGroupId).findMentions(content).stream()
+                .filter(memberId -> !memberId.equals(senderId))
+                .filter(memberId -> studyGroupMembershipIndex.isMember(studyGroupId, memberId))
+                .toList();
+    }
+
+    // 커밋된 참여자 상태 변경을 트라이에 반영 (적재되지 않은 그룹은 다음 조회 시 적재되므로 건너뛴다.)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onParticipantStatusChanged(ParticipantStatusChangedEvent event) {
+        long userId = event.userId();
+        changeStamp.incrementAndGet();
+        tries.computeIfPresent(event.studyGroupId(), (id, trie) -> {
+            if (event.status() != ParticipantStatus.APPROVED) {
+                trie.remove(userId);
+            } else {
+                findNickname(userId).ifPresent(nickname -> trie.put(userId, nickname));
+            }
+            return trie;
+        });
+    }
+
+    // 닉네임이 바뀌면 그 회원이 있는 트라이만 고친다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberInfoChanged(MemberInfoChangedEvent event) {
+        long userId = event.userId();
+        // 유저 캐시의 무효화보다 먼저 불려도 바뀐 닉네임을 읽도록 먼저 무효화한다.
+        memberInfoCache.invalidate(userId);
+        changeStamp.incrementAndGet();
+
+        Optional<String> nickname = Optional.empty();
+        for (NicknameTrie trie : tries.values()) {
+            if (!trie.contains(userId)) {
+                continue;
+            }
+            if (nickname.isEmpty()) {
+                nickname = findNickname(userId);
+            }
+            nickname.ifPresentOrElse(value -> trie.put(userId, value), () -> trie.remove(userId));
+        }
+    }
+
+    public void evict(Long studyGroupId) {
+        tries.remove(studyGroupId);
+    }
+
+    private NicknameTrie getTrie(Long studyGroupId) {
+        NicknameTrie trie = tries.get(studyGroupId);
+        if (trie != null) {
+            return trie;
+        }
+        long stamp = changeStamp.get();
+        NicknameTrie loaded = load(studyGroupId);
+        NicknameTrie existing = tries.putIfAbsent(studyGroupId, loaded);
+        if (existing != null) {
+            return existing;
+        }
+        // 적재 도중 지나간 변경은 공개 전이라 반영되지 않았을 수 있으므로, 다음 조회에서 다시 적재하도록 뺀다.
+        if (changeStamp.get() != stamp) {
+            tries.remove(studyGroupId, loaded);
+        }
+        return loaded;
+    }
+
+    private NicknameTrie load(Long studyGroupId) {
+        NicknameTrie trie = new NicknameTrie();
+        for (long memberId : studyGroupMembershipIndex.getMemberIds(studyGroupId)) {
+            findNickname(memberId).ifPresent(nickname -> trie.put(memberId, nickname));
+        }
+        return trie;
+    }
+
+    private Optional<String> findNickname(long memberId) {
+        return memberInfoCache.find(memberId).map(MemberInfoDto::nickname);
+    }
+}
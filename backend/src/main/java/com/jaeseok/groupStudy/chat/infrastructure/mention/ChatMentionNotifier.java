@@ -0,0 +1,95 @@
+package com.jaeseok.groupStudy.chat.infrastructure.mention;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.ChatMentionNotification;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.MentionReplication;
+import com.jaeseok.groupStudy.common.broadcast.BroadcastPublisher;
+import com.jaeseok.groupStudy.common.cluster.ClusterBroadcastRelay;
+import com.jaeseok.groupStudy.common.cluster.ClusterTransport;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * 언급 알림 전송기
+ * - 방 전체가 아니라 언급된 회원의 모든 세션에만 보낸다. (/user/queue/mentions)
+ * - 채팅방 화면에 있지 않아도 받을 수 있도록 채팅방과 무관한 목적지를 쓴다.
+ * - 알림 JSON 은 한 번만 직렬화해 받는 회원 모두가 공유한다.
+ * - 유저 목적지는 노드마다 자기 세션으로만 풀리므로 브로드캐스트 중계기로는 다른 노드에 닿지 않는다.
+ *   그래서 알림을 클러스터 채널(group-study:mention)로도 보내고, 받은 노드는 자기 노드에 접속한 회원에게만 전달한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMentionNotifier {
+
+    static final String CHANNEL = "group-study:mention";
+    private static final String DESTINATION = "/queue/mentions";
+
+    private final BroadcastPublisher broadcastPublisher;
+    private final ClusterTransport clusterTransport;
+    private final ClusterBroadcastRelay clusterBroadcastRelay;
+    private final SimpUserRegistry simpUserRegistry;
+    private final ObjectMapper objectMapper;
+
+    @PostConstruct
+    public void start() {
+        clusterTransport.subscribe(CHANNEL, this::onFrameSafely);
+    }
+
+    @PreDestroy
+    public void stop() {
+        clusterTransport.unsubscribe(CHANNEL);
+    }
+
+    public void send(List<Long> memberIds, ChatMentionNotification notification) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+
+        byte[] json = broadcastPublisher.serialize(notification);
+        deliver(memberIds, json);
+        publish(new MentionReplication(clusterBroadcastRelay.getNodeId(), memberIds, json));
+    }
+
+    // 다른 노드에서 보낸 알림을 이 노드에 접속한 회원에게만 전달
+    public void onFrame(byte[] bytes) throws IOException {
+        MentionReplication replication = objectMapper.readValue(bytes, MentionReplication.class);
+        if (clusterBroadcastRelay.getNodeId().equals(replication.origin())) {
+            return;
+        }
+
+        List<Long> localMembers = replication.memberIds().stream()
+                .filter(memberId -> simpUserRegistry.getUser(String.valueOf(memberId)) != null)
+                .toList();
+        deliver(localMembers, replication.json());
+    }
+
+    private void deliver(List<Long> memberIds, byte[] json) {
+        for (Long memberId : memberIds) {
+            // 웹소켓 Principal 이름은 회원 id 다.
+            broadcastPublisher.publishJson("/user/" + memberId + DESTINATION, json);
+        }
+    }
+
+    private void publish(MentionReplication replication) {
+        try {
+            clusterTransport.publish(CHANNEL, objectMapper.writeValueAsBytes(replication));
+        } catch (IOException | RuntimeException e) {
+            log.error("언급 알림 전달 메세지 발행에 실패했습니다. count={}", replication.memberIds().size(), e);
+        }
+    }
+
+    private void onFrameSafely(byte[] bytes) {
+        try {
+            onFrame(bytes);
+        } catch (IOException | RuntimeException e) {
+            log.error("언급 알림 전달 메세지 처리에 실패했습니다.", e);
+        }
+    }
+}
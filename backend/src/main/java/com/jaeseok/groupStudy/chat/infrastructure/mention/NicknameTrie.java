@@ -0,0 +1,120 @@
+package com.jaeseok.groupStudy.chat.infrastructure.mention;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 한 채팅방의 닉네임 트라이 (닉네임 -> 회원 id)
+ * - 추가/삭제는 락을 잡고 노드를 직접 고치고, 조회는 락 없이 한다. (자식 노드는 ConcurrentHashMap, 회원 id 는 volatile)
+ * - 삭제하면 더 이상 쓰이지 않는 노드를 잘라 내므로, 참여자가 드나들어도 트라이가 커지지 않는다.
+ */
+final class NicknameTrie {
+
+    private static final long NONE = -1L;
+
+    private final Node root = new Node();
+
+    // <회원 id, 닉네임> (삭제할 때 경로를 찾기 위해 기억한다.)
+    private final Map<Long, String> nicknames = new HashMap<>();
+
+    synchronized void put(long memberId, String nickname) {
+        String previous = nicknames.get(memberId);
+        if (nickname.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            remove(memberId);
+        }
+
+        Node node = root;
+        for (int i = 0; i < nickname.length(); i++) {
+            node = node.children.computeIfAbsent(nickname.charAt(i), c -> new Node());
+        }
+        node.memberId = memberId;
+        nicknames.put(memberId, nickname);
+    }
+
+    synchronized void remove(long memberId) {
+        String nickname = nicknames.remove(memberId);
+        if (nickname == null) {
+            return;
+        }
+
+        List<Node> path = new ArrayList<>(nickname.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < nickname.length(); i++) {
+            node = node.children.get(nickname.charAt(i));
+            path.add(node);
+        }
+        if (node.memberId == memberId) {
+            node.memberId = NONE;
+        }
+
+        // 끝에서부터 회원도 자식도 없는 노드를 잘라 낸다.
+        for (int i = nickname.length(); i > 0; i--) {
+            Node current = path.get(i);
+            if (current.memberId != NONE || !current.children.isEmpty()) {
+                break;
+            }
+            path.get(i - 1).children.remove(nickname.charAt(i - 1));
+        }
+    }
+
+    synchronized boolean contains(long memberId) {
+        return nicknames.containsKey(memberId);
+    }
+
+    /**
+     * 본문의 '@닉네임' 을 찾는다.
+     * - '@' 뒤에서 트라이를 따라가며 가장 긴 닉네임을 고른다. ("@재석님" 처럼 조사/호칭이 붙어도 찾는다.)
+     * - 영문/숫자 바로 뒤의 '@' 는 이메일 주소로 보고 건너뛴다.
+     * - '@' 마다 닉네임 최대 길이만큼만 따라가므로 본문 길이에 비례한다.
+     * @return 언급된 회원 id (처음 나온 순서, 중복 없음)
+     */
+    List<Long> findMentions(String content) {
+        List<Long> mentioned = new ArrayList<>();
+        int length = content.length();
+        int i = 0;
+        while (i < length) {
+            if (content.charAt(i) != '@' || (i > 0 && isAsciiLetterOrDigit(content.charAt(i - 1)))) {
+                i++;
+                continue;
+            }
+
+            Node node = root;
+            long matched = NONE;
+            int matchedEnd = i;
+            for (int j = i + 1; j < length; j++) {
+                node = node.children.get(content.charAt(j));
+                if (node == null) {
+                    break;
+                }
+                long memberId = node.memberId;
+                if (memberId != NONE) {
+                    matched = memberId;
+                    matchedEnd = j;
+                }
+            }
+
+            if (matched != NONE && !mentioned.contains(matched)) {
+                mentioned.add(matched);
+            }
+            i = matchedEnd + 1;
+        }
+        return mentioned;
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    private static final class Node {
+
+        private final Map<Character, Node> children = new ConcurrentHashMap<>(4);
+        private volatile long memberId = NONE;
+    }
+}
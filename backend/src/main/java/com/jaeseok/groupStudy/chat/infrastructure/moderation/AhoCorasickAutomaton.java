@@ -0,0 +1,149 @@
+package com.jaeseok.groupStudy.chat.infrastructure.moderation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * 금칙어 다중 패턴 매칭 오토마톤 (Aho-Corasick)
+ * - 상태마다 전이 문자를 정렬된 char[] 로 보관하고 이진 탐색으로 전이한다. (한글 음절처럼 알파벳이 커도 메모리가 작다.)
+ * - 상태마다 그 상태에서 끝나는 모든 패턴(실패 링크로 이어지는 접미 패턴 포함)을 미리 모아 두므로,
+ *   본문을 한 번 훑는 동안 패턴 수와 관계없이 문자당 상수 시간에 가깝게 매칭한다.
+ * - 만든 뒤에는 수정하지 않는다. (교체만 한다.)
+ */
+final class AhoCorasickAutomaton {
+
+    private static final int[] NO_OUTPUT = new int[0];
+
+    private final char[][] keys;
+    private final int[][] targets;
+    private final int[] fail;
+    private final int[][] outputs;
+    private final int[] patternLengths;
+    private final int maxPatternLength;
+
+    private AhoCorasickAutomaton(char[][] keys, int[][] targets, int[] fail, int[][] outputs, int[] patternLengths) {
+        this.keys = keys;
+        this.targets = targets;
+        this.fail = fail;
+        this.outputs = outputs;
+        this.patternLengths = patternLengths;
+        this.maxPatternLength = Arrays.stream(patternLengths).max().orElse(0);
+    }
+
+    /**
+     * @param patterns 정규화된 패턴 (빈 문자열은 넣지 않는다.) 패턴 번호는 목록의 순서다.
+     */
+    static AhoCorasickAutomaton build(List<String> patterns) {
+        List<TreeMap<Character, Integer>> transitions = new ArrayList<>();
+        List<List<Integer>> ends = new ArrayList<>();
+        transitions.add(new TreeMap<>());
+        ends.add(new ArrayList<>());
+
+        int[] patternLengths = new int[patterns.size()];
+        for (int p = 0; p < patterns.size(); p++) {
+            String pattern = patterns.get(p);
+            patternLengths[p] = pattern.length();
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                Integer next = transitions.get(state).get(pattern.charAt(i));
+                if (next == null) {
+                    next = transitions.size();
+                    transitions.add(new TreeMap<>());
+                    ends.add(new ArrayList<>());
+                    transitions.get(state).put(pattern.charAt(i), next);
+                }
+                state = next;
+            }
+            ends.get(state).add(p);
+        }
+
+        int size = transitions.size();
+        char[][] keys = new char[size][];
+        int[][] targets = new int[size][];
+        for (int s = 0; s < size; s++) {
+            TreeMap<Character, Integer> edges = transitions.get(s);
+            keys[s] = new char[edges.size()];
+            targets[s] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                keys[s][i] = edge.getKey();
+                targets[s][i] = edge.getValue();
+                i++;
+            }
+        }
+
+        // 너비 우선으로 실패 링크를 잇고, 실패 상태의 출력을 물려받는다. (부모의 출력이 먼저 완성된다.)
+        int[] fail = new int[size];
+        int[][] outputs = new int[size][];
+        outputs[0] = toArray(ends.get(0));
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[0]) {
+            fail[child] = 0;
+            outputs[child] = merge(toArray(ends.get(child)), outputs[0]);
+            queue.add(child);
+        }
+        AhoCorasickAutomaton partial = new AhoCorasickAutomaton(keys, targets, fail, outputs, patternLengths);
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = 0; i < keys[state].length; i++) {
+                int child = targets[state][i];
+                fail[child] = partial.next(fail[state], keys[state][i]);
+                outputs[child] = merge(toArray(ends.get(child)), outputs[fail[child]]);
+                queue.add(child);
+            }
+        }
+        return partial;
+    }
+
+    // 현재 상태에서 문자 c 를 읽은 다음 상태
+    int next(int state, char c) {
+        while (true) {
+            int index = Arrays.binarySearch(keys[state], c);
+            if (index >= 0) {
+                return targets[state][index];
+            }
+            if (state == 0) {
+                return 0;
+            }
+            state = fail[state];
+        }
+    }
+
+    // 이 상태에서 끝나는 패턴 번호들 (없으면 빈 배열)
+    int[] outputs(int state) {
+        return outputs[state];
+    }
+
+    int patternLength(int pattern) {
+        return patternLengths[pattern];
+    }
+
+    int maxPatternLength() {
+        return maxPatternLength;
+    }
+
+    int patternCount() {
+        return patternLengths.length;
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        return values.isEmpty() ? NO_OUTPUT : values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] merge(int[] own, int[] inherited) {
+        if (inherited.length == 0) {
+            return own;
+        }
+        if (own.length == 0) {
+            return inherited;
+        }
+        int[] merged = Arrays.copyOf(own, own.length + inherited.length);
+        System.arraycopy(inherited, 0, merged, own.length, inherited.length);
+        return merged;
+    }
+}
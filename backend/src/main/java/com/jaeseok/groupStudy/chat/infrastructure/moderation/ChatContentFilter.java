@@ -0,0 +1,243 @@
+package com.jaeseok.groupStudy.chat.infrastructure.moderation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 금칙어 필터 (메세지 전송 경로)
+ * - 금칙어 목록을 Aho-Corasick 오토마톤으로 컴파일해 두고, 본문을 한 번만 훑으며 모든 금칙어를 찾아 '*' 로 가린다.
+ * - 본문은 문자 단위로 바로 정규화하며 훑는다. (대소문자, 전각 문자, 흔한 치환 문자(@, $, 숫자)를 맞추고 공백/기호는 건너뛴다.)
+ *   그래서 "시 발", "F.U.C.K" 처럼 사이에 끼운 문자로 피해 가지 못한다.
+ * - 영문으로만 된 금칙어는 단어 경계에서만 찾는다. ("class" 안의 "ass" 는 가리지 않는다.) 한글 금칙어는 어디서든 찾는다.
+ * - 금칙어 파일은 주기적으로 수정 시각을 확인해 다시 컴파일하고 참조만 바꾸므로, 다시 불러오는 동안에도 전송을 멈추지 않는다.
+ * - 금칙어별 적중 수를 센다. (다시 불러와도 남아 있는 금칙어의 수는 유지한다.)
+ */
+@Slf4j
+@Component
+public class ChatContentFilter {
+
+    private static final char MASK = '*';
+    private static final char SKIP = 0;
+
+    private final Path wordsPath;
+    private final Counter hitCounter;
+
+    private volatile Dictionary dictionary = Dictionary.EMPTY;
+    private volatile FileTime loadedModifiedTime;
+
+    // <정규화된 금칙어, 적중 수>
+    private final Map<String, LongAdder> hitCounts = new ConcurrentHashMap<>();
+
+    public ChatContentFilter(
+            MeterRegistry meterRegistry,
+            @Value("${chat.filter.words-path:}") String wordsPath
+    ) {
+        this.wordsPath = wordsPath == null || wordsPath.isBlank() ? null : Paths.get(wordsPath);
+        this.hitCounter = Counter.builder("chat.filter.hits")
+                .description("금칙어 필터가 가린 금칙어 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        reloadIfChanged();
+    }
+
+    /**
+     * 본문의 금칙어를 '*' 로 가린다.
+     * @return 금칙어가 없으면 받은 문자열 그대로
+     */
+    public String mask(String content) {
+        Dictionary current = dictionary;
+        if (content == null || current.automaton.patternCount() == 0) {
+            return content;
+        }
+        AhoCorasickAutomaton automaton = current.automaton;
+
+        // 정규화된 문자의 원문 위치 (가장 긴 금칙어 길이만큼만 기억한다.)
+        int ringMask = Integer.highestOneBit(Math.max(automaton.maxPatternLength(), 1) * 2 - 1) - 1;
+        int[] positions = new int[ringMask + 1];
+        char[] masked = null;
+        int state = 0;
+        int count = 0;
+
+        for (int i = 0; i < content.length(); i++) {
+            char c = normalize(content.charAt(i));
+            if (c == SKIP) {
+                continue;
+            }
+            positions[count & ringMask] = i;
+            count++;
+            state = automaton.next(state, c);
+
+            for (int pattern : automaton.outputs(state)) {
+                int start = positions[(count - automaton.patternLength(pattern)) & ringMask];
+                if (current.wordBoundary[pattern] && !isWordBoundary(content, start, i)) {
+                    continue;
+                }
+                if (masked == null) {
+                    masked = content.toCharArray();
+                }
+                for (int k = start; k <= i; k++) {
+                    if (normalize(content.charAt(k)) != SKIP) {
+                        masked[k] = MASK;
+                    }
+                }
+                current.hits[pattern].increment();
+                hitCounter.increment();
+            }
+        }
+        return masked == null ? content : new String(masked);
+    }
+
+    // 금칙어 파일이 바뀌었으면 다시 불러온다. (실패하면 이전 목록을 계속 쓴다.)
+    @Scheduled(fixedDelayString = "${chat.filter.reload-interval-millis:30000}", scheduler = "maintenanceTaskScheduler")
+    public void reloadIfChanged() {
+        if (wordsPath == null) {
+            return;
+        }
+        try {
+            FileTime modifiedTime = Files.getLastModifiedTime(wordsPath);
+            if (modifiedTime.equals(loadedModifiedTime)) {
+                return;
+            }
+            List<String> lines = Files.readAllLines(wordsPath, StandardCharsets.UTF_8);
+            reload(lines);
+            loadedModifiedTime = modifiedTime;
+            log.info("금칙어 목록을 불러왔습니다. path={}, count={}", wordsPath, dictionary.words.length);
+        } catch (IOException | RuntimeException e) {
+            log.error("금칙어 목록을 불러오지 못했습니다. 이전 목록을 계속 사용합니다. path={}", wordsPath, e);
+        }
+    }
+
+    /**
+     * 금칙어 목록을 바꾼다. 새 오토마톤을 모두 만든 뒤 참조만 바꾸므로 진행 중인 필터링은 이전 목록으로 끝난다.
+     * @param lines 한 줄에 금칙어 하나 ('#' 으로 시작하는 줄과 빈 줄은 무시한다.)
+     */
+    public void reload(Collection<String> lines) {
+        Set<String> words = new LinkedHashSet<>();
+        for (String line : lines) {
+            String trimmed = line.strip();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            String normalized = normalize(trimmed);
+            if (!normalized.isEmpty()) {
+                words.add(normalized);
+            }
+        }
+
+        List<String> patterns = new ArrayList<>(words);
+        LongAdder[] hits = new LongAdder[patterns.size()];
+        boolean[] wordBoundary = new boolean[patterns.size()];
+        for (int i = 0; i < patterns.size(); i++) {
+            hits[i] = hitCounts.computeIfAbsent(patterns.get(i), word -> new LongAdder());
+            wordBoundary[i] = isLatin(patterns.get(i));
+        }
+        dictionary = new Dictionary(patterns.toArray(String[]::new), AhoCorasickAutomaton.build(patterns), hits,
+                wordBoundary);
+        hitCounts.keySet().retainAll(words);
+    }
+
+    /**
+     * 금칙어별 적중 수
+     * @return <정규화된 금칙어, 적중 수> (목록 순서)
+     */
+    public Map<String, Long> getHitCounts() {
+        Dictionary current = dictionary;
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (int i = 0; i < current.words.length; i++) {
+            counts.put(current.words[i], current.hits[i].sum());
+        }
+        return counts;
+    }
+
+    public int getWordCount() {
+        return dictionary.words.length;
+    }
+
+    // 금칙어도 본문과 같은 규칙으로 정규화한다.
+    private static String normalize(String word) {
+        StringBuilder builder = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            char c = normalize(word.charAt(i));
+            if (c != SKIP) {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 문자 하나를 정규화한다.
+     * @return 비교할 문자 (공백/기호처럼 건너뛸 문자면 0)
+     */
+    private static char normalize(char c) {
+        // 전각 ASCII (U+FF01 ~ U+FF5E) -> 반각
+        if (c >= '\uFF01' && c <= '\uFF5E') {
+            c = (char) (c - 0xFEE0);
+        }
+        return switch (c) {
+            case '@', '4' -> 'a';
+            case '$', '5' -> 's';
+            case '0' -> 'o';
+            case '1' -> 'i';
+            case '3' -> 'e';
+            case '7' -> 't';
+            default -> Character.isLetterOrDigit(c) ? Character.toLowerCase(c) : SKIP;
+        };
+    }
+
+    private static boolean isLatin(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 매칭 구간 [start, end] 의 앞뒤 문자가 영문/숫자가 아니어야 한 단어다.
+    private static boolean isWordBoundary(String content, int start, int end) {
+        return (start == 0 || !isLatinLetter(content.charAt(start - 1)))
+                && (end == content.length() - 1 || !isLatinLetter(content.charAt(end + 1)));
+    }
+
+    private static boolean isLatinLetter(char c) {
+        char normalized = normalize(c);
+        return normalized != SKIP && normalized <= 0x7F;
+    }
+
+    /**
+     * 한 번에 교체하는 금칙어 사전 (오토마톤과 패턴별 정보)
+     * @param hits 패턴별 적중 수 (다시 불러와도 같은 금칙어면 같은 카운터)
+     * @param wordBoundary 패턴별 단어 경계 매칭 여부
+     */
+    private record Dictionary(String[] words, AhoCorasickAutomaton automaton, LongAdder[] hits,
+                              boolean[] wordBoundary) {
+
+        private static final Dictionary EMPTY = new Dictionary(new String[0], AhoCorasickAutomaton.build(List.of()),
+                new LongAdder[0], new boolean[0]);
+    }
+}
@@ -0,0 +1,28 @@
+package com.jaeseok.groupStudy.chat.infrastructure.moderation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 금칙어별 적중 수 조회 (/actuator/chatfilter)
+ * 금칙어가 태그 값으로 퍼지지 않도록 메트릭에는 전체 적중 수만 남기고, 금칙어별 수는 여기서만 보여 준다.
+ */
+@Component
+@Endpoint(id = "chatfilter")
+@RequiredArgsConstructor
+public class ChatContentFilterEndpoint {
+
+    private final ChatContentFilter chatContentFilter;
+
+    @ReadOperation
+    public Map<String, Object> hits() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("wordCount", chatContentFilter.getWordCount());
+        result.put("hits", chatContentFilter.getHitCounts());
+        return result;
+    }
+}
@@ -0,0 +1,44 @@
+package com.jaeseok.groupStudy.chat.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 글자 bigram 토크나이저
+ * - 한국어는 띄어쓰기/조사 때문에 단어 단위로 자르면 검색이 잘 맞지 않으므로, 연속된 두 글자 단위로 색인한다.
+ * - 문자/숫자가 이어진 구간 안에서만 bigram 을 만들고, 공백과 기호는 구간을 나눈다.
+ * - bigram 은 두 UTF-16 문자를 int 하나로 묶어 다룬다. ([앞 글자 16bit][뒷 글자 16bit])
+ */
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    // 전각/반각, 대소문자 차이를 없앤다.
+    public static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 정규화한 텍스트의 중복 없는 bigram 을 오름차순으로 반환한다.
+     * @param text 원문
+     * @return 두 글자 이상 이어진 구간이 없으면 빈 배열
+     */
+    public static int[] tokenize(String text) {
+        String normalized = normalize(text);
+        int[] tokens = new int[Math.max(normalized.length() - 1, 0)];
+        int count = 0;
+        for (int i = 1; i < normalized.length(); i++) {
+            char previous = normalized.charAt(i - 1);
+            char current = normalized.charAt(i);
+            if (Character.isLetterOrDigit(previous) && Character.isLetterOrDigit(current)) {
+                tokens[count++] = (previous << 16) | current;
+            }
+        }
+
+        int[] sorted = Arrays.copyOf(tokens, count);
+        Arrays.sort(sorted);
+        return Arrays.stream(sorted).distinct().toArray();
+    }
+}
@@ -0,0 +1,536 @@
+package com.jaeseok.groupStudy.chat.infrastructure.search;
+
+import com.jaeseok.groupStudy.chat.domain.ChatMessage;
+import com.jaeseok.groupStudy.chat.domain.MessageType;
+import com.jaeseok.groupStudy.chat.domain.repository.ChatHistoryStore;
+import jakarta.annotation.PreDestroy;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방별 채팅 내용 역색인 (bigram -> 메세지 순번 목록)
+ * - 메세지가 저장될 때마다 메모리 색인(memtable)에 순번을 추가하고, 주기적으로 불변 세그먼트 파일로 내린다. ({dir}/{roomId}/{세대}.idx)
+ * - 세그먼트의 용어 사전(bigram, 순번 수, 순번 목록 위치)만 메모리에 두고, 순번 목록은 메모리 매핑한 파일에서 읽는다.
+ * - 세그먼트가 max-segments 개를 넘으면 하나로 병합한다.
+ * - 검색 결과는 검색어 bigram 을 모두 포함하는 후보이다. (bigram 이 떨어져 있을 수 있으므로 원문 확인은 호출하는 쪽에서 한다.)
+ * - 메모리 색인은 재시작하면 사라지므로, 채팅방을 처음 검색할 때 마지막 세그먼트 이후의 메세지를 저장소에서 다시 색인한다. (최대 backfill-limit 개)
+ *
+ * 세그먼트 형식: [long 최소 순번][long 최대 순번][int 용어 수][용어 수 x (int bigram, int 순번 수, int 순번 목록 위치)][순번 목록: 오름차순 차이값 varint]
+ */
+@Slf4j
+@Component
+public class ChatMessageSearchIndex {
+
+    private static final String SEGMENT_SUFFIX = ".idx";
+    private static final String WRITING_SUFFIX = ".writing";
+    private static final int HEADER_BYTES = Long.BYTES * 2 + Integer.BYTES;
+    private static final int DICTIONARY_ENTRY_BYTES = Integer.BYTES * 3;
+    private static final int BACKFILL_BATCH_SIZE = 500;
+    private static final long[] EMPTY = new long[0];
+
+    private final ChatHistoryStore chatHistoryStore;
+    private final Path baseDir;
+    private final int maxSegments;
+    private final int backfillLimit;
+
+    private final Map<Long, RoomIndex> rooms = new ConcurrentHashMap<>();
+
+    public ChatMessageSearchIndex(
+            ChatHistoryStore chatHistoryStore,
+            @Value("${chat.search.dir:data/chat-search}") String baseDir,
+            @Value("${chat.search.max-segments:8}") int maxSegments,
+            @Value("${chat.search.backfill-limit:10000}") int backfillLimit
+    ) {
+        this.chatHistoryStore = chatHistoryStore;
+        this.baseDir = Paths.get(baseDir);
+        this.maxSegments = maxSegments;
+        this.backfillLimit = backfillLimit;
+    }
+
+    /**
+     * 메세지를 메모리 색인에 추가한다. 일반 채팅만 색인한다. (입장/퇴장 안내 메세지는 제외)
+     * @param message 순번이 부여된 메세지
+     */
+    public void add(ChatMessage message) {
+        if (message.getType() != MessageType.CHAT || message.getSeq() == null) {
+            return;
+        }
+        int[] tokens = BigramTokenizer.tokenize(message.getContent());
+        if (tokens.length == 0) {
+            return;
+        }
+
+        RoomIndex room = room(message.getChatRoomId());
+        room.lock.writeLock().lock();
+        try {
+            room.memtable.add(message.getSeq(), tokens);
+        } finally {
+            room.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 bigram 을 모두 포함하는 메세지 순번을 최신순으로 반환한다.
+     * @param roomId
+     * @param query 검색어
+     * @param beforeSeq 이 순번보다 작은 메세지만 찾는다. (제외)
+     * @return 후보 메세지 순번 (내림차순)
+     */
+    public long[] search(Long roomId, String query, long beforeSeq) {
+        int[] tokens = BigramTokenizer.tokenize(query);
+        if (tokens.length == 0) {
+            throw new IllegalArgumentException("검색어는 붙어 있는 두 글자 이상이어야 합니다.");
+        }
+
+        RoomIndex room = room(roomId);
+        backfill(roomId, room);
+
+        List<long[]> postings = new ArrayList<>(tokens.length);
+        room.lock.readLock().lock();
+        try {
+            for (int token : tokens) {
+                long[] seqs = room.postings(token);
+                if (seqs.length == 0) {
+                    return EMPTY;
+                }
+                postings.add(seqs);
+            }
+        } finally {
+            room.lock.readLock().unlock();
+        }
+
+        // 순번 목록이 짧은 bigram 부터 교집합을 구한다.
+        postings.sort(Comparator.comparingInt(seqs -> seqs.length));
+        long[] matched = postings.get(0);
+        for (int i = 1; i < postings.size() && matched.length > 0; i++) {
+            matched = intersect(matched, postings.get(i));
+        }
+        return newestBefore(matched, beforeSeq);
+    }
+
+    // 메모리 색인을 세그먼트로 내리고, 세그먼트가 많아진 채팅방은 병합한다.
+    @Scheduled(fixedDelayString = "${chat.search.flush-interval-millis:30000}", scheduler = "maintenanceTaskScheduler")
+    public void flush() {
+        rooms.forEach((roomId, room) -> {
+            try {
+                flush(room);
+                if (room.segments.size() > maxSegments) {
+                    compact(room);
+                }
+            } catch (IOException | RuntimeException e) {
+                log.error("채팅 검색 색인 기록에 실패했습니다. roomId={}", roomId, e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+        rooms.clear();
+    }
+
+    public int getSegmentCount(Long roomId) {
+        RoomIndex room = rooms.get(roomId);
+        return room == null ? 0 : room.segments.size();
+    }
+
+    private RoomIndex room(Long roomId) {
+        return rooms.computeIfAbsent(roomId, this::load);
+    }
+
+    // 디스크의 세그먼트 용어 사전을 적재한다. 기록 중 중단된 임시 파일은 지운다.
+    private RoomIndex load(Long roomId) {
+        RoomIndex room = new RoomIndex(baseDir.resolve(String.valueOf(roomId)));
+        if (!Files.isDirectory(room.dir)) {
+            return room;
+        }
+
+        try (Stream<Path> files = Files.list(room.dir)) {
+            for (Path path : files.sorted().toList()) {
+                String name = path.getFileName().toString();
+                if (name.endsWith(WRITING_SUFFIX)) {
+                    Files.deleteIfExists(path);
+                } else if (name.endsWith(SEGMENT_SUFFIX)) {
+                    Segment segment = Segment.open(path);
+                    room.segments.add(segment);
+                    room.nextGeneration = Math.max(room.nextGeneration, segment.generation + 1);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 검색 색인 적재에 실패했습니다. roomId=" + roomId, e);
+        }
+        room.segments.sort(Comparator.comparingLong(segment -> segment.generation));
+        return room;
+    }
+
+    // 마지막 세그먼트 이후로 저장소에만 있는 메세지를 색인한다. (재시작 후 채팅방마다 한 번)
+    private void backfill(Long roomId, RoomIndex room) {
+        if (room.backfilled) {
+            return;
+        }
+        synchronized (room) {
+            if (room.backfilled) {
+                return;
+            }
+
+            long persistedMaxSeq;
+            room.lock.readLock().lock();
+            try {
+                persistedMaxSeq = room.persistedMaxSeq();
+            } finally {
+                room.lock.readLock().unlock();
+            }
+
+            long storedMaxSeq = chatHistoryStore.findMaxSeq(roomId);
+            long fromSeq = Math.max(persistedMaxSeq, storedMaxSeq - backfillLimit);
+            for (long from = fromSeq; from < storedMaxSeq; from += BACKFILL_BATCH_SIZE) {
+                chatHistoryStore.findRange(roomId, from, Math.min(from + BACKFILL_BATCH_SIZE, storedMaxSeq))
+                        .forEach(this::add);
+            }
+            if (storedMaxSeq > fromSeq) {
+                log.info("채팅 검색 색인을 보충했습니다. roomId={}, seq=({}, {}]", roomId, fromSeq, storedMaxSeq);
+            }
+            room.backfilled = true;
+        }
+    }
+
+    // 메모리 색인을 얼려 두고(검색은 계속 가능) 잠금 없이 세그먼트 파일을 쓴다. 실패하면 다음 주기에 다시 쓴다.
+    private void flush(RoomIndex room) throws IOException {
+        Memtable frozen;
+        long generation;
+        room.lock.writeLock().lock();
+        try {
+            if (room.flushing == null) {
+                if (room.memtable.isEmpty()) {
+                    return;
+                }
+                room.flushing = room.memtable;
+                room.memtable = new Memtable();
+            }
+            frozen = room.flushing;
+            generation = room.nextGeneration++;
+        } finally {
+            room.lock.writeLock().unlock();
+        }
+
+        Map<Integer, long[]> postings = new HashMap<>();
+        frozen.postings.forEach((term, seqs) -> postings.put(term, seqs.toArray()));
+        Segment segment = write(room.dir, generation, postings);
+
+        room.lock.writeLock().lock();
+        try {
+            room.segments.add(segment);
+            room.flushing = null;
+        } finally {
+            room.lock.writeLock().unlock();
+        }
+    }
+
+    // 세그먼트는 불변이므로 잠금 없이 모두 합쳐 새 세대로 쓰고, 목록만 잠금 안에서 바꾼다.
+    private void compact(RoomIndex room) throws IOException {
+        List<Segment> inputs;
+        long generation;
+        room.lock.writeLock().lock();
+        try {
+            inputs = List.copyOf(room.segments);
+            generation = room.nextGeneration++;
+        } finally {
+            room.lock.writeLock().unlock();
+        }
+
+        TreeSet<Integer> terms = new TreeSet<>();
+        for (Segment segment : inputs) {
+            for (int term : segment.terms) {
+                terms.add(term);
+            }
+        }
+        Map<Integer, long[]> postings = new HashMap<>();
+        for (int term : terms) {
+            List<long[]> parts = new ArrayList<>(inputs.size());
+            for (Segment segment : inputs) {
+                parts.add(segment.postings(term));
+            }
+            postings.put(term, union(parts));
+        }
+        Segment merged = write(room.dir, generation, postings);
+
+        room.lock.writeLock().lock();
+        try {
+            room.segments.removeAll(inputs);
+            room.segments.add(0, merged);
+        } finally {
+            room.lock.writeLock().unlock();
+        }
+        for (Segment segment : inputs) {
+            Files.deleteIfExists(segment.path);
+        }
+        log.info("채팅 검색 색인 세그먼트를 병합했습니다. dir={}, segments={} -> 1", room.dir, inputs.size());
+    }
+
+    private static Segment write(Path dir, long generation, Map<Integer, long[]> postings) throws IOException {
+        int[] terms = postings.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+        ByteBuffer dictionary = ByteBuffer.allocate(HEADER_BYTES + terms.length * DICTIONARY_ENTRY_BYTES);
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        long minSeq = Long.MAX_VALUE;
+        long maxSeq = 0;
+
+        dictionary.position(HEADER_BYTES);
+        for (int term : terms) {
+            long[] seqs = postings.get(term);
+            dictionary.putInt(term).putInt(seqs.length).putInt(encoded.size());
+            long previous = 0;
+            for (long seq : seqs) {
+                writeVarLong(encoded, seq - previous);
+                previous = seq;
+            }
+            minSeq = Math.min(minSeq, seqs[0]);
+            maxSeq = Math.max(maxSeq, seqs[seqs.length - 1]);
+        }
+        dictionary.putLong(0, terms.length == 0 ? 0 : minSeq).putLong(Long.BYTES, maxSeq)
+                .putInt(Long.BYTES * 2, terms.length)
+                .flip();
+
+        Files.createDirectories(dir);
+        Path target = dir.resolve(generation + SEGMENT_SUFFIX);
+        Path temp = dir.resolve(generation + SEGMENT_SUFFIX + WRITING_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (ByteBuffer buffer : new ByteBuffer[]{dictionary, ByteBuffer.wrap(encoded.toByteArray())}) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return Segment.open(target);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long[] intersect(long[] left, long[] right) {
+        long[] result = new long[Math.min(left.length, right.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[count++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    // 여러 출처(메모리 색인, 세그먼트)의 오름차순 순번 목록을 중복 없이 합친다.
+    private static long[] union(List<long[]> parts) {
+        List<long[]> nonEmpty = parts.stream().filter(seqs -> seqs.length > 0).toList();
+        if (nonEmpty.isEmpty()) {
+            return EMPTY;
+        }
+        if (nonEmpty.size() == 1) {
+            return nonEmpty.get(0);
+        }
+        return nonEmpty.stream().flatMapToLong(Arrays::stream).sorted().distinct().toArray();
+    }
+
+    private static long[] newestBefore(long[] ascending, long beforeSeq) {
+        int end = Arrays.binarySearch(ascending, beforeSeq);
+        end = end < 0 ? -end - 1 : end;
+        long[] result = new long[end];
+        for (int i = 0; i < end; i++) {
+            result[i] = ascending[end - 1 - i];
+        }
+        return result;
+    }
+
+    private static final class RoomIndex {
+
+        private final Path dir;
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final List<Segment> segments = new ArrayList<>();
+        private Memtable memtable = new Memtable();
+        private Memtable flushing;          // 세그먼트로 쓰는 중인 메모리 색인
+        private long nextGeneration;
+        private volatile boolean backfilled;
+
+        private RoomIndex(Path dir) {
+            this.dir = dir;
+        }
+
+        private long[] postings(int term) {
+            List<long[]> parts = new ArrayList<>(segments.size() + 2);
+            parts.add(memtable.postings(term));
+            if (flushing != null) {
+                parts.add(flushing.postings(term));
+            }
+            for (Segment segment : segments) {
+                parts.add(segment.postings(term));
+            }
+            return union(parts);
+        }
+
+        private long persistedMaxSeq() {
+            long maxSeq = 0;
+            for (Segment segment : segments) {
+                maxSeq = Math.max(maxSeq, segment.maxSeq);
+            }
+            return maxSeq;
+        }
+    }
+
+    private static final class Memtable {
+
+        private final Map<Integer, SeqList> postings = new HashMap<>();
+
+        private void add(long seq, int[] tokens) {
+            for (int token : tokens) {
+                postings.computeIfAbsent(token, term -> new SeqList()).add(seq);
+            }
+        }
+
+        private long[] postings(int term) {
+            SeqList seqs = postings.get(term);
+            return seqs == null ? EMPTY : seqs.toArray();
+        }
+
+        private boolean isEmpty() {
+            return postings.isEmpty();
+        }
+    }
+
+    // 오름차순 순번 목록. 순번은 거의 증가하는 순서로 들어오므로 뒤에서부터 자리를 찾는다.
+    private static final class SeqList {
+
+        private long[] seqs = new long[4];
+        private int size;
+
+        private void add(long seq) {
+            int index = size;
+            while (index > 0 && seqs[index - 1] > seq) {
+                index--;
+            }
+            if (index > 0 && seqs[index - 1] == seq) {
+                return;
+            }
+            if (size == seqs.length) {
+                seqs = Arrays.copyOf(seqs, size * 2);
+            }
+            System.arraycopy(seqs, index, seqs, index + 1, size - index);
+            seqs[index] = seq;
+            size++;
+        }
+
+        private long[] toArray() {
+            return Arrays.copyOf(seqs, size);
+        }
+    }
+
+    private static final class Segment {
+
+        private final Path path;
+        private final long generation;
+        private final long maxSeq;
+        private final int[] terms;
+        private final int[] counts;
+        private final int[] offsets;
+        private final ByteBuffer postings;  // 순번 목록 영역의 읽기 전용 매핑
+
+        private Segment(Path path, long generation, long maxSeq, int[] terms, int[] counts, int[] offsets,
+                ByteBuffer postings) {
+            this.path = path;
+            this.generation = generation;
+            this.maxSeq = maxSeq;
+            this.terms = terms;
+            this.counts = counts;
+            this.offsets = offsets;
+            this.postings = postings;
+        }
+
+        private static Segment open(Path path) throws IOException {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                MappedByteBuffer view = channel.map(MapMode.READ_ONLY, 0, channel.size());
+                long maxSeq = view.getLong(Long.BYTES);
+                int termCount = view.getInt(Long.BYTES * 2);
+
+                int[] terms = new int[termCount];
+                int[] counts = new int[termCount];
+                int[] offsets = new int[termCount];
+                for (int i = 0; i < termCount; i++) {
+                    int entry = HEADER_BYTES + i * DICTIONARY_ENTRY_BYTES;
+                    terms[i] = view.getInt(entry);
+                    counts[i] = view.getInt(entry + Integer.BYTES);
+                    offsets[i] = view.getInt(entry + Integer.BYTES * 2);
+                }
+
+                int postingsStart = HEADER_BYTES + termCount * DICTIONARY_ENTRY_BYTES;
+                ByteBuffer postings = view.slice(postingsStart, view.limit() - postingsStart);
+                return new Segment(path, generationOf(path), maxSeq, terms, counts, offsets, postings);
+            }
+        }
+
+        private long[] postings(int term) {
+            int index = Arrays.binarySearch(terms, term);
+            if (index < 0) {
+                return EMPTY;
+            }
+
+            long[] seqs = new long[counts[index]];
+            int position = offsets[index];
+            long seq = 0;
+            for (int i = 0; i < seqs.length; i++) {
+                long delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = postings.get(position++);
+                    delta |= (long) (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                seq += delta;
+                seqs[i] = seq;
+            }
+            return seqs;
+        }
+
+        private static long generationOf(Path path) {
+            String name = path.getFileName().toString();
+            return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.jaeseok.groupStudy.chat.infrastructure.store;
+
+import com.jaeseok.groupStudy.chat.domain.ChatMessage;
+import com.jaeseok.groupStudy.chat.domain.MessageType;
+import com.jaeseok.groupStudy.chat.domain.repository.ChatHistoryStore;
+import com.jaeseok.groupStudy.chat.domain.repository.ChatMessageRepository;
+import com.jaeseok.groupStudy.chat.domain.vo.ChatHistoryCursor;
+import com.jaeseok.groupStudy.chat.infrastructure.archive.ChatMessageArchive;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * DB(chat_message) 기반 채팅 내역 저장소 (기본)
+ * - 저장은 다중 행 INSERT 한 번으로 반영한다.
+ * - 커서 조회 시 핫 테이블에서 모자란 만큼은 콜드 아카이브에서 이어서 읽는다.
+ * - 순번 구간 조회도 핫 테이블에 없는 앞부분은 콜드 아카이브에서 채운다.
+ * - 순번 목록 조회는 IN 조회 한 번으로 처리하고, 핫 테이블에 없는 순번만 구간 조회(아카이브 포함)로 넘긴다.
+ * - 전체 순회(내보내기)는 아카이브를 먼저 읽고, 핫 테이블은 전진 전용 커서로 한 행씩 스트리밍한다.
+ */
+@Component
+@Profile("!chat-log-store")
+@RequiredArgsConstructor
+public class DatabaseChatHistoryStore implements ChatHistoryStore {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO chat_message (id, chat_room_id, seq, sender_id, content, type, created_at, updated_at) VALUES ";
+    private static final String VALUES_ROW = "(?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String EXPORT_SQL = "SELECT id, chat_room_id, seq, sender_id, content, type, created_at "
+            + "FROM chat_message WHERE chat_room_id = ? ORDER BY created_at ASC, id ASC";
+    // MySQL Connector/J 는 fetchSize 가 Integer.MIN_VALUE 일 때만 결과를 한 행씩 스트리밍한다. (그 외에는 전체를 메모리에 올린다.)
+    private static final int MYSQL_STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+    // 다른 드라이버(H2 등)는 음수 fetchSize 를 거부하므로 일반적인 묶음 크기로 나눠 읽는다.
+    private static final int DEFAULT_FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageArchive chatMessageArchive;
+
+    @Override
+    public void appendAll(List<ChatMessage> messages) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        for (int i = 0; i < messages.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(VALUES_ROW);
+        }
+
+        jdbcTemplate.update(sql.toString(), ps -> {
+            int index = 1;
+            for (ChatMessage message : messages) {
+                Timestamp createdAt = Timestamp.valueOf(message.getCreatedAt());
+                ps.setLong(index++, message.getId());
+                ps.setLong(index++, message.getChatRoomId());
+                ps.setObject(index++, message.getSeq(), Types.BIGINT);
+                ps.setLong(index++, message.getSenderId());
+                ps.setString(index++, message.getContent());
+                ps.setInt(index++, message.getType().ordinal());
+                ps.setTimestamp(index++, createdAt);
+                ps.setTimestamp(index++, createdAt);
+            }
+        });
+    }
+
+    @Override
+    public long countBeforeSeq(Long roomId, long seq) {
+        return chatMessageRepository.countBeforeSeq(roomId, seq);
+    }
+
+    @Override
+    public Page<ChatMessage> findPage(Long roomId, Pageable pageable) {
+        return chatMessageRepository.findChatMessageHistory(roomId, pageable);
+    }
+
+    @Override
+    public List<ChatMessage> findBefore(Long roomId, ChatHistoryCursor cursor, int limit) {
+        PageRequest window = PageRequest.of(0, limit);
+        List<ChatMessage> hotRows = cursor == null
+                ? chatMessageRepository.findLatestChatMessages(roomId, window)
+                : chatMessageRepository.findChatMessagesBefore(roomId, cursor.createdAt(), cursor.id(), window);
+
+        if (hotRows.size() >= limit) {
+            return hotRows;
+        }
+
+        // 아카이브 메세지는 모두 핫 테이블 메세지보다 오래되었으므로 핫 테이블의 마지막 메세지 이전부터 이어서 읽는다.
+        ChatHistoryCursor archiveCursor = cursor;
+        if (!hotRows.isEmpty()) {
+            ChatMessage oldest = hotRows.get(hotRows.size() - 1);
+            archiveCursor = ChatHistoryCursor.of(oldest.getCreatedAt(), oldest.getId());
+        }
+
+        List<ChatMessage> archived = chatMessageArchive.findBefore(roomId, archiveCursor, limit - hotRows.size());
+        if (archived.isEmpty()) {
+            return hotRows;
+        }
+
+        List<ChatMessage> merged = new ArrayList<>(hotRows);
+        merged.addAll(archived);
+        return merged;
+    }
+
+    @Override
+    public long findMaxSeq(Long roomId) {
+        Long maxSeq = chatMessageRepository.findMaxSeq(roomId);
+        if (maxSeq != null) {
+            return maxSeq;
+        }
+        // 모든 메세지가 아카이브로 옮겨진 채팅방
+        return chatMessageArchive.findMaxSeq(roomId);
+    }
+
+    @Override
+    public List<ChatMessage> findRange(Long roomId, long fromSeq, long toSeq) {
+        List<ChatMessage> hotRows = chatMessageRepository.findChatMessagesBySeqRange(roomId, fromSeq, toSeq);
+        long firstHotSeq = hotRows.isEmpty() ? toSeq + 1 : hotRows.get(0).getSeq();
+        if (firstHotSeq <= fromSeq + 1) {
+            return hotRows;
+        }
+
+        // 아카이브 메세지는 모두 핫 테이블 메세지보다 순번이 작으므로 핫 테이블의 첫 순번 앞까지만 읽는다.
+        List<ChatMessage> archived = chatMessageArchive.findRange(roomId, fromSeq, firstHotSeq - 1);
+        if (archived.isEmpty()) {
+            return hotRows;
+        }
+
+        List<ChatMessage> merged = new ArrayList<>(archived);
+        merged.addAll(hotRows);
+        return merged;
+    }
+
+    @Override
+    public List<ChatMessage> findBySeqs(Long roomId, Collection<Long> seqs) {
+        if (seqs.isEmpty()) {
+            return List.of();
+        }
+        List<ChatMessage> hotRows = chatMessageRepository.findByChatRoomIdAndSeqIn(roomId, seqs);
+
+        Set<Long> missing = new HashSet<>(seqs);
+        hotRows.forEach(message -> missing.remove(message.getSeq()));
+        if (missing.isEmpty()) {
+            return hotRows;
+        }
+
+        List<ChatMessage> merged = new ArrayList<>(hotRows);
+        merged.addAll(ChatHistoryStore.super.findBySeqs(roomId, missing));
+        return merged;
+    }
+
+    /**
+     * 스트리밍 중에는 커넥션이 결과를 다 읽을 때까지 다른 쿼리를 실행할 수 없으므로, 트랜잭션 밖에서 호출해야 한다.
+     * (action 안의 조회는 다른 커넥션을 사용한다.)
+     */
+    @Override
+    public void forEachOldestFirst(Long roomId, Consumer<ChatMessage> action) {
+        // 아카이브 메세지는 모두 핫 테이블 메세지보다 오래되었으므로 먼저 넘긴다.
+        chatMessageArchive.forEachOldestFirst(roomId, action);
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(streamingFetchSize(connection));
+            ps.setLong(1, roomId);
+            return ps;
+        }, (RowCallbackHandler) rs -> action.accept(toChatMessage(rs)));
+    }
+
+    private static int streamingFetchSize(Connection connection) throws SQLException {
+        String productName = connection.getMetaData().getDatabaseProductName();
+        return productName != null && productName.toLowerCase(Locale.ROOT).contains("mysql")
+                ? MYSQL_STREAMING_FETCH_SIZE
+                : DEFAULT_FETCH_SIZE;
+    }
+
+    private static ChatMessage toChatMessage(ResultSet rs) throws SQLException {
+        return ChatMessage.restore(
+                rs.getLong("id"),
+                rs.getLong("chat_room_id"),
+                rs.getObject("seq", Long.class),
+                rs.getLong("sender_id"),
+                rs.getString("content"),
+                MessageType.values()[rs.getInt("type")],
+                rs.getTimestamp("created_at").toLocalDateTime());
+    }
+}
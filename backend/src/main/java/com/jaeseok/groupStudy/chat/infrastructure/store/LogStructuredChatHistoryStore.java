@@ -0,0 +1,714 @@
+package com.jaeseok.groupStudy.chat.infrastructure.store;
+
+import com.jaeseok.groupStudy.chat.domain.ChatMessage;
+import com.jaeseok.groupStudy.chat.domain.MessageType;
+import com.jaeseok.groupStudy.chat.domain.repository.ChatHistoryStore;
+import com.jaeseok.groupStudy.chat.domain.vo.ChatHistoryCursor;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 로그 구조 채팅 내역 저장소 (chat-log-store 프로필)
+ * - 채팅방마다 추가 전용 세그먼트 파일에 메세지를 순차 기록한다. ({dir}/{roomId}/{첫 id}.seg)
+ * - 세그먼트마다 INDEX_INTERVAL 개 레코드 단위의 희소 인덱스(블록 시작 위치, id 범위, 순번 범위)를 메모리에 두고,
+ *   최신순 조회 시 블록 단위로 거슬러 올라가며 메모리 매핑한 세그먼트를 순차로 읽는다.
+ * - 세그먼트가 segment-bytes 를 넘으면 봉인하고 새 세그먼트를 연다.
+ * - 봉인된 세그먼트는 봉인할 때 한 번, 활성 세그먼트는 segment-bytes 크기 영역을 미리 한 번 매핑해 두고 조회마다 다시 매핑하지 않는다.
+ *   (활성 세그먼트 파일은 매핑 영역만큼 늘어나며, 뒤쪽의 0 채움은 봉인/종료 시 잘라낸다.)
+ *   봉인된 세그먼트는 주기적으로 compacted-segment-bytes 크기까지 병합(compaction)하며, 이때 중복 id를 제거하고 id 순으로 정렬한다.
+ * - 메세지 순서는 시간 순서 id 기준이다. (커서의 id만 사용한다.) 순번 구간 조회는 블록별 누적 최대 순번으로 멈출 곳을 정한다.
+ * - 채팅방 적재(디스크 읽기)는 맵의 락 밖에서 하고, 같은 채팅방을 두 번 적재하지 않도록 스트라이프 락으로 묶는다.
+ * - 세그먼트는 이 노드의 디스크에만 있으므로 단일 인스턴스 전용이다.
+ *   여러 노드(cluster.transport=redis)에서는 노드마다 다른 내역을 보게 되므로 지원하지 않으며, 설정하면 시작하지 않는다.
+ *
+ * 레코드 형식: [int 본문 길이][long id][long 순번(없으면 0)][long 발신자 id][long 생성 시각(UTC epoch μs)][byte 메세지 타입][UTF-8 내용]
+ */
+@Slf4j
+@Component
+@Profile("chat-log-store")
+public class LogStructuredChatHistoryStore implements ChatHistoryStore {
+
+    static final int INDEX_INTERVAL = 64;
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String COMPACTING_SUFFIX = ".compacting";
+    private static final int RECORD_HEADER_BYTES = Integer.BYTES;
+    private static final int RECORD_FIXED_BYTES = Long.BYTES * 4 + Byte.BYTES;
+    private static final MessageType[] MESSAGE_TYPES = MessageType.values();
+    private static final int LOAD_LOCK_STRIPES = 64;
+
+    private final Path baseDir;
+    private final int segmentBytes;
+    private final int compactedSegmentBytes;
+    private final int compactionMinSegments;
+
+    private final Map<Long, RoomLog> rooms = new ConcurrentHashMap<>();
+    // 채팅방 id 스트라이프별 적재 락 (같은 세그먼트 파일을 두 채널이 동시에 복구/매핑하지 않도록 한다.)
+    private final Object[] loadLocks = new Object[LOAD_LOCK_STRIPES];
+
+    public LogStructuredChatHistoryStore(
+            @Value("${chat.log-store.dir:data/chat-log}") String baseDir,
+            @Value("${chat.log-store.segment-bytes:1048576}") int segmentBytes,
+            @Value("${chat.log-store.compacted-segment-bytes:67108864}") int compactedSegmentBytes,
+            @Value("${chat.log-store.compaction-min-segments:4}") int compactionMinSegments,
+            @Value("${cluster.transport:loopback}") String clusterTransport
+    ) {
+        if ("redis".equals(clusterTransport)) {
+            throw new IllegalStateException(
+                    "chat-log-store 프로필은 노드 로컬 저장소라 cluster.transport=redis 와 함께 쓸 수 없습니다.");
+        }
+        for (int i = 0; i < loadLocks.length; i++) {
+            loadLocks[i] = new Object();
+        }
+        this.baseDir = Paths.get(baseDir);
+        this.segmentBytes = segmentBytes;
+        this.compactedSegmentBytes = compactedSegmentBytes;
+        this.compactionMinSegments = compactionMinSegments;
+    }
+
+    @Override
+    public void appendAll(List<ChatMessage> messages) {
+        Map<Long, List<ChatMessage>> byRoom = messages.stream()
+                .collect(Collectors.groupingBy(ChatMessage::getChatRoomId, LinkedHashMap::new, Collectors.toList()));
+
+        byRoom.forEach((roomId, roomMessages) -> {
+            RoomLog room = room(roomId);
+            room.lock.writeLock().lock();
+            try {
+                append(room, roomMessages.stream().sorted(Comparator.comparing(ChatMessage::getId)).toList());
+            } catch (IOException e) {
+                throw new UncheckedIOException("채팅 로그 세그먼트 기록에 실패했습니다. roomId=" + roomId, e);
+            } finally {
+                room.lock.writeLock().unlock();
+            }
+        });
+    }
+
+    // 같은 읽기 락 안에서 전체 개수와 seq 이후 레코드 수를 함께 본다.
+    @Override
+    public long countBeforeSeq(Long roomId, long seq) {
+        RoomLog room = room(roomId);
+        room.lock.readLock().lock();
+        try {
+            return room.count - readRange(roomId, room, seq - 1, Long.MAX_VALUE).size();
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 로그 조회에 실패했습니다. roomId=" + roomId, e);
+        } finally {
+            room.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Page<ChatMessage> findPage(Long roomId, Pageable pageable) {
+        RoomLog room = room(roomId);
+        room.lock.readLock().lock();
+        try {
+            int offset = (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE - pageable.getPageSize());
+            List<ChatMessage> newest = readBefore(roomId, room, Long.MAX_VALUE, offset + pageable.getPageSize());
+            List<ChatMessage> content = offset >= newest.size() ? List.of() : newest.subList(offset, newest.size());
+            return new PageImpl<>(content, pageable, room.count);
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 로그 조회에 실패했습니다. roomId=" + roomId, e);
+        } finally {
+            room.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<ChatMessage> findBefore(Long roomId, ChatHistoryCursor cursor, int limit) {
+        RoomLog room = room(roomId);
+        room.lock.readLock().lock();
+        try {
+            return readBefore(roomId, room, cursor == null ? Long.MAX_VALUE : cursor.id(), limit);
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 로그 조회에 실패했습니다. roomId=" + roomId, e);
+        } finally {
+            room.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long findMaxSeq(Long roomId) {
+        RoomLog room = room(roomId);
+        room.lock.readLock().lock();
+        try {
+            return room.maxSeq;
+        } finally {
+            room.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<ChatMessage> findRange(Long roomId, long fromSeq, long toSeq) {
+        RoomLog room = room(roomId);
+        room.lock.readLock().lock();
+        try {
+            return readRange(roomId, room, fromSeq, toSeq);
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 로그 조회에 실패했습니다. roomId=" + roomId, e);
+        } finally {
+            room.lock.readLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${chat.log-store.compaction-interval-millis:600000}",
+            scheduler = "maintenanceTaskScheduler")
+    public void compact() {
+        rooms.forEach((roomId, room) -> {
+            room.lock.writeLock().lock();
+            try {
+                compact(room);
+            } catch (IOException | RuntimeException e) {
+                log.error("채팅 로그 세그먼트 병합에 실패했습니다. roomId={}", roomId, e);
+            } finally {
+                room.lock.writeLock().unlock();
+            }
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        rooms.forEach((roomId, room) -> {
+            room.lock.writeLock().lock();
+            try {
+                for (Segment segment : room.segments) {
+                    segment.close();
+                }
+            } catch (IOException e) {
+                log.warn("채팅 로그 세그먼트를 닫는 중 오류가 발생했습니다. roomId={}", roomId, e);
+            } finally {
+                room.lock.writeLock().unlock();
+            }
+        });
+        rooms.clear();
+    }
+
+    // computeIfAbsent 는 맵의 락을 잡은 채 적재하므로, 조회 후 락 밖에서 적재해 putIfAbsent 로 넣는다.
+    private RoomLog room(Long roomId) {
+        RoomLog room = rooms.get(roomId);
+        if (room != null) {
+            return room;
+        }
+
+        synchronized (loadLocks[Math.floorMod(roomId.hashCode(), LOAD_LOCK_STRIPES)]) {
+            room = rooms.get(roomId);
+            if (room != null) {
+                return room;
+            }
+            RoomLog loaded = load(roomId);
+            RoomLog existing = rooms.putIfAbsent(roomId, loaded);
+            if (existing == null) {
+                return loaded;
+            }
+            // 먼저 들어간 쪽을 쓰고, 적재한 쪽의 채널/매핑은 파일을 건드리지 않고 놓는다.
+            loaded.release();
+            return existing;
+        }
+    }
+
+    // 디스크의 세그먼트를 읽어 희소 인덱스를 만든다. 마지막 세그먼트만 추가용으로 열어 둔다.
+    private RoomLog load(Long roomId) {
+        RoomLog room = new RoomLog(baseDir.resolve(String.valueOf(roomId)));
+        if (!Files.isDirectory(room.dir)) {
+            return room;
+        }
+
+        try (Stream<Path> files = Files.list(room.dir)) {
+            List<Path> segmentPaths = files
+                    .filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted(Comparator.comparingLong(LogStructuredChatHistoryStore::firstIdOf))
+                    .toList();
+
+            for (int i = 0; i < segmentPaths.size(); i++) {
+                Segment segment = Segment.open(segmentPaths.get(i));
+                segment.scan();
+                if (i < segmentPaths.size() - 1) {
+                    segment.seal();
+                } else {
+                    segment.mapActive(segmentBytes);
+                }
+                room.segments.add(segment);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 로그 세그먼트 적재에 실패했습니다. roomId=" + roomId, e);
+        }
+
+        room.reindex();
+        return room;
+    }
+
+    private void append(RoomLog room, List<ChatMessage> messages) throws IOException {
+        Segment active = room.active();
+        for (ChatMessage message : messages) {
+            ByteBuffer record = encode(message);
+            if (active == null || (active.size > 0 && (long) active.size + record.remaining() > segmentBytes)) {
+                if (active != null) {
+                    active.seal();
+                }
+                Files.createDirectories(room.dir);
+                active = Segment.open(room.dir.resolve(message.getId() + SEGMENT_SUFFIX));
+                active.scan();
+                room.segments.add(active);
+            }
+
+            int offset = active.size;
+            active.write(record);
+            long seq = seqOf(message);
+            room.maxId = Math.max(room.maxId, message.getId());
+            room.maxSeq = Math.max(room.maxSeq, seq);
+            active.index(offset, message.getId(), seq, room.maxId, room.maxSeq);
+            room.count++;
+        }
+        if (active != null) {
+            active.force();
+            // 쓰기 락 안에서 매핑을 갱신하므로 조회(읽기 락)는 매핑을 바꾸지 않는다.
+            active.mapActive(segmentBytes);
+        }
+    }
+
+    /**
+     * beforeId 보다 작은 id 중 가장 큰 limit 개를 id 역순으로 반환한다.
+     * 최신 블록부터 거슬러 올라가며, 더 오래된 블록에 남은 최대 id(누적 최대값)가 지금까지 찾은 limit 번째 id 보다 작으면 멈춘다.
+     */
+    private List<ChatMessage> readBefore(Long roomId, RoomLog room, long beforeId, int limit) throws IOException {
+        if (limit <= 0) {
+            return List.of();
+        }
+        PriorityQueue<ChatMessage> newest = new PriorityQueue<>(Comparator.comparing(ChatMessage::getId));
+        Set<Long> seenIds = new HashSet<>();
+
+        scan:
+        for (int s = room.segments.size() - 1; s >= 0; s--) {
+            Segment segment = room.segments.get(s);
+            ByteBuffer view = null;
+            for (int block = segment.blockCount - 1; block >= 0; block--) {
+                if (newest.size() >= limit && segment.blockPrefixMaxIds[block] <= newest.peek().getId()) {
+                    break scan;
+                }
+                if (segment.blockMinIds[block] >= beforeId) {
+                    continue;
+                }
+                if (view == null) {
+                    view = segment.view();
+                }
+
+                int end = segment.blockEnd(block);
+                for (int offset = segment.blockOffsets[block]; offset < end;
+                        offset += RECORD_HEADER_BYTES + view.getInt(offset)) {
+                    long id = view.getLong(offset + RECORD_HEADER_BYTES);
+                    if (id >= beforeId || (newest.size() >= limit && id <= newest.peek().getId())
+                            || !seenIds.add(id)) {
+                        continue;
+                    }
+                    newest.add(decode(roomId, view, offset));
+                    if (newest.size() > limit) {
+                        newest.poll();
+                    }
+                }
+            }
+        }
+
+        List<ChatMessage> result = new ArrayList<>(newest);
+        result.sort(Comparator.comparing(ChatMessage::getId).reversed());
+        return result;
+    }
+
+    /**
+     * 순번이 (fromSeq, toSeq] 인 레코드를 순번 순으로 반환한다.
+     * 최신 블록부터 거슬러 올라가며, 더 오래된 블록에 남은 최대 순번(누적 최대값)이 fromSeq 이하이면 멈춘다.
+     */
+    private List<ChatMessage> readRange(Long roomId, RoomLog room, long fromSeq, long toSeq) throws IOException {
+        List<ChatMessage> result = new ArrayList<>();
+        Set<Long> seenIds = new HashSet<>();
+
+        scan:
+        for (int s = room.segments.size() - 1; s >= 0; s--) {
+            Segment segment = room.segments.get(s);
+            ByteBuffer view = null;
+            for (int block = segment.blockCount - 1; block >= 0; block--) {
+                if (segment.blockPrefixMaxSeqs[block] <= fromSeq) {
+                    break scan;
+                }
+                if (segment.blockMinSeqs[block] > toSeq) {
+                    continue;
+                }
+                if (view == null) {
+                    view = segment.view();
+                }
+
+                int end = segment.blockEnd(block);
+                for (int offset = segment.blockOffsets[block]; offset < end;
+                        offset += RECORD_HEADER_BYTES + view.getInt(offset)) {
+                    long seq = view.getLong(offset + RECORD_HEADER_BYTES + Long.BYTES);
+                    if (seq <= fromSeq || seq > toSeq
+                            || !seenIds.add(view.getLong(offset + RECORD_HEADER_BYTES))) {
+                        continue;
+                    }
+                    result.add(decode(roomId, view, offset));
+                }
+            }
+        }
+
+        result.sort(Comparator.comparing(ChatMessage::getSeq));
+        return result;
+    }
+
+    // 활성 세그먼트를 제외한 봉인 세그먼트를 compacted-segment-bytes 크기 단위로 묶어 병합한다.
+    private void compact(RoomLog room) throws IOException {
+        int sealedCount = room.segments.size() - 1;
+        if (sealedCount < compactionMinSegments) {
+            return;
+        }
+
+        List<Segment> compacted = new ArrayList<>();
+        List<Segment> group = new ArrayList<>();
+        long groupBytes = 0;
+        for (Segment segment : room.segments.subList(0, sealedCount)) {
+            if (!group.isEmpty() && groupBytes + segment.size > compactedSegmentBytes) {
+                compacted.add(merge(group));
+                group = new ArrayList<>();
+                groupBytes = 0;
+            }
+            group.add(segment);
+            groupBytes += segment.size;
+        }
+        compacted.add(merge(group));
+        compacted.add(room.active());
+
+        int before = room.segments.size();
+        room.segments.clear();
+        room.segments.addAll(compacted);
+        room.reindex();
+        log.info("채팅 로그 세그먼트를 병합했습니다. dir={}, segments={} -> {}", room.dir, before, compacted.size());
+    }
+
+    private Segment merge(List<Segment> group) throws IOException {
+        if (group.size() == 1) {
+            return group.get(0);
+        }
+
+        // id 순 정렬 + 중복 제거 (레코드는 디코딩하지 않고 그대로 옮긴다.)
+        TreeMap<Long, byte[]> records = new TreeMap<>();
+        for (Segment segment : group) {
+            ByteBuffer view = segment.view();
+            for (int offset = 0; offset < segment.size; ) {
+                int length = RECORD_HEADER_BYTES + view.getInt(offset);
+                byte[] raw = new byte[length];
+                view.get(offset, raw);
+                records.putIfAbsent(view.getLong(offset + RECORD_HEADER_BYTES), raw);
+                offset += length;
+            }
+        }
+
+        Path target = group.get(0).path;
+        Path temp = target.resolveSibling(target.getFileName() + COMPACTING_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = 0;
+            for (byte[] raw : records.values()) {
+                ByteBuffer buffer = ByteBuffer.wrap(raw);
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+            }
+            channel.force(true);
+        }
+
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        for (Segment segment : group.subList(1, group.size())) {
+            Files.deleteIfExists(segment.path);
+        }
+
+        Segment merged = Segment.open(target);
+        merged.scan();
+        merged.seal();
+        return merged;
+    }
+
+    private static ByteBuffer encode(ChatMessage message) {
+        byte[] content = message.getContent().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_BYTES + RECORD_FIXED_BYTES + content.length);
+        buffer.putInt(RECORD_FIXED_BYTES + content.length)
+                .putLong(message.getId())
+                .putLong(seqOf(message))
+                .putLong(message.getSenderId())
+                .putLong(toEpochMicros(message.getCreatedAt()))
+                .put((byte) message.getType().ordinal())
+                .put(content);
+        return buffer.flip();
+    }
+
+    private static ChatMessage decode(Long roomId, ByteBuffer view, int offset) {
+        int bodyLength = view.getInt(offset);
+        int body = offset + RECORD_HEADER_BYTES;
+        long id = view.getLong(body);
+        long seq = view.getLong(body + Long.BYTES);
+        long senderId = view.getLong(body + Long.BYTES * 2);
+        long createdAtMicros = view.getLong(body + Long.BYTES * 3);
+        MessageType type = MESSAGE_TYPES[view.get(body + Long.BYTES * 4)];
+
+        byte[] content = new byte[bodyLength - RECORD_FIXED_BYTES];
+        view.get(body + RECORD_FIXED_BYTES, content);
+
+        return ChatMessage.restore(id, roomId, seq == 0 ? null : seq, senderId,
+                new String(content, StandardCharsets.UTF_8), type, fromEpochMicros(createdAtMicros));
+    }
+
+    private static long seqOf(ChatMessage message) {
+        return message.getSeq() == null ? 0L : message.getSeq();
+    }
+
+    private static long toEpochMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + dateTime.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static long firstIdOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static final class RoomLog {
+
+        private final Path dir;
+        private final List<Segment> segments = new ArrayList<>();
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private long count;
+        private long maxId = Long.MIN_VALUE;
+        private long maxSeq;
+
+        private RoomLog(Path dir) {
+            this.dir = dir;
+        }
+
+        private void release() {
+            for (Segment segment : segments) {
+                segment.release();
+            }
+            segments.clear();
+        }
+
+        private Segment active() {
+            return segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        }
+
+        // 세그먼트 목록이 바뀌면 전체 개수와 블록별 누적 최대 id/순번을 다시 계산한다.
+        private void reindex() {
+            count = 0;
+            maxId = Long.MIN_VALUE;
+            maxSeq = 0;
+            for (Segment segment : segments) {
+                count += segment.recordCount;
+                for (int block = 0; block < segment.blockCount; block++) {
+                    maxId = Math.max(maxId, segment.blockMaxIds[block]);
+                    maxSeq = Math.max(maxSeq, segment.blockMaxSeqs[block]);
+                    segment.blockPrefixMaxIds[block] = maxId;
+                    segment.blockPrefixMaxSeqs[block] = maxSeq;
+                }
+            }
+        }
+    }
+
+    private static final class Segment {
+
+        private final Path path;
+        private FileChannel channel;        // 활성 세그먼트만 열려 있다.
+        private MappedByteBuffer sealed;    // 봉인된 세그먼트의 읽기 전용 매핑
+        private MappedByteBuffer activeMap; // 활성 세그먼트의 고정 크기 읽기 전용 매핑 (채널로 쓴 내용이 그대로 보인다.)
+        private int size;
+        private int recordCount;
+
+        // 희소 인덱스: INDEX_INTERVAL 개 레코드마다 한 블록
+        private int blockCount;
+        private int[] blockOffsets = new int[8];
+        private long[] blockMinIds = new long[8];
+        private long[] blockMaxIds = new long[8];
+        private long[] blockPrefixMaxIds = new long[8]; // 채팅방 처음부터 이 블록까지의 최대 id
+        private long[] blockMinSeqs = new long[8];
+        private long[] blockMaxSeqs = new long[8];
+        private long[] blockPrefixMaxSeqs = new long[8]; // 채팅방 처음부터 이 블록까지의 최대 순번
+
+        private Segment(Path path, FileChannel channel) {
+            this.path = path;
+            this.channel = channel;
+        }
+
+        private static Segment open(Path path) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            return new Segment(path, channel);
+        }
+
+        // 파일을 처음부터 읽어 인덱스를 만든다. 비정상 종료로 잘린 마지막 레코드는 잘라낸다.
+        private void scan() throws IOException {
+            long fileSize = channel.size();
+            if (fileSize == 0) {
+                return;
+            }
+
+            ByteBuffer view = channel.map(MapMode.READ_ONLY, 0, fileSize);
+            int offset = 0;
+            boolean padded = false;
+            while (view.limit() - offset >= RECORD_HEADER_BYTES) {
+                int bodyLength = view.getInt(offset);
+                if (bodyLength == 0) {
+                    // 활성 세그먼트 매핑 영역의 0 채움 (정상 종료되지 않은 경우 남는다.)
+                    padded = true;
+                    break;
+                }
+                if (bodyLength < RECORD_FIXED_BYTES || bodyLength > view.limit() - offset - RECORD_HEADER_BYTES) {
+                    break;
+                }
+                long id = view.getLong(offset + RECORD_HEADER_BYTES);
+                long seq = view.getLong(offset + RECORD_HEADER_BYTES + Long.BYTES);
+                index(offset, id, seq, Long.MIN_VALUE, 0L);
+                offset += RECORD_HEADER_BYTES + bodyLength;
+            }
+            size = offset;
+
+            if (size < fileSize && padded) {
+                channel.truncate(size);
+            } else if (size < fileSize) {
+                log.warn("채팅 로그 세그먼트의 마지막 레코드가 불완전하여 잘라냅니다. path={}, {} -> {} bytes", path,
+                        fileSize, size);
+                channel.truncate(size);
+            }
+        }
+
+        private void write(ByteBuffer record) throws IOException {
+            long position = size;
+            try {
+                while (record.hasRemaining()) {
+                    position += channel.write(record, position);
+                }
+            } catch (IOException e) {
+                // 일부만 기록된 레코드가 다음 적재 때 읽히지 않도록 되돌린다.
+                channel.truncate(size);
+                throw e;
+            }
+            size = (int) position;
+        }
+
+        private void index(int offset, long id, long seq, long prefixMaxId, long prefixMaxSeq) {
+            if (recordCount % INDEX_INTERVAL == 0) {
+                if (blockCount == blockOffsets.length) {
+                    int capacity = blockCount * 2;
+                    blockOffsets = Arrays.copyOf(blockOffsets, capacity);
+                    blockMinIds = Arrays.copyOf(blockMinIds, capacity);
+                    blockMaxIds = Arrays.copyOf(blockMaxIds, capacity);
+                    blockPrefixMaxIds = Arrays.copyOf(blockPrefixMaxIds, capacity);
+                    blockMinSeqs = Arrays.copyOf(blockMinSeqs, capacity);
+                    blockMaxSeqs = Arrays.copyOf(blockMaxSeqs, capacity);
+                    blockPrefixMaxSeqs = Arrays.copyOf(blockPrefixMaxSeqs, capacity);
+                }
+                blockOffsets[blockCount] = offset;
+                blockMinIds[blockCount] = id;
+                blockMaxIds[blockCount] = id;
+                blockMinSeqs[blockCount] = seq;
+                blockMaxSeqs[blockCount] = seq;
+                blockCount++;
+            } else {
+                int last = blockCount - 1;
+                blockMinIds[last] = Math.min(blockMinIds[last], id);
+                blockMaxIds[last] = Math.max(blockMaxIds[last], id);
+                blockMinSeqs[last] = Math.min(blockMinSeqs[last], seq);
+                blockMaxSeqs[last] = Math.max(blockMaxSeqs[last], seq);
+            }
+            blockPrefixMaxIds[blockCount - 1] = prefixMaxId;
+            blockPrefixMaxSeqs[blockCount - 1] = prefixMaxSeq;
+            recordCount++;
+        }
+
+        private int blockEnd(int block) {
+            return block + 1 < blockCount ? blockOffsets[block + 1] : size;
+        }
+
+        private ByteBuffer view() {
+            return sealed != null ? sealed.duplicate() : activeMap.duplicate();
+        }
+
+        // 현재 크기를 담는 매핑이 없을 때만 max(regionBytes, 현재 크기) 영역을 매핑한다. (보통 세그먼트마다 한 번)
+        private void mapActive(int regionBytes) throws IOException {
+            if (activeMap == null || activeMap.capacity() < size) {
+                activeMap = channel.map(MapMode.READ_ONLY, 0, Math.max(regionBytes, size));
+            }
+        }
+
+        private void force() throws IOException {
+            channel.force(false);
+        }
+
+        // 더 이상 추가하지 않는 세그먼트는 읽기 전용으로 매핑해 두고 파일을 닫는다.
+        private void seal() throws IOException {
+            activeMap = null;
+            channel.truncate(size);
+            channel.force(true);
+            sealed = channel.map(MapMode.READ_ONLY, 0, size);
+            channel.close();
+            channel = null;
+        }
+
+        // 채널과 매핑만 놓는다. (다른 채널이 같은 파일에 쓰고 있을 수 있으므로 잘라내지 않는다.)
+        private void release() {
+            activeMap = null;
+            sealed = null;
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    log.debug("채팅 로그 세그먼트 채널을 닫지 못했습니다. path={}", path, e);
+                }
+                channel = null;
+            }
+        }
+
+        private void close() throws IOException {
+            if (channel != null) {
+                activeMap = null;
+                channel.truncate(size);
+                channel.force(true);
+                channel.close();
+                channel = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.jaeseok.groupStudy.chat.presentation;
+
+import com.jaeseok.groupStudy.auth.domain.UserPrincipal;
+import com.jaeseok.groupStudy.chat.application.ChatService;
+import com.jaeseok.groupStudy.chat.application.dto.ChatAttachmentDownload;
+import com.jaeseok.groupStudy.chat.application.dto.ChatAttachmentInfo;
+import com.jaeseok.groupStudy.chat.application.dto.SendMessageInfo;
+import com.jaeseok.groupStudy.common.broadcast.BroadcastPublisher;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/chat/attachments")
+public class ChatAttachmentController {
+
+    // Tomcat 커넥터가 sendfile 을 지원하면 요청 속성으로 파일 구간을 넘겨 커널이 바로 소켓으로 보내게 한다.
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // 브라우저에서 바로 열어도 스크립트가 실행되지 않는 이미지 형식만 inline 으로 응답한다.
+    private static final Set<String> INLINE_CONTENT_TYPES = Set.of(
+            MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_GIF_VALUE, "image/webp");
+
+    private final ChatService chatService;
+    private final BroadcastPublisher broadcastPublisher;
+
+    /**
+     * 첨부 파일을 올리고 채팅방에 첨부 파일 메세지를 보낸다.
+     * 업로드 스트림은 고정 크기 버퍼로 읽으며 바로 저장하므로 파일 전체를 메모리에 올리지 않는다.
+     * @param userPrincipal 유저의 인증 객체
+     * @param roomId 해당 채팅방의 ID
+     * @param file 첨부 파일 (multipart "file" 파트)
+     * @param clientMessageId 재전송을 걸러내기 위해 클라이언트가 만든 ID (선택)
+     * @return 방송한 첨부 파일 메세지 (재전송이라 버려졌으면 204)
+     */
+    @PostMapping(value = "/{roomId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<SendMessageInfo> uploadAttachment(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable Long roomId,
+            @RequestPart("file") MultipartFile file,
+            @RequestParam(required = false) String clientMessageId
+    ) throws IOException {
+        SendMessageInfo messageInfo;
+        try (InputStream in = file.getInputStream()) {
+            messageInfo = chatService.sendAttachment(roomId, userPrincipal.userId(), file.getOriginalFilename(),
+                    file.getContentType(), in, clientMessageId);
+        }
+        if (messageInfo == null) {
+            return ResponseEntity.noContent().build();
+        }
+
+        broadcastPublisher.publish("/sub/chatroom/" + roomId, messageInfo);
+        return ResponseEntity.status(HttpStatus.CREATED).body(messageInfo);
+    }
+
+    /**
+     * 첨부 파일을 내려받는다.
+     * - 내용 해시를 강한 ETag 로 쓰므로 If-None-Match 가 맞으면 304 로 응답한다.
+     * - Range 요청(단일 구간)은 206 으로 해당 구간만 보낸다. (여러 구간이면 전체를 보낸다.)
+     * - 파일은 힙을 거치지 않고 sendfile(지원하지 않으면 FileChannel.transferTo)로 보낸다.
+     * @param userPrincipal 유저의 인증 객체
+     * @param roomId 해당 채팅방의 ID
+     * @param attachmentId 첨부 파일 ID
+     */
+    @GetMapping("/{roomId}/{attachmentId}")
+    public void downloadAttachment(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable Long roomId,
+            @PathVariable Long attachmentId,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        ChatAttachmentDownload download = chatService.getAttachment(roomId, userPrincipal.userId(), attachmentId);
+        ChatAttachmentInfo info = download.info();
+        String etag = "\"" + download.contentHash() + "\"";
+        long length = info.size();
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=86400");
+        if (matchesEtag(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        // If-Range 가 다르면(파일이 바뀌었으면) 구간 대신 전체를 보낸다.
+        if (rangeHeader != null && matchesIfRange(request.getHeader(HttpHeaders.IF_RANGE), etag)) {
+            try {
+                List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                    response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+                }
+            } catch (IllegalArgumentException e) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+        }
+
+        boolean inline = INLINE_CONTENT_TYPES.contains(info.contentType());
+        ContentDisposition disposition = (inline ? ContentDisposition.inline() : ContentDisposition.attachment())
+                .filename(info.fileName(), StandardCharsets.UTF_8)
+                .build();
+        response.setContentType(info.contentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, disposition.toString());
+        response.setHeader("X-Content-Type-Options", "nosniff");
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        transfer(request, response, download.path(), start, count);
+    }
+
+    private void transfer(HttpServletRequest request, HttpServletResponse response, Path path, long start,
+            long count) throws IOException {
+        if (count <= 0) {
+            return;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, target);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    private static boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.strip();
+            if (value.equals("*") || value.equals(etag) || value.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // If-Range 는 강한 비교만 허용한다. (날짜 형식은 쓰지 않으므로 ETag 가 아니면 전체를 보낸다.)
+    private static boolean matchesIfRange(String ifRange, String etag) {
+        return ifRange == null || ifRange.strip().equals(etag);
+    }
+}
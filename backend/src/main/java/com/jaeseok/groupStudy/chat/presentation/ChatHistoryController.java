@@ -1,15 +1,28 @@
 package com.jaeseok.groupStudy.chat.presentation;
 
 import com.jaeseok.groupStudy.auth.domain.UserPrincipal;
+import com.jaeseok.groupStudy.chat.application.ChatHistoryExport;
 import com.jaeseok.groupStudy.chat.application.ChatService;
+import com.jaeseok.groupStudy.chat.application.dto.ChatHistorySlice;
 import com.jaeseok.groupStudy.chat.application.dto.SendMessageInfo;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -17,6 +30,8 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/chat/history")
 public class ChatHistoryController {
 
+    private static final String GZIP_CONTENT_TYPE = "application/gzip";
+
     private final ChatService chatService;
 
     /**
@@ -37,4 +52,104 @@ public class ChatHistoryController {
 
         return ResponseEntity.ok(chatHistory);
     }
+
+    /**
+     * 해당 채팅방의 채팅 내역을 커서 기반으로 조회한다. (전체 개수를 세지 않아 오래된 내역도 일정한 속도로 조회된다.)
+     * @param userPrincipal 유저의 인증 객체
+     * @param roomId 해당 채팅방의 ID
+     * @param before 이전 응답의 nextCursor, 없으면 가장 최신 메세지부터 조회
+     * @param size 조회할 메세지 개수 (최대 100)
+     * @return 최신순 채팅 내역과 다음 페이지 커서
+     */
+    @GetMapping("{roomId}/cursor")
+    public ResponseEntity<ChatHistorySlice> getChatHistoryByCursor(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable Long roomId,
+            @RequestParam(required = false) String before,
+            @RequestParam(defaultValue = "30") int size
+    ) {
+        ChatHistorySlice chatHistory = chatService.getChatHistoryBefore(roomId, userPrincipal.userId(),
+                before, size);
+
+        return ResponseEntity.ok(chatHistory);
+    }
+
+    /**
+     * 순번이 (fromSeq, toSeq] 구간인 채팅 내역을 조회한다. (브로드캐스트 순번이 건너뛰었을 때 놓친 구간만 받는다.)
+     * @param userPrincipal 유저의 인증 객체
+     * @param roomId 해당 채팅방의 ID
+     * @param fromSeq 마지막으로 받은 메세지의 순번 (제외)
+     * @param toSeq 받아야 할 마지막 순번 (포함, fromSeq 로부터 최대 100개)
+     * @return 순번 오름차순 채팅 내역
+     */
+    @GetMapping("{roomId}/range")
+    public ResponseEntity<List<SendMessageInfo>> getChatHistoryRange(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable Long roomId,
+            @RequestParam long fromSeq,
+            @RequestParam long toSeq
+    ) {
+        List<SendMessageInfo> chatHistory = chatService.getChatHistoryRange(roomId, userPrincipal.userId(),
+                fromSeq, toSeq);
+
+        return ResponseEntity.ok(chatHistory);
+    }
+
+    /**
+     * 해당 채팅방의 채팅 내용을 검색한다. (글자 bigram 색인으로 후보를 찾고 원문에 검색어가 있는 메세지만 응답한다.)
+     * @param userPrincipal 유저의 인증 객체
+     * @param roomId 해당 채팅방의 ID
+     * @param q 검색어 (붙어 있는 두 글자 이상)
+     * @param before 이전 응답의 nextCursor, 없으면 가장 최신 메세지부터 검색
+     * @param size 조회할 메세지 개수 (최대 50)
+     * @return 최신순 검색 결과와 다음 페이지 커서
+     */
+    @GetMapping("{roomId}/search")
+    public ResponseEntity<ChatHistorySlice> searchChatHistory(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable Long roomId,
+            @RequestParam String q,
+            @RequestParam(required = false) String before,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        ChatHistorySlice searchResult = chatService.searchChatHistory(roomId, userPrincipal.userId(), q, before,
+                size);
+
+        return ResponseEntity.ok(searchResult);
+    }
+
+    /**
+     * 해당 채팅방의 전체 채팅 내역을 NDJSON(한 줄에 메세지 하나, 오래된 순)으로 내려받는다.
+     * 저장소에서 읽는 대로 응답에 바로 쓰므로(chunked) 채팅방이 커도 서버 메모리를 쓰지 않는다.
+     * 회원별 동시 내보내기 수를 넘으면 429 로 거절한다.
+     * @param userPrincipal 유저의 인증 객체
+     * @param roomId 해당 채팅방의 ID
+     * @param gzip true 면 gzip 으로 압축한 파일로 내려받는다.
+     * @param response 내역을 쓸 응답
+     */
+    @GetMapping("{roomId}/export")
+    public void exportChatHistory(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable Long roomId,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response
+    ) throws IOException {
+        try (ChatHistoryExport export = chatService.openChatHistoryExport(roomId, userPrincipal.userId())) {
+            String filename = "chat-" + roomId + (gzip ? ".ndjson.gz" : ".ndjson");
+            response.setContentType(gzip ? GZIP_CONTENT_TYPE : MediaType.APPLICATION_NDJSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                    ContentDisposition.attachment().filename(filename).build().toString());
+
+            OutputStream out = response.getOutputStream();
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out);
+                export.writeTo(gzipOut);
+                gzipOut.finish();
+            } else {
+                export.writeTo(out);
+            }
+            out.flush();
+        }
+    }
 }
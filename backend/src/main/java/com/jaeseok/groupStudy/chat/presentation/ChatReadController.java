@@ -0,0 +1,54 @@
+package com.jaeseok.groupStudy.chat.presentation;
+
+import com.jaeseok.groupStudy.auth.domain.UserPrincipal;
+import com.jaeseok.groupStudy.chat.application.ChatService;
+import com.jaeseok.groupStudy.chat.application.dto.UnreadCountInfo;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/chat")
+public class ChatReadController {
+
+    private final ChatService chatService;
+
+    /**
+     * 유저가 참여 중인 모든 채팅방의 안 읽은 메세지 수를 조회한다.
+     * @param userPrincipal 유저의 인증 객체
+     * @return 채팅방별 안 읽은 메세지 수와 최신 순번
+     */
+    @GetMapping("/unread")
+    public ResponseEntity<List<UnreadCountInfo>> getUnreadCounts(
+            @AuthenticationPrincipal UserPrincipal userPrincipal
+    ) {
+        List<UnreadCountInfo> unreadCounts = chatService.getUnreadCounts(userPrincipal.userId());
+
+        return ResponseEntity.ok(unreadCounts);
+    }
+
+    /**
+     * 해당 채팅방을 seq 까지 읽은 것으로 처리한다. (커서는 앞으로만 움직인다.)
+     * @param userPrincipal 유저의 인증 객체
+     * @param roomId 해당 채팅방의 ID
+     * @param seq 마지막으로 읽은 메세지의 순번
+     */
+    @PutMapping("/read/{roomId}")
+    public ResponseEntity<Void> markRead(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable Long roomId,
+            @RequestParam long seq
+    ) {
+        chatService.markRead(roomId, userPrincipal.userId(), seq);
+
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -5,15 +5,21 @@ import com.jaeseok.groupStudy.chat.application.ChatService;
 import com.jaeseok.groupStudy.chat.application.dto.SendMessageCommand;
 import com.jaeseok.groupStudy.chat.application.dto.SendMessageInfo;
 import com.jaeseok.groupStudy.chat.domain.MessageType;
-import com.jaeseok.groupStudy.chat.infrastructure.OnlineParticipantRepository;
-import com.jaeseok.groupStudy.chat.infrastructure.dto.ParticipantInfo;
+import com.jaeseok.groupStudy.chat.infrastructure.PresenceBroadcaster;
+import com.jaeseok.groupStudy.chat.infrastructure.SessionResumeRegistry;
+import com.jaeseok.groupStudy.chat.infrastructure.TypingIndicatorBroadcaster;
 import com.jaeseok.groupStudy.chat.presentation.dto.SendMessagePayload;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.SessionResumeInfo;
+import com.jaeseok.groupStudy.chat.presentation.dto.TypingPayload;
+import com.jaeseok.groupStudy.common.broadcast.BroadcastPublisher;
 import jakarta.validation.Valid;
-import java.util.Set;
+import java.security.Principal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 
@@ -21,12 +27,15 @@ import org.springframework.stereotype.Controller;
 @RequiredArgsConstructor
 public class ChatRealTimeController {
 
-    private final OnlineParticipantRepository onlineParticipantRepository;
-    private final SimpMessageSendingOperations messagingTemplate;
+    private final PresenceBroadcaster presenceBroadcaster;
+    private final BroadcastPublisher broadcastPublisher;
     private final ChatService chatService;
+    private final TypingIndicatorBroadcaster typingIndicatorBroadcaster;
+    private final SessionResumeRegistry sessionResumeRegistry;
 
     /**
      * 클라이언트로부터 받은 메세지를 다시 해당 채팅방으로 브로드캐스팅한다.
+     * 재전송된 메세지(이미 받은 클라이언트 메세지 ID)는 다시 방송하지 않는다.
      * @param userPrincipal JWT 인증 객체
      * @param roomId 클라이언트가 전송한 목적지의 채팅방 ID
      * @param payload 메세지의 내용 payload
@@ -46,23 +55,54 @@ public class ChatRealTimeController {
             broadcastInfo = handleLeave(roomId, senderId);
         } else {
             broadcastInfo = handleChat(roomId, senderId, payload);
+            typingIndicatorBroadcaster.clear(roomId, senderId);
         }
 
-        messagingTemplate.convertAndSend("/sub/chatroom/" + roomId, broadcastInfo);
+        if (broadcastInfo == null) {
+            return;
+        }
+
+        // 한 번만 직렬화해 모든 구독자가 같은 본문을 공유한다.
+        broadcastPublisher.publish("/sub/chatroom/" + roomId, broadcastInfo);
     }
 
     /**
-     * 클라이언트가 참여자 목록을 요청할 때 호출되는 메서드
+     * 클라이언트가 참여자 목록을 요청할 때 호출되는 메서드 (최초 입장, 또는 변경분의 버전이 빠졌을 때)
+     * 전체 명단은 요청한 세션에만 전송하고, 방 전체에는 변경분만 방송한다.
      * @param roomId 스터디 룸 ID
+     * @param principal 웹소켓 인증 객체
+     * @param sessionId 요청한 웹소켓 세션 ID
      */
     @MessageMapping("/chatroom/{roomId}/request-participants")
-    public void requestParticipants(@DestinationVariable Long roomId) {
-        // 현재 참여자 목록을 조회하여 해당 방 전체에 방송
-        Set<ParticipantInfo> currentParticipants = onlineParticipantRepository.getParticipants(roomId);
-        messagingTemplate.convertAndSend(
-                "/sub/chatroom/" + roomId + "/participants",
-                currentParticipants
-        );
+    public void requestParticipants(
+            @DestinationVariable Long roomId,
+            Principal principal,
+            @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId) {
+        presenceBroadcaster.sendSnapshot(roomId, principal.getName(), sessionId);
+    }
+
+    /**
+     * 입력 중 신호를 받는다. 채팅 서비스와 DB를 거치지 않고 메모리 상태만 갱신하며, 방송은 주기적으로 모아서 한다.
+     * @param roomId 스터디 룸 ID
+     * @param sessionId 신호를 보낸 웹소켓 세션 ID
+     * @param payload 입력 중 여부
+     */
+    @MessageMapping("/chatroom/{roomId}/typing")
+    public void typing(
+            @DestinationVariable Long roomId,
+            @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId,
+            TypingPayload payload) {
+        typingIndicatorBroadcaster.update(roomId, sessionId, payload.typing());
+    }
+
+    /**
+     * 연결 시 발급한 이어받기 토큰을 구독한 세션에만 응답한다. (/pub/session 구독, 브로커를 거치지 않는다.)
+     * 클라이언트는 다음 재연결 때 CONNECT 헤더(resume-token)로 이 토큰을 보낸다.
+     * @param sessionId 구독한 웹소켓 세션 ID
+     */
+    @SubscribeMapping("/session")
+    public SessionResumeInfo session(@Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId) {
+        return sessionResumeRegistry.find(sessionId);
     }
 
     private SendMessageInfo handleChat(Long roomId, Long senderId, SendMessagePayload payload) {
@@ -1,33 +1,63 @@
 package com.jaeseok.groupStudy.chat.presentation;
 
 import com.jaeseok.groupStudy.auth.domain.UserPrincipal;
+import com.jaeseok.groupStudy.chat.application.ChatService;
+import com.jaeseok.groupStudy.chat.application.dto.ChatReplayInfo;
+import com.jaeseok.groupStudy.chat.exception.ChatRoomNotFoundException;
 import com.jaeseok.groupStudy.chat.infrastructure.OnlineParticipantRepository;
+import com.jaeseok.groupStudy.chat.infrastructure.PresenceBroadcaster;
+import com.jaeseok.groupStudy.chat.infrastructure.SessionResumeRegistry;
 import com.jaeseok.groupStudy.chat.infrastructure.dto.ParticipantInfo;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.PresenceDelta;
+import com.jaeseok.groupStudy.common.broadcast.BroadcastPublisher;
 import com.jaeseok.groupStudy.member.application.MemberService;
 import com.jaeseok.groupStudy.member.application.dto.MemberInfoDto;
-import java.util.Set;
+import com.jaeseok.groupStudy.studyGroup.exception.StudyGroupMemberAccessException;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 import org.springframework.web.socket.messaging.SessionSubscribeEvent;
 
 /**
  * 웹소켓 연결/해제 즉, 채팅방의 입장과 퇴장 이벤트를 감지하는 이벤트리스너
+ * - 재연결한 세션이 이어받기 토큰(resume-token)을 보내면 이전 세션의 자리를 넘겨받으므로 입장 처리를 다시 하지 않는다.
+ * - 채팅방 구독에 마지막으로 받은 순번(resume-seq)이 있으면 놓친 메세지를 그 세션에만 다시 보낸다.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class StompLifecycleEventListener {
     private final OnlineParticipantRepository onlineParticipantRepository;
-    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final PresenceBroadcaster presenceBroadcaster;
     private final MemberService memberService;
+    private final SessionResumeRegistry sessionResumeRegistry;
+    private final ChatService chatService;
+    private final BroadcastPublisher broadcastPublisher;
+
+    private static final String RESUME_TOKEN_HEADER = "resume-token";
+    private static final String RESUME_SEQ_HEADER = "resume-seq";
+
+    // 연결 시 이어받기 토큰 발급 (토큰은 /pub/session 구독으로 받아 간다.)
+    @EventListener
+    public void handleSessionConnect(SessionConnectEvent event) {
+        StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
+        if (!(headerAccessor.getUser() instanceof Authentication authentication)
+                || !(authentication.getPrincipal() instanceof UserPrincipal userPrincipal)) {
+            return;
+        }
+
+        sessionResumeRegistry.connect(headerAccessor.getSessionId(), userPrincipal.userId(),
+                headerAccessor.getFirstNativeHeader(RESUME_TOKEN_HEADER));
+    }
 
     // 사용자가 특정 방을 구독할 때 발생하는 이벤트 -> [입장]
     @EventListener
@@ -43,13 +73,25 @@ public class StompLifecycleEventListener {
             Authentication authentication = (Authentication) headerAccessor.getUser();
             UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
             Long userId = userPrincipal.userId();
+            String sessionId = headerAccessor.getSessionId();
+
+            String resumeSeq = headerAccessor.getFirstNativeHeader(RESUME_SEQ_HEADER);
+            if (resumeSeq != null) {
+                replay(roomId, userId, authentication.getName(), sessionId, resumeSeq);
+            }
+
+            // 이전 세션을 이어받아 이미 이 방의 명단에 있는 세션이면 입장 처리를 다시 하지 않는다.
+            ParticipantInfo current = onlineParticipantRepository.findBySessionId(sessionId);
+            if (current != null && current.roomId().equals(roomId)) {
+                return;
+            }
 
             MemberInfoDto memberInfo = memberService.getMemberInfo(userId);
 
-            String sessionId = headerAccessor.getSessionId();
             ParticipantInfo newParticipantInfo = ParticipantInfo.of(roomId, userId, memberInfo.nickname(),
                     sessionId);
-            onlineParticipantRepository.add(roomId, newParticipantInfo);
+            // 입장 변경분을 방에 방송
+            presenceBroadcaster.broadcastDeltas(onlineParticipantRepository.add(roomId, newParticipantInfo));
         }
     }
 
@@ -58,19 +100,24 @@ public class StompLifecycleEventListener {
     public void handleSessionDisconnect(SessionDisconnectEvent event) {
         // 세션 ID를 통해 나간 사용자가 누구인지 찾음
         String sessionId = event.getSessionId();
-        ParticipantInfo leavingParticipant = onlineParticipantRepository.remove(sessionId);
-
-        if (leavingParticipant != null) {
-            // 나간 사람이 적용된 최신 온라인 참여자 명단 전송
-            broadcastParticipantList(leavingParticipant.roomId());
+        // 비정상 종료(네트워크 끊김 등)된 세션은 재연결로 이어받을 수 있도록 유예 시간이 지난 뒤에 퇴장 처리한다.
+        boolean resumable = !CloseStatus.NORMAL.equals(event.getCloseStatus());
+        if (sessionResumeRegistry.detach(sessionId, resumable)) {
+            return;
         }
+        List<PresenceDelta> deltas = onlineParticipantRepository.remove(sessionId);
+
+        // 나간 사람이 적용된 명단 변경분 전송
+        presenceBroadcaster.broadcastDeltas(deltas);
     }
 
-    private void broadcastParticipantList(Long roomId) {
-        Set<ParticipantInfo> currentParticipants = onlineParticipantRepository.getParticipants(roomId);
-        simpMessagingTemplate.convertAndSend(
-                "/sub/chatroom/" + roomId + "/participants",
-                currentParticipants
-        );
+    private void replay(Long roomId, Long userId, String userName, String sessionId, String resumeSeq) {
+        try {
+            ChatReplayInfo replay = chatService.replayAfter(roomId, userId, Long.parseLong(resumeSeq));
+            broadcastPublisher.sendJsonToSession(userName, sessionId, "/queue/chatroom/" + roomId + "/replay",
+                    broadcastPublisher.serialize(replay));
+        } catch (NumberFormatException | ChatRoomNotFoundException | StudyGroupMemberAccessException e) {
+            log.debug("놓친 메세지를 다시 보내지 않습니다. roomId={}, userId={}, reason={}", roomId, userId, e.getMessage());
+        }
     }
 }
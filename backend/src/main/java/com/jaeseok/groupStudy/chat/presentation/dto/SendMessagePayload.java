@@ -11,10 +11,18 @@ public record SendMessagePayload(
         String message,
 
         @NotNull(message = "메시지 타입은 필수 입력 항목입니다.")
-        MessageType type
+        MessageType type,
+
+        // 재전송된 같은 메세지를 걸러내기 위해 클라이언트가 만든 ID (선택)
+        @Size(max = 64, message = "클라이언트 메세지 ID는 64자 이하여야 합니다.")
+        String clientMessageId
 ) {
 
+    public SendMessagePayload(String message, MessageType type) {
+        this(message, type, null);
+    }
+
     public SendMessageCommand toCommand(Long roomId, Long senderId) {
-        return new SendMessageCommand(roomId, senderId, this.message, this.type);
+        return new SendMessageCommand(roomId, senderId, this.message, this.type, this.clientMessageId);
     }
 }
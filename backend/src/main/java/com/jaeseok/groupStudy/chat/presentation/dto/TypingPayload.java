@@ -0,0 +1,5 @@
+package com.jaeseok.groupStudy.chat.presentation.dto;
+
+// 입력 중 신호 (false 면 입력을 멈춤)
+public record TypingPayload(boolean typing) {
+}
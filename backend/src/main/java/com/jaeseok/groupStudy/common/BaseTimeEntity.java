@@ -19,4 +19,10 @@ public class BaseTimeEntity {
 
     @LastModifiedDate
     private LocalDateTime updatedAt;
+
+    // 영속화 이전에 생성 시각이 필요한 엔티티(쓰기 지연 저장 등)에서 시각을 미리 부여한다.
+    protected void initCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+        this.updatedAt = createdAt;
+    }
 }
@@ -0,0 +1,28 @@
+package com.jaeseok.groupStudy.common.broadcast;
+
+import java.util.Map;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+/**
+ * 바이너리 프레임을 주고받을 수 있는(SockJS 가 아닌) 엔드포인트의 세션임을 표시한다.
+ * - 이 표시가 있는 세션만 CBOR 인코딩을 협상할 수 있다.
+ */
+public class BinaryFrameHandshakeInterceptor implements HandshakeInterceptor {
+
+    public static final String ATTRIBUTE = "binary-frames";
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+            WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        attributes.put(ATTRIBUTE, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+            WebSocketHandler wsHandler, Exception exception) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.jaeseok.groupStudy.common.broadcast;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * 한 번의 브로드캐스트에 대한 인코딩 결과
+ * - JSON 본문은 발행 시 한 번만 만들고, CBOR 본문은 CBOR 세션이 처음 받을 때 한 번만 만들어 모든 구독자가 공유한다.
+ * - 브로커 채널에서 메세지 헤더(HEADER)로 붙어, 구독자별 메세지에 그대로 복사된다.
+ */
+public final class BroadcastFrame {
+
+    public static final String HEADER = "broadcast-frame";
+
+    private final byte[] json;
+    private volatile byte[] cbor;
+
+    public BroadcastFrame(byte[] json) {
+        this.json = json;
+    }
+
+    public byte[] json() {
+        return json;
+    }
+
+    public byte[] encode(PayloadCodec codec, ObjectMapper jsonMapper, ObjectMapper cborMapper) {
+        if (codec == PayloadCodec.JSON) {
+            return json;
+        }
+
+        byte[] encoded = cbor;
+        if (encoded == null) {
+            synchronized (this) {
+                encoded = cbor;
+                if (encoded == null) {
+                    encoded = transcode(jsonMapper, cborMapper);
+                    cbor = encoded;
+                }
+            }
+        }
+        return encoded;
+    }
+
+    // JSON 트리를 그대로 옮기므로 필드 구성과 날짜 표현은 JSON 본문과 같다.
+    private byte[] transcode(ObjectMapper jsonMapper, ObjectMapper cborMapper) {
+        try {
+            return cborMapper.writeValueAsBytes(jsonMapper.readTree(json));
+        } catch (IOException e) {
+            throw new UncheckedIOException("브로드캐스트 본문을 CBOR 로 변환하지 못했습니다.", e);
+        }
+    }
+}
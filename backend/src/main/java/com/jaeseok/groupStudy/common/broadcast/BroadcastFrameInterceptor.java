@@ -0,0 +1,39 @@
+package com.jaeseok.groupStudy.common.broadcast;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 브로커 채널 인터셉터
+ * - BroadcastPublisher 를 거치지 않은 JSON 메세지(convertAndSend, 다른 노드에서 중계된 메세지 등)에도
+ *   BroadcastFrame 을 붙여, 구독자 수와 관계없이 브로드캐스트당 한 번만 다른 인코딩으로 변환되게 한다.
+ */
+@Component
+public class BroadcastFrameInterceptor implements ChannelInterceptor {
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+                || headers.containsKey(BroadcastFrame.HEADER)
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        MimeType contentType = accessor.getContentType();
+        if (contentType == null || !MimeTypeUtils.APPLICATION_JSON.isCompatibleWith(contentType)) {
+            return message;
+        }
+        accessor.setHeader(BroadcastFrame.HEADER, new BroadcastFrame(payload));
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+}
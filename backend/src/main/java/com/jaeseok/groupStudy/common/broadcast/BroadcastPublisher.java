@@ -0,0 +1,63 @@
+package com.jaeseok.groupStudy.common.broadcast;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 브로드캐스트 발행기
+ * - 메세지 컨버터 체인을 거치지 않고 payload 를 JSON 으로 한 번만 직렬화해 BroadcastFrame 으로 발행한다.
+ * - 브로커는 같은 프레임을 모든 구독자에게 복사하고, 세션별 인코딩(PayloadCodec)은 아웃바운드 채널에서 고른다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BroadcastPublisher {
+
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void publish(String destination, Object payload) {
+        publishJson(destination, serialize(payload));
+    }
+
+    // 이미 직렬화된 JSON 을 그대로 발행
+    public void publishJson(String destination, byte[] json) {
+        messagingTemplate.send(destination, frameMessage(json, null));
+    }
+
+    /**
+     * 한 세션에만 JSON 을 보낸다. (/user/{userName}{destination})
+     * @param userName 웹소켓 Principal 이름 (유저 목적지 해석용)
+     * @param sessionId 받을 웹소켓 세션 ID (같은 유저의 다른 탭에는 보내지 않는다.)
+     */
+    public void sendJsonToSession(String userName, String sessionId, String destination, byte[] json) {
+        messagingTemplate.send("/user/" + userName.replace("/", "%2F") + destination, frameMessage(json, sessionId));
+    }
+
+    public byte[] serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("브로드캐스트 메세지 직렬화에 실패했습니다. type="
+                    + payload.getClass().getSimpleName(), e);
+        }
+    }
+
+    private Message<byte[]> frameMessage(byte[] json, String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setHeader(BroadcastFrame.HEADER, new BroadcastFrame(json));
+        if (sessionId != null) {
+            accessor.setSessionId(sessionId);
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(json, accessor.getMessageHeaders());
+    }
+}
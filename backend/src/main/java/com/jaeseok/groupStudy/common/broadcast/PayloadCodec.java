@@ -0,0 +1,39 @@
+package com.jaeseok.groupStudy.common.broadcast;
+
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 구독자에게 전달하는 메세지 본문의 인코딩 방식
+ * - 세션은 CONNECT 프레임의 payload-codec 헤더로 원하는 방식을 고를 수 있다. (없거나 모르는 값이면 JSON)
+ * - CBOR 는 바이너리 프레임으로만 보낼 수 있으므로 content-type 을 application/octet-stream 으로 두고,
+ *   MESSAGE 프레임의 payload-codec 헤더로 실제 인코딩을 알린다.
+ */
+public enum PayloadCodec {
+    JSON(MimeTypeUtils.APPLICATION_JSON),
+    CBOR(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+
+    public static final String HEADER = "payload-codec";
+
+    private final MimeType mimeType;
+
+    PayloadCodec(MimeType mimeType) {
+        this.mimeType = mimeType;
+    }
+
+    public MimeType getMimeType() {
+        return mimeType;
+    }
+
+    public static PayloadCodec negotiate(String requested) {
+        if (requested == null) {
+            return JSON;
+        }
+        for (PayloadCodec codec : values()) {
+            if (codec.name().equalsIgnoreCase(requested.trim())) {
+                return codec;
+            }
+        }
+        return JSON;
+    }
+}
@@ -0,0 +1,86 @@
+package com.jaeseok.groupStudy.common.broadcast;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+/**
+ * 세션별 본문 인코딩 협상 인터셉터 (인바운드/아웃바운드 채널 공용)
+ * - 인바운드: CONNECT 프레임의 payload-codec 헤더를 읽어 세션의 인코딩을 정한다. (바이너리 엔드포인트 세션만 CBOR 허용)
+ * - 아웃바운드: JSON 이 아닌 세션에 나가는 메세지는 BroadcastFrame 에서 해당 인코딩 본문을 꺼내 바꿔 싣는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PayloadCodecInterceptor implements ChannelInterceptor {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper = new CBORMapper();
+
+    // <세션 ID, 인코딩> (JSON 이 아닌 세션만 보관)
+    private final Map<String, PayloadCodec> sessionCodecs = new ConcurrentHashMap<>();
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(headers);
+
+        if (messageType == SimpMessageType.CONNECT) {
+            negotiate(StompHeaderAccessor.wrap(message));
+            return message;
+        }
+        if (messageType != SimpMessageType.MESSAGE) {
+            return message;
+        }
+
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        PayloadCodec codec = sessionId == null ? null : sessionCodecs.get(sessionId);
+        if (codec == null || !(headers.get(BroadcastFrame.HEADER) instanceof BroadcastFrame frame)) {
+            return message;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        accessor.setContentType(codec.getMimeType());
+        accessor.setNativeHeader(PayloadCodec.HEADER, codec.name().toLowerCase());
+        return MessageBuilder.createMessage(frame.encode(codec, objectMapper, cborMapper),
+                accessor.getMessageHeaders());
+    }
+
+    @EventListener
+    public void handleSessionDisconnect(SessionDisconnectEvent event) {
+        sessionCodecs.remove(event.getSessionId());
+    }
+
+    public PayloadCodec getCodec(String sessionId) {
+        return sessionCodecs.getOrDefault(sessionId, PayloadCodec.JSON);
+    }
+
+    private void negotiate(StompHeaderAccessor accessor) {
+        PayloadCodec codec = PayloadCodec.negotiate(accessor.getFirstNativeHeader(PayloadCodec.HEADER));
+        if (codec == PayloadCodec.JSON || accessor.getSessionId() == null) {
+            return;
+        }
+
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes == null || !Boolean.TRUE.equals(attributes.get(BinaryFrameHandshakeInterceptor.ATTRIBUTE))) {
+            // SockJS 세션은 바이너리 프레임을 보낼 수 없으므로 JSON 으로 둔다.
+            log.debug("바이너리 프레임을 지원하지 않는 세션이라 JSON 으로 전송합니다. sessionId={}", accessor.getSessionId());
+            return;
+        }
+        sessionCodecs.put(accessor.getSessionId(), codec);
+    }
+}
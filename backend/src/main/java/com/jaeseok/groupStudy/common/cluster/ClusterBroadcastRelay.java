@@ -0,0 +1,304 @@
+package com.jaeseok.groupStudy.common.cluster;
+
+import com.jaeseok.groupStudy.common.cluster.ClusterFrame.Envelope;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+/**
+ * 노드 간 브로드캐스트 중계기 (브로커 채널 인터셉터)
+ * - SimpleBroker 는 자기 노드에 연결된 구독자에게만 전달하므로, /sub/chatroom/** 와 /sub/signal/** 메세지를 다른 노드로도 전달한다.
+ * - 목적지를 토픽(chatroom:{roomId}, signal:user:{userId})으로 묶어 토픽별 채널로 발행하고,
+ *   각 노드는 로컬 구독자가 있는 토픽의 채널만 구독한다.
+ * - 발행은 batch-window 동안 모아 토픽별로 한 프레임에 묶어 보낸다. (한 프레임 최대 max-batch-size 개)
+ * - 다른 노드에서 받은 메세지는 발신 노드 헤더를 붙여 로컬 브로커에만 전달한다. (다시 발행하지 않는다.)
+ * - 온라인 명단 변경분(/sub/chatroom/{roomId}/participants)은 노드마다 버전이 따로 증가하므로 중계하지 않는다.
+ *   각 노드는 ClusterPresenceReplicator 로 다른 노드의 접속자까지 합친 명단을 만들어 자기 구독자에게 변경분을 보낸다.
+ * - 입력 중 목록(/sub/chatroom/{roomId}/typing)도 노드마다 주기적으로 전체 목록을 방송하므로 중계하지 않는다.
+ *   각 노드는 ClusterTypingReplicator 로 입력 시작/중단 신호를 주고받아 합친 목록을 자기 구독자에게 보낸다.
+ * - 전송 계층의 채널 구독/해제(네트워크 왕복)는 구독 수 맵의 락 밖에서 한다.
+ */
+@Slf4j
+@Component
+public class ClusterBroadcastRelay implements ChannelInterceptor {
+
+    public static final String ORIGIN_HEADER = "cluster-origin";
+
+    private static final String CHANNEL_PREFIX = "group-study:ws:";
+    private static final Pattern ROUTED_DESTINATION = Pattern.compile("^/sub/(chatroom|signal/user|signal)/(\\d+)(/.*)?$");
+    private static final Pattern NODE_LOCAL_DESTINATION =
+            Pattern.compile("^/sub/chatroom/\\d+/(participants|typing)$");
+    private static final int CHANNEL_LOCK_STRIPES = 64;
+
+    private final ClusterTransport clusterTransport;
+    private final MessageChannel brokerChannel;
+    private final String nodeId;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService flusher;
+
+    private final Queue<Routed> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+
+    // 토픽 -> 이 노드의 구독 수, 세션 -> (구독 id -> 토픽)
+    private final Map<String, Integer> topicSubscriptions = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+    // 전송 계층에 실제로 구독한 토픽 (채널 락 안에서만 바꾼다.)
+    private final Set<String> subscribedTopics = ConcurrentHashMap.newKeySet();
+    private final Object[] channelLocks = new Object[CHANNEL_LOCK_STRIPES];
+
+    public ClusterBroadcastRelay(
+            ClusterTransport clusterTransport,
+            @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel,
+            @Value("${cluster.node-id:}") String nodeId,
+            @Value("${cluster.batch-window-millis:5}") long batchWindowMillis,
+            @Value("${cluster.max-batch-size:64}") int maxBatchSize
+    ) {
+        this.clusterTransport = clusterTransport;
+        this.brokerChannel = brokerChannel;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        this.maxBatchSize = maxBatchSize;
+        for (int i = 0; i < channelLocks.length; i++) {
+            channelLocks[i] = new Object();
+        }
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cluster-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flushSafely, batchWindowMillis, batchWindowMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    // 브로커로 가는 메세지 중 중계 대상만 발행 대기열에 넣고, 로컬 전달은 그대로 진행한다.
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+                || headers.containsKey(ORIGIN_HEADER)) {
+            return message;
+        }
+
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        String topic = resolveTopic(destination);
+        if (topic == null || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+
+        Object contentType = headers.get(MessageHeaders.CONTENT_TYPE);
+        pending.add(new Routed(topic, new Envelope(destination, contentType == null ? null : contentType.toString(),
+                payload)));
+
+        if (pendingCount.incrementAndGet() >= maxBatchSize && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(() -> {
+                flushRequested.set(false);
+                flushSafely();
+            });
+        }
+        return message;
+    }
+
+    @EventListener
+    public void handleSessionSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String topic = resolveTopic(accessor.getDestination());
+        if (topic == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        String previous = sessionSubscriptions
+                .computeIfAbsent(accessor.getSessionId(), id -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), topic);
+        if (previous != null) {
+            release(previous);
+        }
+        retain(topic);
+    }
+
+    @EventListener
+    public void handleSessionUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subscriptions = sessionSubscriptions.get(accessor.getSessionId());
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        String topic = subscriptions.remove(accessor.getSubscriptionId());
+        if (topic != null) {
+            release(topic);
+        }
+    }
+
+    @EventListener
+    public void handleSessionDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::release);
+        }
+    }
+
+    // 발행 대기열을 토픽별 프레임으로 묶어 발행
+    public void flush() {
+        List<Routed> drained = new ArrayList<>();
+        Routed routed;
+        while ((routed = pending.poll()) != null) {
+            drained.add(routed);
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+        pendingCount.addAndGet(-drained.size());
+
+        // 같은 토픽 안에서는 발행 순서를 유지한다.
+        Map<String, List<Envelope>> byTopic = new LinkedHashMap<>();
+        for (Routed item : drained) {
+            byTopic.computeIfAbsent(item.topic(), topic -> new ArrayList<>()).add(item.envelope());
+        }
+
+        byTopic.forEach((topic, envelopes) -> {
+            for (int from = 0; from < envelopes.size(); from += maxBatchSize) {
+                List<Envelope> batch = envelopes.subList(from, Math.min(from + maxBatchSize, envelopes.size()));
+                publish(topic, new ClusterFrame(nodeId, batch));
+            }
+        });
+    }
+
+    // 다른 노드에서 받은 프레임을 로컬 브로커로 전달
+    public void onFrame(byte[] bytes) {
+        ClusterFrame frame = ClusterFrame.decode(bytes);
+        if (nodeId.equals(frame.origin())) {
+            return;
+        }
+
+        for (Envelope envelope : frame.envelopes()) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setDestination(envelope.destination());
+            if (envelope.contentType() != null) {
+                accessor.setContentType(MimeType.valueOf(envelope.contentType()));
+            }
+            accessor.setHeader(ORIGIN_HEADER, frame.origin());
+            brokerChannel.send(MessageBuilder.createMessage(envelope.payload(), accessor.getMessageHeaders()));
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(1, TimeUnit.SECONDS)) {
+                flusher.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            flusher.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        flushSafely();
+    }
+
+    // /sub/chatroom/{roomId}/** -> chatroom:{roomId}, /sub/signal/user/{userId} -> signal:user:{userId}
+    // 온라인 명단 변경분과 입력 중 목록은 노드마다 합쳐 방송하므로 중계하지 않는다. (null)
+    static String resolveTopic(String destination) {
+        if (destination == null || NODE_LOCAL_DESTINATION.matcher(destination).matches()) {
+            return null;
+        }
+        Matcher matcher = ROUTED_DESTINATION.matcher(destination);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return matcher.group(1).replace('/', ':') + ":" + matcher.group(2);
+    }
+
+    private void publish(String topic, ClusterFrame frame) {
+        try {
+            clusterTransport.publish(CHANNEL_PREFIX + topic, frame.encode());
+        } catch (RuntimeException e) {
+            log.error("클러스터 메세지 발행에 실패했습니다. topic={}, count={}", topic, frame.envelopes().size(), e);
+        }
+    }
+
+    // 토픽의 첫 로컬 구독이면 채널을 구독한다.
+    private void retain(String topic) {
+        if (topicSubscriptions.merge(topic, 1, Integer::sum) == 1) {
+            syncChannel(topic);
+        }
+    }
+
+    // 토픽의 마지막 로컬 구독이 끝나면 채널 구독을 해제한다.
+    private void release(String topic) {
+        if (topicSubscriptions.computeIfPresent(topic, (key, count) -> count > 1 ? count - 1 : null) == null) {
+            syncChannel(topic);
+        }
+    }
+
+    /**
+     * 전송 계층의 채널 구독을 현재 구독 수에 맞춘다.
+     * - 네트워크 왕복이므로 구독 수 맵의 락(ConcurrentHashMap bin 락) 밖에서, 토픽별 채널 락 안에서 한다.
+     * - 구독과 해제가 엇갈려도 락 안에서 현재 구독 수를 다시 확인하므로, 마지막 호출 뒤에는 구독 수와 채널 구독이 일치한다.
+     */
+    private void syncChannel(String topic) {
+        synchronized (channelLocks[Math.floorMod(topic.hashCode(), channelLocks.length)]) {
+            boolean wanted = topicSubscriptions.containsKey(topic);
+            if (wanted && !subscribedTopics.contains(topic)) {
+                clusterTransport.subscribe(CHANNEL_PREFIX + topic, this::onFrameSafely);
+                subscribedTopics.add(topic);
+            } else if (!wanted && subscribedTopics.remove(topic)) {
+                clusterTransport.unsubscribe(CHANNEL_PREFIX + topic);
+            }
+        }
+    }
+
+    private void onFrameSafely(byte[] bytes) {
+        try {
+            onFrame(bytes);
+        } catch (RuntimeException e) {
+            log.error("클러스터 메세지 수신 처리 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("클러스터 메세지 발행 중 예상치 못한 오류가 발생했습니다.", e);
+        }
+    }
+
+    private record Routed(String topic, Envelope envelope) {
+    }
+}
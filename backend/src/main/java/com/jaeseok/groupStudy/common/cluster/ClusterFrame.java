@@ -0,0 +1,56 @@
+package com.jaeseok.groupStudy.common.cluster;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 노드 간에 한 번에 전달되는 브로커 메세지 묶음
+ * 형식: [UTF 발신 노드][int 개수] ([UTF 목적지][UTF content-type][int 길이][payload])*
+ */
+public record ClusterFrame(String origin, List<Envelope> envelopes) {
+
+    // 브로커 채널에 다시 넣을 때 필요한 최소한의 정보 (payload 는 이미 직렬화된 바이트)
+    public record Envelope(String destination, String contentType, byte[] payload) {
+    }
+
+    public byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(origin);
+            out.writeInt(envelopes.size());
+            for (Envelope envelope : envelopes) {
+                out.writeUTF(envelope.destination());
+                out.writeUTF(envelope.contentType() == null ? "" : envelope.contentType());
+                out.writeInt(envelope.payload().length);
+                out.write(envelope.payload());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static ClusterFrame decode(byte[] frame) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(frame))) {
+            String origin = in.readUTF();
+            int count = in.readInt();
+            List<Envelope> envelopes = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String destination = in.readUTF();
+                String contentType = in.readUTF();
+                byte[] payload = new byte[in.readInt()];
+                in.readFully(payload);
+                envelopes.add(new Envelope(destination, contentType.isEmpty() ? null : contentType, payload));
+            }
+            return new ClusterFrame(origin, envelopes);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("잘못된 클러스터 프레임입니다.", e);
+        }
+    }
+}
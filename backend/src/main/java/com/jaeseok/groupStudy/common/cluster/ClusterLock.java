@@ -0,0 +1,24 @@
+package com.jaeseok.groupStudy.common.cluster;
+
+import java.time.Duration;
+
+/**
+ * 노드 간 배타 실행 락
+ * - 주기 작업처럼 클러스터에서 한 노드만 실행해야 하는 작업을 감싼다.
+ * - 잡지 못하면 기다리지 않고 null 을 반환한다. (다른 노드가 실행 중이면 이번 실행은 건너뛴다.)
+ * - 잡은 노드가 죽어도 leaseTime 이 지나면 풀린다.
+ */
+public interface ClusterLock {
+
+    /**
+     * @return 잡았으면 해제용 Lease, 다른 노드가 잡고 있으면 null
+     */
+    Lease tryAcquire(String name, Duration leaseTime);
+
+    interface Lease extends AutoCloseable {
+
+        // 이 노드가 잡은 락일 때만 해제한다. (leaseTime 이 지나 다른 노드가 잡았으면 건드리지 않는다.)
+        @Override
+        void close();
+    }
+}
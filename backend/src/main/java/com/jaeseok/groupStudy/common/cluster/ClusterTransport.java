@@ -0,0 +1,17 @@
+package com.jaeseok.groupStudy.common.cluster;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 브로드캐스트 전송 계층
+ * - 채널(토픽) 단위로 발행/구독한다. 발행한 노드 자신도 구독 중이면 받을 수 있으므로, 받는 쪽에서 발신 노드를 확인해야 한다.
+ */
+public interface ClusterTransport {
+
+    void publish(String channel, byte[] frame);
+
+    // 채널마다 하나의 리스너만 등록한다.
+    void subscribe(String channel, Consumer<byte[]> listener);
+
+    void unsubscribe(String channel);
+}
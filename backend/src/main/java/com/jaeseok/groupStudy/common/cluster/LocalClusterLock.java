@@ -0,0 +1,22 @@
+package com.jaeseok.groupStudy.common.cluster;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 내 락 (단일 인스턴스 기본값, cluster.transport=loopback)
+ * - 다른 노드가 없으므로 같은 프로세스 안에서 겹쳐 실행되지 않게만 막는다. (leaseTime 은 쓰지 않는다.)
+ */
+public class LocalClusterLock implements ClusterLock {
+
+    private final Set<String> held = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public Lease tryAcquire(String name, Duration leaseTime) {
+        if (!held.add(name)) {
+            return null;
+        }
+        return () -> held.remove(name);
+    }
+}
@@ -0,0 +1,65 @@
+package com.jaeseok.groupStudy.common.cluster;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 프로세스 내 전송 계층
+ * - 같은 Hub 를 공유하는 노드끼리만 메세지를 주고받는다. (단일 인스턴스 기본값, 테스트용)
+ * - 발행 스레드에서 바로 리스너를 호출한다.
+ */
+public class LoopbackClusterTransport implements ClusterTransport {
+
+    private final Hub hub;
+    private final Map<String, Consumer<byte[]>> listeners = new ConcurrentHashMap<>();
+
+    public LoopbackClusterTransport(Hub hub) {
+        this.hub = hub;
+    }
+
+    @Override
+    public void publish(String channel, byte[] frame) {
+        hub.deliver(channel, frame);
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<byte[]> listener) {
+        if (listeners.putIfAbsent(channel, listener) == null) {
+            hub.join(channel, listener);
+        }
+    }
+
+    @Override
+    public void unsubscribe(String channel) {
+        Consumer<byte[]> listener = listeners.remove(channel);
+        if (listener != null) {
+            hub.leave(channel, listener);
+        }
+    }
+
+    public static final class Hub {
+
+        private final Map<String, Set<Consumer<byte[]>>> channels = new ConcurrentHashMap<>();
+
+        private void deliver(String channel, byte[] frame) {
+            Set<Consumer<byte[]>> subscribers = channels.get(channel);
+            if (subscribers != null) {
+                subscribers.forEach(subscriber -> subscriber.accept(frame));
+            }
+        }
+
+        private void join(String channel, Consumer<byte[]> listener) {
+            channels.computeIfAbsent(channel, key -> ConcurrentHashMap.newKeySet()).add(listener);
+        }
+
+        // 구독자가 없는 채널은 제거한다.
+        private void leave(String channel, Consumer<byte[]> listener) {
+            channels.computeIfPresent(channel, (key, subscribers) -> {
+                subscribers.remove(listener);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.jaeseok.groupStudy.common.cluster;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * Redis 락 (cluster.transport=redis)
+ * - SET NX PX 로 잡고, 해제는 잡을 때 넣은 토큰이 그대로일 때만 지운다. (leaseTime 이 지나 다른 노드가 잡은 락을 지우지 않도록)
+ */
+public class RedisClusterLock implements ClusterLock {
+
+    private static final String KEY_PREFIX = "group-study:lock:";
+    private static final RedisScript<Long> RELEASE = RedisScript.of(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisClusterLock(RedisConnectionFactory connectionFactory) {
+        this.redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @Override
+    public Lease tryAcquire(String name, Duration leaseTime) {
+        String key = KEY_PREFIX + name;
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, token, leaseTime))) {
+            return null;
+        }
+        return () -> redisTemplate.execute(RELEASE, List.of(key), token);
+    }
+}
@@ -0,0 +1,55 @@
+package com.jaeseok.groupStudy.common.cluster;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Redis Pub/Sub 기반 전송 계층 (cluster.transport=redis)
+ * - 노드는 로컬 구독자가 있는 토픽의 채널만 구독하므로, 채팅방 메세지는 해당 채팅방 참여자가 접속한 노드에만 전달된다.
+ */
+public class RedisClusterTransport implements ClusterTransport {
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Map<String, MessageListener> listeners = new ConcurrentHashMap<>();
+
+    public RedisClusterTransport(RedisConnectionFactory connectionFactory,
+            RedisMessageListenerContainer listenerContainer) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.afterPropertiesSet();
+
+        this.redisTemplate = template;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @Override
+    public void publish(String channel, byte[] frame) {
+        redisTemplate.convertAndSend(channel, frame);
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<byte[]> listener) {
+        MessageListener messageListener = (message, pattern) -> listener.accept(message.getBody());
+        if (listeners.putIfAbsent(channel, messageListener) == null) {
+            listenerContainer.addMessageListener(messageListener, new ChannelTopic(channel));
+        }
+    }
+
+    @Override
+    public void unsubscribe(String channel) {
+        MessageListener messageListener = listeners.remove(channel);
+        if (messageListener != null) {
+            listenerContainer.removeMessageListener(messageListener, new ChannelTopic(channel));
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.jaeseok.groupStudy.common.exception;
 
+import com.jaeseok.groupStudy.chat.exception.ChatAttachmentNotFoundException;
+import com.jaeseok.groupStudy.chat.exception.ChatAttachmentTooLargeException;
+import com.jaeseok.groupStudy.chat.exception.ChatHistoryExportLimitException;
 import com.jaeseok.groupStudy.chat.exception.ChatRoomNotFoundException;
 import com.jaeseok.groupStudy.common.exception.dto.ErrorResponseDto;
 import com.jaeseok.groupStudy.member.exception.MemberNotFoundException;
@@ -13,6 +16,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -78,4 +82,34 @@ public class GlobalExceptionHandler {
         ErrorResponseDto response =  new ErrorResponseDto(HttpStatus.FORBIDDEN.value(), ex.getMessage());
         return new ResponseEntity<>(response, HttpStatus.FORBIDDEN);
     }
+
+    @ExceptionHandler(ChatHistoryExportLimitException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public ResponseEntity<ErrorResponseDto> handleChatHistoryExportLimitException(ChatHistoryExportLimitException ex) {
+        ErrorResponseDto response =  new ErrorResponseDto(HttpStatus.TOO_MANY_REQUESTS.value(), ex.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @ExceptionHandler(ChatAttachmentNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ResponseEntity<ErrorResponseDto> handleChatAttachmentNotFoundException(ChatAttachmentNotFoundException ex) {
+        ErrorResponseDto response =  new ErrorResponseDto(HttpStatus.NOT_FOUND.value(), ex.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(ChatAttachmentTooLargeException.class)
+    @ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+    public ResponseEntity<ErrorResponseDto> handleChatAttachmentTooLargeException(ChatAttachmentTooLargeException ex) {
+        ErrorResponseDto response =  new ErrorResponseDto(HttpStatus.PAYLOAD_TOO_LARGE.value(), ex.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
+    // multipart 파트가 spring.servlet.multipart.max-file-size 를 넘은 경우
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    @ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+    public ResponseEntity<ErrorResponseDto> handleMaxUploadSizeExceededException(MaxUploadSizeExceededException ex) {
+        ErrorResponseDto response =  new ErrorResponseDto(HttpStatus.PAYLOAD_TOO_LARGE.value(),
+                "첨부 파일이 너무 큽니다.");
+        return new ResponseEntity<>(response, HttpStatus.PAYLOAD_TOO_LARGE);
+    }
 }
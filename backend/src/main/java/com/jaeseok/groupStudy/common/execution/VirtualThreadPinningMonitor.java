@@ -0,0 +1,83 @@
+package com.jaeseok.groupStudy.common.execution;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가상 스레드 캐리어 고정(pinning) 감지기
+ * - synchronized 블록 안에서 블로킹(Hibernate/JDBC 드라이버 등)되면 가상 스레드가 캐리어 스레드를 붙잡아 처리량이 떨어진다.
+ * - JFR 의 jdk.VirtualThreadPinned 이벤트를 스트리밍으로 받아 지표(jvm.virtual.threads.pinned)로 남기고, 어디서 고정됐는지 로그로 남긴다.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 6;
+
+    private final Duration threshold;
+    private final Counter pinnedCounter;
+    private final Timer pinnedTimer;
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, Duration threshold) {
+        this.threshold = threshold;
+        this.pinnedCounter = Counter.builder("jvm.virtual.threads.pinned")
+                .description("캐리어 스레드를 고정한 채 블로킹된 가상 스레드 수")
+                .register(meterRegistry);
+        this.pinnedTimer = Timer.builder("jvm.virtual.threads.pinned.duration")
+                .description("가상 스레드가 캐리어 스레드를 고정한 시간")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        try {
+            recordingStream = new RecordingStream();
+            recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+            recordingStream.startAsync();
+        } catch (RuntimeException e) {
+            // JFR 을 쓸 수 없는 환경이어도 애플리케이션은 그대로 동작해야 한다.
+            log.warn("가상 스레드 고정 감지를 시작하지 못했습니다.", e);
+            recordingStream = null;
+        }
+    }
+
+    public void onPinned(RecordedEvent event) {
+        pinnedCounter.increment();
+        pinnedTimer.record(event.getDuration());
+        if (log.isWarnEnabled()) {
+            log.warn("가상 스레드가 캐리어 스레드를 고정했습니다. duration={}ms, at={}",
+                    event.getDuration().toMillis(), topFrames(event));
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private static String topFrames(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        return frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining(" <- "));
+    }
+}
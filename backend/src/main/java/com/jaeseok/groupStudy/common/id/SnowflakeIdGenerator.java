@@ -0,0 +1,73 @@
+package com.jaeseok.groupStudy.common.id;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순서 식별자 생성기 (snowflake 방식)
+ * - [41bit 기준 시각 이후 ms][4bit 노드 id][8bit 순번] = 53bit 로 구성한다.
+ * - 프론트엔드(JS Number)에서 정밀도 손실 없이 다룰 수 있도록 2^53 미만으로 제한한다.
+ * - 같은 노드에서 발급한 id는 항상 증가하므로 생성 순서 정렬/커서 조회에 그대로 사용할 수 있다.
+ * - 같은 ms 안에서 순번을 모두 쓰거나 시계가 뒤로 가면 마지막 시각을 이어서 사용한다. (대기하지 않음)
+ */
+public class SnowflakeIdGenerator {
+
+    // 2025-01-01T00:00:00Z
+    static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    static final int NODE_BITS = 4;
+    static final int SEQUENCE_BITS = 8;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+
+    // (기준 시각 이후 ms << SEQUENCE_BITS) | 순번
+    private final AtomicLong state = new AtomicLong();
+
+    public SnowflakeIdGenerator(int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    public SnowflakeIdGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 id는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다. nodeId=" + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    public long nextId() {
+        while (true) {
+            long last = state.get();
+            long lastMillis = last >>> SEQUENCE_BITS;
+            long now = clock.getAsLong() - EPOCH_MILLIS;
+
+            long next;
+            if (now > lastMillis) {
+                next = now << SEQUENCE_BITS;
+            } else if ((last & SEQUENCE_MASK) < SEQUENCE_MASK) {
+                next = last + 1;
+            } else {
+                next = (lastMillis + 1) << SEQUENCE_BITS;
+            }
+
+            if (state.compareAndSet(last, next)) {
+                long millis = next >>> SEQUENCE_BITS;
+                long sequence = next & SEQUENCE_MASK;
+                return (millis << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+            }
+        }
+    }
+
+    public int getNodeId() {
+        return (int) nodeId;
+    }
+
+    // id에 담긴 발급 시각 (epoch ms)
+    public static long extractEpochMillis(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+}
@@ -0,0 +1,17 @@
+package com.jaeseok.groupStudy.common.id;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * 시간 순서 식별자({@link SnowflakeIdGenerator})를 사용하는 엔티티 id
+ * - IDENTITY 와 달리 flush 전에 id가 정해지므로 Hibernate 가 INSERT 를 JDBC 배치로 묶을 수 있다.
+ */
+@IdGeneratorType(TimeOrderedIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
@@ -0,0 +1,27 @@
+package com.jaeseok.groupStudy.common.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * {@link TimeOrderedId} 에 연결되는 Hibernate 식별자 생성기
+ * - Hibernate 가 직접 생성하는 객체이므로, 스프링에서 설정한 생성기(노드 id 반영)를 정적으로 공유받아 사용한다.
+ * - 설정 전(슬라이스 테스트 등)에는 노드 0 생성기를 사용한다.
+ */
+public class TimeOrderedIdGenerator implements IdentifierGenerator {
+
+    private static volatile SnowflakeIdGenerator delegate = new SnowflakeIdGenerator(0);
+
+    public static void use(SnowflakeIdGenerator generator) {
+        delegate = generator;
+    }
+
+    public static long nextId() {
+        return delegate.nextId();
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return nextId();
+    }
+}
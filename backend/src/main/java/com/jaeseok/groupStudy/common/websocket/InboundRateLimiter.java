@@ -0,0 +1,178 @@
+package com.jaeseok.groupStudy.common.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.security.Principal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+/**
+ * 채팅 발행 속도 제한 인터셉터 (인바운드 채널)
+ * - /pub/chatroom/{roomId}/message 발행을 세션별, 채팅방별 토큰 버킷으로 제한한다.
+ * - 버킷은 다음 토큰이 생길 이론상 시각 하나(AtomicLong)만 CAS 로 갱신하므로 락을 잡지 않는다. (GCRA)
+ * - 제한에 걸린 메세지는 컨트롤러로 넘기지 않고, 보낸 세션의 /user/queue/errors 로 거절 메세지를 보낸다.
+ */
+@Slf4j
+@Component
+public class InboundRateLimiter implements ChannelInterceptor {
+
+    private static final String ERROR_DESTINATION = "/queue/errors";
+    private static final String REJECTED_MESSAGE = "메세지를 너무 빠르게 보내고 있습니다. 잠시 후 다시 시도해주세요.";
+
+    private static final Pattern CHAT_MESSAGE = Pattern.compile("^/pub/chatroom/(\\d+)/message$");
+
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final BucketSpec sessionSpec;
+    private final BucketSpec roomSpec;
+
+    // <세션 ID, 버킷>, <채팅방 ID, 버킷>
+    private final Map<String, TokenBucket> sessionBuckets = new ConcurrentHashMap<>();
+    private final Map<Long, TokenBucket> roomBuckets = new ConcurrentHashMap<>();
+
+    private final Counter sessionRejectedCounter;
+    private final Counter roomRejectedCounter;
+
+    public InboundRateLimiter(
+            @Lazy SimpMessageSendingOperations messagingTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${websocket.rate-limit.session.burst:10}") int sessionBurst,
+            @Value("${websocket.rate-limit.session.refill-per-second:5}") double sessionRefillPerSecond,
+            @Value("${websocket.rate-limit.room.burst:100}") int roomBurst,
+            @Value("${websocket.rate-limit.room.refill-per-second:50}") double roomRefillPerSecond
+    ) {
+        this.messagingTemplate = messagingTemplate;
+        this.sessionSpec = BucketSpec.of(sessionBurst, sessionRefillPerSecond);
+        this.roomSpec = BucketSpec.of(roomBurst, roomRefillPerSecond);
+
+        this.sessionRejectedCounter = Counter.builder("websocket.inbound.rate-limited")
+                .tag("scope", "session")
+                .description("세션별 발행 한도를 넘겨 거절한 메세지 수")
+                .register(meterRegistry);
+        this.roomRejectedCounter = Counter.builder("websocket.inbound.rate-limited")
+                .tag("scope", "room")
+                .description("채팅방별 발행 한도를 넘겨 거절한 메세지 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE) {
+            return message;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        Matcher matcher = destination == null ? null : CHAT_MESSAGE.matcher(destination);
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        if (matcher == null || !matcher.matches() || sessionId == null) {
+            return message;
+        }
+
+        long now = System.nanoTime();
+        if (!sessionBuckets.computeIfAbsent(sessionId, id -> new TokenBucket(sessionSpec, now)).tryAcquire(now)) {
+            sessionRejectedCounter.increment();
+            reject(headers, sessionId, destination);
+            return null;
+        }
+
+        Long roomId = Long.valueOf(matcher.group(1));
+        if (!roomBuckets.computeIfAbsent(roomId, id -> new TokenBucket(roomSpec, now)).tryAcquire(now)) {
+            roomRejectedCounter.increment();
+            reject(headers, sessionId, destination);
+            return null;
+        }
+        return message;
+    }
+
+    @EventListener
+    public void handleSessionDisconnect(SessionDisconnectEvent event) {
+        sessionBuckets.remove(event.getSessionId());
+    }
+
+    // 가득 찬(한동안 쓰이지 않은) 채팅방 버킷은 다시 만들어도 같으므로 정리한다.
+    @Scheduled(fixedDelayString = "${websocket.rate-limit.cleanup-interval-millis:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        roomBuckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    public int getRoomBucketCount() {
+        return roomBuckets.size();
+    }
+
+    private void reject(MessageHeaders headers, String sessionId, String destination) {
+        Principal user = SimpMessageHeaderAccessor.getUser(headers);
+        log.debug("발행 한도를 넘긴 메세지를 거절합니다. sessionId={}, destination={}", sessionId, destination);
+        if (user == null) {
+            return;
+        }
+
+        // 같은 유저의 다른 탭에는 보내지 않도록 세션을 지정한다.
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.convertAndSendToUser(user.getName(), ERROR_DESTINATION, REJECTED_MESSAGE,
+                accessor.getMessageHeaders());
+    }
+
+    /**
+     * @param interval 토큰 하나가 다시 생기는 간격 (ns)
+     * @param tolerance 버스트 허용 폭 (ns): 가득 찬 버킷에서 연속으로 꺼낼 수 있는 만큼 앞당길 수 있는 시간
+     */
+    private record BucketSpec(long interval, long tolerance) {
+
+        private static BucketSpec of(int burst, double refillPerSecond) {
+            long interval = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond));
+            return new BucketSpec(interval, interval * (Math.max(burst, 1) - 1));
+        }
+    }
+
+    /**
+     * 토큰 버킷 (GCRA)
+     * 다음 토큰이 생길 이론상 시각(tat)이 현재 시각보다 tolerance 이상 앞서 있으면 버킷이 빈 것이다.
+     */
+    private static final class TokenBucket {
+
+        private final BucketSpec spec;
+        private final AtomicLong theoreticalArrival;
+
+        private TokenBucket(BucketSpec spec, long now) {
+            this.spec = spec;
+            this.theoreticalArrival = new AtomicLong(now);
+        }
+
+        private boolean tryAcquire(long now) {
+            while (true) {
+                long tat = theoreticalArrival.get();
+                long start = tat - now < 0 ? now : tat;
+                if (start - now > spec.tolerance()) {
+                    return false;
+                }
+                if (theoreticalArrival.compareAndSet(tat, start + spec.interval())) {
+                    return true;
+                }
+            }
+        }
+
+        private boolean isFull(long now) {
+            return theoreticalArrival.get() - now <= 0;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.jaeseok.groupStudy.common.websocket;
+
+import java.util.regex.Pattern;
+
+/**
+ * 느린 세션(보내지 못한 메세지가 쌓인 세션)에 대한 목적지별 전송 정책
+ * - NEVER_DROP: 버리지 않는다. 한도를 넘기면 세션을 끊는다. (채팅 메세지 등)
+ * - DROP: 느린 세션에는 보내지 않는다. (버전 간격으로 다시 동기화할 수 있는 명단 변경분, 클라이언트가 시간이 지나면 지우는 입력 중 표시)
+ * - COALESCE: 같은 목적지 메세지가 이미 대기 중이면 새 메세지는 보내지 않는다. (전체 명단 스냅샷)
+ */
+public enum OutboundPolicy {
+    NEVER_DROP,
+    DROP,
+    COALESCE;
+
+    private static final Pattern PARTICIPANT_DELTAS = Pattern.compile("^/sub/chatroom/\\d+/participants$");
+    private static final Pattern TYPING = Pattern.compile("^/sub/chatroom/\\d+/typing$");
+    private static final Pattern PARTICIPANT_SNAPSHOT = Pattern.compile("^/user/queue/chatroom/\\d+/participants$");
+
+    /**
+     * @param destination 구독 목적지 (유저 목적지는 /user/... 원래 목적지)
+     */
+    public static OutboundPolicy of(String destination) {
+        if (destination == null) {
+            return NEVER_DROP;
+        }
+        if (PARTICIPANT_DELTAS.matcher(destination).matches() || TYPING.matcher(destination).matches()) {
+            return DROP;
+        }
+        if (PARTICIPANT_SNAPSHOT.matcher(destination).matches()) {
+            return COALESCE;
+        }
+        return NEVER_DROP;
+    }
+}
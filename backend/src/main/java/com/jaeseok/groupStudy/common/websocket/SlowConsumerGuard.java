@@ -0,0 +1,229 @@
+package com.jaeseok.groupStudy.common.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+/**
+ * 느린 세션 보호기 (아웃바운드 채널 인터셉터 + 웹소켓 핸들러 데코레이터)
+ * - 세션마다 아웃바운드 채널에 넘긴 뒤 아직 소켓으로 보내지 못한 메세지의 바이트 수를 센다.
+ * - 대기 바이트가 throttle 기준을 넘은 세션에는 목적지 정책(OutboundPolicy)에 따라 버릴 수 있는 메세지를 보내지 않는다.
+ * - 버릴 수 없는 메세지가 쌓여 send-time/buffer 한도를 넘으면 스프링이 세션을 끊고, 이를 지표로 남긴다.
+ */
+@Slf4j
+@Component
+public class SlowConsumerGuard implements ChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+    private final int sendTimeLimitMillis;
+    private final int sendBufferSizeLimit;
+    private final long throttleBytes;
+
+    // <세션 ID, 대기 현황>
+    private final Map<String, SessionBacklog> backlogs = new ConcurrentHashMap<>();
+
+    private final Counter droppedCounter;
+    private final Counter coalescedCounter;
+    private final Counter disconnectedCounter;
+
+    public SlowConsumerGuard(
+            MeterRegistry meterRegistry,
+            @Value("${websocket.outbound.send-time-limit-millis:10000}") int sendTimeLimitMillis,
+            @Value("${websocket.outbound.send-buffer-size-limit:524288}") int sendBufferSizeLimit,
+            @Value("${websocket.outbound.throttle-bytes:131072}") long throttleBytes
+    ) {
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+        this.throttleBytes = throttleBytes;
+
+        this.droppedCounter = Counter.builder("websocket.outbound.skipped")
+                .tag("policy", "drop")
+                .description("느린 세션이라 보내지 않은 메세지 수")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("websocket.outbound.skipped")
+                .tag("policy", "coalesce")
+                .description("같은 목적지 메세지가 대기 중이라 보내지 않은 메세지 수")
+                .register(meterRegistry);
+        this.disconnectedCounter = Counter.builder("websocket.outbound.disconnected")
+                .description("전송 한도를 넘겨 끊긴 느린 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.outbound.throttled.sessions", this, SlowConsumerGuard::getThrottledSessionCount)
+                .description("대기 바이트가 기준을 넘은 세션 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        SessionBacklog backlog = sessionId == null ? null : backlogs.get(sessionId);
+        if (backlog == null) {
+            return message;
+        }
+        // 소켓 쓰기와 짝이 맞지 않아 남은 항목은 전송 시간 한도가 지나면 정리한다.
+        backlog.purgeOlderThan(System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(sendTimeLimitMillis) * 2);
+
+        String destination = (String) headers.get(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION);
+        if (destination == null) {
+            destination = SimpMessageHeaderAccessor.getDestination(headers);
+        }
+        OutboundPolicy policy = OutboundPolicy.of(destination);
+
+        if (policy == OutboundPolicy.COALESCE && backlog.isPending(destination)) {
+            coalescedCounter.increment();
+            return null;
+        }
+        if (policy == OutboundPolicy.DROP && backlog.pendingBytes() > throttleBytes) {
+            droppedCounter.increment();
+            return null;
+        }
+
+        backlog.enqueue(payloadSize(message), policy == OutboundPolicy.COALESCE ? destination : null);
+        return message;
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                SessionBacklog backlog = new SessionBacklog();
+                backlogs.put(session.getId(), backlog);
+                super.afterConnectionEstablished(new BacklogTrackingSession(session, backlog));
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                SessionBacklog backlog = backlogs.remove(session.getId());
+                if (CloseStatus.SESSION_NOT_RELIABLE.equalsCode(closeStatus)) {
+                    disconnectedCounter.increment();
+                    log.warn("전송 한도를 넘긴 느린 세션을 종료했습니다. sessionId={}, pendingBytes={}", session.getId(),
+                            backlog == null ? 0 : backlog.pendingBytes());
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    public int getSendTimeLimitMillis() {
+        return sendTimeLimitMillis;
+    }
+
+    public int getSendBufferSizeLimit() {
+        return sendBufferSizeLimit;
+    }
+
+    public int getThrottledSessionCount() {
+        int count = 0;
+        for (SessionBacklog backlog : backlogs.values()) {
+            if (backlog.pendingBytes() > throttleBytes) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public long getPendingBytes(String sessionId) {
+        SessionBacklog backlog = backlogs.get(sessionId);
+        return backlog == null ? 0 : backlog.pendingBytes();
+    }
+
+    private static int payloadSize(Message<?> message) {
+        Object payload = message.getPayload();
+        return payload instanceof byte[] bytes ? bytes.length : 0;
+    }
+
+    /**
+     * 한 세션의 대기 현황.
+     * 아웃바운드 채널에 넘긴 순서대로 소켓에 쓰이므로, 실제로 보낼 때마다 가장 오래된 항목을 꺼낸다.
+     */
+    private static final class SessionBacklog {
+
+        private final Queue<Pending> queue = new ConcurrentLinkedQueue<>();
+        private final Map<String, Integer> pendingByDestination = new ConcurrentHashMap<>();
+        private final AtomicLong pendingBytes = new AtomicLong();
+
+        private void enqueue(int bytes, String coalesceKey) {
+            if (coalesceKey != null) {
+                pendingByDestination.merge(coalesceKey, 1, Integer::sum);
+            }
+            pendingBytes.addAndGet(bytes);
+            queue.add(new Pending(bytes, coalesceKey, System.nanoTime()));
+        }
+
+        private void onSent() {
+            release(queue.poll());
+        }
+
+        private void purgeOlderThan(long nanos) {
+            Pending head;
+            while ((head = queue.peek()) != null && head.enqueuedAt() - nanos < 0) {
+                if (queue.remove(head)) {
+                    release(head);
+                }
+            }
+        }
+
+        private void release(Pending pending) {
+            if (pending == null) {
+                return;
+            }
+            pendingBytes.addAndGet(-pending.bytes());
+            if (pending.coalesceKey() != null) {
+                pendingByDestination.computeIfPresent(pending.coalesceKey(), (key, count) -> count > 1 ? count - 1 : null);
+            }
+        }
+
+        private boolean isPending(String destination) {
+            return pendingByDestination.containsKey(destination);
+        }
+
+        private long pendingBytes() {
+            return pendingBytes.get();
+        }
+    }
+
+    private record Pending(int bytes, String coalesceKey, long enqueuedAt) {
+    }
+
+    // 실제로 소켓에 쓸 때 대기 항목을 비운다. (스프링의 동시 전송 데코레이터 안쪽에서 호출된다.)
+    private static final class BacklogTrackingSession extends WebSocketSessionDecorator {
+
+        private final SessionBacklog backlog;
+
+        private BacklogTrackingSession(WebSocketSession delegate, SessionBacklog backlog) {
+            super(delegate);
+            this.backlog = backlog;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            try {
+                super.sendMessage(message);
+            } finally {
+                backlog.onSent();
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.jaeseok.groupStudy.config;
+
+import com.jaeseok.groupStudy.chat.infrastructure.ChatRoomSequenceStore;
+import com.jaeseok.groupStudy.chat.infrastructure.LocalChatRoomSequenceStore;
+import com.jaeseok.groupStudy.chat.infrastructure.RedisChatRoomSequenceStore;
+import com.jaeseok.groupStudy.common.cluster.ClusterLock;
+import com.jaeseok.groupStudy.common.cluster.ClusterTransport;
+import com.jaeseok.groupStudy.common.cluster.LocalClusterLock;
+import com.jaeseok.groupStudy.common.cluster.LoopbackClusterTransport;
+import com.jaeseok.groupStudy.common.cluster.RedisClusterLock;
+import com.jaeseok.groupStudy.common.cluster.RedisClusterTransport;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class ClusterConfig {
+
+    // 단일 인스턴스 기본값: 다른 노드가 없으므로 발행한 메세지는 자기 자신에게만 돌아오고 무시된다.
+    @Bean
+    @ConditionalOnProperty(name = "cluster.transport", havingValue = "loopback", matchIfMissing = true)
+    public ClusterTransport loopbackClusterTransport() {
+        return new LoopbackClusterTransport(new LoopbackClusterTransport.Hub());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cluster.transport", havingValue = "redis")
+    public RedisMessageListenerContainer clusterRedisListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cluster.transport", havingValue = "redis")
+    public ClusterTransport redisClusterTransport(RedisConnectionFactory connectionFactory,
+            RedisMessageListenerContainer clusterRedisListenerContainer) {
+        return new RedisClusterTransport(connectionFactory, clusterRedisListenerContainer);
+    }
+
+    // 단일 인스턴스에서는 순번을 메모리에서 발급한다.
+    @Bean
+    @ConditionalOnProperty(name = "cluster.transport", havingValue = "loopback", matchIfMissing = true)
+    public ChatRoomSequenceStore localChatRoomSequenceStore() {
+        return new LocalChatRoomSequenceStore();
+    }
+
+    // 여러 노드가 같은 채팅방을 맡으므로 순번은 Redis 에서 발급한다.
+    @Bean
+    @ConditionalOnProperty(name = "cluster.transport", havingValue = "redis")
+    public ChatRoomSequenceStore redisChatRoomSequenceStore(RedisConnectionFactory connectionFactory) {
+        return new RedisChatRoomSequenceStore(connectionFactory);
+    }
+
+    // 단일 인스턴스에서는 같은 프로세스 안에서만 겹치지 않게 한다.
+    @Bean
+    @ConditionalOnProperty(name = "cluster.transport", havingValue = "loopback", matchIfMissing = true)
+    public ClusterLock localClusterLock() {
+        return new LocalClusterLock();
+    }
+
+    // 주기 작업을 한 노드에서만 실행하도록 Redis 에서 잡는다.
+    @Bean
+    @ConditionalOnProperty(name = "cluster.transport", havingValue = "redis")
+    public ClusterLock redisClusterLock(RedisConnectionFactory connectionFactory) {
+        return new RedisClusterLock(connectionFactory);
+    }
+}
@@ -0,0 +1,62 @@
+package com.jaeseok.groupStudy.config;
+
+import com.jaeseok.groupStudy.common.id.SnowflakeIdGenerator;
+import com.jaeseok.groupStudy.common.id.TimeOrderedIdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdGeneratorConfig {
+
+    // 인스턴스마다 다른 노드 id(0 ~ 15)를 설정해야 id가 겹치지 않는다.
+    @Bean
+    public SnowflakeIdGenerator snowflakeIdGenerator(
+            @Value("${id.node-id:}") String nodeId,
+            @Value("${cluster.transport:loopback}") String clusterTransport
+    ) {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(resolveNodeId(nodeId, clusterTransport));
+        TimeOrderedIdGenerator.use(generator);
+        return generator;
+    }
+
+    /**
+     * 노드 id 설정값 확인
+     * - 단일 인스턴스(loopback)에서는 설정이 없으면 0을 쓴다.
+     * - 여러 인스턴스(redis)에서 기본값을 쓰면 모든 인스턴스가 같은 id를 발급하므로 설정이 없으면 시작하지 않는다.
+     */
+    public static int resolveNodeId(String nodeId, String clusterTransport) {
+        if (nodeId == null || nodeId.isBlank()) {
+            if ("redis".equals(clusterTransport)) {
+                throw new IllegalStateException(
+                        "cluster.transport=redis 에서는 인스턴스마다 다른 id.node-id(0 ~ "
+                                + SnowflakeIdGenerator.MAX_NODE_ID + ")를 설정해야 합니다.");
+            }
+            return 0;
+        }
+
+        int parsed;
+        try {
+            parsed = Integer.parseInt(nodeId.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("id.node-id 는 숫자여야 합니다. id.node-id=" + nodeId, e);
+        }
+        if (parsed < 0 || parsed > SnowflakeIdGenerator.MAX_NODE_ID) {
+            throw new IllegalStateException("id.node-id 는 0 ~ " + SnowflakeIdGenerator.MAX_NODE_ID
+                    + " 사이여야 합니다. id.node-id=" + nodeId);
+        }
+        return parsed;
+    }
+
+    // id가 INSERT 전에 정해지므로 JDBC 배치를 켠다.
+    // 생성기 빈을 주입받아 EntityManagerFactory 생성 전에 노드 id 설정이 끝나도록 한다.
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer(SnowflakeIdGenerator snowflakeIdGenerator) {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", 50);
+            properties.putIfAbsent("hibernate.order_inserts", true);
+            properties.putIfAbsent("hibernate.order_updates", true);
+        };
+    }
+}
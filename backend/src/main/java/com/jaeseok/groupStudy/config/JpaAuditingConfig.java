@@ -1,10 +1,20 @@
 package com.jaeseok.groupStudy.config;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.auditing.DateTimeProvider;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
-@EnableJpaAuditing
+@EnableJpaAuditing(dateTimeProviderRef = "auditingDateTimeProvider")
 @Configuration
 public class JpaAuditingConfig {
 
+    // DB 컬럼(DATETIME(6)) 정밀도에 맞춰 마이크로초 단위로 기록한다. (채팅 내역 커서 비교 시 반올림 차이 방지)
+    @Bean
+    public DateTimeProvider auditingDateTimeProvider() {
+        return () -> Optional.of(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+    }
 }
@@ -0,0 +1,81 @@
+package com.jaeseok.groupStudy.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 스케줄 작업 실행기
+ * - taskScheduler: 기본 실행기 (메모리 정리처럼 짧은 작업)
+ * - realtimeTaskScheduler: 사용자가 바로 체감하는 짧은 주기 작업 (입력 중 표시 tick, 세션 이어받기 유예 만료)
+ * - maintenanceTaskScheduler: 디스크/DB 를 오래 쓰는 작업 (아카이브, 압축, 검색 색인 flush/병합, 읽음 위치 저장, 금칙어 갱신)
+ * - 실행기를 나눠 무거운 작업이 길어져도 짧은 주기 작업이 밀리지 않게 한다.
+ * - 가상 스레드 모드에서는 실행마다 가상 스레드를 쓰므로 풀 크기 설정이 없다.
+ */
+@EnableScheduling
+@Configuration
+public class SchedulingConfig {
+
+    @Configuration
+    @ConditionalOnThreading(Threading.PLATFORM)
+    static class PlatformThreadSchedulers {
+
+        @Bean
+        public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size:2}") int poolSize) {
+            return threadPoolScheduler("scheduling-", poolSize);
+        }
+
+        @Bean
+        public ThreadPoolTaskScheduler realtimeTaskScheduler(
+                @Value("${scheduling.realtime.pool-size:2}") int poolSize) {
+            return threadPoolScheduler("scheduling-realtime-", poolSize);
+        }
+
+        @Bean
+        public ThreadPoolTaskScheduler maintenanceTaskScheduler(
+                @Value("${scheduling.maintenance.pool-size:4}") int poolSize) {
+            return threadPoolScheduler("scheduling-maintenance-", poolSize);
+        }
+
+        private static ThreadPoolTaskScheduler threadPoolScheduler(String threadNamePrefix, int poolSize) {
+            ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+            scheduler.setThreadNamePrefix(threadNamePrefix);
+            scheduler.setPoolSize(poolSize);
+            scheduler.setWaitForTasksToCompleteOnShutdown(true);
+            scheduler.setAwaitTerminationSeconds(10);
+            return scheduler;
+        }
+    }
+
+    @Configuration
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    static class VirtualThreadSchedulers {
+
+        @Bean
+        public SimpleAsyncTaskScheduler taskScheduler() {
+            return virtualThreadScheduler("scheduling-");
+        }
+
+        @Bean
+        public SimpleAsyncTaskScheduler realtimeTaskScheduler() {
+            return virtualThreadScheduler("scheduling-realtime-");
+        }
+
+        @Bean
+        public SimpleAsyncTaskScheduler maintenanceTaskScheduler() {
+            return virtualThreadScheduler("scheduling-maintenance-");
+        }
+
+        private static SimpleAsyncTaskScheduler virtualThreadScheduler(String threadNamePrefix) {
+            SimpleAsyncTaskScheduler scheduler = new SimpleAsyncTaskScheduler();
+            scheduler.setThreadNamePrefix(threadNamePrefix);
+            scheduler.setVirtualThreads(true);
+            return scheduler;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.jaeseok.groupStudy.config;
+
+import com.jaeseok.groupStudy.common.execution.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+/**
+ * 가상 스레드 실행 모드 (spring.threads.virtual.enabled=true 일 때만 적용)
+ * - 서블릿 요청(Tomcat)과 @Async/스케줄러는 스프링 부트가 가상 스레드로 바꾼다.
+ * - STOMP 인바운드 채널도 고정 크기 스레드 풀 대신 메세지마다 가상 스레드에서 처리해,
+ *   느린 DB 조회가 다른 방의 메세지 처리를 막지 않게 한다.
+ * - 스레드 풀이 순서를 지켜주지 않으므로 세션별 수신 순서 보존을 켠다.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final int inboundConcurrencyLimit;
+
+    public VirtualThreadConfig(@Value("${websocket.inbound.virtual.concurrency-limit:-1}") int inboundConcurrencyLimit) {
+        this.inboundConcurrencyLimit = inboundConcurrencyLimit;
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.executor(inboundExecutor(inboundConcurrencyLimit));
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        // 같은 세션에서 온 메세지는 받은 순서대로 처리 (세션 간에는 병렬)
+        registry.setPreserveReceiveOrder(true);
+    }
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${execution.virtual.pinned-threshold-millis:20}") long pinnedThresholdMillis) {
+        return new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(pinnedThresholdMillis));
+    }
+
+    /**
+     * 메세지마다 새 가상 스레드를 만드는 실행기. 동시 처리 수 제한이 음수면 제한하지 않는다.
+     * (제한이 필요하면 DB 커넥션 풀 크기에 맞춘다.)
+     */
+    public static SimpleAsyncTaskExecutor inboundExecutor(int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("stomp-inbound-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        return executor;
+    }
+}
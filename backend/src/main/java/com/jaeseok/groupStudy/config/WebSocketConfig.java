@@ -1,6 +1,12 @@
 package com.jaeseok.groupStudy.config;
 
 import com.jaeseok.groupStudy.auth.infrastructure.jwt.StompJwtChannelInterceptor;
+import com.jaeseok.groupStudy.common.broadcast.BinaryFrameHandshakeInterceptor;
+import com.jaeseok.groupStudy.common.broadcast.BroadcastFrameInterceptor;
+import com.jaeseok.groupStudy.common.broadcast.PayloadCodecInterceptor;
+import com.jaeseok.groupStudy.common.cluster.ClusterBroadcastRelay;
+import com.jaeseok.groupStudy.common.websocket.InboundRateLimiter;
+import com.jaeseok.groupStudy.common.websocket.SlowConsumerGuard;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
@@ -8,23 +14,37 @@ import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private static final String[] ALLOWED_ORIGINS = {
+            "http://localhost:5173",
+            "http://3.36.64.38",
+            "https://wotjr.site",
+            "https://www.wotjr.site"
+    };
+
     private final StompJwtChannelInterceptor stompJwtChannelInterceptor;
+    private final ClusterBroadcastRelay clusterBroadcastRelay;
+    private final BroadcastFrameInterceptor broadcastFrameInterceptor;
+    private final PayloadCodecInterceptor payloadCodecInterceptor;
+    private final SlowConsumerGuard slowConsumerGuard;
+    private final InboundRateLimiter inboundRateLimiter;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws/chat")
-                .setAllowedOriginPatterns(
-                        "http://localhost:5173",
-                        "http://3.36.64.38",
-                        "https://wotjr.site",
-                        "https://www.wotjr.site")
+                .setAllowedOriginPatterns(ALLOWED_ORIGINS)
                 .withSockJS();
+
+        // SockJS 없이 바이너리 프레임을 받을 수 있는 엔드포인트 (CBOR 인코딩 협상 가능)
+        registry.addEndpoint("/ws/chat/binary")
+                .setAllowedOriginPatterns(ALLOWED_ORIGINS)
+                .addInterceptors(new BinaryFrameHandshakeInterceptor());
     }
 
     @Override
@@ -32,11 +52,29 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.enableSimpleBroker("/sub", "/queue");
         registry.setApplicationDestinationPrefixes("/pub");
         registry.setUserDestinationPrefix("/user");
+        // 다른 노드에 연결된 구독자에게도 전달되도록 브로커로 가는 메세지를 클러스터에 중계
+        // 브로드캐스트마다 인코딩 결과를 공유하도록 BroadcastFrame 을 붙인 뒤 중계
+        registry.configureBrokerChannel().interceptors(broadcastFrameInterceptor, clusterBroadcastRelay);
     }
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         // 클라이언트로부터 들어오는 메시지 채널에 JWT 인터셉터 추가
-        registration.interceptors(stompJwtChannelInterceptor);
+        // 채팅 발행은 세션/채팅방별 속도 제한을 넘기면 컨트롤러에 닿기 전에 거절한다.
+        registration.interceptors(stompJwtChannelInterceptor, payloadCodecInterceptor, inboundRateLimiter);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // 세션이 협상한 인코딩으로 본문을 바꿔 싣고, 느린 세션에는 버려도 되는 메세지를 보내지 않는다.
+        registration.interceptors(payloadCodecInterceptor, slowConsumerGuard);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 세션별 전송 대기 한도 (넘기면 세션 종료)
+        registration.setSendTimeLimit(slowConsumerGuard.getSendTimeLimitMillis())
+                .setSendBufferSizeLimit(slowConsumerGuard.getSendBufferSizeLimit())
+                .addDecoratorFactory(slowConsumerGuard);
     }
 }
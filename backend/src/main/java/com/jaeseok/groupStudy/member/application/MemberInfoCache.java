@@ -0,0 +1,203 @@
+package com.jaeseok.groupStudy.member.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jaeseok.groupStudy.common.cluster.ClusterBroadcastRelay;
+import com.jaeseok.groupStudy.common.cluster.ClusterTransport;
+import com.jaeseok.groupStudy.member.application.dto.MemberInfoDto;
+import com.jaeseok.groupStudy.member.domain.Member;
+import com.jaeseok.groupStudy.member.domain.MemberRepository;
+import com.jaeseok.groupStudy.member.event.MemberInfoChangedEvent;
+import com.jaeseok.groupStudy.member.exception.MemberNotFoundException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 유저 요약 정보(id, 닉네임, 이메일) 캐시
+ * - 채팅 메세지 전송, 채팅방 구독, 채팅 내역 매핑처럼 닉네임만 필요한 곳에서 Member 전체 조회를 피하기 위해 사용한다.
+ * - 최대 개수를 넘으면 먼저 들어온 항목부터 제거한다.
+ * - 유저 정보가 변경되면(MemberInfoChangedEvent, 커밋 이후) 해당 항목을 제거하고, 다른 노드에도 전달해 같이 제거한다.
+ * - 전달이 유실되어도 ttl 이 지난 항목은 DB에서 다시 조회한다.
+ * - 적중/미스/제거 수와 현재 항목 수를 메트릭(member.info-cache.*)으로 내보낸다.
+ */
+@Slf4j
+@Component
+public class MemberInfoCache {
+
+    static final String CHANNEL = "group-study:member-info";
+
+    private final MemberRepository memberRepository;
+    private final ClusterTransport clusterTransport;
+    private final ObjectMapper objectMapper;
+    private final String nodeId;
+    private final int maxSize;
+    private final long ttlNanos;
+
+    private final Map<Long, CachedMemberInfo> cache = new ConcurrentHashMap<>();
+    private final Queue<Long> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    // 조회 중에 무효화가 일어나면 조회한 (이전) 값을 캐시에 넣지 않기 위한 세대 값
+    private final AtomicLong invalidationGeneration = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public MemberInfoCache(
+            MemberRepository memberRepository,
+            MeterRegistry meterRegistry,
+            ClusterTransport clusterTransport,
+            ObjectMapper objectMapper,
+            ClusterBroadcastRelay clusterBroadcastRelay,
+            @Value("${member.info-cache.max-size:10000}") int maxSize,
+            @Value("${member.info-cache.ttl-millis:600000}") long ttlMillis
+    ) {
+        this.memberRepository = memberRepository;
+        this.clusterTransport = clusterTransport;
+        this.objectMapper = objectMapper;
+        this.nodeId = clusterBroadcastRelay.getNodeId();
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+
+        FunctionCounter.builder("member.info-cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("유저 정보 캐시 적중 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("member.info-cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("유저 정보 캐시 미스(DB 조회) 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("member.info-cache.evictions", evictions, LongAdder::sum)
+                .description("최대 개수 초과로 제거된 유저 정보 캐시 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("member.info-cache.size", cache, Map::size)
+                .description("유저 정보 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        clusterTransport.subscribe(CHANNEL, this::onFrameSafely);
+    }
+
+    @PreDestroy
+    public void stop() {
+        clusterTransport.unsubscribe(CHANNEL);
+    }
+
+    public MemberInfoDto get(Long userId) {
+        return find(userId)
+                .orElseThrow(() -> new MemberNotFoundException("존재하지 않는 유저입니다."));
+    }
+
+    public Optional<MemberInfoDto> find(Long userId) {
+        CachedMemberInfo cached = cache.get(userId);
+        long now = System.nanoTime();
+        if (cached != null && now - cached.loadedAtNanos() < ttlNanos) {
+            hits.increment();
+            return Optional.of(cached.memberInfo());
+        }
+
+        misses.increment();
+        long generation = invalidationGeneration.get();
+        Optional<MemberInfoDto> loaded = memberRepository.findById(userId).map(MemberInfoCache::toMemberInfo);
+        if (loaded.isPresent()) {
+            put(userId, cached, new CachedMemberInfo(loaded.get(), now), generation);
+        } else if (cached != null && cache.remove(userId, cached)) {
+            insertionOrder.remove(userId);
+        }
+        return loaded;
+    }
+
+    // 커밋된 유저 정보 변경을 반영하고 다른 노드에도 전달한다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberInfoChanged(MemberInfoChangedEvent event) {
+        invalidate(event.userId());
+        try {
+            clusterTransport.publish(CHANNEL, objectMapper.writeValueAsBytes(
+                    new MemberInfoInvalidation(nodeId, event.userId())));
+        } catch (IOException | RuntimeException e) {
+            log.error("유저 정보 변경 전달에 실패했습니다. userId={}", event.userId(), e);
+        }
+    }
+
+    // 다른 노드에서 커밋된 유저 정보 변경 반영
+    public void onFrame(byte[] bytes) throws IOException {
+        MemberInfoInvalidation invalidation = objectMapper.readValue(bytes, MemberInfoInvalidation.class);
+        if (!nodeId.equals(invalidation.origin())) {
+            invalidate(invalidation.userId());
+        }
+    }
+
+    public void invalidate(Long userId) {
+        invalidationGeneration.incrementAndGet();
+        if (cache.remove(userId) != null) {
+            insertionOrder.remove(userId);
+        }
+    }
+
+    // 만료된 항목은 제거 순서를 유지한 채 교체한다.
+    private void put(Long userId, CachedMemberInfo expired, CachedMemberInfo loaded, long generation) {
+        if (generation != invalidationGeneration.get()) {
+            return;
+        }
+        if (expired != null) {
+            cache.replace(userId, expired, loaded);
+            return;
+        }
+        if (cache.putIfAbsent(userId, loaded) == null) {
+            insertionOrder.offer(userId);
+            evictIfNecessary();
+        }
+    }
+
+    private void evictIfNecessary() {
+        while (cache.size() > maxSize) {
+            Long oldest = insertionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            if (cache.remove(oldest) != null) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private void onFrameSafely(byte[] bytes) {
+        try {
+            onFrame(bytes);
+        } catch (IOException | RuntimeException e) {
+            log.error("유저 정보 변경 반영에 실패했습니다.", e);
+        }
+    }
+
+    private static MemberInfoDto toMemberInfo(Member member) {
+        return MemberInfoDto.builder()
+                .userId(member.getId())
+                .email(member.getUserInfoEmail())
+                .nickname(member.getUserInfoNickname())
+                .build();
+    }
+
+    // 노드 간 유저 정보 변경 메세지
+    public record MemberInfoInvalidation(String origin, Long userId) {
+    }
+
+    private record CachedMemberInfo(MemberInfoDto memberInfo, long loadedAtNanos) {
+    }
+}
@@ -1,10 +1,6 @@
 package com.jaeseok.groupStudy.member.application;
 
 import com.jaeseok.groupStudy.member.application.dto.MemberInfoDto;
-import com.jaeseok.groupStudy.member.domain.Member;
-import com.jaeseok.groupStudy.member.domain.MemberRepository;
-import com.jaeseok.groupStudy.member.exception.MemberNotFoundException;
-import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -12,16 +8,10 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class MemberService {
 
-    private final MemberRepository memberRepository;
+    private final MemberInfoCache memberInfoCache;
 
+    // 채팅방 구독마다 호출되므로 캐시를 거쳐 조회한다.
     public MemberInfoDto getMemberInfo(Long userId) {
-        Member member = memberRepository.findById(userId)
-                .orElseThrow(() -> new MemberNotFoundException("존재하지 않는 유저입니다."));
-
-        return MemberInfoDto.builder()
-                .userId(member.getId())
-                .email(member.getUserInfoEmail())
-                .nickname(member.getUserInfoNickname())
-                .build();
+        return memberInfoCache.get(userId);
     }
 }
@@ -0,0 +1,5 @@
+package com.jaeseok.groupStudy.member.event;
+
+public record MemberInfoChangedEvent(Long userId) {
+
+}
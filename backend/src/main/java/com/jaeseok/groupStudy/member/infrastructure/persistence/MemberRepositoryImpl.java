@@ -2,9 +2,11 @@ package com.jaeseok.groupStudy.member.infrastructure.persistence;
 
 import com.jaeseok.groupStudy.member.domain.Member;
 import com.jaeseok.groupStudy.member.domain.MemberRepository;
+import com.jaeseok.groupStudy.member.event.MemberInfoChangedEvent;
 import com.jaeseok.groupStudy.member.infrastructure.persistence.entity.MemberEntity;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -12,11 +14,18 @@ import org.springframework.stereotype.Repository;
 public class MemberRepositoryImpl implements MemberRepository {
 
     private final JpaMemberRepository jpaMemberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Member save(Member member) {
         MemberEntity entity = MemberEntity.fromDomain(member);
-        return jpaMemberRepository.save(entity).toDomain();
+        Member saved = jpaMemberRepository.save(entity).toDomain();
+
+        // 기존 유저의 정보가 변경된 경우 캐시 등에서 무효화할 수 있도록 알린다.
+        if (member.getId() != null) {
+            eventPublisher.publishEvent(new MemberInfoChangedEvent(saved.getId()));
+        }
+        return saved;
     }
 
     @Override
@@ -2,10 +2,9 @@ package com.jaeseok.groupStudy.member.infrastructure.persistence.entity;
 
 import com.jaeseok.groupStudy.member.domain.Member;
 import com.jaeseok.groupStudy.common.BaseTimeEntity;
+import com.jaeseok.groupStudy.common.id.TimeOrderedId;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
@@ -23,7 +22,7 @@ import lombok.NoArgsConstructor;
 public class MemberEntity extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     Long id;
 
     @Embedded
@@ -6,10 +6,13 @@ import com.jaeseok.groupStudy.studyGroup.application.command.dto.KickStudyGroupC
 import com.jaeseok.groupStudy.studyGroup.application.command.dto.RejectStudyGroupCommand;
 import com.jaeseok.groupStudy.studyGroup.domain.StudyGroup;
 import com.jaeseok.groupStudy.studyGroup.domain.StudyGroupCommandRepository;
+import com.jaeseok.groupStudy.studyGroup.domain.participant.ParticipantStatus;
+import com.jaeseok.groupStudy.studyGroup.event.ParticipantStatusChangedEvent;
 import com.jaeseok.groupStudy.studyGroup.exception.StudyGroupNotFoundException;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -18,6 +21,7 @@ public class StudyGroupHostServiceImpl implements StudyGroupHostService {
 
     private final StudyGroupCommandRepository studyGroupCommandRepository;
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Override
@@ -30,6 +34,8 @@ public class StudyGroupHostServiceImpl implements StudyGroupHostService {
         studyGroup.approveParticipant(cmd.hostId(), cmd.applicantId());
 
         studyGroupCommandRepository.update(studyGroup);
+        eventPublisher.publishEvent(new ParticipantStatusChangedEvent(cmd.studyGroupId(), cmd.applicantId(),
+                ParticipantStatus.APPROVED));
     }
 
     @Transactional
@@ -43,6 +49,8 @@ public class StudyGroupHostServiceImpl implements StudyGroupHostService {
         studyGroup.rejectParticipant(cmd.hostId(), cmd.applicantId());
 
         studyGroupCommandRepository.update(studyGroup);
+        eventPublisher.publishEvent(new ParticipantStatusChangedEvent(cmd.studyGroupId(), cmd.applicantId(),
+                ParticipantStatus.REJECTED));
     }
 
     @Transactional
@@ -56,5 +64,7 @@ public class StudyGroupHostServiceImpl implements StudyGroupHostService {
         studyGroup.kickParticipant(cmd.hostId(), cmd.participantId());
 
         studyGroupCommandRepository.update(studyGroup);
+        eventPublisher.publishEvent(new ParticipantStatusChangedEvent(cmd.studyGroupId(), cmd.participantId(),
+                ParticipantStatus.KICKED));
     }
 }
@@ -5,10 +5,13 @@ import com.jaeseok.groupStudy.studyGroup.application.command.dto.CancelStudyGrou
 import com.jaeseok.groupStudy.studyGroup.application.command.dto.LeaveStudyGroupCommand;
 import com.jaeseok.groupStudy.studyGroup.domain.StudyGroup;
 import com.jaeseok.groupStudy.studyGroup.domain.StudyGroupCommandRepository;
+import com.jaeseok.groupStudy.studyGroup.domain.participant.ParticipantStatus;
+import com.jaeseok.groupStudy.studyGroup.event.ParticipantStatusChangedEvent;
 import com.jaeseok.groupStudy.studyGroup.exception.StudyGroupNotFoundException;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -16,6 +19,7 @@ import org.springframework.stereotype.Service;
 public class StudyGroupParticipantServiceImpl implements StudyGroupParticipantService {
 
     private final StudyGroupCommandRepository studyGroupCommandRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Override
@@ -26,6 +30,8 @@ public class StudyGroupParticipantServiceImpl implements StudyGroupParticipantSe
         studyGroup.apply(cmd.applicantId());
 
         studyGroupCommandRepository.update(studyGroup);
+        eventPublisher.publishEvent(new ParticipantStatusChangedEvent(cmd.studyGroupId(), cmd.applicantId(),
+                ParticipantStatus.PENDING));
     }
 
     @Transactional
@@ -37,6 +43,8 @@ public class StudyGroupParticipantServiceImpl implements StudyGroupParticipantSe
         studyGroup.participantApplyCancel(cmd.applicantId());
 
         studyGroupCommandRepository.update(studyGroup);
+        eventPublisher.publishEvent(new ParticipantStatusChangedEvent(cmd.studyGroupId(), cmd.applicantId(),
+                ParticipantStatus.CANCELED));
     }
 
     @Transactional
@@ -48,5 +56,7 @@ public class StudyGroupParticipantServiceImpl implements StudyGroupParticipantSe
         studyGroup.participantLeave(cmd.participantId());
 
         studyGroupCommandRepository.update(studyGroup);
+        eventPublisher.publishEvent(new ParticipantStatusChangedEvent(cmd.studyGroupId(), cmd.participantId(),
+                ParticipantStatus.LEAVE));
     }
 }
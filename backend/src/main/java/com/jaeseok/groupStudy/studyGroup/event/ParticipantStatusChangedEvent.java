@@ -0,0 +1,7 @@
+package com.jaeseok.groupStudy.studyGroup.event;
+
+import com.jaeseok.groupStudy.studyGroup.domain.participant.ParticipantStatus;
+
+public record ParticipantStatusChangedEvent(Long studyGroupId, Long userId, ParticipantStatus status) {
+
+}
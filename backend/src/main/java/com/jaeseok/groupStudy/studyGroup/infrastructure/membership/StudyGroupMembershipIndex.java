@@ -0,0 +1,221 @@
+package com.jaeseok.groupStudy.studyGroup.infrastructure.membership;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jaeseok.groupStudy.common.cluster.ClusterBroadcastRelay;
+import com.jaeseok.groupStudy.common.cluster.ClusterTransport;
+import com.jaeseok.groupStudy.studyGroup.domain.StudyGroupCommandRepository;
+import com.jaeseok.groupStudy.studyGroup.domain.participant.ParticipantStatus;
+import com.jaeseok.groupStudy.studyGroup.event.ParticipantStatusChangedEvent;
+import com.jaeseok.groupStudy.studyGroup.exception.StudyGroupMemberAccessException;
+import com.jaeseok.groupStudy.studyGroup.exception.StudyGroupNotFoundException;
+import com.jaeseok.groupStudy.studyGroup.infrastructure.persistence.repository.JpaParticipantRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 스터디 그룹별 승인(APPROVED) 참여자 인덱스
+ * - 채팅/시그널링의 메세지 단위 권한 확인을 DB 조회 없이 메모리에서 처리하기 위해 사용한다.
+ * - 그룹별 참여자 id는 정렬된 long[]로 보관하며 이진 탐색으로 확인한다. (배열은 교체만 하고 수정하지 않는다.)
+ * - 처음 조회될 때 DB에서 적재하고, 이후에는 참여자 상태 변경 이벤트(커밋 이후)로 갱신한다.
+ * - 상태 변경은 다른 노드에도 전달해 같은 방식으로 갱신하고, 전달이 유실되어도 ttl 이 지나면 DB에서 다시 적재한다.
+ * - DB 적재는 맵의 락 밖에서 하며, 적재하는 동안 같은 그룹의 변경이 있었으면 적재 결과를 버린다.
+ */
+@Slf4j
+@Component
+public class StudyGroupMembershipIndex {
+
+    static final String CHANNEL = "group-study:membership";
+
+    private static final long[] EMPTY = new long[0];
+    private static final int STAMP_STRIPES = 256;
+
+    private final JpaParticipantRepository jpaParticipantRepository;
+    private final StudyGroupCommandRepository studyGroupCommandRepository;
+    private final ClusterTransport clusterTransport;
+    private final ObjectMapper objectMapper;
+    private final String nodeId;
+    private final long ttlNanos;
+
+    private final Map<Long, Members> approvedMembers = new ConcurrentHashMap<>();
+    // 그룹 id 스트라이프별 변경 횟수 (적재하는 동안 변경이 있었는지 확인한다.)
+    private final AtomicLongArray changeStamps = new AtomicLongArray(STAMP_STRIPES);
+
+    public StudyGroupMembershipIndex(
+            JpaParticipantRepository jpaParticipantRepository,
+            StudyGroupCommandRepository studyGroupCommandRepository,
+            ClusterTransport clusterTransport,
+            ObjectMapper objectMapper,
+            ClusterBroadcastRelay clusterBroadcastRelay,
+            @Value("${study-group.membership.ttl-millis:300000}") long ttlMillis
+    ) {
+        this.jpaParticipantRepository = jpaParticipantRepository;
+        this.studyGroupCommandRepository = studyGroupCommandRepository;
+        this.clusterTransport = clusterTransport;
+        this.objectMapper = objectMapper;
+        this.nodeId = clusterBroadcastRelay.getNodeId();
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    }
+
+    @PostConstruct
+    public void start() {
+        clusterTransport.subscribe(CHANNEL, this::onFrameSafely);
+    }
+
+    @PreDestroy
+    public void stop() {
+        clusterTransport.unsubscribe(CHANNEL);
+    }
+
+    // 승인된 참여자가 아니면 예외를 던진다. (StudyGroup.isMember 와 같은 의미)
+    public void checkMember(Long studyGroupId, Long memberId) {
+        if (!isMember(studyGroupId, memberId)) {
+            throw new StudyGroupMemberAccessException("해당 유저는 승인된 참여자가 아닙니다.");
+        }
+    }
+
+    public boolean isMember(Long studyGroupId, Long memberId) {
+        if (memberId == null) {
+            return false;
+        }
+        return Arrays.binarySearch(getMembers(studyGroupId), memberId) >= 0;
+    }
+
+    // 승인된 참여자 id 목록 (정렬된 사본)
+    public long[] getMemberIds(Long studyGroupId) {
+        return getMembers(studyGroupId).clone();
+    }
+
+    // 회원이 승인된 스터디 그룹 id 목록 (그룹별 인덱스로는 역방향 조회가 안 되므로 (user_id, study_group_id) 유니크 인덱스로 조회한다.)
+    public List<Long> findStudyGroupIds(Long memberId) {
+        return jpaParticipantRepository.findStudyGroupIdsByUserIdAndStatus(memberId, ParticipantStatus.APPROVED);
+    }
+
+    // 커밋된 참여자 상태 변경을 인덱스에 반영하고 다른 노드에도 전달한다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onParticipantStatusChanged(ParticipantStatusChangedEvent event) {
+        apply(event.studyGroupId(), event.userId(), event.status());
+        try {
+            clusterTransport.publish(CHANNEL, objectMapper.writeValueAsBytes(
+                    new MembershipChange(nodeId, event.studyGroupId(), event.userId(), event.status())));
+        } catch (IOException | RuntimeException e) {
+            log.error("참여자 상태 변경 전달에 실패했습니다. studyGroupId={}, userId={}", event.studyGroupId(),
+                    event.userId(), e);
+        }
+    }
+
+    // 다른 노드에서 커밋된 참여자 상태 변경 반영
+    public void onFrame(byte[] bytes) throws IOException {
+        MembershipChange change = objectMapper.readValue(bytes, MembershipChange.class);
+        if (!nodeId.equals(change.origin())) {
+            apply(change.studyGroupId(), change.userId(), change.status());
+        }
+    }
+
+    // 적재되지 않은 그룹은 다음 조회 시 커밋된 상태로 적재되므로 건너뛴다.
+    // 변경 횟수를 먼저 올리므로, 이 변경 전에 읽은 적재 결과는 getMembers 에서 버려진다.
+    private void apply(Long studyGroupId, long userId, ParticipantStatus status) {
+        changeStamps.incrementAndGet(stripe(studyGroupId));
+        approvedMembers.computeIfPresent(studyGroupId, (id, members) -> members.with(
+                status == ParticipantStatus.APPROVED ? add(members.ids(), userId) : remove(members.ids(), userId)));
+    }
+
+    private long[] getMembers(Long studyGroupId) {
+        Members cached = approvedMembers.get(studyGroupId);
+        long now = System.nanoTime();
+        if (cached != null && now - cached.loadedAtNanos() < ttlNanos) {
+            return cached.ids();
+        }
+
+        // DB 조회는 맵의 락 밖에서 하고, 적재 결과를 먼저 넣은 뒤 그 사이 변경이 있었는지 확인한다.
+        // 확인 이후의 변경은 넣어 둔 적재 결과에 반영되므로 유실되지 않는다.
+        long stamp = changeStamps.get(stripe(studyGroupId));
+        Members loaded = new Members(load(studyGroupId), now);
+        if (cached == null ? approvedMembers.putIfAbsent(studyGroupId, loaded) != null
+                : !approvedMembers.replace(studyGroupId, cached, loaded)) {
+            // 다른 스레드가 먼저 적재했거나 변경을 반영했다.
+            Members current = approvedMembers.get(studyGroupId);
+            return current == null ? loaded.ids() : current.ids();
+        }
+        if (changeStamps.get(stripe(studyGroupId)) != stamp) {
+            approvedMembers.remove(studyGroupId, loaded);
+        }
+        return loaded.ids();
+    }
+
+    private long[] load(Long studyGroupId) {
+        List<Long> userIds = jpaParticipantRepository.findUserIdsByStudyGroupIdAndStatus(studyGroupId,
+                ParticipantStatus.APPROVED);
+
+        // 방장은 항상 승인 상태이므로 비어 있다면 존재하지 않는 그룹일 가능성이 높다.
+        if (userIds.isEmpty() && !studyGroupCommandRepository.existsById(studyGroupId)) {
+            throw new StudyGroupNotFoundException("존재하지 않는 스터디 그룹 입니다.");
+        }
+        if (userIds.isEmpty()) {
+            return EMPTY;
+        }
+
+        return userIds.stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+    }
+
+    private void onFrameSafely(byte[] bytes) {
+        try {
+            onFrame(bytes);
+        } catch (IOException | RuntimeException e) {
+            log.error("참여자 상태 변경 반영에 실패했습니다.", e);
+        }
+    }
+
+    private static int stripe(Long studyGroupId) {
+        return Math.floorMod(studyGroupId.hashCode(), STAMP_STRIPES);
+    }
+
+    private static long[] add(long[] members, long userId) {
+        int index = Arrays.binarySearch(members, userId);
+        if (index >= 0) {
+            return members;
+        }
+        int insertAt = -index - 1;
+        long[] updated = new long[members.length + 1];
+        System.arraycopy(members, 0, updated, 0, insertAt);
+        updated[insertAt] = userId;
+        System.arraycopy(members, insertAt, updated, insertAt + 1, members.length - insertAt);
+        return updated;
+    }
+
+    private static long[] remove(long[] members, long userId) {
+        int index = Arrays.binarySearch(members, userId);
+        if (index < 0) {
+            return members;
+        }
+        long[] updated = new long[members.length - 1];
+        System.arraycopy(members, 0, updated, 0, index);
+        System.arraycopy(members, index + 1, updated, index, members.length - index - 1);
+        return updated;
+    }
+
+    // 노드 간 참여자 상태 변경 메세지
+    public record MembershipChange(String origin, Long studyGroupId, Long userId, ParticipantStatus status) {
+    }
+
+    private record Members(long[] ids, long loadedAtNanos) {
+
+        private Members with(long[] updated) {
+            return updated == ids ? this : new Members(updated, loadedAtNanos);
+        }
+    }
+}
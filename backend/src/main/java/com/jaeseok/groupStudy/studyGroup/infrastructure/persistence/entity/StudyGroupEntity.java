@@ -1,13 +1,12 @@
 package com.jaeseok.groupStudy.studyGroup.infrastructure.persistence.entity;
 
 import com.jaeseok.groupStudy.common.BaseTimeEntity;
+import com.jaeseok.groupStudy.common.id.TimeOrderedId;
 import com.jaeseok.groupStudy.studyGroup.domain.StudyGroup;
 import com.jaeseok.groupStudy.studyGroup.domain.participant.Participant;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
@@ -28,7 +27,7 @@ import lombok.Getter;
 public class StudyGroupEntity extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @Embedded
@@ -1,8 +1,19 @@
 package com.jaeseok.groupStudy.studyGroup.infrastructure.persistence.repository;
 
+import com.jaeseok.groupStudy.studyGroup.domain.participant.ParticipantStatus;
 import com.jaeseok.groupStudy.studyGroup.infrastructure.persistence.entity.ParticipantEntity;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface JpaParticipantRepository extends JpaRepository<ParticipantEntity, Long> {
 
+    @Query("SELECT p.userId FROM ParticipantEntity p WHERE p.studyGroupEntity.id = :studyGroupId AND p.status = :status")
+    List<Long> findUserIdsByStudyGroupIdAndStatus(@Param("studyGroupId") Long studyGroupId,
+            @Param("status") ParticipantStatus status);
+
+    @Query("SELECT p.studyGroupEntity.id FROM ParticipantEntity p WHERE p.userId = :userId AND p.status = :status")
+    List<Long> findStudyGroupIdsByUserIdAndStatus(@Param("userId") Long userId,
+            @Param("status") ParticipantStatus status);
 }
@@ -1,8 +1,6 @@
 package com.jaeseok.groupStudy.webrtc.application;
 
-import com.jaeseok.groupStudy.studyGroup.domain.StudyGroup;
-import com.jaeseok.groupStudy.studyGroup.domain.StudyGroupCommandRepository;
-import com.jaeseok.groupStudy.studyGroup.exception.StudyGroupNotFoundException;
+import com.jaeseok.groupStudy.studyGroup.infrastructure.membership.StudyGroupMembershipIndex;
 import com.jaeseok.groupStudy.webrtc.dto.SignalMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,7 +13,7 @@ import org.springframework.stereotype.Service;
 public class SignalService {
 
     private final SimpMessagingTemplate messagingTemplate;
-    private final StudyGroupCommandRepository studyGroupRepository;
+    private final StudyGroupMembershipIndex studyGroupMembershipIndex;
 
     public void relaySignal(Long roomId, SignalMessage message) {
         log.warn("Signal Message: {}", message.toString());
@@ -30,14 +28,9 @@ public class SignalService {
         messagingTemplate.convertAndSend(destination, message);
     }
 
+    // 존재하지 않는 스터디 그룹이면 StudyGroupNotFoundException 을 던진다.
     private void validateAccess(Long roomId, Long senderId, Long receiverId) {
-        StudyGroup studyGroup = checkStudyGroup(roomId);
-        studyGroup.isMember(senderId);
-        studyGroup.isMember(receiverId);
-    }
-
-    private StudyGroup checkStudyGroup(Long studyGroupId) {
-        return studyGroupRepository.findById(studyGroupId)
-                .orElseThrow(() -> new StudyGroupNotFoundException("존재하지 않는 스터디 그룹 입니다."));
+        studyGroupMembershipIndex.checkMember(roomId, senderId);
+        studyGroupMembershipIndex.checkMember(roomId, receiverId);
     }
 }
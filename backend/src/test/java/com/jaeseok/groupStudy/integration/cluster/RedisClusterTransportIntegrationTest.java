@@ -0,0 +1,72 @@
+package com.jaeseok.groupStudy.integration.cluster;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.jaeseok.groupStudy.common.cluster.RedisClusterTransport;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.testcontainers.containers.GenericContainer;
+
+@DisplayName("Redis 클러스터 전송 계층 통합 테스트")
+class RedisClusterTransportIntegrationTest {
+
+    static GenericContainer<?> redisContainer = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    static LettuceConnectionFactory connectionFactory;
+    static RedisMessageListenerContainer listenerContainer;
+
+    @BeforeAll
+    static void setUp() {
+        redisContainer.start();
+
+        connectionFactory = new LettuceConnectionFactory(redisContainer.getHost(), redisContainer.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        listenerContainer.destroy();
+        connectionFactory.destroy();
+        redisContainer.stop();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 구독한 채널로 발행한 프레임이 전달된다.")
+    void givenSubscribedNode_whenPublish_thenReceiveFrame() throws InterruptedException {
+        // given
+        RedisClusterTransport publisher = new RedisClusterTransport(connectionFactory, listenerContainer);
+        RedisClusterTransport subscriber = new RedisClusterTransport(connectionFactory, listenerContainer);
+
+        CountDownLatch received = new CountDownLatch(1);
+        AtomicReference<byte[]> frame = new AtomicReference<>();
+        subscriber.subscribe("group-study:ws:chatroom:1", bytes -> {
+            frame.set(bytes);
+            received.countDown();
+        });
+
+        // when (구독은 비동기로 등록되므로 받을 때까지 다시 발행한다.)
+        for (int attempt = 0; attempt < 50 && received.getCount() > 0; attempt++) {
+            publisher.publish("group-study:ws:chatroom:1", "hello".getBytes(StandardCharsets.UTF_8));
+            received.await(100, TimeUnit.MILLISECONDS);
+        }
+
+        // then
+        assertThat(received.getCount()).isZero();
+        assertThat(new String(frame.get(), StandardCharsets.UTF_8)).isEqualTo("hello");
+        subscriber.unsubscribe("group-study:ws:chatroom:1");
+    }
+}
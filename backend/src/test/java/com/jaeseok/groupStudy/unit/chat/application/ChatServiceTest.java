@@ -3,59 +3,127 @@ package com.jaeseok.groupStudy.unit.chat.application;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jaeseok.groupStudy.chat.application.ChatHistoryExport;
 import com.jaeseok.groupStudy.chat.application.ChatService;
+import com.jaeseok.groupStudy.chat.application.dto.ChatAttachmentDownload;
+import com.jaeseok.groupStudy.chat.application.dto.ChatHistorySlice;
+import com.jaeseok.groupStudy.chat.application.dto.ChatReplayInfo;
 import com.jaeseok.groupStudy.chat.application.dto.SendMessageInfo;
 import com.jaeseok.groupStudy.chat.application.dto.SendMessageCommand;
+import com.jaeseok.groupStudy.chat.application.dto.UnreadCountInfo;
+import com.jaeseok.groupStudy.chat.domain.ChatAttachment;
 import com.jaeseok.groupStudy.chat.domain.ChatMessage;
 import com.jaeseok.groupStudy.chat.domain.ChatRoom;
 import com.jaeseok.groupStudy.chat.domain.MessageType;
-import com.jaeseok.groupStudy.chat.domain.repository.ChatMessageRepository;
+import com.jaeseok.groupStudy.chat.domain.repository.ChatAttachmentRepository;
+import com.jaeseok.groupStudy.chat.domain.repository.ChatHistoryStore;
 import com.jaeseok.groupStudy.chat.domain.repository.ChatRoomRepository;
-import com.jaeseok.groupStudy.member.domain.Member;
-import com.jaeseok.groupStudy.member.domain.MemberRepository;
-import com.jaeseok.groupStudy.studyGroup.domain.StudyGroup;
-import com.jaeseok.groupStudy.studyGroup.domain.StudyGroupCommandRepository;
+import com.jaeseok.groupStudy.chat.domain.vo.ChatHistoryCursor;
+import com.jaeseok.groupStudy.chat.exception.ChatAttachmentNotFoundException;
+import com.jaeseok.groupStudy.chat.exception.ChatHistoryExportLimitException;
+import com.jaeseok.groupStudy.chat.infrastructure.ChatHistoryExportLimiter;
+import com.jaeseok.groupStudy.chat.infrastructure.ChatMessageDeduplicator;
+import com.jaeseok.groupStudy.chat.infrastructure.ChatMessageWriteBehindQueue;
+import com.jaeseok.groupStudy.chat.infrastructure.ChatReadCursorTracker;
+import com.jaeseok.groupStudy.chat.infrastructure.ChatRoomSequencer;
+import com.jaeseok.groupStudy.chat.infrastructure.RecentChatMessageBuffer;
+import com.jaeseok.groupStudy.chat.infrastructure.attachment.ChatAttachmentBlobStore;
+import com.jaeseok.groupStudy.chat.infrastructure.attachment.ChatAttachmentBlobStore.StoredBlob;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.ChatMentionNotification;
+import com.jaeseok.groupStudy.chat.infrastructure.mention.ChatMentionIndex;
+import com.jaeseok.groupStudy.chat.infrastructure.mention.ChatMentionNotifier;
+import com.jaeseok.groupStudy.chat.infrastructure.moderation.ChatContentFilter;
+import com.jaeseok.groupStudy.chat.infrastructure.search.ChatMessageSearchIndex;
+import com.jaeseok.groupStudy.member.application.MemberInfoCache;
+import com.jaeseok.groupStudy.member.application.dto.MemberInfoDto;
 import com.jaeseok.groupStudy.studyGroup.event.StudyGroupCreatedEvent;
+import com.jaeseok.groupStudy.studyGroup.infrastructure.membership.StudyGroupMembershipIndex;
 import com.jaeseok.groupStudy.studyGroup.exception.StudyGroupNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith({MockitoExtension.class})
 class ChatServiceTest {
 
     @Mock
-    ChatMessageRepository chatMessageRepository;
+    ChatHistoryStore chatHistoryStore;
 
     @Mock
     ChatRoomRepository chatRoomRepository;
 
     @Mock
-    StudyGroupCommandRepository studyGroupCommandRepository;
+    StudyGroupMembershipIndex studyGroupMembershipIndex;
 
     @Mock
-    MemberRepository memberRepository;
+    MemberInfoCache memberInfoCache;
 
-    @InjectMocks
-    ChatService chatService;
+    @Mock
+    ChatMessageWriteBehindQueue chatMessageWriteBehindQueue;
+
+    @Mock
+    RecentChatMessageBuffer recentChatMessageBuffer;
+
+    @Mock
+    ChatRoomSequencer chatRoomSequencer;
+
+    @Mock
+    ChatMessageSearchIndex chatMessageSearchIndex;
+
+    @Mock
+    ChatReadCursorTracker chatReadCursorTracker;
+
+    @Spy
+    ChatHistoryExportLimiter chatHistoryExportLimiter = new ChatHistoryExportLimiter(1, 4);
+
+    @Spy
+    ChatMessageDeduplicator chatMessageDeduplicator = new ChatMessageDeduplicator(new SimpleMeterRegistry(), 256, 600000L);
+
+    @Mock
+    ChatAttachmentRepository chatAttachmentRepository;
+
+    @Mock
+    ChatAttachmentBlobStore chatAttachmentBlobStore;
+
+    @Spy
+    ChatContentFilter chatContentFilter = new ChatContentFilter(new SimpleMeterRegistry(), "");
 
     @Mock
-    StudyGroup studyGroup;
+    ChatMentionIndex chatMentionIndex;
 
     @Mock
-    Member member;
+    ChatMentionNotifier chatMentionNotifier;
+
+    @Spy
+    ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @InjectMocks
+    ChatService chatService;
 
     @Test
     @DisplayName("그룹 생성 이벤트를 수신하고 해당 스터디 그룹이 존재하면 채팅방을 생성한다.")
@@ -79,7 +147,7 @@ class ChatServiceTest {
     }
 
     @Test
-    @DisplayName("그룹에 속한 참여자가 메세지를 보내면 저장하고 메세지를 응답한다.")
+    @DisplayName("그룹에 속한 참여자가 메세지를 보내면 저장 대기열에 넣고 메세지를 응답한다.")
     void givenSendMessageCommand_whenSendMessage_thenSaveChatMessage() {
         // given
         Long studyGroupId = 1L;
@@ -90,11 +158,8 @@ class ChatServiceTest {
 
         ChatRoom willReturnChatRoom = ChatRoom.of(studyGroupId);
         given(chatRoomRepository.findByStudyGroupId(roomId)).willReturn(Optional.of(willReturnChatRoom));
-        given(studyGroupCommandRepository.findById(willReturnChatRoom.getStudyGroupId())).willReturn(Optional.of(studyGroup));
-        given(memberRepository.findById(senderId)).willReturn(Optional.of(member));
-
-        ChatMessage mockSavedMessage = ChatMessage.of(roomId, senderId, message, type);
-        given(chatMessageRepository.save(any(ChatMessage.class))).willReturn(mockSavedMessage);
+        given(memberInfoCache.get(senderId)).willReturn(memberInfo(senderId));
+        given(chatRoomSequencer.next(roomId)).willReturn(7L);
 
         SendMessageCommand cmd = new SendMessageCommand(roomId, senderId, message,
                 type);
@@ -104,20 +169,24 @@ class ChatServiceTest {
 
         // then
         verify(chatRoomRepository, times(1)).findByStudyGroupId(roomId);
-        verify(studyGroupCommandRepository, times(1)).findById(willReturnChatRoom.getStudyGroupId());
-        verify(studyGroup, times(1)).isMember(senderId);
-        verify(chatMessageRepository, times(1)).save(any(ChatMessage.class));
-        verify(memberRepository, times(1)).findById(senderId);
-        verifyNoMoreInteractions(chatRoomRepository, studyGroupCommandRepository, studyGroup, chatMessageRepository);
+        verify(studyGroupMembershipIndex, times(1)).checkMember(studyGroupId, senderId);
+        verify(chatMessageWriteBehindQueue, times(1)).enqueue(any(ChatMessage.class));
+        verify(memberInfoCache, times(1)).get(senderId);
+        verifyNoMoreInteractions(chatRoomRepository, studyGroupMembershipIndex, chatHistoryStore, chatMessageWriteBehindQueue);
 
         ArgumentCaptor<ChatMessage> captor = ArgumentCaptor.forClass(ChatMessage.class);
-        verify(chatMessageRepository).save(captor.capture());
+        verify(chatMessageWriteBehindQueue).enqueue(captor.capture());
 
         ChatMessage savedMessage = captor.getValue();
         assertThat(savedMessage.getContent()).isEqualTo(message);
         assertThat(savedMessage.getType()).isEqualTo(type);
+        assertThat(savedMessage.getSeq()).isEqualTo(7L);
 
         assertThat(sendMessageInfo.content()).isEqualTo(message);
+        assertThat(sendMessageInfo.seq()).isEqualTo(7L);
+        verify(recentChatMessageBuffer, times(1)).append(roomId, sendMessageInfo);
+        verify(chatMessageSearchIndex, times(1)).add(savedMessage);
+        verify(chatReadCursorTracker, times(1)).markRead(senderId, roomId, 7L);
     }
 
     @Test
@@ -130,23 +199,20 @@ class ChatServiceTest {
 
         ChatRoom willReturnChatRoom = ChatRoom.of(studyGroupId);
         given(chatRoomRepository.findByStudyGroupId(roomId)).willReturn(Optional.of(willReturnChatRoom));
-        given(studyGroupCommandRepository.findById(willReturnChatRoom.getStudyGroupId())).willReturn(Optional.of(studyGroup));
-        given(memberRepository.findById(senderId)).willReturn(Optional.of(member));
-        given(member.getUserInfoNickname()).willReturn("테스트 유저");
+        given(memberInfoCache.get(senderId)).willReturn(memberInfo(senderId));
 
         // when
         SendMessageInfo sendMessageInfo = chatService.enterChatRoom(roomId, senderId);
 
         // then
         verify(chatRoomRepository, times(1)).findByStudyGroupId(roomId);
-        verify(studyGroupCommandRepository, times(1)).findById(willReturnChatRoom.getStudyGroupId());
-        verify(memberRepository, times(1)).findById(senderId);
-        verify(studyGroup, times(1)).isMember(senderId);
-        verify(chatMessageRepository, times(1)).save(any(ChatMessage.class));
-        verifyNoMoreInteractions(chatRoomRepository, studyGroupCommandRepository, studyGroup, chatMessageRepository);
+        verify(memberInfoCache, times(1)).get(senderId);
+        verify(studyGroupMembershipIndex, times(1)).checkMember(studyGroupId, senderId);
+        verify(chatMessageWriteBehindQueue, times(1)).enqueue(any(ChatMessage.class));
+        verifyNoMoreInteractions(chatRoomRepository, studyGroupMembershipIndex, chatHistoryStore, chatMessageWriteBehindQueue);
 
         ArgumentCaptor<ChatMessage> captor = ArgumentCaptor.forClass(ChatMessage.class);
-        verify(chatMessageRepository).save(captor.capture());
+        verify(chatMessageWriteBehindQueue).enqueue(captor.capture());
 
         ChatMessage savedMessage = captor.getValue();
         assertThat(savedMessage.getContent()).isEqualTo("테스트 유저님이 입장하셨습니다.");
@@ -165,23 +231,20 @@ class ChatServiceTest {
 
         ChatRoom willReturnChatRoom = ChatRoom.of(studyGroupId);
         given(chatRoomRepository.findByStudyGroupId(roomId)).willReturn(Optional.of(willReturnChatRoom));
-        given(studyGroupCommandRepository.findById(willReturnChatRoom.getStudyGroupId())).willReturn(Optional.of(studyGroup));
-        given(memberRepository.findById(senderId)).willReturn(Optional.of(member));
-        given(member.getUserInfoNickname()).willReturn("테스트 유저");
+        given(memberInfoCache.get(senderId)).willReturn(memberInfo(senderId));
 
         // when
         SendMessageInfo sendMessageInfo = chatService.leaveChatRoom(roomId, senderId);
 
         // then
         verify(chatRoomRepository, times(1)).findByStudyGroupId(roomId);
-        verify(studyGroupCommandRepository, times(1)).findById(willReturnChatRoom.getStudyGroupId());
-        verify(memberRepository, times(1)).findById(senderId);
-        verify(studyGroup, times(1)).isMember(senderId);
-        verify(chatMessageRepository, times(1)).save(any(ChatMessage.class));
-        verifyNoMoreInteractions(chatRoomRepository, studyGroupCommandRepository, studyGroup, chatMessageRepository);
+        verify(memberInfoCache, times(1)).get(senderId);
+        verify(studyGroupMembershipIndex, times(1)).checkMember(studyGroupId, senderId);
+        verify(chatMessageWriteBehindQueue, times(1)).enqueue(any(ChatMessage.class));
+        verifyNoMoreInteractions(chatRoomRepository, studyGroupMembershipIndex, chatHistoryStore, chatMessageWriteBehindQueue);
 
         ArgumentCaptor<ChatMessage> captor = ArgumentCaptor.forClass(ChatMessage.class);
-        verify(chatMessageRepository).save(captor.capture());
+        verify(chatMessageWriteBehindQueue).enqueue(captor.capture());
 
         ChatMessage savedMessage = captor.getValue();
         assertThat(savedMessage.getContent()).isEqualTo("테스트 유저님이 퇴장하셨습니다.");
@@ -190,6 +253,29 @@ class ChatServiceTest {
         assertThat(sendMessageInfo.content()).isEqualTo("테스트 유저님이 퇴장하셨습니다.");
     }
 
+    @Test
+    @DisplayName("한 번 확인한 채팅방은 다시 조회하지 않고 권한만 확인한다.")
+    void givenVerifiedChatRoom_whenSendMessageTwice_thenLookupChatRoomOnce() {
+        // given
+        Long studyGroupId = 1L;
+        Long roomId = 1L;
+        Long senderId = 10L;
+
+        ChatRoom willReturnChatRoom = ChatRoom.of(studyGroupId);
+        given(chatRoomRepository.findByStudyGroupId(roomId)).willReturn(Optional.of(willReturnChatRoom));
+        given(memberInfoCache.get(senderId)).willReturn(memberInfo(senderId));
+
+        SendMessageCommand cmd = new SendMessageCommand(roomId, senderId, "안녕하세요.", MessageType.CHAT);
+
+        // when
+        chatService.sendMessage(cmd);
+        chatService.sendMessage(cmd);
+
+        // then
+        verify(chatRoomRepository, times(1)).findByStudyGroupId(roomId);
+        verify(studyGroupMembershipIndex, times(2)).checkMember(studyGroupId, senderId);
+    }
+
     @Test
     @DisplayName("그룹에 속하지 않은 유저는 메세지를 보낼 수 없다.")
     void givenInvalidMember_whenSendMessage_thenThrowException() {
@@ -202,10 +288,9 @@ class ChatServiceTest {
 
         ChatRoom willReturnChatRoom = ChatRoom.of(studyGroupId);
         given(chatRoomRepository.findByStudyGroupId(roomId)).willReturn(Optional.of(willReturnChatRoom));
-        given(studyGroupCommandRepository.findById(willReturnChatRoom.getStudyGroupId())).willReturn(Optional.of(studyGroup));
 
         doThrow(new IllegalArgumentException("해당 유저는 승인된 참여자가 아닙니다."))
-                .when(studyGroup).isMember(invalidSenderId);
+                .when(studyGroupMembershipIndex).checkMember(studyGroupId, invalidSenderId);
 
         SendMessageCommand cmd = new SendMessageCommand(roomId, invalidSenderId, message, type);
 
@@ -214,7 +299,7 @@ class ChatServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("해당 유저는 승인된 참여자가 아닙니다.");
 
-        verifyNoMoreInteractions(chatRoomRepository, studyGroupCommandRepository, studyGroup, chatMessageRepository);
+        verifyNoMoreInteractions(chatRoomRepository, studyGroupMembershipIndex, chatHistoryStore, chatMessageWriteBehindQueue);
     }
 
     @Test
@@ -228,14 +313,18 @@ class ChatServiceTest {
 
         ChatRoom willReturnChatRoom = ChatRoom.of(studyGroupId);
         given(chatRoomRepository.findByStudyGroupId(roomId)).willReturn(Optional.of(willReturnChatRoom));
-        given(studyGroupCommandRepository.findById(willReturnChatRoom.getStudyGroupId())).willReturn(Optional.of(studyGroup));
 
-        List<Object[]> allMockMessageInfo = createMockGetMessageInfo(roomId, 25);
-        List<Object[]> firstPagingData = allMockMessageInfo.subList((int) pageable.getOffset(),
+        List<ChatMessage> allMockMessages = createMockChatMessages(roomId, 25);
+        List<ChatMessage> firstPagingData = allMockMessages.subList((int) pageable.getOffset(),
                 (int) (pageable.getOffset() + pageable.getPageSize()));
-        PageImpl<Object[]> mockPages = new PageImpl<>(firstPagingData, pageable, 25);
+        PageImpl<ChatMessage> mockPages = new PageImpl<>(firstPagingData, pageable, 25);
 
-        given(chatMessageRepository.findChatMessageHistoryWithUser(roomId, pageable)).willReturn(mockPages);
+        given(chatHistoryStore.findPage(roomId, pageable)).willReturn(mockPages);
+        given(memberInfoCache.find(anyLong())).willAnswer(invocation -> {
+            Long userId = invocation.getArgument(0);
+            String nickname = userId % 2 == 0 ? "nickname1" : "nickname2";
+            return Optional.of(new MemberInfoDto(userId, nickname, "test@test.com"));
+        });
 
         // when
         Page<SendMessageInfo> result = chatService.getChatHistory(roomId, memberId, pageable);
@@ -251,10 +340,36 @@ class ChatServiceTest {
         assertThat(firstMessageInfo.content()).isEqualTo("메세지 1");
 
         verify(chatRoomRepository, times(1)).findByStudyGroupId(roomId);
-        verify(studyGroupCommandRepository, times(1)).findById(willReturnChatRoom.getStudyGroupId());
-        verify(studyGroup, times(1)).isMember(memberId);
-        verify(chatMessageRepository, times(1)).findChatMessageHistoryWithUser(roomId, pageable);
-        verifyNoMoreInteractions(chatRoomRepository, studyGroupCommandRepository, studyGroup, chatMessageRepository);
+        verify(studyGroupMembershipIndex, times(1)).checkMember(studyGroupId, memberId);
+        verify(chatHistoryStore, times(1)).findPage(roomId, pageable);
+        verifyNoMoreInteractions(chatRoomRepository, studyGroupMembershipIndex, chatHistoryStore, chatMessageWriteBehindQueue);
+    }
+
+    @Test
+    @DisplayName("요청한 채팅 기록이 최근 메세지 버퍼에 모두 있으면 DB를 조회하지 않는다.")
+    void givenBufferedWindow_whenGetChatHistory_thenReturnFromBuffer() {
+        // given
+        Long studyGroupId = 1L;
+        Long roomId = 1L;
+        Long memberId = 10L;
+        Pageable pageable = PageRequest.of(0, 2);
+
+        ChatRoom willReturnChatRoom = ChatRoom.of(studyGroupId);
+        given(chatRoomRepository.findByStudyGroupId(roomId)).willReturn(Optional.of(willReturnChatRoom));
+
+        List<SendMessageInfo> buffered = List.of(
+                new SendMessageInfo(memberId, "nickname1", "메세지 2", LocalDateTime.now(), 2L),
+                new SendMessageInfo(memberId, "nickname1", "메세지 1", LocalDateTime.now(), 1L));
+        given(recentChatMessageBuffer.findPage(roomId, pageable))
+                .willReturn(Optional.of(new PageImpl<>(buffered, pageable, 2)));
+
+        // when
+        Page<SendMessageInfo> result = chatService.getChatHistory(roomId, memberId, pageable);
+
+        // then
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.getContent().get(0).content()).isEqualTo("메세지 2");
+        verify(chatHistoryStore, never()).findPage(roomId, pageable);
     }
 
     @Test
@@ -268,30 +383,625 @@ class ChatServiceTest {
 
         ChatRoom willReturnChatRoom = ChatRoom.of(studyGroupId);
         given(chatRoomRepository.findByStudyGroupId(roomId)).willReturn(Optional.of(willReturnChatRoom));
-        given(studyGroupCommandRepository.findById(willReturnChatRoom.getStudyGroupId())).willReturn(Optional.of(studyGroup));
 
         doThrow(new IllegalArgumentException("해당 유저는 승인된 참여자가 아닙니다."))
-                .when(studyGroup).isMember(invalidMemberId);
+                .when(studyGroupMembershipIndex).checkMember(studyGroupId, invalidMemberId);
 
         // when & then
         assertThatThrownBy(() -> chatService.getChatHistory(roomId, invalidMemberId, pageable))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("해당 유저는 승인된 참여자가 아닙니다.");
 
-        verifyNoMoreInteractions(chatRoomRepository, studyGroupCommandRepository, studyGroup, chatMessageRepository);
+        verifyNoMoreInteractions(chatRoomRepository, studyGroupMembershipIndex, chatHistoryStore, chatMessageWriteBehindQueue);
+    }
+
+    @Test
+    @DisplayName("커서 기반 조회 시 요청 개수보다 더 많은 메세지가 있으면 다음 커서를 함께 응답한다.")
+    void givenMoreMessagesThanSize_whenGetChatHistoryBefore_thenReturnSliceWithNextCursor() {
+        // given
+        Long studyGroupId = 1L;
+        Long roomId = 1L;
+        Long memberId = 10L;
+        int size = 2;
+
+        ChatRoom willReturnChatRoom = ChatRoom.of(studyGroupId);
+        given(chatRoomRepository.findByStudyGroupId(roomId)).willReturn(Optional.of(willReturnChatRoom));
+
+        List<ChatMessage> rows = createMockChatMessages(roomId, size + 1);
+        for (int i = 0; i < rows.size(); i++) {
+            ReflectionTestUtils.setField(rows.get(i), "id", 100L - i);
+        }
+        given(chatHistoryStore.findBefore(roomId, null, size + 1)).willReturn(rows);
+
+        // when
+        ChatHistorySlice result = chatService.getChatHistoryBefore(roomId, memberId, null, size);
+
+        // then
+        assertThat(result.messages()).hasSize(size);
+        assertThat(result.hasNext()).isTrue();
+
+        ChatMessage lastMessage = rows.get(size - 1);
+        ChatHistoryCursor nextCursor = ChatHistoryCursor.decode(result.nextCursor());
+        assertThat(nextCursor.id()).isEqualTo(lastMessage.getId());
+        assertThat(nextCursor.createdAt()).isEqualTo(lastMessage.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("커서 기반 조회는 이 방의 쓰기 지연 메세지가 저장된 뒤 저장소를 조회한다.")
+    void givenPendingWrites_whenGetChatHistoryBefore_thenAwaitPersistedBeforeQuery() {
+        // given
+        Long roomId = 1L;
+        given(chatRoomRepository.findByStudyGroupId(roomId)).willReturn(Optional.of(ChatRoom.of(1L)));
+        given(chatHistoryStore.findBefore(roomId, null, 3)).willReturn(List.of());
+
+        // when
+        chatService.getChatHistoryBefore(roomId, 10L, null, 2);
+
+        // then
+        InOrder inOrder = inOrder(chatMessageWriteBehindQueue, chatHistoryStore);
+        inOrder.verify(chatMessageWriteBehindQueue).awaitPersisted(roomId);
+        inOrder.verify(chatHistoryStore).findBefore(roomId, null, 3);
+    }
+
+    @Test
+    @DisplayName("커서 기반 조회 시 커서 이전의 메세지만 조회하고, 남은 메세지가 없으면 다음 커서는 없다.")
+    void givenBeforeCursor_whenGetChatHistoryBefore_thenQueryBeforeCursor() {
+        // given
+        Long studyGroupId = 1L;
+        Long roomId = 1L;
+        Long memberId = 10L;
+        int size = 5;
+        ChatHistoryCursor cursor = ChatHistoryCursor.of(LocalDateTime.of(2025, 1, 1, 0, 0), 50L);
+
+        ChatRoom willReturnChatRoom = ChatRoom.of(studyGroupId);
+        given(chatRoomRepository.findByStudyGroupId(roomId)).willReturn(Optional.of(willReturnChatRoom));
+
+        List<ChatMessage> rows = createMockChatMessages(roomId, 3);
+        given(chatHistoryStore.findBefore(roomId, cursor, size + 1)).willReturn(rows);
+
+        // when
+        ChatHistorySlice result = chatService.getChatHistoryBefore(roomId, memberId, cursor.encode(), size);
+
+        // then
+        assertThat(result.messages()).hasSize(3);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+        verify(studyGroupMembershipIndex, times(1)).checkMember(studyGroupId, memberId);
+    }
+
+    @Test
+    @DisplayName("순번 구간 조회 시 구간이 최근 메세지 버퍼에 모두 있으면 저장소를 조회하지 않는다.")
+    void givenBufferedRange_whenGetChatHistoryRange_thenReturnFromBuffer() {
+        // given
+        Long studyGroupId = 1L;
+        Long roomId = 1L;
+        Long memberId = 10L;
+
+        ChatRoom willReturnChatRoom = ChatRoom.of(studyGroupId);
+        given(chatRoomRepository.findByStudyGroupId(roomId)).willReturn(Optional.of(willReturnChatRoom));
+
+        List<SendMessageInfo> buffered = List.of(
+                new SendMessageInfo(memberId, "nickname1", "메세지 4", LocalDateTime.now(), 4L),
+                new SendMessageInfo(memberId, "nickname1", "메세지 5", LocalDateTime.now(), 5L));
+        given(recentChatMessageBuffer.findRange(roomId, 3L, 5L)).willReturn(Optional.of(buffered));
+
+        // when
+        List<SendMessageInfo> result = chatService.getChatHistoryRange(roomId, memberId, 3L, 5L);
+
+        // then
+        assertThat(result).extracting(SendMessageInfo::seq).containsExactly(4L, 5L);
+        verify(chatHistoryStore, never()).findRange(anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("순번 구간 조회는 최대 100개로 제한하고, 버퍼에 없으면 저장소에서 조회한다.")
+    void givenLargeRange_whenGetChatHistoryRange_thenClampAndQueryStore() {
+        // given
+        Long studyGroupId = 1L;
+        Long roomId = 1L;
+        Long memberId = 10L;
+
+        ChatRoom willReturnChatRoom = ChatRoom.of(studyGroupId);
+        given(chatRoomRepository.findByStudyGroupId(roomId)).willReturn(Optional.of(willReturnChatRoom));
+        given(recentChatMessageBuffer.findRange(roomId, 10L, 110L)).willReturn(Optional.empty());
+
+        List<ChatMessage> rows = createMockChatMessages(roomId, 2);
+        rows.get(0).assignSeq(11L);
+        rows.get(1).assignSeq(12L);
+        given(chatHistoryStore.findRange(roomId, 10L, 110L)).willReturn(rows);
+
+        // when
+        List<SendMessageInfo> result = chatService.getChatHistoryRange(roomId, memberId, 10L, 500L);
+
+        // then
+        assertThat(result).extracting(SendMessageInfo::seq).containsExactly(11L, 12L);
+    }
+
+    @Test
+    @DisplayName("빈 순번 구간은 조회하지 않는다.")
+    void givenEmptyRange_whenGetChatHistoryRange_thenReturnEmpty() {
+        // given
+        Long studyGroupId = 1L;
+        Long roomId = 1L;
+        Long memberId = 10L;
+
+        ChatRoom willReturnChatRoom = ChatRoom.of(studyGroupId);
+        given(chatRoomRepository.findByStudyGroupId(roomId)).willReturn(Optional.of(willReturnChatRoom));
+
+        // when
+        List<SendMessageInfo> result = chatService.getChatHistoryRange(roomId, memberId, 5L, 5L);
+
+        // then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(recentChatMessageBuffer, chatHistoryStore);
+    }
+
+    @Test
+    @DisplayName("채팅 검색은 색인 후보 중 원문에 검색어가 있는 메세지만 최신순으로 반환하고, 다음 페이지 커서로 마지막 순번을 준다.")
+    void givenCandidates_whenSearchChatHistory_thenReturnVerifiedHitsWithCursor() {
+        // given
+        Long studyGroupId = 1L;
+        Long roomId = 1L;
+        Long memberId = 10L;
+        String query = "스터디";
+
+        ChatRoom willReturnChatRoom = ChatRoom.of(studyGroupId);
+        given(chatRoomRepository.findByStudyGroupId(roomId)).willReturn(Optional.of(willReturnChatRoom));
+        given(chatMessageSearchIndex.search(roomId, query, Long.MAX_VALUE)).willReturn(new long[]{5L, 3L, 1L});
+
+        // 가장 최신 메세지는 최근 메세지 버퍼에, 나머지는 저장소에 있다.
+        given(recentChatMessageBuffer.findRange(roomId, 4L, 5L)).willReturn(Optional.of(List.of(
+                new SendMessageInfo(memberId, "nickname1", "스터디 자료 공유", LocalDateTime.now(), 5L))));
+        given(recentChatMessageBuffer.findRange(roomId, 2L, 3L)).willReturn(Optional.empty());
+        given(recentChatMessageBuffer.findRange(roomId, 0L, 1L)).willReturn(Optional.empty());
+        given(chatHistoryStore.findBySeqs(roomId, List.of(3L))).willReturn(List.of(
+                ChatMessage.restore(3L, roomId, 3L, memberId, "스터 디", MessageType.CHAT, LocalDateTime.now())));
+        given(chatHistoryStore.findBySeqs(roomId, List.of(1L))).willReturn(List.of(
+                ChatMessage.restore(1L, roomId, 1L, memberId, "스터디 일정", MessageType.CHAT, LocalDateTime.now())));
+        given(memberInfoCache.find(memberId)).willReturn(Optional.of(memberInfo(memberId)));
+
+        // when
+        ChatHistorySlice result = chatService.searchChatHistory(roomId, memberId, query, null, 1);
+
+        // then
+        assertThat(result.messages()).extracting(SendMessageInfo::seq).containsExactly(5L);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.nextCursor()).isEqualTo("5");
+    }
+
+    @Test
+    @DisplayName("채팅 검색 커서가 숫자가 아니면 예외가 발생한다.")
+    void givenInvalidCursor_whenSearchChatHistory_thenThrowException() {
+        // given
+        Long studyGroupId = 1L;
+        Long roomId = 1L;
+        Long memberId = 10L;
+
+        ChatRoom willReturnChatRoom = ChatRoom.of(studyGroupId);
+        given(chatRoomRepository.findByStudyGroupId(roomId)).willReturn(Optional.of(willReturnChatRoom));
+
+        // when & then
+        assertThatThrownBy(() -> chatService.searchChatHistory(roomId, memberId, "스터디", "abc", 20))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(chatMessageSearchIndex);
+    }
+
+    @Test
+    @DisplayName("안 읽은 메세지 수는 채팅방 최신 순번에서 읽음 커서를 뺀 값이며, 커서가 없는 채팅방은 모두 읽은 것으로 시작한다.")
+    void givenCursors_whenGetUnreadCounts_thenReturnLatestSeqMinusCursor() {
+        // given
+        Long memberId = 10L;
+        given(chatReadCursorTracker.getCursors(memberId)).willReturn(Map.of(1L, 95L));
+        given(studyGroupMembershipIndex.findStudyGroupIds(memberId)).willReturn(List.of(1L, 2L));
+        given(chatRoomSequencer.current(1L)).willReturn(100L);
+        given(chatRoomSequencer.current(2L)).willReturn(40L);
+
+        // when
+        List<UnreadCountInfo> result = chatService.getUnreadCounts(memberId);
+
+        // then
+        assertThat(result).containsExactly(
+                new UnreadCountInfo(1L, 5L, 100L),
+                new UnreadCountInfo(2L, 0L, 40L));
+        verify(chatReadCursorTracker, times(1)).markRead(memberId, 2L, 40L);
+        verifyNoInteractions(chatHistoryStore);
+    }
+
+    @Test
+    @DisplayName("읽음 처리 순번은 채팅방의 최신 순번을 넘지 않는다.")
+    void givenSeqAheadOfRoom_whenMarkRead_thenClampToLatestSeq() {
+        // given
+        Long studyGroupId = 1L;
+        Long roomId = 1L;
+        Long memberId = 10L;
+
+        ChatRoom willReturnChatRoom = ChatRoom.of(studyGroupId);
+        given(chatRoomRepository.findByStudyGroupId(roomId)).willReturn(Optional.of(willReturnChatRoom));
+        given(chatRoomSequencer.current(roomId)).willReturn(50L);
+
+        // when
+        chatService.markRead(roomId, memberId, 999L);
+
+        // then
+        verify(studyGroupMembershipIndex, times(1)).checkMember(studyGroupId, memberId);
+        verify(chatReadCursorTracker, times(1)).markRead(memberId, roomId, 50L);
+    }
+
+    @Test
+    @DisplayName("재연결한 세션의 놓친 메세지는 최근 메세지 버퍼에서만 찾고, 버퍼 밖이면 다시 조회하도록 알린다.")
+    void givenResumeSeq_whenReplayAfter_thenReplayFromRecentBufferOnly() {
+        // given
+        Long studyGroupId = 1L;
+        Long roomId = 1L;
+        Long memberId = 10L;
+
+        ChatRoom willReturnChatRoom = ChatRoom.of(studyGroupId);
+        given(chatRoomRepository.findByStudyGroupId(roomId)).willReturn(Optional.of(willReturnChatRoom));
+        given(chatRoomSequencer.current(roomId)).willReturn(42L);
+
+        List<SendMessageInfo> missed = List.of(
+                new SendMessageInfo(11L, "nickname11", "메세지 41", LocalDateTime.now(), 41L),
+                new SendMessageInfo(11L, "nickname11", "메세지 42", LocalDateTime.now(), 42L));
+        given(recentChatMessageBuffer.findRange(roomId, 40L, 42L)).willReturn(Optional.of(missed));
+        given(recentChatMessageBuffer.findRange(roomId, 0L, 42L)).willReturn(Optional.empty());
+
+        // when
+        ChatReplayInfo replay = chatService.replayAfter(roomId, memberId, 40L);
+        ChatReplayInfo outOfBuffer = chatService.replayAfter(roomId, memberId, 0L);
+        ChatReplayInfo upToDate = chatService.replayAfter(roomId, memberId, 42L);
+
+        // then
+        assertThat(replay).isEqualTo(ChatReplayInfo.complete(roomId, missed, 42L));
+        assertThat(outOfBuffer).isEqualTo(ChatReplayInfo.incomplete(roomId, 42L));
+        assertThat(upToDate.complete()).isTrue();
+        assertThat(upToDate.messages()).isEmpty();
+        verifyNoInteractions(chatHistoryStore);
+    }
+
+    @Test
+    @DisplayName("금칙어는 저장과 방송 전에 가려진다.")
+    void givenBannedWord_whenSendMessage_thenMaskBeforeSave() {
+        // given
+        Long studyGroupId = 1L;
+        Long roomId = 1L;
+        Long senderId = 10L;
+
+        ChatRoom willReturnChatRoom = ChatRoom.of(studyGroupId);
+        given(chatRoomRepository.findByStudyGroupId(roomId)).willReturn(Optional.of(willReturnChatRoom));
+        given(memberInfoCache.get(senderId)).willReturn(memberInfo(senderId));
+        given(chatRoomSequencer.next(roomId)).willReturn(7L);
+        chatContentFilter.reload(List.of("바보"));
+
+        SendMessageCommand cmd = new SendMessageCommand(roomId, senderId, "너 바 보 야", MessageType.CHAT);
+
+        // when
+        SendMessageInfo sendMessageInfo = chatService.sendMessage(cmd);
+
+        // then
+        ArgumentCaptor<ChatMessage> captor = ArgumentCaptor.forClass(ChatMessage.class);
+        verify(chatMessageWriteBehindQueue).enqueue(captor.capture());
+        assertThat(captor.getValue().getContent()).isEqualTo("너 * * 야");
+        assertThat(sendMessageInfo.content()).isEqualTo("너 * * 야");
+    }
+
+    @Test
+    @DisplayName("'@닉네임' 으로 언급된 회원에게만 언급 알림을 보낸다.")
+    void givenMention_whenSendMessage_thenNotifyMentionedMembers() {
+        // given
+        Long studyGroupId = 1L;
+        Long roomId = 1L;
+        Long senderId = 10L;
+        String message = "@재석 오늘 발표 준비됐어?";
+
+        ChatRoom willReturnChatRoom = ChatRoom.of(studyGroupId);
+        given(chatRoomRepository.findByStudyGroupId(roomId)).willReturn(Optional.of(willReturnChatRoom));
+        given(memberInfoCache.get(senderId)).willReturn(memberInfo(senderId));
+        given(chatRoomSequencer.next(roomId)).willReturn(7L);
+        given(chatMentionIndex.findMentionedIds(studyGroupId, senderId, message)).willReturn(List.of(11L));
+
+        SendMessageCommand cmd = new SendMessageCommand(roomId, senderId, message, MessageType.CHAT);
+
+        // when
+        chatService.sendMessage(cmd);
+
+        // then
+        ArgumentCaptor<ChatMentionNotification> captor = ArgumentCaptor.forClass(ChatMentionNotification.class);
+        verify(chatMentionNotifier).send(eq(List.of(11L)), captor.capture());
+        ChatMentionNotification notification = captor.getValue();
+        assertThat(notification.roomId()).isEqualTo(roomId);
+        assertThat(notification.seq()).isEqualTo(7L);
+        assertThat(notification.senderId()).isEqualTo(senderId);
+        assertThat(notification.content()).isEqualTo(message);
+    }
+
+    @Test
+    @DisplayName("언급이 없으면 언급 알림을 보내지 않는다.")
+    void givenNoMention_whenSendMessage_thenDoNotNotify() {
+        // given
+        Long studyGroupId = 1L;
+        Long roomId = 1L;
+        Long senderId = 10L;
+
+        ChatRoom willReturnChatRoom = ChatRoom.of(studyGroupId);
+        given(chatRoomRepository.findByStudyGroupId(roomId)).willReturn(Optional.of(willReturnChatRoom));
+        given(memberInfoCache.get(senderId)).willReturn(memberInfo(senderId));
+        given(chatRoomSequencer.next(roomId)).willReturn(7L);
+
+        SendMessageCommand cmd = new SendMessageCommand(roomId, senderId, "안녕하세요.", MessageType.CHAT);
+
+        // when
+        chatService.sendMessage(cmd);
+
+        // then
+        verifyNoInteractions(chatMentionNotifier);
+    }
+
+    @Test
+    @DisplayName("같은 클라이언트 메세지 ID 로 다시 보낸 메세지는 순번 발급과 저장 없이 버린다.")
+    void givenRetriedClientMessageId_whenSendMessage_thenDropDuplicate() {
+        // given
+        Long studyGroupId = 1L;
+        Long roomId = 1L;
+        Long senderId = 10L;
+
+        ChatRoom willReturnChatRoom = ChatRoom.of(studyGroupId);
+        given(chatRoomRepository.findByStudyGroupId(roomId)).willReturn(Optional.of(willReturnChatRoom));
+        given(memberInfoCache.get(senderId)).willReturn(memberInfo(senderId));
+        given(chatRoomSequencer.next(roomId)).willReturn(7L);
+
+        SendMessageCommand cmd = new SendMessageCommand(roomId, senderId, "안녕하세요.", MessageType.CHAT, "client-1");
+
+        // when
+        SendMessageInfo first = chatService.sendMessage(cmd);
+        SendMessageInfo retried = chatService.sendMessage(cmd);
+
+        // then
+        assertThat(first.clientMessageId()).isEqualTo("client-1");
+        assertThat(retried).isNull();
+        verify(chatRoomSequencer, times(1)).next(roomId);
+        verify(chatMessageWriteBehindQueue, times(1)).enqueue(any(ChatMessage.class));
+    }
+
+    @Test
+    @DisplayName("저장하지 못한 메세지는 같은 클라이언트 메세지 ID 로 다시 보낼 수 있다.")
+    void givenSaveFailed_whenRetrySameClientMessageId_thenAccept() {
+        // given
+        Long studyGroupId = 1L;
+        Long roomId = 1L;
+        Long senderId = 10L;
+
+        ChatRoom willReturnChatRoom = ChatRoom.of(studyGroupId);
+        given(chatRoomRepository.findByStudyGroupId(roomId)).willReturn(Optional.of(willReturnChatRoom));
+        given(memberInfoCache.get(senderId)).willReturn(memberInfo(senderId));
+        given(chatRoomSequencer.next(roomId))
+                .willThrow(new IllegalStateException("순번 저장소 장애"))
+                .willReturn(7L);
+
+        SendMessageCommand cmd = new SendMessageCommand(roomId, senderId, "안녕하세요.", MessageType.CHAT, "client-1");
+
+        // when
+        assertThatThrownBy(() -> chatService.sendMessage(cmd)).isInstanceOf(IllegalStateException.class);
+        SendMessageInfo retried = chatService.sendMessage(cmd);
+
+        // then
+        assertThat(retried).isNotNull();
+        assertThat(retried.seq()).isEqualTo(7L);
+        verify(chatMessageWriteBehindQueue, times(1)).enqueue(any(ChatMessage.class));
+    }
+
+    @Test
+    @DisplayName("첨부 파일을 보내면 블롭을 저장하고, 첨부 파일 ID 를 담은 첨부 파일 메세지를 보낸다.")
+    void givenUpload_whenSendAttachment_thenStoreBlobAndSendAttachmentMessage() {
+        // given
+        Long studyGroupId = 1L;
+        Long roomId = 1L;
+        Long senderId = 10L;
+        InputStream content = new ByteArrayInputStream(new byte[]{1, 2, 3});
+
+        ChatRoom willReturnChatRoom = ChatRoom.of(studyGroupId);
+        given(chatRoomRepository.findByStudyGroupId(roomId)).willReturn(Optional.of(willReturnChatRoom));
+        given(memberInfoCache.get(senderId)).willReturn(memberInfo(senderId));
+        given(chatRoomSequencer.next(roomId)).willReturn(8L);
+        given(chatAttachmentBlobStore.store(content)).willReturn(new StoredBlob("a".repeat(64), 3L));
+        given(chatAttachmentRepository.save(any(ChatAttachment.class))).willAnswer(invocation -> {
+            ChatAttachment attachment = invocation.getArgument(0);
+            ReflectionTestUtils.setField(attachment, "id", 55L);
+            return attachment;
+        });
+
+        // when
+        SendMessageInfo sendMessageInfo = chatService.sendAttachment(roomId, senderId, "C:\\docs\\정리.pdf",
+                "application/pdf", content, null);
+
+        // then
+        ArgumentCaptor<ChatAttachment> attachmentCaptor = ArgumentCaptor.forClass(ChatAttachment.class);
+        verify(chatAttachmentRepository).save(attachmentCaptor.capture());
+        assertThat(attachmentCaptor.getValue().getFileName()).isEqualTo("정리.pdf");
+        assertThat(attachmentCaptor.getValue().getContentHash()).isEqualTo("a".repeat(64));
+
+        ArgumentCaptor<ChatMessage> messageCaptor = ArgumentCaptor.forClass(ChatMessage.class);
+        verify(chatMessageWriteBehindQueue).enqueue(messageCaptor.capture());
+        assertThat(messageCaptor.getValue().getType()).isEqualTo(MessageType.ATTACHMENT);
+        assertThat(messageCaptor.getValue().getContent()).isEqualTo("55");
+
+        assertThat(sendMessageInfo.seq()).isEqualTo(8L);
+        assertThat(sendMessageInfo.attachment().id()).isEqualTo(55L);
+        assertThat(sendMessageInfo.attachment().size()).isEqualTo(3L);
+        verify(recentChatMessageBuffer, times(1)).append(roomId, sendMessageInfo);
+    }
+
+    @Test
+    @DisplayName("첨부 파일 메세지는 STOMP 메세지로 보낼 수 없다.")
+    void givenAttachmentType_whenSendMessage_thenThrowException() {
+        // given
+        Long studyGroupId = 1L;
+        Long roomId = 1L;
+        Long senderId = 10L;
+
+        ChatRoom willReturnChatRoom = ChatRoom.of(studyGroupId);
+        given(chatRoomRepository.findByStudyGroupId(roomId)).willReturn(Optional.of(willReturnChatRoom));
+
+        SendMessageCommand cmd = new SendMessageCommand(roomId, senderId, "99", MessageType.ATTACHMENT);
+
+        // when & then
+        assertThatThrownBy(() -> chatService.sendMessage(cmd))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(chatMessageWriteBehindQueue, chatRoomSequencer);
+    }
+
+    @Test
+    @DisplayName("다른 채팅방의 첨부 파일은 내려받을 수 없다.")
+    void givenAttachmentOfOtherRoom_whenGetAttachment_thenThrowNotFound() {
+        // given
+        Long studyGroupId = 1L;
+        Long roomId = 1L;
+        Long memberId = 10L;
+
+        ChatRoom willReturnChatRoom = ChatRoom.of(studyGroupId);
+        given(chatRoomRepository.findByStudyGroupId(roomId)).willReturn(Optional.of(willReturnChatRoom));
+        given(chatAttachmentRepository.findById(55L)).willReturn(Optional.of(
+                ChatAttachment.of(2L, 11L, "a".repeat(64), "정리.pdf", "application/pdf", 3L)));
+
+        // when & then
+        assertThatThrownBy(() -> chatService.getAttachment(roomId, memberId, 55L))
+                .isInstanceOf(ChatAttachmentNotFoundException.class);
+        verifyNoInteractions(chatAttachmentBlobStore);
+    }
+
+    @Test
+    @DisplayName("첨부 파일 다운로드 대상은 내용 해시와 블롭 경로를 함께 반환한다.")
+    void givenAttachment_whenGetAttachment_thenReturnBlobPath() {
+        // given
+        Long studyGroupId = 1L;
+        Long roomId = 1L;
+        Long memberId = 10L;
+        String hash = "b".repeat(64);
+
+        ChatRoom willReturnChatRoom = ChatRoom.of(studyGroupId);
+        given(chatRoomRepository.findByStudyGroupId(roomId)).willReturn(Optional.of(willReturnChatRoom));
+        given(chatAttachmentRepository.findById(55L)).willReturn(Optional.of(
+                ChatAttachment.of(roomId, 11L, hash, "정리.pdf", "application/pdf", 3L)));
+        given(chatAttachmentBlobStore.find(hash)).willReturn(Path.of("bb", hash));
+
+        // when
+        ChatAttachmentDownload download = chatService.getAttachment(roomId, memberId, 55L);
+
+        // then
+        assertThat(download.contentHash()).isEqualTo(hash);
+        assertThat(download.info().fileName()).isEqualTo("정리.pdf");
+        assertThat(download.path()).isEqualTo(Path.of("bb", hash));
+    }
+
+    @Test
+    @DisplayName("채팅 내역의 첨부 파일 메세지는 첨부 파일 정보를 한 번에 조회해 채운다.")
+    void givenAttachmentMessages_whenGetChatHistoryRange_thenResolveAttachmentsInOneQuery() {
+        // given
+        Long studyGroupId = 1L;
+        Long roomId = 1L;
+        Long memberId = 10L;
+
+        ChatRoom willReturnChatRoom = ChatRoom.of(studyGroupId);
+        given(chatRoomRepository.findByStudyGroupId(roomId)).willReturn(Optional.of(willReturnChatRoom));
+        given(recentChatMessageBuffer.findRange(roomId, 0L, 3L)).willReturn(Optional.empty());
+
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        given(chatHistoryStore.findRange(roomId, 0L, 3L)).willReturn(List.of(
+                ChatMessage.restore(1L, roomId, 1L, 11L, "안녕", MessageType.CHAT, createdAt),
+                ChatMessage.restore(2L, roomId, 2L, 11L, "55", MessageType.ATTACHMENT, createdAt),
+                ChatMessage.restore(3L, roomId, 3L, 11L, "56", MessageType.ATTACHMENT, createdAt)));
+
+        ChatAttachment first = ChatAttachment.of(roomId, 11L, "a".repeat(64), "a.png", "image/png", 10L);
+        ChatAttachment second = ChatAttachment.of(roomId, 11L, "b".repeat(64), "b.pdf", "application/pdf", 20L);
+        ReflectionTestUtils.setField(first, "id", 55L);
+        ReflectionTestUtils.setField(second, "id", 56L);
+        given(chatAttachmentRepository.findAllById(List.of(55L, 56L))).willReturn(List.of(first, second));
+
+        // when
+        List<SendMessageInfo> result = chatService.getChatHistoryRange(roomId, memberId, 0L, 3L);
+
+        // then
+        assertThat(result.get(0).attachment()).isNull();
+        assertThat(result.get(1).attachment().fileName()).isEqualTo("a.png");
+        assertThat(result.get(2).attachment().fileName()).isEqualTo("b.pdf");
+        verify(chatAttachmentRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("채팅 내역 내보내기는 오래된 순으로 한 줄에 메세지 하나씩 NDJSON 으로 쓴다.")
+    void givenChatHistory_whenExport_thenWriteNdjsonLines() throws Exception {
+        // given
+        Long studyGroupId = 1L;
+        Long roomId = 1L;
+        Long memberId = 10L;
+
+        ChatRoom willReturnChatRoom = ChatRoom.of(studyGroupId);
+        given(chatRoomRepository.findByStudyGroupId(roomId)).willReturn(Optional.of(willReturnChatRoom));
+        given(memberInfoCache.find(11L)).willReturn(Optional.of(memberInfo(11L)));
+        given(memberInfoCache.find(12L)).willReturn(Optional.empty());
+
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        List<ChatMessage> history = List.of(
+                ChatMessage.restore(1L, roomId, 1L, 11L, "첫 메세지", MessageType.CHAT, createdAt),
+                ChatMessage.restore(2L, roomId, 2L, 12L, "두번째 메세지", MessageType.CHAT, createdAt));
+        willAnswer(invocation -> {
+            Consumer<ChatMessage> action = invocation.getArgument(1);
+            history.forEach(action);
+            return null;
+        }).given(chatHistoryStore).forEachOldestFirst(eq(roomId), any());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long written;
+        try (ChatHistoryExport export = chatService.openChatHistoryExport(roomId, memberId)) {
+            written = export.writeTo(out);
+        }
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(written).isEqualTo(2L);
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("seq").asLong()).isEqualTo(1L);
+        assertThat(objectMapper.readTree(lines[0]).get("nickname").asText()).isEqualTo("테스트 유저");
+        assertThat(objectMapper.readTree(lines[1]).get("content").asText()).isEqualTo("두번째 메세지");
+        assertThat(objectMapper.readTree(lines[1]).get("nickname").asText()).isEqualTo("알 수 없음");
+        assertThat(chatHistoryExportLimiter.getRunningCount(memberId)).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 진행 중인 내보내기가 있으면 새 내보내기를 거절한다.")
+    void givenRunningExport_whenOpenExport_thenThrowLimitException() {
+        // given
+        Long studyGroupId = 1L;
+        Long roomId = 1L;
+        Long memberId = 10L;
+
+        ChatRoom willReturnChatRoom = ChatRoom.of(studyGroupId);
+        given(chatRoomRepository.findByStudyGroupId(roomId)).willReturn(Optional.of(willReturnChatRoom));
+
+        // when
+        ChatHistoryExport running = chatService.openChatHistoryExport(roomId, memberId);
+
+        // then
+        assertThatThrownBy(() -> chatService.openChatHistoryExport(roomId, memberId))
+                .isInstanceOf(ChatHistoryExportLimitException.class);
+        running.close();
+        assertThat(chatHistoryExportLimiter.getRunningCount(memberId)).isZero();
+    }
+
+    private MemberInfoDto memberInfo(Long userId) {
+        return new MemberInfoDto(userId, "테스트 유저", "test@test.com");
     }
 
-    private List<Object[]> createMockGetMessageInfo(Long roomId, int count) {
-        List<Object[]> dtos = new ArrayList<>();
+    private List<ChatMessage> createMockChatMessages(Long roomId, int count) {
+        List<ChatMessage> chatMessages = new ArrayList<>();
 
         for (int i = 1; i <= count; i++) {
-            String nickname = i % 2 == 0 ? "nickname1" : "nickname2";
             ChatMessage chatMessage = ChatMessage.of(roomId, (long) i, "메세지 " + i,
                     MessageType.CHAT);
-            Object[] mockObj = {chatMessage, nickname, chatMessage.getSenderId()};
-            dtos.add(mockObj);
+            chatMessages.add(chatMessage);
         }
 
-        return dtos;
+        return chatMessages;
     }
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.jaeseok.groupStudy.unit.chat.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.jaeseok.groupStudy.chat.domain.vo.ChatHistoryCursor;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ChatHistoryCursor 단위 테스트")
+class ChatHistoryCursorTest {
+
+    @Test
+    @DisplayName("커서를 인코딩한 값을 디코딩하면 같은 커서가 된다.")
+    void givenCursor_whenEncodeAndDecode_thenReturnEqual() {
+        // given
+        ChatHistoryCursor cursor = ChatHistoryCursor.of(LocalDateTime.of(2025, 3, 1, 12, 30, 0, 123_456_000), 42L);
+
+        // when
+        String encoded = cursor.encode();
+        ChatHistoryCursor decoded = ChatHistoryCursor.decode(encoded);
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 커서 문자열은 예외를 던진다.")
+    void givenInvalidValue_whenDecode_thenThrowException() {
+        // when & then
+        assertThatThrownBy(() -> ChatHistoryCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("유효하지 않은 커서입니다.");
+    }
+}
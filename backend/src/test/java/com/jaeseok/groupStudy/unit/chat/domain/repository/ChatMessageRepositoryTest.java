@@ -7,22 +7,16 @@ import com.jaeseok.groupStudy.chat.domain.ChatRoom;
 import com.jaeseok.groupStudy.chat.domain.MessageType;
 import com.jaeseok.groupStudy.chat.domain.repository.ChatMessageRepository;
 import com.jaeseok.groupStudy.chat.domain.repository.ChatRoomRepository;
-import com.jaeseok.groupStudy.member.domain.Member;
-import com.jaeseok.groupStudy.member.domain.MemberRepository;
 import jakarta.persistence.EntityNotFoundException;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
-import org.springframework.context.annotation.ComponentScan;
-import org.springframework.context.annotation.FilterType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 
-@DataJpaTest(includeFilters = @ComponentScan.Filter(
-        type = FilterType.ASSIGNABLE_TYPE,
-        classes = MemberRepository.class))
+@DataJpaTest
 @DisplayName("ChatMessage JPA Repository 테스트")
 class ChatMessageRepositoryTest {
 
@@ -32,9 +26,6 @@ class ChatMessageRepositoryTest {
     @Autowired
     ChatRoomRepository chatRoomRepository;
 
-    @Autowired
-    MemberRepository memberRepository;
-
     @Test
     @DisplayName("ChatMessage 엔티티를 저장하고 조회할 수 있다.")
     void givenChatMessage_whenSaveAndFind_thenReturnEqual() {
@@ -63,50 +54,47 @@ class ChatMessageRepositoryTest {
     }
 
     @Test
-    @DisplayName("ChatMessage를 닉네임과 함께 페이징 조회를 할 수 있다.")
-    void givenChatMessagesWithUser_whenFindChatMessageHistoryWithNickname_thenReturnPagingObject() {
+    @DisplayName("커서 이전의 ChatMessage를 (생성 시각, id) 역순으로 조회할 수 있다.")
+    void givenCursor_whenFindChatMessagesBefore_thenReturnOlderMessages() {
         // given
         ChatRoom chatRoom = ChatRoom.of(1L);
         Long chatRoomId = chatRoomRepository.save(chatRoom).getId();
 
-        Member member1 = Member.createMember("테스트 유저001", "test001@test.com", "password1234");
-        Member member2 = Member.createMember("테스트 유저002", "test002@test.com", "password1234");
-
-        member1 = memberRepository.save(member1);
-        member2 = memberRepository.save(member1);
-        for (int i = 0; i < 40; i++) {
-            Long senderId = i % 2 == 0 ? member1.getId() : member2.getId();
-            ChatMessage chatMessage = ChatMessage.of(chatRoomId, senderId, "테스트 메세지 " + i,
-                    MessageType.CHAT);
-            chatMessageRepository.save(chatMessage);
+        for (int i = 0; i < 10; i++) {
+            chatMessageRepository.save(ChatMessage.of(chatRoomId, 10L, "테스트 메세지 " + i, MessageType.CHAT));
         }
 
-        Pageable pageable = PageRequest.of(0, 10);
+        List<ChatMessage> firstSlice = chatMessageRepository.findLatestChatMessages(chatRoomId, PageRequest.of(0, 4));
+        ChatMessage cursorMessage = firstSlice.get(firstSlice.size() - 1);
 
         // when
-        Page<Object[]> chatMessageHistoryWithNickname = chatMessageRepository.findChatMessageHistoryWithUser(
-                chatRoomId, pageable);
+        List<ChatMessage> nextSlice = chatMessageRepository.findChatMessagesBefore(chatRoomId,
+                cursorMessage.getCreatedAt(), cursorMessage.getId(), PageRequest.of(0, 4));
 
         // then
-        assertThat(chatMessageHistoryWithNickname).isNotNull();
-        assertThat(chatMessageHistoryWithNickname.getTotalElements()).isEqualTo(40);
-        assertThat(chatMessageHistoryWithNickname.getTotalPages()).isEqualTo(4);
-        assertThat(chatMessageHistoryWithNickname.getNumberOfElements()).isEqualTo(10);
-        assertThat(chatMessageHistoryWithNickname.getContent()).hasSize(10);
-
-        for (int i = 0; i < chatMessageHistoryWithNickname.getContent().size(); i++) {
-            Object[] chatMessageHistory = chatMessageHistoryWithNickname.getContent().get(i);
-            ChatMessage chatMessage = (ChatMessage) chatMessageHistory[0];
-            String nickname = (String) chatMessageHistory[1];
-            if (i % 2 == 0) {
-                assertThat(chatMessage.getSenderId()).isEqualTo(member1.getId());
-                assertThat(nickname).isEqualTo(member1.getUserInfoNickname());
-            } else {
-                assertThat(chatMessage.getSenderId()).isEqualTo(member2.getId());
-                assertThat(nickname).isEqualTo(member2.getUserInfoNickname());
-            }
+        assertThat(firstSlice).hasSize(4);
+        assertThat(firstSlice.get(0).getContent()).isEqualTo("테스트 메세지 9");
+        assertThat(nextSlice).extracting(ChatMessage::getContent)
+                .containsExactly("테스트 메세지 5", "테스트 메세지 4", "테스트 메세지 3", "테스트 메세지 2");
+    }
+
+    @Test
+    @DisplayName("ChatMessage를 JOIN 없이 최신순으로 페이징 조회할 수 있다.")
+    void givenChatMessages_whenFindChatMessageHistory_thenReturnPage() {
+        // given
+        ChatRoom chatRoom = ChatRoom.of(1L);
+        Long chatRoomId = chatRoomRepository.save(chatRoom).getId();
 
+        for (int i = 0; i < 25; i++) {
+            chatMessageRepository.save(ChatMessage.of(chatRoomId, 10L, "테스트 메세지 " + i, MessageType.CHAT));
         }
 
+        // when
+        Page<ChatMessage> page = chatMessageRepository.findChatMessageHistory(chatRoomId, PageRequest.of(0, 10));
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(25);
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getContent().get(0).getContent()).isEqualTo("테스트 메세지 24");
     }
-}
\ No newline at end of file
+}
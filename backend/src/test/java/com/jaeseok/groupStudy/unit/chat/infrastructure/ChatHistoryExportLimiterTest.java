@@ -0,0 +1,64 @@
+package com.jaeseok.groupStudy.unit.chat.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.jaeseok.groupStudy.chat.exception.ChatHistoryExportLimitException;
+import com.jaeseok.groupStudy.chat.infrastructure.ChatHistoryExportLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("채팅 내역 내보내기 동시 실행 제한 테스트")
+class ChatHistoryExportLimiterTest {
+
+    ChatHistoryExportLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new ChatHistoryExportLimiter(1, 2);
+    }
+
+    @Test
+    @DisplayName("같은 회원은 진행 중인 내보내기가 끝나야 다시 내보낼 수 있다.")
+    void givenRunningExport_whenAcquireSameMember_thenRejectUntilReleased() {
+        // given
+        ChatHistoryExportLimiter.Permit permit = limiter.acquire(10L);
+
+        // when & then
+        assertThatThrownBy(() -> limiter.acquire(10L))
+                .isInstanceOf(ChatHistoryExportLimitException.class);
+
+        permit.close();
+        assertThat(limiter.acquire(10L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("전체 동시 실행 한도를 넘으면 다른 회원의 내보내기도 거절하고, 회원 자리는 잡지 않는다.")
+    void givenGlobalLimitReached_whenAcquire_thenRejectWithoutHoldingMemberSlot() {
+        // given
+        limiter.acquire(10L);
+        limiter.acquire(11L);
+
+        // when & then
+        assertThatThrownBy(() -> limiter.acquire(12L))
+                .isInstanceOf(ChatHistoryExportLimitException.class);
+        assertThat(limiter.getRunningCount(12L)).isZero();
+    }
+
+    @Test
+    @DisplayName("자리는 여러 번 close 해도 한 번만 반납된다.")
+    void givenClosedPermit_whenCloseAgain_thenReleaseOnce() {
+        // given
+        ChatHistoryExportLimiter.Permit first = limiter.acquire(10L);
+        limiter.acquire(11L);
+        first.close();
+
+        // when
+        first.close();
+
+        // then
+        limiter.acquire(12L);
+        assertThatThrownBy(() -> limiter.acquire(13L))
+                .isInstanceOf(ChatHistoryExportLimitException.class);
+    }
+}
@@ -0,0 +1,170 @@
+package com.jaeseok.groupStudy.unit.chat.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jaeseok.groupStudy.chat.domain.ChatMessage;
+import com.jaeseok.groupStudy.chat.domain.MessageType;
+import com.jaeseok.groupStudy.chat.domain.vo.ChatHistoryCursor;
+import com.jaeseok.groupStudy.chat.infrastructure.archive.ChatMessageArchive;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("Chat Message Archive 테스트")
+class ChatMessageArchiveTest {
+
+    @TempDir
+    Path archiveDir;
+
+    ChatMessageArchive chatMessageArchive;
+
+    final Long ROOM_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        chatMessageArchive = new ChatMessageArchive(new ObjectMapper(), archiveDir.toString(), 100);
+    }
+
+    @Test
+    @DisplayName("메세지는 채팅방/월 단위 압축 세그먼트로 기록된다.")
+    void givenMessagesOfTwoMonths_whenAppend_thenWriteSegmentPerMonth() {
+        // given
+        List<ChatMessage> messages = List.of(
+                message(1L, LocalDateTime.of(2025, 1, 31, 23, 59)),
+                message(2L, LocalDateTime.of(2025, 2, 1, 0, 0)));
+
+        // when
+        chatMessageArchive.append(ROOM_ID, messages);
+
+        // then
+        assertThat(Files.exists(archiveDir.resolve("1/2025-01/1-1.ndjson.gz"))).isTrue();
+        assertThat(Files.exists(archiveDir.resolve("1/2025-02/2-2.ndjson.gz"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("커서 이전의 메세지를 월을 거슬러 올라가며 최신순으로 조회한다.")
+    void givenArchivedMessages_whenFindBefore_thenReturnNewestFirstAcrossMonths() {
+        // given
+        chatMessageArchive.append(ROOM_ID, List.of(
+                message(1L, LocalDateTime.of(2025, 1, 10, 0, 0)),
+                message(2L, LocalDateTime.of(2025, 1, 20, 0, 0)),
+                message(3L, LocalDateTime.of(2025, 2, 5, 0, 0)),
+                message(4L, LocalDateTime.of(2025, 3, 5, 0, 0))));
+        ChatHistoryCursor cursor = ChatHistoryCursor.of(LocalDateTime.of(2025, 3, 5, 0, 0), 4L);
+
+        // when
+        List<ChatMessage> result = chatMessageArchive.findBefore(ROOM_ID, cursor, 2);
+
+        // then
+        assertThat(result).extracting(ChatMessage::getId).containsExactly(3L, 2L);
+        assertThat(result).allMatch(message -> message.getChatRoomId().equals(ROOM_ID));
+    }
+
+    @Test
+    @DisplayName("같은 메세지가 두 번 기록되어도 한 번만 조회된다.")
+    void givenDuplicatedSegments_whenFindBefore_thenDeduplicateById() {
+        // given
+        chatMessageArchive.append(ROOM_ID, List.of(message(1L, LocalDateTime.of(2025, 1, 10, 0, 0)),
+                message(2L, LocalDateTime.of(2025, 1, 11, 0, 0))));
+        chatMessageArchive.append(ROOM_ID, List.of(message(2L, LocalDateTime.of(2025, 1, 11, 0, 0))));
+
+        // when
+        List<ChatMessage> result = chatMessageArchive.findBefore(ROOM_ID, null, 10);
+
+        // then
+        assertThat(result).extracting(ChatMessage::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("아카이브가 없는 채팅방은 빈 목록을 반환한다.")
+    void givenNoArchive_whenFindBefore_thenReturnEmpty() {
+        // when
+        List<ChatMessage> result = chatMessageArchive.findBefore(99L, null, 10);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("순번 구간의 메세지를 월을 거슬러 올라가며 순번 순으로 조회하고, 최대 순번은 최근 월에서 찾는다.")
+    void givenSequencedMessages_whenFindRange_thenReturnAscendingAcrossMonths() {
+        // given
+        chatMessageArchive.append(ROOM_ID, List.of(
+                sequenced(11L, 1L, LocalDateTime.of(2025, 1, 10, 0, 0)),
+                sequenced(12L, 2L, LocalDateTime.of(2025, 1, 20, 0, 0)),
+                sequenced(13L, 3L, LocalDateTime.of(2025, 2, 5, 0, 0)),
+                sequenced(14L, 4L, LocalDateTime.of(2025, 3, 5, 0, 0))));
+
+        // when
+        List<ChatMessage> result = chatMessageArchive.findRange(ROOM_ID, 1L, 3L);
+
+        // then
+        assertThat(result).extracting(ChatMessage::getSeq).containsExactly(2L, 3L);
+        assertThat(chatMessageArchive.findMaxSeq(ROOM_ID)).isEqualTo(4L);
+        assertThat(chatMessageArchive.findMaxSeq(999L)).isZero();
+    }
+
+    @Test
+    @DisplayName("캐시된 월에 새 세그먼트가 기록되면 다음 조회는 새 메세지까지 다시 읽는다.")
+    void givenCachedMonth_whenNewSegmentAppended_thenNextReadIncludesIt() {
+        // given
+        chatMessageArchive.append(ROOM_ID, List.of(sequenced(11L, 1L, LocalDateTime.of(2025, 1, 10, 0, 0))));
+        assertThat(chatMessageArchive.findMaxSeq(ROOM_ID)).isEqualTo(1L);
+
+        // when
+        chatMessageArchive.append(ROOM_ID, List.of(sequenced(12L, 2L, LocalDateTime.of(2025, 1, 20, 0, 0))));
+
+        // then
+        assertThat(chatMessageArchive.findMaxSeq(ROOM_ID)).isEqualTo(2L);
+        assertThat(chatMessageArchive.findBefore(ROOM_ID, null, 10)).extracting(ChatMessage::getId)
+                .containsExactly(12L, 11L);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 같은 월에 세그먼트를 기록해도 세그먼트 목록이 달라져 캐시를 다시 읽는다.")
+    void givenCachedMonth_whenSegmentWrittenElsewhere_thenReloadBySegmentNames() {
+        // given
+        chatMessageArchive.append(ROOM_ID, List.of(message(1L, LocalDateTime.of(2025, 1, 10, 0, 0))));
+        assertThat(chatMessageArchive.findBefore(ROOM_ID, null, 10)).hasSize(1);
+        ChatMessageArchive otherWriter = new ChatMessageArchive(new ObjectMapper(), archiveDir.toString(), 100);
+
+        // when
+        otherWriter.append(ROOM_ID, List.of(message(2L, LocalDateTime.of(2025, 1, 11, 0, 0))));
+
+        // then
+        assertThat(chatMessageArchive.findBefore(ROOM_ID, null, 10)).extracting(ChatMessage::getId)
+                .containsExactly(2L, 1L);
+    }
+
+    private ChatMessage sequenced(Long id, Long seq, LocalDateTime createdAt) {
+        return ChatMessage.restore(id, ROOM_ID, seq, 10L, "메세지 " + id, MessageType.CHAT, createdAt);
+    }
+
+    @Test
+    @DisplayName("내보내기는 월을 앞에서부터 읽어 아카이브 메세지를 오래된 순으로 넘긴다.")
+    void givenArchivedMessages_whenForEachOldestFirst_thenVisitOldestFirstAcrossMonths() {
+        // given
+        chatMessageArchive.append(ROOM_ID, List.of(
+                message(3L, LocalDateTime.of(2025, 2, 5, 0, 0)),
+                message(1L, LocalDateTime.of(2025, 1, 10, 0, 0)),
+                message(2L, LocalDateTime.of(2025, 1, 20, 0, 0))));
+        List<Long> visited = new ArrayList<>();
+
+        // when
+        chatMessageArchive.forEachOldestFirst(ROOM_ID, message -> visited.add(message.getId()));
+
+        // then
+        assertThat(visited).containsExactly(1L, 2L, 3L);
+    }
+
+    private ChatMessage message(Long id, LocalDateTime createdAt) {
+        return ChatMessage.restore(id, ROOM_ID, 10L, "메세지 " + id, MessageType.CHAT, createdAt);
+    }
+}
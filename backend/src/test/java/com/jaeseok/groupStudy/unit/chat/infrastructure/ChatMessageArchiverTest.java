@@ -0,0 +1,87 @@
+package com.jaeseok.groupStudy.unit.chat.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.jaeseok.groupStudy.chat.domain.ChatMessage;
+import com.jaeseok.groupStudy.chat.domain.MessageType;
+import com.jaeseok.groupStudy.chat.domain.repository.ChatMessageRepository;
+import com.jaeseok.groupStudy.chat.infrastructure.RecentChatMessageBuffer;
+import com.jaeseok.groupStudy.chat.infrastructure.archive.ChatMessageArchive;
+import com.jaeseok.groupStudy.chat.infrastructure.archive.ChatMessageArchiver;
+import com.jaeseok.groupStudy.common.cluster.ClusterLock;
+import com.jaeseok.groupStudy.common.cluster.LocalClusterLock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("채팅 메세지 아카이버 테스트")
+class ChatMessageArchiverTest {
+
+    @Mock
+    ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    ChatMessageArchive chatMessageArchive;
+
+    @Mock
+    RecentChatMessageBuffer recentChatMessageBuffer;
+
+    ClusterLock clusterLock = new LocalClusterLock();
+
+    @Test
+    @DisplayName("락을 잡으면 아카이브에 기록한 뒤 핫 테이블에서 지우고, 끝나면 락을 푼다.")
+    void givenExpiredMessages_whenArchiveScheduled_thenAppendThenDeleteAndReleaseLock() {
+        // given
+        ChatMessage message = ChatMessage.restore(1L, 7L, 10L, "메세지", MessageType.CHAT,
+                LocalDateTime.of(2024, 1, 1, 0, 0));
+        given(chatMessageRepository.findChatMessagesCreatedBefore(any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(message));
+
+        // when
+        archiver("loopback", false).archiveScheduled();
+
+        // then
+        InOrder inOrder = inOrder(chatMessageArchive, chatMessageRepository, recentChatMessageBuffer);
+        inOrder.verify(chatMessageArchive).append(7L, List.of(message));
+        inOrder.verify(chatMessageRepository).deleteAllByIdInBatch(List.of(1L));
+        inOrder.verify(recentChatMessageBuffer).onArchived(7L, 1);
+        assertThat(clusterLock.tryAcquire("chat-archive", Duration.ofMinutes(1))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 락을 잡고 있으면 이번 실행은 건너뛴다.")
+    void givenLockHeldByOtherNode_whenArchiveScheduled_thenSkip() {
+        // given
+        clusterLock.tryAcquire("chat-archive", Duration.ofMinutes(1));
+
+        // when
+        archiver("loopback", false).archiveScheduled();
+
+        // then
+        verifyNoInteractions(chatMessageRepository, chatMessageArchive);
+    }
+
+    @Test
+    @DisplayName("클러스터 모드에서 아카이브 디렉토리가 공유 스토리지가 아니면 아카이브하지 않는다.")
+    void givenClusterWithLocalArchiveDir_whenArchiveScheduled_thenSkip() {
+        // when
+        archiver("redis", false).archiveScheduled();
+
+        // then
+        verifyNoInteractions(chatMessageRepository, chatMessageArchive);
+    }
+
+    private ChatMessageArchiver archiver(String clusterTransport, boolean sharedStorage) {
+        return new ChatMessageArchiver(chatMessageRepository, chatMessageArchive, recentChatMessageBuffer,
+                clusterLock, 180, 1000, 3_600_000, clusterTransport, sharedStorage);
+    }
+}
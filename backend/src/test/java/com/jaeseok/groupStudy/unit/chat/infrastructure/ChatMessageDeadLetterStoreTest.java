@@ -0,0 +1,56 @@
+package com.jaeseok.groupStudy.unit.chat.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jaeseok.groupStudy.chat.domain.ChatMessage;
+import com.jaeseok.groupStudy.chat.domain.MessageType;
+import com.jaeseok.groupStudy.chat.infrastructure.ChatMessageDeadLetterStore;
+import com.jaeseok.groupStudy.chat.infrastructure.ChatMessageDeadLetterStore.DeadLetter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("저장하지 못한 채팅 메세지 보관소 테스트")
+class ChatMessageDeadLetterStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("메세지를 채팅방 id, 원본 메세지, 실패 원인과 함께 한 줄씩 덧붙인다.")
+    void givenMessages_whenWrite_thenAppendNdjsonLines() throws IOException {
+        // given
+        ChatMessageDeadLetterStore store = new ChatMessageDeadLetterStore(objectMapper, tempDir.toString());
+        ChatMessage first = ChatMessage.restore(1L, 7L, 3L, 10L, "메세지 1", MessageType.CHAT,
+                LocalDateTime.of(2025, 1, 1, 0, 0));
+        ChatMessage second = ChatMessage.restore(2L, 7L, 4L, 10L, "메세지 2", MessageType.CHAT,
+                LocalDateTime.of(2025, 1, 1, 0, 1));
+
+        // when
+        store.write(List.of(first), new IllegalStateException("실패 1"));
+        store.write(List.of(second), new IllegalStateException("실패 2"));
+
+        // then
+        List<String> lines;
+        try (Stream<Path> files = Files.list(tempDir)) {
+            Path file = files.findFirst().orElseThrow();
+            lines = Files.readAllLines(file);
+        }
+        assertThat(lines).hasSize(2);
+
+        DeadLetter deadLetter = objectMapper.readValue(lines.get(1), DeadLetter.class);
+        assertThat(deadLetter.roomId()).isEqualTo(7L);
+        assertThat(deadLetter.message().seq()).isEqualTo(4L);
+        assertThat(deadLetter.message().toChatMessage(deadLetter.roomId()).getContent()).isEqualTo("메세지 2");
+        assertThat(deadLetter.error()).contains("실패 2");
+    }
+}
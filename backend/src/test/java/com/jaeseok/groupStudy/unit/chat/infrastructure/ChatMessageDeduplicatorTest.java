@@ -0,0 +1,93 @@
+package com.jaeseok.groupStudy.unit.chat.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.jaeseok.groupStudy.chat.infrastructure.ChatMessageDeduplicator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("채팅 메세지 중복 발행 차단 테스트")
+class ChatMessageDeduplicatorTest {
+
+    SimpleMeterRegistry meterRegistry;
+    ChatMessageDeduplicator deduplicator;
+
+    final Long ROOM_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        deduplicator = new ChatMessageDeduplicator(meterRegistry, 2, 0L);
+    }
+
+    @Test
+    @DisplayName("창 안에서 같은 발신자가 같은 ID 로 다시 보내면 중복으로 판단한다.")
+    void givenSameClientMessageId_whenRegisterTwice_thenRejectSecond() {
+        // given
+        deduplicator.register(ROOM_ID, 10L, "a");
+
+        // when
+        boolean retried = deduplicator.register(ROOM_ID, 10L, "a");
+        boolean otherSender = deduplicator.register(ROOM_ID, 11L, "a");
+        boolean otherRoom = deduplicator.register(2L, 10L, "a");
+
+        // then
+        assertThat(retried).isFalse();
+        assertThat(otherSender).isTrue();
+        assertThat(otherRoom).isTrue();
+        assertThat(meterRegistry.get("chat.message.duplicate-dropped").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("클라이언트 메세지 ID 가 없으면 중복 확인을 하지 않는다.")
+    void givenNoClientMessageId_whenRegister_thenAlwaysAccept() {
+        // when & then
+        assertThat(deduplicator.register(ROOM_ID, 10L, null)).isTrue();
+        assertThat(deduplicator.register(ROOM_ID, 10L, null)).isTrue();
+        assertThat(deduplicator.getWindowCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("창 크기를 넘어 밀려난 ID 는 잊는다.")
+    void givenWindowOverflow_whenRegisterEvictedId_thenAcceptAgain() {
+        // given
+        deduplicator.register(ROOM_ID, 10L, "a");
+        deduplicator.register(ROOM_ID, 10L, "b");
+        deduplicator.register(ROOM_ID, 10L, "c");
+
+        // when & then
+        assertThat(deduplicator.register(ROOM_ID, 10L, "a")).isTrue();
+        assertThat(deduplicator.register(ROOM_ID, 10L, "c")).isFalse();
+    }
+
+    @Test
+    @DisplayName("잊은 ID 는 다시 받을 수 있고, 다시 등록한 ID 는 이전 슬롯이 밀려나도 기억한다.")
+    void givenForgottenId_whenRegisterAgain_thenAcceptAndKeepNewRegistration() {
+        // given
+        deduplicator.register(ROOM_ID, 10L, "a");
+        deduplicator.forget(ROOM_ID, 10L, "a");
+
+        // when
+        boolean retried = deduplicator.register(ROOM_ID, 10L, "a");
+        deduplicator.register(ROOM_ID, 10L, "b"); // 처음 등록한 "a" 의 슬롯이 밀려난다.
+
+        // then
+        assertThat(retried).isTrue();
+        assertThat(deduplicator.register(ROOM_ID, 10L, "a")).isFalse();
+    }
+
+    @Test
+    @DisplayName("한동안 쓰이지 않은 채팅방의 창은 정리된다.")
+    void givenIdleWindow_whenEvictIdleWindows_thenRemoveWindow() {
+        // given
+        deduplicator.register(ROOM_ID, 10L, "a");
+
+        // when
+        deduplicator.evictIdleWindows();
+
+        // then
+        assertThat(deduplicator.getWindowCount()).isZero();
+    }
+}
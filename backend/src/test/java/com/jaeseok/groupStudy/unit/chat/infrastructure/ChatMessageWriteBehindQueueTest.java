@@ -0,0 +1,215 @@
+package com.jaeseok.groupStudy.unit.chat.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.jaeseok.groupStudy.chat.domain.ChatMessage;
+import com.jaeseok.groupStudy.chat.domain.MessageType;
+import com.jaeseok.groupStudy.chat.domain.repository.ChatHistoryStore;
+import com.jaeseok.groupStudy.chat.infrastructure.ChatMessageDeadLetterStore;
+import com.jaeseok.groupStudy.chat.infrastructure.ChatMessageWriteBehindQueue;
+import com.jaeseok.groupStudy.common.id.SnowflakeIdGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageWriteBehindQueueTest {
+
+    @Mock
+    ChatHistoryStore chatHistoryStore;
+
+    @Mock
+    ChatMessageDeadLetterStore deadLetterStore;
+
+    SimpleMeterRegistry meterRegistry;
+    ChatMessageWriteBehindQueue writeBehindQueue;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 주기 flush가 테스트 중에 끼어들지 않도록 주기를 길게 설정
+        writeBehindQueue = new ChatMessageWriteBehindQueue(chatHistoryStore, new SnowflakeIdGenerator(0),
+                deadLetterStore, meterRegistry, 3, 100, 60_000, 1, 1, 1_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writeBehindQueue.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기열에 쌓인 메세지는 저장소에 한 번에 저장된다.")
+    void givenQueuedMessages_whenFlush_thenAppendAsSingleBatch() {
+        // given
+        writeBehindQueue.enqueue(ChatMessage.of(1L, 10L, "메세지 1", MessageType.CHAT));
+        writeBehindQueue.enqueue(ChatMessage.of(1L, 11L, "메세지 2", MessageType.CHAT));
+
+        // when
+        writeBehindQueue.flush();
+
+        // then
+        ArgumentCaptor<List<ChatMessage>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(chatHistoryStore, times(1)).appendAll(batchCaptor.capture());
+
+        assertThat(batchCaptor.getValue()).extracting(ChatMessage::getContent)
+                .containsExactly("메세지 1", "메세지 2");
+        assertThat(writeBehindQueue.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("채팅방의 대기 메세지가 있으면 저장될 때까지 기다리고, 없으면 바로 반환한다.")
+    void givenPendingMessageOfRoom_whenAwaitPersisted_thenFlushBeforeReturn() {
+        // given
+        writeBehindQueue.enqueue(ChatMessage.of(1L, 10L, "메세지 1", MessageType.CHAT));
+
+        // when
+        writeBehindQueue.awaitPersisted(2L);
+        verify(chatHistoryStore, never()).appendAll(anyList());
+        writeBehindQueue.awaitPersisted(1L);
+
+        // then
+        verify(chatHistoryStore, times(1)).appendAll(anyList());
+        assertThat(writeBehindQueue.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기열에 넣을 때 메세지에 시간 순서 식별자를 부여한다.")
+    void givenMessages_whenEnqueue_thenAssignIncreasingIds() {
+        // given
+        ChatMessage first = ChatMessage.of(1L, 10L, "메세지 1", MessageType.CHAT);
+        ChatMessage second = ChatMessage.of(1L, 10L, "메세지 2", MessageType.CHAT);
+
+        // when
+        writeBehindQueue.enqueue(first);
+        writeBehindQueue.enqueue(second);
+
+        // then
+        assertThat(first.getId()).isNotNull();
+        assertThat(second.getId()).isGreaterThan(first.getId());
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 호출 스레드에서 바로 저장한다.")
+    void givenFullQueue_whenEnqueue_thenWriteSynchronously() {
+        // given
+        writeBehindQueue.enqueue(ChatMessage.of(1L, 10L, "메세지 1", MessageType.CHAT));
+        writeBehindQueue.enqueue(ChatMessage.of(1L, 10L, "메세지 2", MessageType.CHAT));
+        writeBehindQueue.enqueue(ChatMessage.of(1L, 10L, "메세지 3", MessageType.CHAT));
+
+        // when
+        writeBehindQueue.enqueue(ChatMessage.of(1L, 10L, "메세지 4", MessageType.CHAT));
+
+        // then
+        verify(chatHistoryStore, times(1)).appendAll(anyList());
+        assertThat(writeBehindQueue.pendingCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("저장에 실패하면 설정된 횟수만큼 재시도한다.")
+    void givenDatabaseFailure_whenFlush_thenRetry() {
+        // given
+        willThrow(new DataAccessResourceFailureException("connection lost"))
+                .willDoNothing()
+                .given(chatHistoryStore).appendAll(anyList());
+        writeBehindQueue.enqueue(ChatMessage.of(1L, 10L, "메세지 1", MessageType.CHAT));
+
+        // when
+        writeBehindQueue.flush();
+
+        // then
+        verify(chatHistoryStore, times(2)).appendAll(anyList());
+        assertThat(writeBehindQueue.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료 시 대기열에 남은 메세지를 모두 저장한다.")
+    void givenQueuedMessages_whenShutdown_thenFlushRemaining() {
+        // given
+        writeBehindQueue.enqueue(ChatMessage.of(1L, 10L, "메세지 1", MessageType.CHAT));
+
+        // when
+        writeBehindQueue.shutdown();
+
+        // then
+        verify(chatHistoryStore, times(1)).appendAll(anyList());
+        assertThat(writeBehindQueue.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 행 때문에 배치 저장이 계속 실패하면 나눠 저장하고, 실패한 행만 dead letter 로 남긴다.")
+    void givenPoisonRow_whenFlush_thenWriteGoodRowsAndDeadLetterBadRow() {
+        // given
+        List<String> written = new ArrayList<>();
+        willAnswer(invocation -> {
+            List<ChatMessage> batch = invocation.getArgument(0);
+            if (batch.stream().anyMatch(message -> message.getContent().equals("잘못된 메세지"))) {
+                throw new DataIntegrityViolationException("Data too long");
+            }
+            batch.forEach(message -> written.add(message.getContent()));
+            return null;
+        }).given(chatHistoryStore).appendAll(anyList());
+
+        writeBehindQueue.enqueue(ChatMessage.of(1L, 10L, "메세지 1", MessageType.CHAT));
+        writeBehindQueue.enqueue(ChatMessage.of(1L, 10L, "잘못된 메세지", MessageType.CHAT));
+        writeBehindQueue.enqueue(ChatMessage.of(1L, 10L, "메세지 3", MessageType.CHAT));
+
+        // when
+        writeBehindQueue.flush();
+
+        // then
+        assertThat(written).containsExactly("메세지 1", "메세지 3");
+
+        ArgumentCaptor<List<ChatMessage>> deadLetterCaptor = ArgumentCaptor.forClass(List.class);
+        verify(deadLetterStore, times(1)).write(deadLetterCaptor.capture(), any(DataIntegrityViolationException.class));
+        assertThat(deadLetterCaptor.getValue()).extracting(ChatMessage::getContent).containsExactly("잘못된 메세지");
+        assertThat(meterRegistry.get("chat.write-behind.dead-lettered").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차 바로 저장할 때도 끝내 실패하면 버리지 않고 dead letter 로 남긴다.")
+    void givenFullQueueAndDatabaseDown_whenEnqueue_thenDeadLetter() {
+        // given
+        willThrow(new DataAccessResourceFailureException("connection lost"))
+                .given(chatHistoryStore).appendAll(anyList());
+        writeBehindQueue.enqueue(ChatMessage.of(1L, 10L, "메세지 1", MessageType.CHAT));
+        writeBehindQueue.enqueue(ChatMessage.of(1L, 10L, "메세지 2", MessageType.CHAT));
+        writeBehindQueue.enqueue(ChatMessage.of(1L, 10L, "메세지 3", MessageType.CHAT));
+
+        // when
+        writeBehindQueue.enqueue(ChatMessage.of(1L, 10L, "메세지 4", MessageType.CHAT));
+
+        // then
+        verify(deadLetterStore, times(1)).write(anyList(), any(DataAccessResourceFailureException.class));
+        assertThat(meterRegistry.get("chat.write-behind.dead-lettered").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("dead letter 로도 남기지 못하면 잃은 메세지 수를 센다.")
+    void givenDeadLetterFailure_whenFlush_thenCountDropped() {
+        // given
+        willThrow(new DataAccessResourceFailureException("connection lost"))
+                .given(chatHistoryStore).appendAll(anyList());
+        willThrow(new UncheckedIOException(new IOException("disk full")))
+                .given(deadLetterStore).write(anyList(), any());
+        writeBehindQueue.enqueue(ChatMessage.of(1L, 10L, "메세지 1", MessageType.CHAT));
+
+        // when
+        writeBehindQueue.flush();
+
+        // then
+        assertThat(meterRegistry.get("chat.write-behind.dropped").counter().count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,93 @@
+package com.jaeseok.groupStudy.unit.chat.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.jaeseok.groupStudy.chat.domain.ChatReadCursor;
+import com.jaeseok.groupStudy.chat.domain.repository.ChatReadCursorRepository;
+import com.jaeseok.groupStudy.chat.infrastructure.ChatReadCursorTracker;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DisplayName("읽음 커서 테스트")
+class ChatReadCursorTrackerTest {
+
+    ChatReadCursorRepository chatReadCursorRepository;
+    JdbcTemplate jdbcTemplate;
+    ChatReadCursorTracker tracker;
+
+    final Long MEMBER_ID = 10L;
+    final Long ROOM_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        chatReadCursorRepository = mock(ChatReadCursorRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        tracker = new ChatReadCursorTracker(chatReadCursorRepository, jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("읽음 커서는 앞으로만 움직인다.")
+    void givenOlderSeq_whenMarkRead_thenKeepNewerCursor() {
+        // given
+        tracker.markRead(MEMBER_ID, ROOM_ID, 20L);
+
+        // when
+        boolean moved = tracker.markRead(MEMBER_ID, ROOM_ID, 15L);
+
+        // then
+        assertThat(moved).isFalse();
+        assertThat(tracker.getCursors(MEMBER_ID)).containsEntry(ROOM_ID, 20L);
+    }
+
+    @Test
+    @DisplayName("처음 조회할 때 DB 커서를 적재해 메모리 커서와 더 큰 값으로 합친다.")
+    void givenPersistedCursors_whenGetCursors_thenMergeWithMemory() {
+        // given
+        given(chatReadCursorRepository.findByMemberId(MEMBER_ID)).willReturn(List.of(
+                ChatReadCursor.of(MEMBER_ID, ROOM_ID, 30L),
+                ChatReadCursor.of(MEMBER_ID, 2L, 7L)));
+        tracker.markRead(MEMBER_ID, ROOM_ID, 25L);
+        tracker.markRead(MEMBER_ID, 2L, 9L);
+
+        // when
+        tracker.getCursors(MEMBER_ID);
+        tracker.getCursors(MEMBER_ID);
+
+        // then
+        assertThat(tracker.getCursors(MEMBER_ID)).containsEntry(ROOM_ID, 30L).containsEntry(2L, 9L);
+        verify(chatReadCursorRepository, times(1)).findByMemberId(MEMBER_ID);
+    }
+
+    @Test
+    @DisplayName("바뀐 커서만 한 번의 배치로 반영하고, 실패하면 다음 체크포인트에서 다시 반영한다.")
+    void givenDirtyCursors_whenCheckpoint_thenBatchUpsertAndRetryOnFailure() {
+        // given
+        tracker.markRead(MEMBER_ID, ROOM_ID, 5L);
+        tracker.markRead(MEMBER_ID, ROOM_ID, 6L);
+        tracker.markRead(11L, ROOM_ID, 3L);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .willThrow(new DataAccessResourceFailureException("connection refused"))
+                .willReturn(new int[]{1, 1});
+
+        // when
+        tracker.checkpoint();
+        int pendingAfterFailure = tracker.getPendingCount();
+        tracker.checkpoint();
+
+        // then
+        assertThat(pendingAfterFailure).isEqualTo(2);
+        assertThat(tracker.getPendingCount()).isZero();
+
+        ArgumentCaptor<List<Object[]>> rowsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), rowsCaptor.capture());
+        assertThat(rowsCaptor.getValue())
+                .extracting(row -> row[2])
+                .containsExactlyInAnyOrder(6L, 3L);
+    }
+}
@@ -0,0 +1,125 @@
+package com.jaeseok.groupStudy.unit.chat.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.jaeseok.groupStudy.chat.domain.repository.ChatHistoryStore;
+import com.jaeseok.groupStudy.chat.infrastructure.ChatRoomSequencer;
+import com.jaeseok.groupStudy.chat.infrastructure.LocalChatRoomSequenceStore;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("채팅방 순번 발급기 테스트")
+class ChatRoomSequencerTest {
+
+    @Mock
+    ChatHistoryStore chatHistoryStore;
+
+    ChatRoomSequencer chatRoomSequencer;
+
+    final Long ROOM_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        chatRoomSequencer = new ChatRoomSequencer(chatHistoryStore, new LocalChatRoomSequenceStore());
+    }
+
+    @Test
+    @DisplayName("채팅방을 처음 사용할 때 저장소의 최대 순번에서 이어서 발급하고, 저장소는 한 번만 조회한다.")
+    void givenPersistedMaxSeq_whenNext_thenContinueFromMaxSeq() {
+        // given
+        given(chatHistoryStore.findMaxSeq(ROOM_ID)).willReturn(41L);
+
+        // when
+        long first = chatRoomSequencer.next(ROOM_ID);
+        long second = chatRoomSequencer.next(ROOM_ID);
+
+        // then
+        assertThat(first).isEqualTo(42L);
+        assertThat(second).isEqualTo(43L);
+        assertThat(chatRoomSequencer.current(ROOM_ID)).isEqualTo(43L);
+        verify(chatHistoryStore, times(1)).findMaxSeq(ROOM_ID);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 발급해도 순번은 빠짐없이 한 번씩만 발급된다.")
+    void givenConcurrentSenders_whenNext_thenIssueContiguousUniqueSeqs() throws InterruptedException {
+        // given
+        given(chatHistoryStore.findMaxSeq(ROOM_ID)).willReturn(0L);
+        int threads = 8;
+        int perThread = 1_000;
+        Set<Long> issued = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        issued.add(chatRoomSequencer.next(ROOM_ID));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        assertThat(issued).containsExactlyInAnyOrderElementsOf(
+                LongStream.rangeClosed(1, (long) threads * perThread).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("채팅방마다 순번은 따로 증가한다.")
+    void givenTwoRooms_whenNext_thenSequencesAreIndependent() {
+        // given
+        given(chatHistoryStore.findMaxSeq(anyLong())).willReturn(0L);
+
+        // when
+        chatRoomSequencer.next(ROOM_ID);
+        chatRoomSequencer.next(ROOM_ID);
+        long otherRoomSeq = chatRoomSequencer.next(2L);
+
+        // then
+        assertThat(otherRoomSeq).isEqualTo(1L);
+        assertThat(chatRoomSequencer.current(ROOM_ID)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("여러 노드가 같은 순번 저장소를 쓰면 같은 채팅방의 순번이 겹치지 않는다.")
+    void givenTwoNodesSharingStore_whenNext_thenSeqsAreUnique() {
+        // given
+        given(chatHistoryStore.findMaxSeq(ROOM_ID)).willReturn(10L);
+        LocalChatRoomSequenceStore sharedStore = new LocalChatRoomSequenceStore();
+        ChatRoomSequencer nodeA = new ChatRoomSequencer(chatHistoryStore, sharedStore);
+        ChatRoomSequencer nodeB = new ChatRoomSequencer(chatHistoryStore, sharedStore);
+
+        // when
+        long first = nodeA.next(ROOM_ID);
+        long second = nodeB.next(ROOM_ID);
+        long third = nodeA.next(ROOM_ID);
+
+        // then
+        assertThat(first).isEqualTo(11L);
+        assertThat(second).isEqualTo(12L);
+        assertThat(third).isEqualTo(13L);
+        assertThat(nodeB.current(ROOM_ID)).isEqualTo(13L);
+    }
+}
@@ -0,0 +1,139 @@
+package com.jaeseok.groupStudy.unit.chat.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jaeseok.groupStudy.chat.infrastructure.ClusterPresenceReplicator;
+import com.jaeseok.groupStudy.chat.infrastructure.OnlineParticipantRepository;
+import com.jaeseok.groupStudy.chat.infrastructure.PresenceBroadcaster;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.ParticipantInfo;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.PresenceDelta;
+import com.jaeseok.groupStudy.common.cluster.ClusterBroadcastRelay;
+import com.jaeseok.groupStudy.common.cluster.LoopbackClusterTransport;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Cluster Presence Replicator 테스트")
+class ClusterPresenceReplicatorTest {
+
+    @Mock
+    PresenceBroadcaster presenceBroadcasterA;
+
+    @Mock
+    PresenceBroadcaster presenceBroadcasterB;
+
+    @Mock
+    ClusterBroadcastRelay relayA;
+
+    @Mock
+    ClusterBroadcastRelay relayB;
+
+    OnlineParticipantRepository repositoryA;
+    OnlineParticipantRepository repositoryB;
+    ClusterPresenceReplicator replicatorA;
+    ClusterPresenceReplicator replicatorB;
+
+    LoopbackClusterTransport.Hub hub;
+
+    @BeforeEach
+    void setUp() {
+        hub = new LoopbackClusterTransport.Hub();
+        ObjectMapper objectMapper = new ObjectMapper();
+        given(relayA.getNodeId()).willReturn("node-a");
+        given(relayB.getNodeId()).willReturn("node-b");
+
+        repositoryA = new OnlineParticipantRepository();
+        repositoryB = new OnlineParticipantRepository();
+        replicatorA = new ClusterPresenceReplicator(new LoopbackClusterTransport(hub), repositoryA,
+                presenceBroadcasterA, objectMapper, relayA, 15_000);
+        replicatorB = new ClusterPresenceReplicator(new LoopbackClusterTransport(hub), repositoryB,
+                presenceBroadcasterB, objectMapper, relayB, 15_000);
+        replicatorA.start();
+        replicatorB.start();
+    }
+
+    @Test
+    @DisplayName("다른 노드에 입장한 참여자도 명단에 합쳐지고, 변경분은 이 노드의 구독자에게 보낸다.")
+    void givenJoinOnOtherNode_whenReplicated_thenMergeIntoRoster() {
+        // given
+        ParticipantInfo participantA = ParticipantInfo.of(1L, 10L, "userA", "session-a");
+        ParticipantInfo participantB = ParticipantInfo.of(1L, 20L, "userB", "session-b");
+
+        // when
+        repositoryA.add(1L, participantA);
+        repositoryB.add(1L, participantB);
+
+        // then
+        assertThat(repositoryA.getParticipants(1L)).containsExactlyInAnyOrder(participantA, participantB);
+        assertThat(repositoryB.getParticipants(1L)).containsExactlyInAnyOrder(participantA, participantB);
+
+        ArgumentCaptor<List<PresenceDelta>> captor = ArgumentCaptor.forClass(List.class);
+        verify(presenceBroadcasterA).broadcastDeltas(captor.capture());
+        assertThat(captor.getValue()).singleElement()
+                .satisfies(delta -> {
+                    assertThat(delta.type()).isEqualTo(PresenceDelta.Type.JOIN);
+                    assertThat(delta.participant()).isEqualTo(participantB);
+                });
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 퇴장하거나 세션을 이어받으면 명단에 그대로 반영된다.")
+    void givenLeaveAndRebindOnOtherNode_whenReplicated_thenApplyToRoster() {
+        // given
+        repositoryA.add(1L, ParticipantInfo.of(1L, 10L, "userA", "session-a1"));
+        repositoryA.add(2L, ParticipantInfo.of(2L, 20L, "userB", "session-a2"));
+
+        // when
+        repositoryA.rebind("session-a1", "session-a3");
+        repositoryA.remove("session-a2");
+
+        // then
+        assertThat(repositoryB.getParticipants(1L))
+                .containsExactly(ParticipantInfo.of(1L, 10L, "userA", "session-a3"));
+        assertThat(repositoryB.getParticipants(2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("노드가 종료되면 그 노드의 참여자는 다른 노드의 명단에서 빠진다.")
+    void givenNodeStopped_whenReplicated_thenRemoveItsParticipants() {
+        // given
+        repositoryA.add(1L, ParticipantInfo.of(1L, 10L, "userA", "session-a"));
+        ParticipantInfo participantB = ParticipantInfo.of(1L, 20L, "userB", "session-b");
+        repositoryB.add(1L, participantB);
+
+        // when
+        replicatorA.stop();
+
+        // then
+        assertThat(repositoryB.getParticipants(1L)).containsExactly(participantB);
+    }
+
+    @Test
+    @DisplayName("새로 뜬 노드는 다른 노드의 HEARTBEAT 로 기존 참여자를 채운다.")
+    void givenNewNode_whenHeartbeat_thenFillRosterOfExistingNode() {
+        // given
+        ParticipantInfo participantA = ParticipantInfo.of(1L, 10L, "userA", "session-a");
+        repositoryA.add(1L, participantA);
+
+        ClusterBroadcastRelay relayC = mock(ClusterBroadcastRelay.class);
+        given(relayC.getNodeId()).willReturn("node-c");
+        OnlineParticipantRepository repositoryC = new OnlineParticipantRepository();
+        new ClusterPresenceReplicator(new LoopbackClusterTransport(hub), repositoryC,
+                mock(PresenceBroadcaster.class), new ObjectMapper(), relayC, 15_000).start();
+        assertThat(repositoryC.getParticipants(1L)).isEmpty();
+
+        // when
+        replicatorA.heartbeat();
+
+        // then
+        assertThat(repositoryC.getParticipants(1L)).containsExactly(participantA);
+    }
+}
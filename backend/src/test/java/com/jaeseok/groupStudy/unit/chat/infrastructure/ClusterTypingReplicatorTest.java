@@ -0,0 +1,115 @@
+package com.jaeseok.groupStudy.unit.chat.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jaeseok.groupStudy.chat.infrastructure.ClusterTypingReplicator;
+import com.jaeseok.groupStudy.chat.infrastructure.OnlineParticipantRepository;
+import com.jaeseok.groupStudy.chat.infrastructure.TypingIndicatorBroadcaster;
+import com.jaeseok.groupStudy.chat.infrastructure.TypingIndicatorRepository;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.ParticipantInfo;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.TypingState;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.TypingState.TypingUser;
+import com.jaeseok.groupStudy.common.broadcast.BroadcastPublisher;
+import com.jaeseok.groupStudy.common.cluster.ClusterBroadcastRelay;
+import com.jaeseok.groupStudy.common.cluster.ClusterTransport;
+import com.jaeseok.groupStudy.common.cluster.LoopbackClusterTransport;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Cluster Typing Replicator 테스트")
+class ClusterTypingReplicatorTest {
+
+    @Mock
+    BroadcastPublisher broadcastPublisherA;
+
+    @Mock
+    BroadcastPublisher broadcastPublisherB;
+
+    @Mock
+    ClusterBroadcastRelay relayA;
+
+    @Mock
+    ClusterBroadcastRelay relayB;
+
+    final Long ROOM_ID = 1L;
+
+    OnlineParticipantRepository onlineParticipantRepositoryA;
+    OnlineParticipantRepository onlineParticipantRepositoryB;
+    TypingIndicatorRepository typingRepositoryA;
+    TypingIndicatorRepository typingRepositoryB;
+    TypingIndicatorBroadcaster broadcasterA;
+    TypingIndicatorBroadcaster broadcasterB;
+
+    @BeforeEach
+    void setUp() {
+        LoopbackClusterTransport.Hub hub = new LoopbackClusterTransport.Hub();
+        ObjectMapper objectMapper = new ObjectMapper();
+        given(relayA.getNodeId()).willReturn("node-a");
+        given(relayB.getNodeId()).willReturn("node-b");
+
+        onlineParticipantRepositoryA = new OnlineParticipantRepository();
+        onlineParticipantRepositoryB = new OnlineParticipantRepository();
+        typingRepositoryA = new TypingIndicatorRepository(5_000);
+        typingRepositoryB = new TypingIndicatorRepository(5_000);
+        broadcasterA = new TypingIndicatorBroadcaster(typingRepositoryA, onlineParticipantRepositoryA,
+                broadcastPublisherA, replicator(new LoopbackClusterTransport(hub), typingRepositoryA, objectMapper,
+                relayA));
+        broadcasterB = new TypingIndicatorBroadcaster(typingRepositoryB, onlineParticipantRepositoryB,
+                broadcastPublisherB, replicator(new LoopbackClusterTransport(hub), typingRepositoryB, objectMapper,
+                relayB));
+
+        onlineParticipantRepositoryA.add(ROOM_ID, ParticipantInfo.of(ROOM_ID, 10L, "userA", "session-a"));
+        onlineParticipantRepositoryB.add(ROOM_ID, ParticipantInfo.of(ROOM_ID, 20L, "userB", "session-b"));
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 입력 중인 유저도 합쳐서 이 노드의 구독자에게 방송한다.")
+    void givenTypingOnBothNodes_whenFlush_thenBroadcastMergedState() {
+        // given
+        broadcasterA.update(ROOM_ID, "session-a", true);
+        broadcasterB.update(ROOM_ID, "session-b", true);
+
+        // when
+        broadcasterA.flush();
+        broadcasterB.flush();
+
+        // then
+        TypingState merged = new TypingState(ROOM_ID,
+                List.of(new TypingUser(10L, "userA"), new TypingUser(20L, "userB")));
+        verify(broadcastPublisherA).publish("/sub/chatroom/1/typing", merged);
+        verify(broadcastPublisherB).publish("/sub/chatroom/1/typing", merged);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 입력을 멈추거나 메세지를 보내면 이 노드의 목록에서도 빠진다.")
+    void givenStopOnOtherNode_whenFlush_thenRemoveFromMergedState() {
+        // given
+        broadcasterA.update(ROOM_ID, "session-a", true);
+        broadcasterB.flush();
+
+        // when
+        broadcasterA.clear(ROOM_ID, 10L);
+        broadcasterB.flush();
+
+        // then
+        verify(broadcastPublisherB).publish("/sub/chatroom/1/typing",
+                new TypingState(ROOM_ID, List.of(new TypingUser(10L, "userA"))));
+        verify(broadcastPublisherB).publish("/sub/chatroom/1/typing", new TypingState(ROOM_ID, List.of()));
+        assertThat(typingRepositoryB.getActiveRoomCount()).isZero();
+    }
+
+    private ClusterTypingReplicator replicator(ClusterTransport transport, TypingIndicatorRepository repository,
+            ObjectMapper objectMapper, ClusterBroadcastRelay relay) {
+        ClusterTypingReplicator replicator = new ClusterTypingReplicator(transport, repository, objectMapper, relay);
+        replicator.start();
+        return replicator;
+    }
+}
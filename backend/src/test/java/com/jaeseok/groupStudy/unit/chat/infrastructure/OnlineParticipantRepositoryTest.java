@@ -4,6 +4,9 @@ import static org.assertj.core.api.Assertions.*;
 
 import com.jaeseok.groupStudy.chat.infrastructure.OnlineParticipantRepository;
 import com.jaeseok.groupStudy.chat.infrastructure.dto.ParticipantInfo;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.PresenceDelta;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.PresenceSnapshot;
+import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -63,10 +66,14 @@ class OnlineParticipantRepositoryTest {
         participantRepository.add(roomId, participantInfo);
 
         // when
-        ParticipantInfo removed = participantRepository.remove(participantInfo.sessionId());
+        List<PresenceDelta> deltas = participantRepository.remove(participantInfo.sessionId());
 
         // then
-        assertThat(removed).isEqualTo(participantInfo);
+        assertThat(deltas).singleElement()
+                .satisfies(delta -> {
+                    assertThat(delta.type()).isEqualTo(PresenceDelta.Type.LEAVE);
+                    assertThat(delta.participant()).isEqualTo(participantInfo);
+                });
         assertThat(participantRepository.getParticipants(roomId)).isEmpty();
     }
 
@@ -89,4 +96,149 @@ class OnlineParticipantRepositoryTest {
                 .hasSize(3)
                 .containsExactlyInAnyOrderElementsOf(participants);
     }
+
+    @Test
+    @DisplayName("같은 유저가 여러 탭으로 접속하면 명단에는 한 번만 나타나고, 마지막 세션이 나갈 때 명단에서 빠진다.")
+    void givenMultipleSessionsOfSameUser_whenRemoveOneByOne_thenKeepOnlineUntilLastSession() {
+        // given
+        Long roomId = 1L;
+        ParticipantInfo firstTab = ParticipantInfo.of(roomId, 10L, "testUser", "session1");
+        ParticipantInfo secondTab = ParticipantInfo.of(roomId, 10L, "testUser", "session2");
+        participantRepository.add(roomId, firstTab);
+        participantRepository.add(roomId, secondTab);
+
+        // when
+        participantRepository.remove(secondTab.sessionId());
+
+        // then
+        assertThat(participantRepository.getParticipants(roomId)).containsExactly(firstTab);
+        assertThat(participantRepository.isOnline(roomId, 10L)).isTrue();
+
+        // when
+        participantRepository.remove(firstTab.sessionId());
+
+        // then
+        assertThat(participantRepository.getParticipants(roomId)).isEmpty();
+        assertThat(participantRepository.isOnline(roomId, 10L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("마지막 참여자가 나간 방과 유저의 방 목록은 메모리에서 제거된다.")
+    void givenLastParticipant_whenRemove_thenCleanUpRoomAndReverseIndex() {
+        // given
+        participantRepository.add(1L, ParticipantInfo.of(1L, 10L, "testUser", "session1"));
+        participantRepository.add(2L, ParticipantInfo.of(2L, 10L, "testUser", "session2"));
+
+        // when
+        participantRepository.remove("session1");
+
+        // then
+        assertThat(participantRepository.getActiveRoomCount()).isEqualTo(1);
+        assertThat(participantRepository.getRoomIds(10L)).containsExactly(2L);
+
+        // when
+        participantRepository.remove("session2");
+
+        // then
+        assertThat(participantRepository.getActiveRoomCount()).isZero();
+        assertThat(participantRepository.getRoomIds(10L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("명단이 바뀔 때마다 더 큰 버전의 새 스냅샷이 만들어지고, 이전 스냅샷은 바뀌지 않는다.")
+    void givenSnapshot_whenParticipantsChange_thenNewSnapshotHasGreaterVersion() {
+        // given
+        Long roomId = 1L;
+        ParticipantInfo userA = ParticipantInfo.of(roomId, 10L, "userA", "session1");
+        ParticipantInfo userB = ParticipantInfo.of(roomId, 11L, "userB", "session2");
+        participantRepository.add(roomId, userA);
+        PresenceSnapshot before = participantRepository.getSnapshot(roomId);
+
+        // when
+        participantRepository.add(roomId, userB);
+        PresenceSnapshot afterJoin = participantRepository.getSnapshot(roomId);
+        participantRepository.remove(userA.sessionId());
+        participantRepository.remove(userB.sessionId());
+        PresenceSnapshot afterEmpty = participantRepository.getSnapshot(roomId);
+
+        // then
+        assertThat(before.participants()).containsExactly(userA);
+        assertThat(afterJoin.participants()).containsExactly(userA, userB);
+        assertThat(afterJoin.version()).isGreaterThan(before.version());
+        assertThat(afterEmpty.participants()).isEmpty();
+        assertThat(afterEmpty.version()).isGreaterThan(afterJoin.version());
+        assertThatThrownBy(() -> afterJoin.participants().add(userA))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("변경분은 직전 버전을 함께 실어 한 방 안에서 끊김 없이 이어진다.")
+    void givenJoinAndLeave_whenAddAndRemove_thenDeltasChainByPreviousVersion() {
+        // given
+        Long roomId = 1L;
+        ParticipantInfo userA = ParticipantInfo.of(roomId, 10L, "userA", "session1");
+        ParticipantInfo userB = ParticipantInfo.of(roomId, 11L, "userB", "session2");
+
+        // when
+        PresenceDelta joinA = participantRepository.add(roomId, userA).get(0);
+        participantRepository.add(2L, ParticipantInfo.of(2L, 12L, "other", "session3")); // 다른 방 변경
+        PresenceDelta joinB = participantRepository.add(roomId, userB).get(0);
+        PresenceDelta leaveA = participantRepository.remove(userA.sessionId()).get(0);
+
+        // then
+        assertThat(joinA.type()).isEqualTo(PresenceDelta.Type.JOIN);
+        assertThat(joinA.previousVersion()).isZero();
+        assertThat(joinB.previousVersion()).isEqualTo(joinA.version());
+        assertThat(leaveA.type()).isEqualTo(PresenceDelta.Type.LEAVE);
+        assertThat(leaveA.previousVersion()).isEqualTo(joinB.version());
+        assertThat(participantRepository.getSnapshot(roomId).version()).isEqualTo(leaveA.version());
+    }
+
+    @Test
+    @DisplayName("다른 탭이 남아 있는 세션이 나가면, 대표 세션이 아닐 때는 변경분이 없다.")
+    void givenOtherTabRemains_whenRemoveOlderSession_thenNoDelta() {
+        // given
+        Long roomId = 1L;
+        participantRepository.add(roomId, ParticipantInfo.of(roomId, 10L, "testUser", "session1"));
+        participantRepository.add(roomId, ParticipantInfo.of(roomId, 10L, "testUser", "session2"));
+        long version = participantRepository.getSnapshot(roomId).version();
+
+        // when
+        List<PresenceDelta> deltas = participantRepository.remove("session1");
+
+        // then
+        assertThat(deltas).isEmpty();
+        assertThat(participantRepository.getSnapshot(roomId).version()).isEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("재연결한 세션이 이전 세션을 이어받으면 명단 버전을 올리지 않고 새 세션으로 옮긴다.")
+    void givenPreviousSession_whenRebind_thenMoveToNewSessionWithoutVersionChange() {
+        // given
+        Long roomId = 1L;
+        participantRepository.add(roomId, ParticipantInfo.of(roomId, 10L, "testUser", "session1"));
+        long version = participantRepository.getSnapshot(roomId).version();
+
+        // when
+        boolean rebound = participantRepository.rebind("session1", "session2");
+
+        // then
+        assertThat(rebound).isTrue();
+        assertThat(participantRepository.getSnapshot(roomId).version()).isEqualTo(version);
+        assertThat(participantRepository.getParticipants(roomId))
+                .containsExactly(ParticipantInfo.of(roomId, 10L, "testUser", "session2"));
+        assertThat(participantRepository.findBySessionId("session1")).isNull();
+        assertThat(participantRepository.remove("session1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("구독 중인 방이 없는 세션은 이어받을 명단 자리가 없다.")
+    void givenUnknownSession_whenRebind_thenReturnFalse() {
+        // when
+        boolean rebound = participantRepository.rebind("session1", "session2");
+
+        // then
+        assertThat(rebound).isFalse();
+        assertThat(participantRepository.findBySessionId("session2")).isNull();
+    }
 }
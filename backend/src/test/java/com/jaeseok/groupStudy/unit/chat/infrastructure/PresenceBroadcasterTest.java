@@ -0,0 +1,100 @@
+package com.jaeseok.groupStudy.unit.chat.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jaeseok.groupStudy.chat.infrastructure.OnlineParticipantRepository;
+import com.jaeseok.groupStudy.chat.infrastructure.PresenceBroadcaster;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.ParticipantInfo;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.PresenceDelta;
+import com.jaeseok.groupStudy.common.broadcast.BroadcastPublisher;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+@DisplayName("온라인 명단 전송기 테스트")
+class PresenceBroadcasterTest {
+
+    OnlineParticipantRepository participantRepository;
+    SimpMessageSendingOperations messagingTemplate;
+    ObjectMapper objectMapper;
+    PresenceBroadcaster presenceBroadcaster;
+
+    final Long ROOM_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        participantRepository = new OnlineParticipantRepository();
+        messagingTemplate = mock(SimpMessageSendingOperations.class);
+        objectMapper = spy(new ObjectMapper());
+        presenceBroadcaster = new PresenceBroadcaster(participantRepository,
+                new BroadcastPublisher(messagingTemplate, objectMapper));
+    }
+
+    @Test
+    @DisplayName("입장/퇴장 변경분은 방의 참여자 토픽으로 방송한다.")
+    void givenDeltas_whenBroadcastDeltas_thenSendEachToRoomTopic() throws Exception {
+        // given
+        List<PresenceDelta> deltas = participantRepository.add(ROOM_ID,
+                ParticipantInfo.of(ROOM_ID, 10L, "userA", "session1"));
+
+        // when
+        presenceBroadcaster.broadcastDeltas(deltas);
+
+        // then
+        ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate).send(eq("/sub/chatroom/" + ROOM_ID + "/participants"), captor.capture());
+        JsonNode body = objectMapper.readTree((byte[]) captor.getValue().getPayload());
+        assertThat(body.get("type").asText()).isEqualTo("JOIN");
+        assertThat(body.get("version").asLong()).isEqualTo(deltas.get(0).version());
+    }
+
+    @Test
+    @DisplayName("전체 명단은 요청한 세션에만 보내고, 같은 버전이면 다시 직렬화하지 않는다.")
+    void givenSameVersion_whenSendSnapshotTwice_thenSerializeOnceAndSendToSession() throws Exception {
+        // given
+        participantRepository.add(ROOM_ID, ParticipantInfo.of(ROOM_ID, 10L, "userA", "session1"));
+        participantRepository.add(ROOM_ID, ParticipantInfo.of(ROOM_ID, 11L, "userB", "session2"));
+
+        // when
+        presenceBroadcaster.sendSnapshot(ROOM_ID, "userA@test.com", "session1");
+        presenceBroadcaster.sendSnapshot(ROOM_ID, "userB@test.com", "session2");
+
+        // then
+        ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate).send(eq("/user/userA@test.com/queue/chatroom/" + ROOM_ID + "/participants"),
+                captor.capture());
+        verify(objectMapper, times(1)).writeValueAsBytes(any());
+
+        Message<?> sent = captor.getValue();
+        assertThat(SimpMessageHeaderAccessor.getSessionId(sent.getHeaders())).isEqualTo("session1");
+
+        JsonNode body = objectMapper.readTree((byte[]) sent.getPayload());
+        assertThat(body.get("type").asText()).isEqualTo("SNAPSHOT");
+        assertThat(body.get("version").asLong())
+                .isEqualTo(participantRepository.getSnapshot(ROOM_ID).version());
+        assertThat(body.get("participants")).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("명단이 바뀌면 새 버전으로 다시 직렬화한다.")
+    void givenChangedVersion_whenSendSnapshot_thenSerializeAgain() throws Exception {
+        // given
+        participantRepository.add(ROOM_ID, ParticipantInfo.of(ROOM_ID, 10L, "userA", "session1"));
+        presenceBroadcaster.sendSnapshot(ROOM_ID, "userA@test.com", "session1");
+
+        // when
+        participantRepository.add(ROOM_ID, ParticipantInfo.of(ROOM_ID, 11L, "userB", "session2"));
+        presenceBroadcaster.sendSnapshot(ROOM_ID, "userA@test.com", "session1");
+
+        // then
+        verify(objectMapper, times(2)).writeValueAsBytes(any());
+    }
+}
@@ -0,0 +1,214 @@
+package com.jaeseok.groupStudy.unit.chat.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.jaeseok.groupStudy.chat.application.dto.SendMessageInfo;
+import com.jaeseok.groupStudy.chat.domain.repository.ChatHistoryStore;
+import com.jaeseok.groupStudy.chat.infrastructure.ChatRoomSequencer;
+import com.jaeseok.groupStudy.chat.infrastructure.RecentChatMessageBuffer;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecentChatMessageBuffer 테스트")
+class RecentChatMessageBufferTest {
+
+    @Mock
+    ChatHistoryStore chatHistoryStore;
+
+    @Mock
+    ChatRoomSequencer chatRoomSequencer;
+
+    RecentChatMessageBuffer buffer;
+
+    final Long ROOM_ID = 1L;
+    final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        buffer = new RecentChatMessageBuffer(chatHistoryStore, chatRoomSequencer, 5, 1_800_000);
+    }
+
+    @Test
+    @DisplayName("요청한 페이지가 버퍼에 모두 있으면 최신순 페이지와 전체 개수를 반환한다.")
+    void givenCoveredWindow_whenFindPage_thenReturnLatestPage() {
+        // given
+        given(chatHistoryStore.countBeforeSeq(ROOM_ID, 1L)).willReturn(20L);
+        appendMessages(5);
+
+        // when
+        Optional<Page<SendMessageInfo>> result
+        given(chatRoomSequencer.current(ROOM_ID)).willReturn(5L); = buffer.findPage(ROOM_ID, PageRequest.of(0, 3));
+
+        // then
+        assertThat(result).isPresent();
+        Page<SendMessageInfo> page = result.get();
+        assertThat(page.getTotalElements()).isEqualTo(25);
+        assertThat(page.getContent()).extracting(SendMessageInfo::content)
+                .containsExactly("메세지 4", "메세지 3", "메세지 2");
+        verify(chatHistoryStore, times(1)).countBeforeSeq(ROOM_ID, 1L);
+    }
+
+    @Test
+    @DisplayName("요청한 페이지가 버퍼 밖이면 empty 를 반환한다.")
+    void givenUncoveredWindow_whenFindPage_thenReturnEmpty() {
+        // given
+        given(chatHistoryStore.countBeforeSeq(ROOM_ID, 1L)).willReturn(20L);
+        appendMessages(7);
+
+        // when
+        Optional<Page<SendMessageInfo>> secondPage
+        given(chatRoomSequencer.current(ROOM_ID)).willReturn(7L); = buffer.findPage(ROOM_ID, PageRequest.of(1, 3));
+
+        // then
+        assertThat(secondPage).isEmpty();
+        assertThat(buffer.findPage(ROOM_ID, PageRequest.of(0, 5))).isPresent();
+    }
+
+    @Test
+    @DisplayName("버퍼가 채팅방의 모든 메세지를 가지고 있으면 어떤 페이지든 반환한다.")
+    void givenWholeRoomBuffered_whenFindPage_thenReturnPartialPage() {
+        // given
+        given(chatHistoryStore.countBeforeSeq(ROOM_ID, 1L)).willReturn(0L);
+        appendMessages(2);
+
+        // when
+        Optional<Page<SendMessageInfo>> result
+        given(chatRoomSequencer.current(ROOM_ID)).willReturn(2L); = buffer.findPage(ROOM_ID, PageRequest.of(0, 30));
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().getTotalElements()).isEqualTo(2);
+        assertThat(result.get().getContent()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("늦게 추가된 메세지라도 생성 시각 순서에 맞게 정렬된다.")
+    void givenOutOfOrderAppend_whenFindPage_thenSortedByTimestamp() {
+        // given
+        given(chatHistoryStore.countBeforeSeq(ROOM_ID, 1L)).willReturn(0L);
+        buffer.append(ROOM_ID, new SendMessageInfo(1L, "닉네임", "늦은 메세지", BASE_TIME.plusSeconds(2), 2L));
+        buffer.append(ROOM_ID, new SendMessageInfo(1L, "닉네임", "이른 메세지", BASE_TIME.plusSeconds(1), 1L));
+        given(chatRoomSequencer.current(ROOM_ID)).willReturn(2L);
+
+        // when
+        Page<SendMessageInfo> page = buffer.findPage(ROOM_ID, PageRequest.of(0, 2)).orElseThrow();
+
+        // then
+        assertThat(page.getContent()).extracting(SendMessageInfo::content)
+                .containsExactly("늦은 메세지", "이른 메세지");
+    }
+
+    @Test
+    @DisplayName("정렬 조건이 있거나 버퍼가 없는 채팅방이면 empty 를 반환한다.")
+    void givenSortedOrUnknownRoom_whenFindPage_thenReturnEmpty() {
+        // given
+        appendMessages(2);
+
+        // when & then
+        assertThat(buffer.findPage(ROOM_ID, PageRequest.of(0, 2, Sort.by("createdAt")))).isEmpty();
+        assertThat(buffer.findPage(999L, PageRequest.of(0, 2))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("순번 구간이 버퍼에 모두 있으면 순번 순으로 반환하고, 하나라도 밀려났으면 empty 를 반환한다.")
+    void givenSeqRange_whenFindRange_thenReturnOnlyWhenFullyBuffered() {
+        // given
+        appendMessages(7); // 순번 1~7 중 3~7만 남는다.
+
+        // when
+        Optional<List<SendMessageInfo>> covered = buffer.findRange(ROOM_ID, 4L, 7L);
+        Optional<List<SendMessageInfo>> evicted = buffer.findRange(ROOM_ID, 1L, 4L);
+
+        // then
+        assertThat(covered).hasValueSatisfying(messages ->
+                assertThat(messages).extracting(SendMessageInfo::seq).containsExactly(5L, 6L, 7L));
+        assertThat(evicted).isEmpty();
+    }
+
+    @Test
+    @DisplayName("메세지를 추가할 때는 DB를 조회하지 않고, 첫 페이지 조회 때 한 번만 전체 개수를 맞춘다.")
+    void givenAppendedMessages_whenFindPageTwice_thenCountOnlyOnFirstPage() {
+        // given
+        appendMessages(3);
+        verifyNoInteractions(chatHistoryStore);
+        given(chatHistoryStore.countBeforeSeq(ROOM_ID, 1L)).willReturn(10L);
+        given(chatRoomSequencer.current(ROOM_ID)).willReturn(3L);
+
+        // when
+        buffer.findPage(ROOM_ID, PageRequest.of(0, 2));
+        Page<SendMessageInfo> page = buffer.findPage(ROOM_ID, PageRequest.of(0, 2)).orElseThrow();
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(13);
+        verify(chatHistoryStore, times(1)).countBeforeSeq(ROOM_ID, 1L);
+    }
+
+    @Test
+    @DisplayName("아카이브로 옮겨진 메세지 수만큼 전체 개수를 줄인다.")
+    void givenArchivedMessages_whenOnArchived_thenDecreaseTotal() {
+        // given
+        given(chatHistoryStore.countBeforeSeq(ROOM_ID, 1L)).willReturn(20L);
+        appendMessages(5);
+        buffer.findPage(ROOM_ID, PageRequest.of(0, 1));
+        given(chatRoomSequencer.current(ROOM_ID)).willReturn(5L);
+
+        // when
+        buffer.onArchived(ROOM_ID, 8);
+
+        // then
+        Page<SendMessageInfo> page = buffer.findPage(ROOM_ID, PageRequest.of(0, 1)).orElseThrow();
+        assertThat(page.getTotalElements()).isEqualTo(17);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 보낸 메세지로 순번이 비었거나 최신 순번이 버퍼에 없으면 페이지를 DB로 넘긴다.")
+    void givenSeqHoleOrMissingLatest_whenFindPage_thenReturnEmpty() {
+        // given
+        given(chatHistoryStore.countBeforeSeq(ROOM_ID, 1L)).willReturn(0L);
+        appendMessages(3); // 순번 1~3
+        given(chatRoomSequencer.current(ROOM_ID)).willReturn(4L); // 순번 4는 다른 노드에서 보냈다.
+
+        // when
+        Optional<Page<SendMessageInfo>> missingLatest = buffer.findPage(ROOM_ID, PageRequest.of(0, 2));
+        buffer.append(ROOM_ID, new SendMessageInfo(1L, "닉네임", "메세지 5", BASE_TIME.plusSeconds(5), 5L));
+        given(chatRoomSequencer.current(ROOM_ID)).willReturn(5L);
+        Optional<Page<SendMessageInfo>> withHole = buffer.findPage(ROOM_ID, PageRequest.of(0, 2));
+
+        // then
+        assertThat(missingLatest).isEmpty();
+        assertThat(withHole).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한동안 쓰이지 않은 채팅방 버퍼는 정리한다.")
+    void givenIdleRoom_whenEvictIdleRooms_thenRemoveBuffer() {
+        // given
+        RecentChatMessageBuffer idleBuffer = new RecentChatMessageBuffer(chatHistoryStore, chatRoomSequencer, 5, 0);
+        idleBuffer.append(ROOM_ID, new SendMessageInfo(1L, "닉네임", "메세지", BASE_TIME, 1L));
+
+        // when
+        idleBuffer.evictIdleRooms();
+
+        // then
+        assertThat(idleBuffer.getRoomCount()).isZero();
+        assertThat(idleBuffer.findRange(ROOM_ID, 0L, 1L)).isEmpty();
+    }
+
+    private void appendMessages(int count) {
+        for (int i = 0; i < count; i++) {
+            buffer.append(ROOM_ID, new SendMessageInfo(1L, "닉네임", "메세지 " + i, BASE_TIME.plusSeconds(i), i + 1L));
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.jaeseok.groupStudy.unit.chat.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.jaeseok.groupStudy.chat.infrastructure.OnlineParticipantRepository;
+import com.jaeseok.groupStudy.chat.infrastructure.PresenceBroadcaster;
+import com.jaeseok.groupStudy.chat.infrastructure.SessionResumeRegistry;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.ParticipantInfo;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.PresenceDelta;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.SessionResumeInfo;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("세션 이어받기 토큰 저장소 테스트")
+class SessionResumeRegistryTest {
+
+    OnlineParticipantRepository onlineParticipantRepository;
+    PresenceBroadcaster presenceBroadcaster;
+
+    final Long USER_ID = 10L;
+
+    @BeforeEach
+    void setUp() {
+        onlineParticipantRepository = mock(OnlineParticipantRepository.class);
+        presenceBroadcaster = mock(PresenceBroadcaster.class);
+    }
+
+    @Test
+    @DisplayName("끊긴 세션의 토큰으로 다시 연결하면 이전 세션을 이어받고 새 토큰을 발급한다.")
+    void givenDetachedSession_whenConnectWithToken_thenResumeAndRotateToken() {
+        // given
+        SessionResumeRegistry registry = newRegistry(30_000);
+        SessionResumeInfo first = registry.connect("session1", USER_ID, null);
+        boolean detached = registry.detach("session1", true);
+
+        // when
+        SessionResumeInfo second = registry.connect("session2", USER_ID, first.resumeToken());
+
+        // then
+        assertThat(detached).isTrue();
+        assertThat(first.resumed()).isFalse();
+        assertThat(second.resumed()).isTrue();
+        assertThat(second.resumeToken()).isNotEqualTo(first.resumeToken());
+        assertThat(registry.find("session2")).isEqualTo(second);
+        assertThat(registry.getDetachedCount()).isZero();
+        verify(onlineParticipantRepository).rebind("session1", "session2");
+    }
+
+    @Test
+    @DisplayName("토큰은 한 번만 쓸 수 있고, 다른 유저는 이어받을 수 없다.")
+    void givenUsedOrForeignToken_whenConnect_thenIssueNewSession() {
+        // given
+        SessionResumeRegistry registry = newRegistry(30_000);
+        SessionResumeInfo first = registry.connect("session1", USER_ID, null);
+        registry.detach("session1", true);
+
+        // when
+        SessionResumeInfo foreign = registry.connect("session2", 99L, first.resumeToken());
+        SessionResumeInfo resumed = registry.connect("session3", USER_ID, first.resumeToken());
+        SessionResumeInfo reused = registry.connect("session4", USER_ID, first.resumeToken());
+
+        // then
+        assertThat(foreign.resumed()).isFalse();
+        assertThat(resumed.resumed()).isTrue();
+        assertThat(reused.resumed()).isFalse();
+        verify(onlineParticipantRepository, times(1)).rebind(anyString(), anyString());
+        verify(onlineParticipantRepository).rebind("session1", "session3");
+    }
+
+    @Test
+    @DisplayName("아직 연결된 세션의 토큰으로는 이어받을 수 없다.")
+    void givenLiveSession_whenConnectWithItsToken_thenIssueNewSession() {
+        // given
+        SessionResumeRegistry registry = newRegistry(30_000);
+        SessionResumeInfo first = registry.connect("session1", USER_ID, null);
+
+        // when
+        SessionResumeInfo second = registry.connect("session2", USER_ID, first.resumeToken());
+
+        // then
+        assertThat(second.resumed()).isFalse();
+        assertThat(registry.find("session1")).isEqualTo(first);
+        verify(onlineParticipantRepository, never()).rebind(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("유예 시간 안에 이어받지 않은 세션은 그때 퇴장 처리한다.")
+    void givenExpiredSession_whenExpire_thenRemoveParticipantAndBroadcast() {
+        // given
+        SessionResumeRegistry registry = newRegistry(0);
+        SessionResumeInfo first = registry.connect("session1", USER_ID, null);
+        registry.detach("session1", true);
+
+        List<PresenceDelta> deltas = List.of(
+                PresenceDelta.leave(1L, 2L, 1L, ParticipantInfo.of(1L, USER_ID, "testUser", "session1")));
+        given(onlineParticipantRepository.remove("session1")).willReturn(deltas);
+
+        // when
+        registry.expire();
+        SessionResumeInfo late = registry.connect("session2", USER_ID, first.resumeToken());
+
+        // then
+        verify(presenceBroadcaster).broadcastDeltas(deltas);
+        assertThat(late.resumed()).isFalse();
+        assertThat(registry.getDetachedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("클라이언트가 정상적으로 끊은 세션은 이어받기를 기다리지 않는다.")
+    void givenNormalClose_whenDetach_thenDropToken() {
+        // given
+        SessionResumeRegistry registry = newRegistry(30_000);
+        SessionResumeInfo first = registry.connect("session1", USER_ID, null);
+
+        // when
+        boolean detached = registry.detach("session1", false);
+        SessionResumeInfo next = registry.connect("session2", USER_ID, first.resumeToken());
+
+        // then
+        assertThat(detached).isFalse();
+        assertThat(next.resumed()).isFalse();
+        verify(onlineParticipantRepository, never()).rebind(anyString(), anyString());
+    }
+
+    private SessionResumeRegistry newRegistry(long graceMillis) {
+        return new SessionResumeRegistry(onlineParticipantRepository, presenceBroadcaster, graceMillis);
+    }
+}
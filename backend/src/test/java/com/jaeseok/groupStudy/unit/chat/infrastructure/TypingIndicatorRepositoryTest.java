@@ -0,0 +1,110 @@
+package com.jaeseok.groupStudy.unit.chat.infrastructure;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.jaeseok.groupStudy.chat.infrastructure.TypingIndicatorRepository;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.TypingState;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.TypingState.TypingUser;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("입력 중 상태 저장소 테스트")
+class TypingIndicatorRepositoryTest {
+
+    final Long ROOM_ID = 1L;
+    final long TTL_MILLIS = 200;
+
+    TypingIndicatorRepository typingIndicatorRepository;
+
+    @BeforeEach
+    void setUp() {
+        typingIndicatorRepository = new TypingIndicatorRepository(TTL_MILLIS);
+    }
+
+    @Test
+    @DisplayName("한 tick 동안 여러 번 들어온 입력 중 신호는 바뀐 목록 하나로 합쳐진다.")
+    void givenRepeatedSignals_whenCollectChanges_thenReturnOneCoalescedState() {
+        // given
+        typingIndicatorRepository.start(ROOM_ID, 10L, "userA");
+        typingIndicatorRepository.start(ROOM_ID, 10L, "userA");
+        typingIndicatorRepository.start(ROOM_ID, 11L, "userB");
+
+        // when
+        List<TypingState> first = typingIndicatorRepository.collectChanges();
+        typingIndicatorRepository.start(ROOM_ID, 10L, "userA"); // 만료 시각만 늘어난다.
+        List<TypingState> second = typingIndicatorRepository.collectChanges();
+
+        // then
+        assertThat(first).containsExactly(new TypingState(ROOM_ID,
+                List.of(new TypingUser(10L, "userA"), new TypingUser(11L, "userB"))));
+        assertThat(second).isEmpty();
+    }
+
+    @Test
+    @DisplayName("입력을 멈추면 빈 목록을 한 번 반환하고, 이후 방은 정리된다.")
+    void givenStop_whenCollectChanges_thenReturnEmptyOnceAndEvictRoom() {
+        // given
+        typingIndicatorRepository.start(ROOM_ID, 10L, "userA");
+        typingIndicatorRepository.collectChanges();
+
+        // when
+        typingIndicatorRepository.stop(ROOM_ID, 10L);
+        List<TypingState> changes = typingIndicatorRepository.collectChanges();
+
+        // then
+        assertThat(changes).containsExactly(new TypingState(ROOM_ID, List.of()));
+        assertThat(typingIndicatorRepository.collectChanges()).isEmpty();
+        assertThat(typingIndicatorRepository.getActiveRoomCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("ttl 동안 신호가 없으면 입력 중 목록에서 빠진다.")
+    void givenNoSignalForTtl_whenCollectChanges_thenExpire() throws InterruptedException {
+        // given
+        typingIndicatorRepository.start(ROOM_ID, 10L, "userA");
+        typingIndicatorRepository.collectChanges();
+
+        // when
+        Thread.sleep(TTL_MILLIS + 50);
+        List<TypingState> changes = typingIndicatorRepository.collectChanges();
+
+        // then
+        assertThat(changes).containsExactly(new TypingState(ROOM_ID, List.of()));
+    }
+
+    @Test
+    @DisplayName("입력을 시작했다가 같은 tick 안에 멈추면 아무것도 방송하지 않는다.")
+    void givenStartAndStopWithinTick_whenCollectChanges_thenNoChange() {
+        // given
+        typingIndicatorRepository.start(ROOM_ID, 10L, "userA");
+        typingIndicatorRepository.stop(ROOM_ID, 10L);
+
+        // when
+        List<TypingState> changes = typingIndicatorRepository.collectChanges();
+
+        // then
+        assertThat(changes).isEmpty();
+        assertThat(typingIndicatorRepository.getActiveRoomCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 노드로는 입력 시작과 ttl 의 절반마다 한 번만 알리고, 중단은 입력 중이던 유저만 알린다.")
+    void givenRepeatedSignals_whenStartAndStop_thenAnnounceOnlyWhenNeeded() throws InterruptedException {
+        // when
+        boolean first = typingIndicatorRepository.start(ROOM_ID, 10L, "userA");
+        boolean repeated = typingIndicatorRepository.start(ROOM_ID, 10L, "userA");
+        Thread.sleep(TTL_MILLIS / 2 + 10);
+        boolean refreshed = typingIndicatorRepository.start(ROOM_ID, 10L, "userA");
+        boolean stopped = typingIndicatorRepository.stop(ROOM_ID, 10L);
+        boolean stoppedAgain = typingIndicatorRepository.stop(ROOM_ID, 10L);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(repeated).isFalse();
+        assertThat(refreshed).isTrue();
+        assertThat(stopped).isTrue();
+        assertThat(stoppedAgain).isFalse();
+    }
+}
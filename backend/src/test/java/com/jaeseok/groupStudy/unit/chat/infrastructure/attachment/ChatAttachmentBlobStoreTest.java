@@ -0,0 +1,76 @@
+package com.jaeseok.groupStudy.unit.chat.infrastructure.attachment;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.jaeseok.groupStudy.chat.exception.ChatAttachmentTooLargeException;
+import com.jaeseok.groupStudy.chat.infrastructure.attachment.ChatAttachmentBlobStore;
+import com.jaeseok.groupStudy.chat.infrastructure.attachment.ChatAttachmentBlobStore.StoredBlob;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("채팅 첨부 파일 블롭 저장소 테스트")
+class ChatAttachmentBlobStoreTest {
+
+    @TempDir
+    Path blobDir;
+
+    ChatAttachmentBlobStore blobStore;
+
+    @BeforeEach
+    void setUp() {
+        blobStore = new ChatAttachmentBlobStore(blobDir.toString(), 16);
+    }
+
+    @Test
+    @DisplayName("파일은 내용 해시 이름으로 저장되고, 같은 내용은 한 번만 저장된다.")
+    void givenSameContentTwice_whenStore_thenKeepSingleBlob() throws IOException {
+        // given
+        byte[] content = "hello".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        StoredBlob first = blobStore.store(new ByteArrayInputStream(content));
+        StoredBlob second = blobStore.store(new ByteArrayInputStream(content));
+
+        // then
+        // sha256("hello")
+        assertThat(first.hash()).isEqualTo("2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824");
+        assertThat(first).isEqualTo(second);
+        assertThat(first.size()).isEqualTo(5L);
+        assertThat(Files.readAllBytes(blobStore.find(first.hash()))).isEqualTo(content);
+        assertThat(countBlobs()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 예외를 던지고 쓰던 임시 파일을 남기지 않는다.")
+    void givenTooLargeContent_whenStore_thenThrowAndCleanUp() throws IOException {
+        // given
+        byte[] content = new byte[17];
+
+        // when & then
+        assertThatThrownBy(() -> blobStore.store(new ByteArrayInputStream(content)))
+                .isInstanceOf(ChatAttachmentTooLargeException.class);
+        assertThat(countBlobs()).isZero();
+    }
+
+    @Test
+    @DisplayName("해시 형식이 아니거나 없는 블롭은 찾지 않는다.")
+    void givenInvalidOrMissingHash_whenFind_thenReturnNull() {
+        // when & then
+        assertThat(blobStore.find("../../etc/passwd")).isNull();
+        assertThat(blobStore.find("a".repeat(64))).isNull();
+    }
+
+    private long countBlobs() throws IOException {
+        try (Stream<Path> files = Files.walk(blobDir)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+}
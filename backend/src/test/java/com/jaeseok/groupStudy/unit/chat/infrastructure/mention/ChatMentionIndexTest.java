@@ -0,0 +1,130 @@
+package com.jaeseok.groupStudy.unit.chat.infrastructure.mention;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.jaeseok.groupStudy.chat.infrastructure.mention.ChatMentionIndex;
+import com.jaeseok.groupStudy.member.application.MemberInfoCache;
+import com.jaeseok.groupStudy.member.application.dto.MemberInfoDto;
+import com.jaeseok.groupStudy.member.event.MemberInfoChangedEvent;
+import com.jaeseok.groupStudy.studyGroup.domain.participant.ParticipantStatus;
+import com.jaeseok.groupStudy.studyGroup.event.ParticipantStatusChangedEvent;
+import com.jaeseok.groupStudy.studyGroup.infrastructure.membership.StudyGroupMembershipIndex;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("채팅방 언급 인덱스 테스트")
+class ChatMentionIndexTest {
+
+    StudyGroupMembershipIndex studyGroupMembershipIndex;
+    MemberInfoCache memberInfoCache;
+    ChatMentionIndex chatMentionIndex;
+
+    final Long GROUP_ID = 1L;
+    final Long SENDER_ID = 99L;
+
+    @BeforeEach
+    void setUp() {
+        studyGroupMembershipIndex = mock(StudyGroupMembershipIndex.class);
+        memberInfoCache = mock(MemberInfoCache.class);
+        chatMentionIndex = new ChatMentionIndex(studyGroupMembershipIndex, memberInfoCache);
+
+        given(studyGroupMembershipIndex.getMemberIds(GROUP_ID)).willReturn(new long[]{10L, 11L, 12L, SENDER_ID});
+        given(studyGroupMembershipIndex.isMember(eq(GROUP_ID), anyLong())).willReturn(true);
+        givenNickname(10L, "재석");
+        givenNickname(11L, "재석이");
+        givenNickname(12L, "kim");
+        givenNickname(SENDER_ID, "보낸사람");
+    }
+
+    @Test
+    @DisplayName("'@' 뒤에서 가장 긴 닉네임을 찾고, 조사가 붙어도 찾는다.")
+    void givenMentions_whenFindMentionedIds_thenReturnLongestMatchInOrder() {
+        // when & then
+        assertThat(chatMentionIndex.findMentionedIds(GROUP_ID, SENDER_ID, "@재석이 안녕, @kim 도 @재석님도"))
+                .containsExactly(11L, 12L, 10L);
+    }
+
+    @Test
+    @DisplayName("보낸 사람 자신, 이메일 주소, 중복 언급은 제외한다.")
+    void givenSelfEmailAndDuplicate_whenFindMentionedIds_thenExclude() {
+        // when & then
+        assertThat(chatMentionIndex.findMentionedIds(GROUP_ID, SENDER_ID, "@보낸사람 mail@kim.com @kim @kim"))
+                .containsExactly(12L);
+        assertThat(chatMentionIndex.findMentionedIds(GROUP_ID, SENDER_ID, "언급 없음")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("참여자 상태가 바뀌면 트라이에 한 명씩 반영한다.")
+    void givenParticipantStatusChanged_whenFindMentionedIds_thenReflectIncrementally() {
+        // given
+        chatMentionIndex.findMentionedIds(GROUP_ID, SENDER_ID, "@kim");
+        givenNickname(13L, "newbie");
+
+        // when
+        chatMentionIndex.onParticipantStatusChanged(
+                new ParticipantStatusChangedEvent(GROUP_ID, 13L, ParticipantStatus.APPROVED));
+        chatMentionIndex.onParticipantStatusChanged(
+                new ParticipantStatusChangedEvent(GROUP_ID, 12L, ParticipantStatus.KICKED));
+
+        // then
+        assertThat(chatMentionIndex.findMentionedIds(GROUP_ID, SENDER_ID, "@newbie @kim")).containsExactly(13L);
+        // 트라이는 처음 한 번만 적재한다.
+        verify(studyGroupMembershipIndex, times(1)).getMemberIds(GROUP_ID);
+    }
+
+    @Test
+    @DisplayName("닉네임이 바뀌면 이전 닉네임으로는 찾지 않는다.")
+    void givenNicknameChanged_whenFindMentionedIds_thenUseNewNickname() {
+        // given
+        chatMentionIndex.findMentionedIds(GROUP_ID, SENDER_ID, "@kim");
+        givenNickname(12L, "park");
+
+        // when
+        chatMentionIndex.onMemberInfoChanged(new MemberInfoChangedEvent(12L));
+
+        // then
+        verify(memberInfoCache).invalidate(12L);
+        assertThat(chatMentionIndex.findMentionedIds(GROUP_ID, SENDER_ID, "@kim @park")).containsExactly(12L);
+        assertThat(chatMentionIndex.findMentionedIds(GROUP_ID, SENDER_ID, "@kim")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("적재 도중 닉네임이 바뀌면 만든 트라이를 버리고 다음 조회에서 다시 적재한다.")
+    void givenNicknameChangedWhileLoading_whenFindMentionedIds_thenReloadNextTime() {
+        // given
+        given(memberInfoCache.find(12L))
+                .willAnswer(invocation -> {
+                    chatMentionIndex.onMemberInfoChanged(new MemberInfoChangedEvent(12L));
+                    return Optional.of(new MemberInfoDto(12L, "kim", "kim@test.com"));
+                })
+                .willReturn(Optional.of(new MemberInfoDto(12L, "park", "park@test.com")));
+        chatMentionIndex.findMentionedIds(GROUP_ID, SENDER_ID, "@kim");
+
+        // when
+        List<Long> result = chatMentionIndex.findMentionedIds(GROUP_ID, SENDER_ID, "@kim @park");
+
+        // then
+        assertThat(result).containsExactly(12L);
+        assertThat(chatMentionIndex.findMentionedIds(GROUP_ID, SENDER_ID, "@kim")).isEmpty();
+        verify(studyGroupMembershipIndex, times(2)).getMemberIds(GROUP_ID);
+    }
+
+    @Test
+    @DisplayName("승인 참여자 인덱스에 없는 회원은 트라이에 남아 있어도 제외한다.")
+    void givenNotMember_whenFindMentionedIds_thenExclude() {
+        // given
+        given(studyGroupMembershipIndex.isMember(GROUP_ID, 12L)).willReturn(false);
+
+        // when & then
+        assertThat(chatMentionIndex.findMentionedIds(GROUP_ID, SENDER_ID, "@kim @재석")).containsExactly(10L);
+    }
+
+    private void givenNickname(Long memberId, String nickname) {
+        given(memberInfoCache.find(memberId))
+                .willReturn(Optional.of(new MemberInfoDto(memberId, nickname, nickname + "@test.com")));
+    }
+}
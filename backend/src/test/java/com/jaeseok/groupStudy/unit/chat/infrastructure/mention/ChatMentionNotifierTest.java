@@ -0,0 +1,99 @@
+package com.jaeseok.groupStudy.unit.chat.infrastructure.mention;
+
+import static org.mockito.BDDMockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.ChatMentionNotification;
+import com.jaeseok.groupStudy.chat.infrastructure.mention.ChatMentionNotifier;
+import com.jaeseok.groupStudy.common.broadcast.BroadcastPublisher;
+import com.jaeseok.groupStudy.common.cluster.ClusterBroadcastRelay;
+import com.jaeseok.groupStudy.common.cluster.LoopbackClusterTransport;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("채팅 언급 알림 전송기 테스트")
+class ChatMentionNotifierTest {
+
+    @Mock
+    BroadcastPublisher broadcastPublisherA;
+
+    @Mock
+    BroadcastPublisher broadcastPublisherB;
+
+    @Mock
+    ClusterBroadcastRelay relayA;
+
+    @Mock
+    ClusterBroadcastRelay relayB;
+
+    @Mock
+    SimpUserRegistry simpUserRegistryA;
+
+    @Mock
+    SimpUserRegistry simpUserRegistryB;
+
+    @Mock
+    SimpUser simpUser;
+
+    final byte[] JSON = "{\"roomId\":1}".getBytes(StandardCharsets.UTF_8);
+
+    ChatMentionNotifier notifierA;
+    ChatMentionNotifier notifierB;
+
+    @BeforeEach
+    void setUp() {
+        LoopbackClusterTransport.Hub hub = new LoopbackClusterTransport.Hub();
+        ObjectMapper objectMapper = new ObjectMapper();
+        lenient().when(relayA.getNodeId()).thenReturn("node-a");
+        lenient().when(relayB.getNodeId()).thenReturn("node-b");
+
+        notifierA = new ChatMentionNotifier(broadcastPublisherA, new LoopbackClusterTransport(hub), relayA,
+                simpUserRegistryA, objectMapper);
+        notifierB = new ChatMentionNotifier(broadcastPublisherB, new LoopbackClusterTransport(hub), relayB,
+                simpUserRegistryB, objectMapper);
+        notifierA.start();
+        notifierB.start();
+    }
+
+    @Test
+    @DisplayName("다른 노드는 자기 노드에 접속한 언급 대상에게만 알림을 전달한다.")
+    void givenMentionedUserOnOtherNode_whenSend_thenOtherNodeDeliversToLocalSessionOnly() {
+        // given
+        ChatMentionNotification notification = new ChatMentionNotification(1L, 5L, 99L, "보낸이", "@받는이 안녕",
+                LocalDateTime.of(2025, 3, 1, 12, 0));
+        given(broadcastPublisherA.serialize(notification)).willReturn(JSON);
+        given(simpUserRegistryB.getUser("10")).willReturn(simpUser);
+        given(simpUserRegistryB.getUser("20")).willReturn(null);
+
+        // when
+        notifierA.send(List.of(10L, 20L), notification);
+
+        // then
+        verify(broadcastPublisherA).publishJson("/user/10/queue/mentions", JSON);
+        verify(broadcastPublisherA).publishJson("/user/20/queue/mentions", JSON);
+        verify(broadcastPublisherB).publishJson("/user/10/queue/mentions", JSON);
+        verify(broadcastPublisherB, never()).publishJson("/user/20/queue/mentions", JSON);
+        verifyNoInteractions(simpUserRegistryA);
+    }
+
+    @Test
+    @DisplayName("언급 대상이 없으면 로컬 전송도 클러스터 발행도 하지 않는다.")
+    void givenNoMentionedMembers_whenSend_thenDoNothing() {
+        // when
+        notifierA.send(List.of(), new ChatMentionNotification(1L, 5L, 99L, "보낸이", "안녕",
+                LocalDateTime.of(2025, 3, 1, 12, 0)));
+
+        // then
+        verifyNoInteractions(broadcastPublisherA, broadcastPublisherB, simpUserRegistryB);
+    }
+}
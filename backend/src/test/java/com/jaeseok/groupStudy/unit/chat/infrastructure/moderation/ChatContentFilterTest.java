@@ -0,0 +1,99 @@
+package com.jaeseok.groupStudy.unit.chat.infrastructure.moderation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.jaeseok.groupStudy.chat.infrastructure.moderation.ChatContentFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("채팅 금칙어 필터 테스트")
+class ChatContentFilterTest {
+
+    @TempDir
+    Path tempDir;
+
+    SimpleMeterRegistry meterRegistry;
+    ChatContentFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new ChatContentFilter(meterRegistry, "");
+        filter.reload(List.of("# 주석", "바보", "멍청이", "spam", "ass"));
+    }
+
+    @Test
+    @DisplayName("금칙어가 없으면 받은 문자열을 그대로 돌려준다.")
+    void givenCleanContent_whenMask_thenReturnSameInstance() {
+        // given
+        String content = "오늘 스터디 몇 시에 시작하나요?";
+
+        // when
+        String result = filter.mask(content);
+
+        // then
+        assertThat(result).isSameAs(content);
+    }
+
+    @Test
+    @DisplayName("여러 금칙어를 한 번에 찾아 가린다. (겹치거나 이어져 있어도)")
+    void givenSeveralBannedWords_whenMask_thenMaskAll() {
+        // when
+        String result = filter.mask("바보멍청이 그리고 바보");
+
+        // then
+        assertThat(result).isEqualTo("***** 그리고 **");
+        assertThat(filter.getHitCounts()).containsEntry("바보", 2L).containsEntry("멍청이", 1L);
+        assertThat(meterRegistry.get("chat.filter.hits").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("대소문자, 전각 문자, 치환 문자, 사이에 끼운 기호로 피해 가지 못한다.")
+    void givenObfuscatedWords_whenMask_thenMaskNormalizedMatch() {
+        // when & then
+        assertThat(filter.mask("SPAM")).isEqualTo("****");
+        assertThat(filter.mask("ｓｐａｍ")).isEqualTo("****");
+        assertThat(filter.mask("$p@m")).isEqualTo("****");
+        assertThat(filter.mask("s.p.a.m!")).isEqualTo("*.*.*.*!");
+        assertThat(filter.mask("바-보")).isEqualTo("*-*");
+    }
+
+    @Test
+    @DisplayName("영문 금칙어는 단어 경계에서만 찾는다.")
+    void givenLatinWordInsideWord_whenMask_thenKeepIt() {
+        // when & then
+        assertThat(filter.mask("first class")).isEqualTo("first class");
+        assertThat(filter.mask("you ass")).isEqualTo("you ***");
+        assertThat(filter.mask("spam스팸")).isEqualTo("****스팸");
+    }
+
+    @Test
+    @DisplayName("금칙어 파일이 바뀌면 다시 불러오고, 남아 있는 금칙어의 적중 수는 유지한다.")
+    void givenChangedWordsFile_whenReloadIfChanged_thenSwapDictionary() throws IOException {
+        // given
+        Path words = Files.writeString(tempDir.resolve("words.txt"), "바보\n");
+        ChatContentFilter fileFilter = new ChatContentFilter(meterRegistry, words.toString());
+        fileFilter.init();
+        fileFilter.mask("바보");
+
+        Files.writeString(words, "바보\n멍청이\n");
+        Files.setLastModifiedTime(words, FileTime.from(Instant.now().plusSeconds(10)));
+
+        // when
+        fileFilter.reloadIfChanged();
+
+        // then
+        assertThat(fileFilter.mask("멍청이")).isEqualTo("***");
+        assertThat(fileFilter.getWordCount()).isEqualTo(2);
+        assertThat(fileFilter.getHitCounts()).containsEntry("바보", 1L).containsEntry("멍청이", 1L);
+    }
+}
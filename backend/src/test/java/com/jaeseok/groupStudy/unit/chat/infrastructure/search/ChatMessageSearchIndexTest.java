@@ -0,0 +1,138 @@
+package com.jaeseok.groupStudy.unit.chat.infrastructure.search;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.jaeseok.groupStudy.chat.domain.ChatMessage;
+import com.jaeseok.groupStudy.chat.domain.MessageType;
+import com.jaeseok.groupStudy.chat.domain.repository.ChatHistoryStore;
+import com.jaeseok.groupStudy.chat.infrastructure.search.ChatMessageSearchIndex;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("채팅 검색 색인 테스트")
+class ChatMessageSearchIndexTest {
+
+    @TempDir
+    Path indexDir;
+
+    ChatHistoryStore chatHistoryStore;
+    ChatMessageSearchIndex searchIndex;
+
+    final Long ROOM_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        chatHistoryStore = mock(ChatHistoryStore.class);
+        searchIndex = newIndex(2);
+    }
+
+    @Test
+    @DisplayName("검색어의 bigram 을 모두 포함하는 메세지 순번을 최신순으로 반환한다.")
+    void givenMessages_whenSearch_thenReturnCandidatesNewestFirst() {
+        // given
+        searchIndex.add(message(1, "오늘 스터디 자료 공유합니다"));
+        searchIndex.add(message(2, "점심 먹고 와요"));
+        searchIndex.add(message(3, "스터디 링크: https://GitHub.com/group-study"));
+
+        // when
+        long[] study = searchIndex.search(ROOM_ID, "스터디", Long.MAX_VALUE);
+        long[] link = searchIndex.search(ROOM_ID, "github", Long.MAX_VALUE);
+        long[] beforeThree = searchIndex.search(ROOM_ID, "스터디", 3);
+
+        // then
+        assertThat(study).containsExactly(3L, 1L);
+        assertThat(link).containsExactly(3L);
+        assertThat(beforeThree).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("입장/퇴장 안내 메세지는 색인하지 않는다.")
+    void givenSystemMessage_whenAdd_thenNotIndexed() {
+        // given
+        searchIndex.add(ChatMessage.restore(1L, ROOM_ID, 1L, 10L, "유저님이 입장하셨습니다.", MessageType.ENTER,
+                LocalDateTime.now()));
+
+        // when
+        long[] result = searchIndex.search(ROOM_ID, "입장", Long.MAX_VALUE);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("붙어 있는 두 글자가 없는 검색어는 거절한다.")
+    void givenSingleCharacterQuery_whenSearch_thenThrowException() {
+        // when & then
+        assertThatThrownBy(() -> searchIndex.search(ROOM_ID, "스 터", Long.MAX_VALUE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("세그먼트로 내린 색인은 다시 적재해도 검색된다.")
+    void givenFlushedIndex_whenReload_thenSearchFromSegments() {
+        // given
+        searchIndex.add(message(1, "알고리즘 문제 풀이"));
+        searchIndex.add(message(2, "알고리즘 스터디 일정"));
+        searchIndex.flush();
+        given(chatHistoryStore.findMaxSeq(ROOM_ID)).willReturn(2L);
+
+        // when
+        ChatMessageSearchIndex reloaded = newIndex(2);
+        long[] result = reloaded.search(ROOM_ID, "알고리즘", Long.MAX_VALUE);
+
+        // then
+        assertThat(result).containsExactly(2L, 1L);
+        verify(chatHistoryStore, never()).findRange(anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("마지막 세그먼트 이후 저장소에만 있는 메세지는 처음 검색할 때 다시 색인한다.")
+    void givenMessagesOnlyInStore_whenSearch_thenBackfillFromStore() {
+        // given
+        searchIndex.add(message(1, "회고 문서 정리"));
+        searchIndex.flush();
+
+        ChatMessageSearchIndex reloaded = newIndex(2);
+        given(chatHistoryStore.findMaxSeq(ROOM_ID)).willReturn(3L);
+        given(chatHistoryStore.findRange(ROOM_ID, 1L, 3L))
+                .willReturn(List.of(message(2, "회고 일정 공유"), message(3, "다음 주 회고")));
+
+        // when
+        long[] result = reloaded.search(ROOM_ID, "회고", Long.MAX_VALUE);
+
+        // then
+        assertThat(result).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("세그먼트가 한도를 넘으면 하나로 병합하고, 병합 후에도 같은 결과를 반환한다.")
+    void givenTooManySegments_whenFlush_thenCompactIntoOne() {
+        // given
+        for (int seq = 1; seq <= 3; seq++) {
+            searchIndex.add(message(seq, "면접 준비 " + seq));
+            searchIndex.flush();
+        }
+        given(chatHistoryStore.findMaxSeq(ROOM_ID)).willReturn(3L);
+
+        // when
+        long[] result = searchIndex.search(ROOM_ID, "면접", Long.MAX_VALUE);
+
+        // then
+        assertThat(searchIndex.getSegmentCount(ROOM_ID)).isEqualTo(1);
+        assertThat(result).containsExactly(3L, 2L, 1L);
+    }
+
+    private ChatMessageSearchIndex newIndex(int maxSegments) {
+        return new ChatMessageSearchIndex(chatHistoryStore, indexDir.toString(), maxSegments, 10_000);
+    }
+
+    private ChatMessage message(long seq, String content) {
+        return ChatMessage.restore(seq, ROOM_ID, seq, 10L, content, MessageType.CHAT, LocalDateTime.now());
+    }
+}
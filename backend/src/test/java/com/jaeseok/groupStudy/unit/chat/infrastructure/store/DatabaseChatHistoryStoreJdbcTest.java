@@ -0,0 +1,72 @@
+package com.jaeseok.groupStudy.unit.chat.infrastructure.store;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jaeseok.groupStudy.chat.domain.ChatMessage;
+import com.jaeseok.groupStudy.chat.domain.MessageType;
+import com.jaeseok.groupStudy.chat.domain.repository.ChatMessageRepository;
+import com.jaeseok.groupStudy.chat.infrastructure.archive.ChatMessageArchive;
+import com.jaeseok.groupStudy.chat.infrastructure.store.DatabaseChatHistoryStore;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest
+@DisplayName("DB 채팅 내역 저장소 JDBC 테스트")
+class DatabaseChatHistoryStoreJdbcTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ChatMessageRepository chatMessageRepository;
+
+    @TempDir
+    Path archiveDir;
+
+    ChatMessageArchive chatMessageArchive;
+    DatabaseChatHistoryStore databaseChatHistoryStore;
+
+    final Long ROOM_ID = 1L;
+    final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        chatMessageArchive = new ChatMessageArchive(new ObjectMapper(), archiveDir.toString(), 100);
+        databaseChatHistoryStore = new DatabaseChatHistoryStore(jdbcTemplate, chatMessageRepository,
+                chatMessageArchive);
+    }
+
+    @Test
+    @DisplayName("MySQL 이 아닌 DB 에서도 내보내기는 아카이브 다음 핫 테이블을 오래된 순으로 끝까지 읽는다.")
+    void givenArchivedAndHotMessages_whenForEachOldestFirst_thenVisitAllOldestFirst() {
+        // given
+        chatMessageArchive.append(ROOM_ID, List.of(
+                message(ROOM_ID, 1L, BASE_TIME.minusMonths(2)),
+                message(ROOM_ID, 2L, BASE_TIME.minusMonths(1))));
+        databaseChatHistoryStore.appendAll(List.of(
+                message(ROOM_ID, 4L, BASE_TIME.plusSeconds(1)),
+                message(ROOM_ID, 3L, BASE_TIME),
+                message(2L, 5L, BASE_TIME)));
+        List<Long> visited = new ArrayList<>();
+
+        // when
+        databaseChatHistoryStore.forEachOldestFirst(ROOM_ID, message -> visited.add(message.getId()));
+
+        // then
+        assertThat(visited).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    private ChatMessage message(Long roomId, Long id, LocalDateTime createdAt) {
+        return ChatMessage.restore(id, roomId, 10L, "메세지 " + id, MessageType.CHAT, createdAt);
+    }
+}
@@ -0,0 +1,174 @@
+package com.jaeseok.groupStudy.unit.chat.infrastructure.store;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.jaeseok.groupStudy.chat.domain.ChatMessage;
+import com.jaeseok.groupStudy.chat.domain.MessageType;
+import com.jaeseok.groupStudy.chat.domain.repository.ChatMessageRepository;
+import com.jaeseok.groupStudy.chat.domain.vo.ChatHistoryCursor;
+import com.jaeseok.groupStudy.chat.infrastructure.archive.ChatMessageArchive;
+import com.jaeseok.groupStudy.chat.infrastructure.store.DatabaseChatHistoryStore;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DB 채팅 내역 저장소 테스트")
+class DatabaseChatHistoryStoreTest {
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @Mock
+    ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    ChatMessageArchive chatMessageArchive;
+
+    @InjectMocks
+    DatabaseChatHistoryStore databaseChatHistoryStore;
+
+    final Long ROOM_ID = 1L;
+    final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Test
+    @DisplayName("메세지 목록은 다중 행 INSERT 한 번으로 저장된다.")
+    void givenMessages_whenAppendAll_thenInsertAsSingleMultiRowStatement() {
+        // given
+        List<ChatMessage> messages = List.of(message(2L, BASE_TIME), message(1L, BASE_TIME.minusSeconds(1)));
+
+        // when
+        databaseChatHistoryStore.appendAll(messages);
+
+        // then
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, times(1)).update(sqlCaptor.capture(), any(PreparedStatementSetter.class));
+
+        assertThat(sqlCaptor.getValue()).startsWith("INSERT INTO chat_message (id,");
+        assertThat(sqlCaptor.getValue()).contains("(?, ?, ?, ?, ?, ?, ?, ?), (?, ?, ?, ?, ?, ?, ?, ?)");
+    }
+
+    @Test
+    @DisplayName("핫 테이블에서 요청 개수를 채우면 아카이브를 조회하지 않는다.")
+    void givenEnoughHotRows_whenFindBefore_thenSkipArchive() {
+        // given
+        List<ChatMessage> hotRows = List.of(message(3L, BASE_TIME), message(2L, BASE_TIME.minusSeconds(1)));
+        given(chatMessageRepository.findLatestChatMessages(ROOM_ID, PageRequest.of(0, 2))).willReturn(hotRows);
+
+        // when
+        List<ChatMessage> result = databaseChatHistoryStore.findBefore(ROOM_ID, null, 2);
+
+        // then
+        assertThat(result).isEqualTo(hotRows);
+        verifyNoInteractions(chatMessageArchive);
+    }
+
+    @Test
+    @DisplayName("핫 테이블 메세지가 모자라면 마지막 메세지 이전부터 아카이브에서 이어서 조회한다.")
+    void givenHotWindowExhausted_whenFindBefore_thenReadThroughArchive() {
+        // given
+        ChatHistoryCursor cursor = ChatHistoryCursor.of(BASE_TIME.plusMinutes(1), 100L);
+        ChatMessage oldestHot = message(90L, BASE_TIME);
+        given(chatMessageRepository.findChatMessagesBefore(ROOM_ID, cursor.createdAt(), cursor.id(),
+                PageRequest.of(0, 3))).willReturn(List.of(oldestHot));
+
+        List<ChatMessage> archivedRows = List.of(message(80L, BASE_TIME.minusDays(200)),
+                message(70L, BASE_TIME.minusDays(201)));
+        given(chatMessageArchive.findBefore(ROOM_ID, ChatHistoryCursor.of(oldestHot.getCreatedAt(), 90L), 2))
+                .willReturn(archivedRows);
+
+        // when
+        List<ChatMessage> result = databaseChatHistoryStore.findBefore(ROOM_ID, cursor, 3);
+
+        // then
+        assertThat(result).extracting(ChatMessage::getId).containsExactly(90L, 80L, 70L);
+    }
+
+    @Test
+    @DisplayName("순번 구간의 앞부분이 핫 테이블에 없으면 아카이브에서 첫 순번 앞까지 채운다.")
+    void givenRangeStartsInArchive_whenFindRange_thenPrependArchivedRows() {
+        // given
+        List<ChatMessage> hotRows = List.of(sequenced(13L, 3L), sequenced(14L, 4L));
+        given(chatMessageRepository.findChatMessagesBySeqRange(ROOM_ID, 0L, 4L)).willReturn(hotRows);
+        given(chatMessageArchive.findRange(ROOM_ID, 0L, 2L))
+                .willReturn(List.of(sequenced(11L, 1L), sequenced(12L, 2L)));
+
+        // when
+        List<ChatMessage> result = databaseChatHistoryStore.findRange(ROOM_ID, 0L, 4L);
+
+        // then
+        assertThat(result).extracting(ChatMessage::getSeq).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("핫 테이블에 순번 구간이 모두 있으면 아카이브를 조회하지 않는다.")
+    void givenRangeInHotTable_whenFindRange_thenSkipArchive() {
+        // given
+        List<ChatMessage> hotRows = List.of(sequenced(13L, 3L), sequenced(14L, 4L));
+        given(chatMessageRepository.findChatMessagesBySeqRange(ROOM_ID, 2L, 4L)).willReturn(hotRows);
+
+        // when
+        List<ChatMessage> result = databaseChatHistoryStore.findRange(ROOM_ID, 2L, 4L);
+
+        // then
+        assertThat(result).isEqualTo(hotRows);
+        verifyNoInteractions(chatMessageArchive);
+    }
+
+    @Test
+    @DisplayName("순번 목록 조회는 핫 테이블에 없는 순번만 연속 구간으로 묶어 아카이브에서 읽는다.")
+    void givenSeqsPartiallyArchived_whenFindBySeqs_thenReadMissingFromArchive() {
+        // given
+        List<Long> seqs = List.of(2L, 3L, 5L, 9L);
+        given(chatMessageRepository.findByChatRoomIdAndSeqIn(ROOM_ID, seqs))
+                .willReturn(List.of(sequenced(15L, 5L), sequenced(19L, 9L)));
+        given(chatMessageRepository.findChatMessagesBySeqRange(ROOM_ID, 1L, 3L)).willReturn(List.of());
+        given(chatMessageArchive.findRange(ROOM_ID, 1L, 3L))
+                .willReturn(List.of(sequenced(12L, 2L), sequenced(13L, 3L)));
+
+        // when
+        List<ChatMessage> result = databaseChatHistoryStore.findBySeqs(ROOM_ID, seqs);
+
+        // then
+        assertThat(result).extracting(ChatMessage::getSeq).containsExactlyInAnyOrder(2L, 3L, 5L, 9L);
+        verify(chatMessageArchive, times(1)).findRange(anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("내보내기는 아카이브 메세지를 먼저 넘긴 뒤 핫 테이블을 스트리밍 조회한다.")
+    void givenExport_whenForEachOldestFirst_thenStreamArchiveBeforeHotTable() {
+        // given
+        Consumer<ChatMessage> action = message -> { };
+
+        // when
+        databaseChatHistoryStore.forEachOldestFirst(ROOM_ID, action);
+
+        // then
+        InOrder inOrder = inOrder(chatMessageArchive, jdbcTemplate);
+        inOrder.verify(chatMessageArchive).forEachOldestFirst(ROOM_ID, action);
+        inOrder.verify(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        verifyNoInteractions(chatMessageRepository);
+    }
+
+    private ChatMessage sequenced(Long id, Long seq) {
+        return ChatMessage.restore(id, ROOM_ID, seq, 10L, "메세지 " + id, MessageType.CHAT, BASE_TIME);
+    }
+
+    private ChatMessage message(Long id, LocalDateTime createdAt) {
+        return ChatMessage.restore(id, ROOM_ID, 10L, "메세지 " + id, MessageType.CHAT, createdAt);
+    }
+}
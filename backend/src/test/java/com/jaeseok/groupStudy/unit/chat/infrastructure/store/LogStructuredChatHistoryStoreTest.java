@@ -0,0 +1,240 @@
+package com.jaeseok.groupStudy.unit.chat.infrastructure.store;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.jaeseok.groupStudy.chat.domain.ChatMessage;
+import com.jaeseok.groupStudy.chat.domain.MessageType;
+import com.jaeseok.groupStudy.chat.domain.vo.ChatHistoryCursor;
+import com.jaeseok.groupStudy.chat.infrastructure.store.LogStructuredChatHistoryStore;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+@DisplayName("로그 구조 채팅 내역 저장소 테스트")
+class LogStructuredChatHistoryStoreTest {
+
+    @TempDir
+    Path logDir;
+
+    LogStructuredChatHistoryStore store;
+
+    final Long ROOM_ID = 1L;
+    final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 12, 0).truncatedTo(ChronoUnit.MICROS);
+
+    @BeforeEach
+    void setUp() {
+        store = open();
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    @DisplayName("커서 이전의 메세지를 세그먼트와 블록을 거슬러 올라가며 최신순으로 조회한다.")
+    void givenManySegments_whenFindBefore_thenReturnNewestFirst() throws IOException {
+        // given
+        store.appendAll(messages(1, 300));
+        ChatHistoryCursor cursor = ChatHistoryCursor.of(BASE_TIME.plusSeconds(151), 151L);
+
+        // when
+        List<ChatMessage> latest = store.findBefore(ROOM_ID, null, 3);
+        List<ChatMessage> beforeCursor = store.findBefore(ROOM_ID, cursor, 100);
+
+        // then
+        assertThat(segmentCount()).isGreaterThan(1);
+        assertThat(latest).extracting(ChatMessage::getId).containsExactly(300L, 299L, 298L);
+        assertThat(beforeCursor).hasSize(100);
+        assertThat(beforeCursor.get(0).getId()).isEqualTo(150L);
+        assertThat(beforeCursor.get(99).getId()).isEqualTo(51L);
+        assertThat(beforeCursor.get(0).getContent()).isEqualTo("메세지 150");
+        assertThat(beforeCursor.get(0).getCreatedAt()).isEqualTo(BASE_TIME.plusSeconds(150));
+        assertThat(beforeCursor.get(0).getChatRoomId()).isEqualTo(ROOM_ID);
+    }
+
+    @Test
+    @DisplayName("최신순 페이지와 전체 개수를 조회한다.")
+    void givenMessages_whenFindPage_thenReturnPageWithTotal() {
+        // given
+        store.appendAll(messages(1, 30));
+
+        // when
+        Page<ChatMessage> page = store.findPage(ROOM_ID, PageRequest.of(1, 10));
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(30);
+        assertThat(page.getContent()).extracting(ChatMessage::getId)
+                .containsExactlyElementsOf(LongStream.rangeClosed(11, 20).map(i -> 31 - i).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("활성 세그먼트는 한 번 매핑한 영역으로 이후에 추가된 메세지까지 읽고, 종료하면 0 채움을 잘라낸다.")
+    void givenActiveSegment_whenAppendAfterRead_thenReadNewMessagesAndTrimOnClose() throws IOException {
+        // given
+        store.appendAll(messages(1, 3));
+        store.findBefore(ROOM_ID, null, 3);
+
+        // when
+        store.appendAll(messages(4, 5));
+        List<ChatMessage> latest = store.findBefore(ROOM_ID, null, 2);
+        store.close();
+
+        // then
+        assertThat(latest).extracting(ChatMessage::getId).containsExactly(5L, 4L);
+        assertThat(Files.size(segments().get(0))).isLessThan(4_096);
+    }
+
+    @Test
+    @DisplayName("재시작하면 디스크의 세그먼트로 인덱스를 다시 만들고, 잘린 마지막 레코드는 버린다.")
+    void givenRestart_whenLoad_thenRecoverAndTruncatePartialRecord() throws IOException {
+        // given
+        store.appendAll(messages(1, 100));
+        store.close();
+        Path lastSegment = segments().get(segments().size() - 1);
+        Files.write(lastSegment, new byte[]{0, 0, 0, 100, 1, 2}, StandardOpenOption.APPEND);
+
+        // when
+        LogStructuredChatHistoryStore reopened = open();
+        long count = reopened.findPage(ROOM_ID, PageRequest.of(0, 1)).getTotalElements();
+        reopened.appendAll(messages(101, 101));
+        List<ChatMessage> latest = reopened.findBefore(ROOM_ID, null, 2);
+        reopened.close();
+
+        // then
+        assertThat(count).isEqualTo(100);
+        assertThat(latest).extracting(ChatMessage::getId).containsExactly(101L, 100L);
+    }
+
+    @Test
+    @DisplayName("병합하면 봉인된 세그먼트 수가 줄고 중복 메세지가 제거된다.")
+    void givenSealedSegmentsWithDuplicates_whenCompact_thenMergeAndDeduplicate() throws IOException {
+        // given
+        store.appendAll(messages(1, 100));
+        store.appendAll(messages(50, 60)); // 재시도로 중복 기록된 메세지
+        store.appendAll(messages(101, 200));
+        long segmentsBefore = segmentCount();
+
+        // when
+        store.compact();
+
+        // then
+        assertThat(segmentCount()).isLessThan(segmentsBefore);
+        assertThat(store.findPage(ROOM_ID, PageRequest.of(0, 1)).getTotalElements()).isEqualTo(200);
+        List<ChatMessage> all = store.findBefore(ROOM_ID, null, 500);
+        assertThat(all).extracting(ChatMessage::getId)
+                .containsExactlyElementsOf(LongStream.rangeClosed(1, 200).map(i -> 201 - i).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("순번 구간 (fromSeq, toSeq] 의 메세지를 순번 순으로 조회하고, 재시작 후에도 최대 순번을 복원한다.")
+    void givenManySegments_whenFindRange_thenReturnExactRange() {
+        // given
+        store.appendAll(messages(1, 300));
+
+        // when
+        List<ChatMessage> range = store.findRange(ROOM_ID, 120L, 135L);
+        store.close();
+        LogStructuredChatHistoryStore reopened = open();
+        long maxSeq = reopened.findMaxSeq(ROOM_ID);
+        reopened.close();
+
+        // then
+        assertThat(range).extracting(ChatMessage::getSeq)
+                .containsExactlyElementsOf(LongStream.rangeClosed(121, 135).boxed().toList());
+        assertThat(range.get(0).getContent()).isEqualTo("메세지 121");
+        assertThat(maxSeq).isEqualTo(300L);
+    }
+
+    @Test
+    @DisplayName("재시작 후 여러 스레드가 처음 조회해도 채팅방을 한 번만 적재해 같은 내용을 본다.")
+    void givenRestart_whenConcurrentFirstAccess_thenLoadRoomOnce() throws Exception {
+        // given
+        store.appendAll(messages(1, 300));
+        store.close();
+        LogStructuredChatHistoryStore reopened = open();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return reopened.findMaxSeq(ROOM_ID);
+            }));
+        }
+
+        // when
+        start.countDown();
+        List<Long> maxSeqs = new ArrayList<>();
+        for (Future<Long> result : results) {
+            maxSeqs.add(result.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        reopened.appendAll(messages(301, 301));
+        List<ChatMessage> latest = reopened.findBefore(ROOM_ID, null, 2);
+        reopened.close();
+
+        // then
+        assertThat(maxSeqs).containsOnly(300L);
+        assertThat(latest).extracting(ChatMessage::getId).containsExactly(301L, 300L);
+    }
+
+    @Test
+    @DisplayName("노드 로컬 저장소이므로 클러스터 모드에서는 만들 수 없다.")
+    void givenRedisClusterTransport_whenCreate_thenThrowException() {
+        // when & then
+        assertThatThrownBy(() -> new LogStructuredChatHistoryStore(logDir.toString(), 4_096, 32_768, 2, "redis"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("cluster.transport=redis");
+    }
+
+    private LogStructuredChatHistoryStore open() {
+        // 세그먼트가 여러 개로 나뉘도록 작게 설정
+        return new LogStructuredChatHistoryStore(logDir.toString(), 4_096, 32_768, 2, "loopback");
+    }
+
+    private List<ChatMessage> messages(long fromId, long toId) {
+        List<ChatMessage> messages = new ArrayList<>();
+        for (long id = fromId; id <= toId; id++) {
+            messages.add(ChatMessage.restore(id, ROOM_ID, id, 10L, "메세지 " + id, MessageType.CHAT,
+                    BASE_TIME.plusSeconds(id)));
+        }
+        return messages;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(logDir.resolve(String.valueOf(ROOM_ID)))) {
+            return files.filter(path -> path.toString().endsWith(".seg"))
+                    .sorted((a, b) -> Long.compare(firstId(a), firstId(b)))
+                    .toList();
+        }
+    }
+
+    private long segmentCount() throws IOException {
+        return segments().size();
+    }
+
+    private long firstId(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - ".seg".length()));
+    }
+}
@@ -0,0 +1,219 @@
+package com.jaeseok.groupStudy.unit.chat.presentation;
+
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.jaeseok.groupStudy.auth.application.MemberDetailsService;
+import com.jaeseok.groupStudy.auth.domain.UserPrincipal;
+import com.jaeseok.groupStudy.auth.infrastructure.jwt.JwtTokenProvider;
+import com.jaeseok.groupStudy.chat.application.ChatService;
+import com.jaeseok.groupStudy.chat.application.dto.ChatAttachmentDownload;
+import com.jaeseok.groupStudy.chat.application.dto.ChatAttachmentInfo;
+import com.jaeseok.groupStudy.chat.application.dto.SendMessageInfo;
+import com.jaeseok.groupStudy.chat.exception.ChatAttachmentTooLargeException;
+import com.jaeseok.groupStudy.chat.presentation.ChatAttachmentController;
+import com.jaeseok.groupStudy.common.broadcast.BroadcastPublisher;
+import com.jaeseok.groupStudy.config.SecurityConfig;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+@WebMvcTest(ChatAttachmentController.class)
+@Import(SecurityConfig.class)
+@DisplayName("Chat Attachment Controller 단위 테스트")
+class ChatAttachmentControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockitoBean
+    ChatService chatService;
+
+    @MockitoBean
+    BroadcastPublisher broadcastPublisher;
+
+    @MockitoBean
+    JwtTokenProvider jwtTokenProvider;
+
+    @MockitoBean
+    MemberDetailsService memberDetailsService;
+
+    @TempDir
+    Path blobDir;
+
+    UserPrincipal testUserPrincipal;
+
+    final Long USER_ID = 1L;
+    final Long ROOM_ID = 10L;
+    final Long ATTACHMENT_ID = 55L;
+    final String HASH = "a".repeat(64);
+    final String CONTENT = "0123456789";
+
+    @BeforeEach
+    void setUp() {
+        testUserPrincipal = new UserPrincipal(USER_ID, "test@test.com", "password1234");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(testUserPrincipal, null, testUserPrincipal.getAuthorities())
+        );
+    }
+
+    @Test
+    @DisplayName("첨부 파일을 올리면 첨부 파일 메세지를 채팅방에 방송하고 201로 응답한다.")
+    void givenMultipartFile_whenUploadAttachment_thenBroadcastAndCreated() throws Exception {
+        // given
+        MockMultipartFile file = new MockMultipartFile("file", "정리.pdf", "application/pdf",
+                CONTENT.getBytes(StandardCharsets.UTF_8));
+        SendMessageInfo messageInfo = new SendMessageInfo(USER_ID, "nickname", "55", LocalDateTime.now(), 3L,
+                "client-1", new ChatAttachmentInfo(ATTACHMENT_ID, "정리.pdf", "application/pdf", 10L));
+        given(chatService.sendAttachment(eq(ROOM_ID), eq(USER_ID), eq("정리.pdf"), eq("application/pdf"),
+                any(InputStream.class), eq("client-1"))).willReturn(messageInfo);
+
+        // when
+        ResultActions actions = mockMvc.perform(multipart("/api/chat/attachments/{roomId}", ROOM_ID)
+                .file(file)
+                .param("clientMessageId", "client-1"));
+
+        // then
+        actions
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.attachment.id").value(ATTACHMENT_ID))
+                .andExpect(jsonPath("$.clientMessageId").value("client-1"));
+        verify(broadcastPublisher).publish("/sub/chatroom/" + ROOM_ID, messageInfo);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘은 첨부 파일은 413으로 응답한다.")
+    void givenTooLargeFile_whenUploadAttachment_thenPayloadTooLarge() throws Exception {
+        // given
+        MockMultipartFile file = new MockMultipartFile("file", "big.bin", "application/octet-stream",
+                new byte[1]);
+        given(chatService.sendAttachment(any(), any(), any(), any(), any(), any()))
+                .willThrow(new ChatAttachmentTooLargeException("첨부 파일은 20MB 까지 올릴 수 있습니다."));
+
+        // when
+        ResultActions actions = mockMvc.perform(multipart("/api/chat/attachments/{roomId}", ROOM_ID).file(file));
+
+        // then
+        actions.andExpect(status().isPayloadTooLarge());
+        verifyNoInteractions(broadcastPublisher);
+    }
+
+    @Test
+    @DisplayName("첨부 파일을 내려받으면 전체 내용과 강한 ETag 로 응답한다.")
+    void givenAttachment_whenDownload_thenReturnWholeFileWithEtag() throws Exception {
+        // given
+        givenDownload("application/pdf");
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/api/chat/attachments/{roomId}/{attachmentId}", ROOM_ID, ATTACHMENT_ID));
+
+        // then
+        actions
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + HASH + "\""))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        Matchers.startsWith("attachment;")))
+                .andExpect(content().string(CONTENT));
+    }
+
+    @Test
+    @DisplayName("Range 요청은 해당 구간만 206으로 응답한다.")
+    void givenRangeHeader_whenDownload_thenReturnPartialContent() throws Exception {
+        // given
+        givenDownload("image/png");
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/api/chat/attachments/{roomId}/{attachmentId}", ROOM_ID, ATTACHMENT_ID)
+                        .header(HttpHeaders.RANGE, "bytes=2-5"));
+
+        // then
+        actions
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 4L))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        Matchers.startsWith("inline;")))
+                .andExpect(content().string("2345"));
+    }
+
+    @Test
+    @DisplayName("If-Range 의 ETag 가 다르면 구간 대신 전체를 보낸다.")
+    void givenStaleIfRange_whenDownload_thenReturnWholeFile() throws Exception {
+        // given
+        givenDownload("application/pdf");
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/api/chat/attachments/{roomId}/{attachmentId}", ROOM_ID, ATTACHMENT_ID)
+                        .header(HttpHeaders.RANGE, "bytes=2-5")
+                        .header(HttpHeaders.IF_RANGE, "\"other\""));
+
+        // then
+        actions
+                .andExpect(status().isOk())
+                .andExpect(content().string(CONTENT));
+    }
+
+    @Test
+    @DisplayName("파일 크기를 벗어난 Range 요청은 416으로 응답한다.")
+    void givenUnsatisfiableRange_whenDownload_thenRangeNotSatisfiable() throws Exception {
+        // given
+        givenDownload("application/pdf");
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/api/chat/attachments/{roomId}/{attachmentId}", ROOM_ID, ATTACHMENT_ID)
+                        .header(HttpHeaders.RANGE, "bytes=20-30"));
+
+        // then
+        actions
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 ETag 와 같으면 본문 없이 304로 응답한다.")
+    void givenMatchingEtag_whenDownload_thenNotModified() throws Exception {
+        // given
+        givenDownload("application/pdf");
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/api/chat/attachments/{roomId}/{attachmentId}", ROOM_ID, ATTACHMENT_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + HASH + "\""));
+
+        // then
+        actions
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    private void givenDownload(String contentType) throws IOException {
+        Path blob = Files.writeString(blobDir.resolve(HASH), CONTENT);
+        ChatAttachmentInfo info = new ChatAttachmentInfo(ATTACHMENT_ID, "파일", contentType, 10L);
+        given(chatService.getAttachment(ROOM_ID, USER_ID, ATTACHMENT_ID))
+                .willReturn(new ChatAttachmentDownload(info, HASH, blob));
+    }
+}
@@ -8,14 +8,19 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.jaeseok.groupStudy.auth.application.MemberDetailsService;
 import com.jaeseok.groupStudy.auth.domain.UserPrincipal;
 import com.jaeseok.groupStudy.auth.infrastructure.jwt.JwtTokenProvider;
+import com.jaeseok.groupStudy.chat.application.ChatHistoryExport;
 import com.jaeseok.groupStudy.chat.application.ChatService;
+import com.jaeseok.groupStudy.chat.application.dto.ChatHistorySlice;
 import com.jaeseok.groupStudy.chat.application.dto.SendMessageInfo;
+import com.jaeseok.groupStudy.chat.exception.ChatHistoryExportLimitException;
 import com.jaeseok.groupStudy.chat.exception.ChatRoomNotFoundException;
 import com.jaeseok.groupStudy.chat.presentation.ChatHistoryController;
 import com.jaeseok.groupStudy.config.SecurityConfig;
 import com.jaeseok.groupStudy.member.exception.MemberNotFoundException;
 import com.jaeseok.groupStudy.studyGroup.exception.StudyGroupMemberAccessException;
 import com.jaeseok.groupStudy.studyGroup.exception.StudyGroupNotFoundException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -200,6 +205,143 @@ class ChatHistoryControllerTest {
         verify(chatService, times(1)).getChatHistory(notExistRoomId, userId, pageable);
     }
 
+    @Test
+    @DisplayName("커서 기반 채팅 내역 조회 시, 최신순 채팅 내역과 다음 커서를 200 OK로 응답한다.")
+    void givenBeforeCursor_whenGetChatHistoryByCursor_thenReturnSliceAndOK() throws Exception {
+        // given
+        Long roomId = 10L;
+        Long userId = USER_ID;
+        String before = "cursor";
+
+        List<SendMessageInfo> mockChatHistory = createMockChatHistory(userId, 5);
+        ChatHistorySlice mockSlice = new ChatHistorySlice(mockChatHistory, true, "nextCursor");
+
+        given(chatService.getChatHistoryBefore(roomId, userId, before, 5)).willReturn(mockSlice);
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/api/chat/history/{roomId}/cursor", roomId)
+                        .param("before", before)
+                        .param("size", "5")
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.messages.length()").value(5))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value("nextCursor"))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        verify(chatService, times(1)).getChatHistoryBefore(roomId, userId, before, 5);
+    }
+
+    @Test
+    @DisplayName("순번 구간 채팅 내역 조회 시, (fromSeq, toSeq] 구간의 채팅 내역을 200 OK로 응답한다.")
+    void givenSeqRange_whenGetChatHistoryRange_thenReturnRangeAndOK() throws Exception {
+        // given
+        Long roomId = 10L;
+        Long userId = USER_ID;
+
+        List<SendMessageInfo> mockChatHistory = createMockChatHistory(userId, 3);
+        given(chatService.getChatHistoryRange(roomId, userId, 0L, 3L)).willReturn(mockChatHistory);
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/api/chat/history/{roomId}/range", roomId)
+                        .param("fromSeq", "0")
+                        .param("toSeq", "3")
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].seq").value(1))
+                .andExpect(jsonPath("$[2].seq").value(3));
+
+        verify(chatService, times(1)).getChatHistoryRange(roomId, userId, 0L, 3L);
+    }
+
+    @Test
+    @DisplayName("검색어로 채팅 내역을 검색하면 최신순 검색 결과와 다음 커서를 응답한다.")
+    void givenQuery_whenSearchChatHistory_thenReturnSliceAndOK() throws Exception {
+        // given
+        Long roomId = 10L;
+        Long userId = USER_ID;
+
+        List<SendMessageInfo> hits = createMockChatHistory(userId, 2).reversed();
+        given(chatService.searchChatHistory(roomId, userId, "테스트", null, 2))
+                .willReturn(new ChatHistorySlice(hits, true, "1"));
+
+        // when
+        ResultActions actions = mockMvc.perform(
+                get("/api/chat/history/{roomId}/search", roomId)
+                        .param("q", "테스트")
+                        .param("size", "2")
+                        .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.messages.length()").value(2))
+                .andExpect(jsonPath("$.messages[0].seq").value(2))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value("1"));
+
+        verify(chatService, times(1)).searchChatHistory(roomId, userId, "테스트", null, 2);
+    }
+
+    @Test
+    @DisplayName("채팅 내역 내보내기 요청 시, NDJSON 파일로 응답하고 내보내기 자리를 반납한다.")
+    void givenRoomId_whenExportChatHistory_thenReturnNdjsonAttachment() throws Exception {
+        // given
+        Long roomId = 10L;
+        Long userId = USER_ID;
+        String ndjson = "{\"seq\":1}\n{\"seq\":2}\n";
+
+        ChatHistoryExport export = mock(ChatHistoryExport.class);
+        willAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            out.write(ndjson.getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        }).given(export).writeTo(any(OutputStream.class));
+        given(chatService.openChatHistoryExport(roomId, userId)).willReturn(export);
+
+        // when
+        ResultActions actions = mockMvc.perform(get("/api/chat/history/{roomId}/export", roomId));
+
+        // then
+        actions
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"chat-10.ndjson\""))
+                .andExpect(content().string(ndjson));
+
+        verify(export, times(1)).close();
+    }
+
+    @Test
+    @DisplayName("동시 내보내기 한도를 넘으면 429로 응답한다.")
+    void givenExportLimitExceeded_whenExportChatHistory_thenTooManyRequests() throws Exception {
+        // given
+        Long roomId = 10L;
+        Long userId = USER_ID;
+
+        given(chatService.openChatHistoryExport(roomId, userId))
+                .willThrow(new ChatHistoryExportLimitException("이미 진행 중인 채팅 내역 내보내기가 있습니다. 끝난 뒤 다시 시도해주세요."));
+
+        // when
+        ResultActions actions = mockMvc.perform(get("/api/chat/history/{roomId}/export", roomId));
+
+        // then
+        actions
+                .andExpect(status().isTooManyRequests());
+    }
+
     private void setTestUserPrincipal(Long userId) {
         testUserPrincipal = new UserPrincipal(userId, "test@test.com", "password1234");
         SecurityContextHolder.getContext().setAuthentication(
@@ -212,7 +354,7 @@ class ChatHistoryControllerTest {
         for (int i = 1; i <= count; i++) {
             String nickname = "nickname" + (i % 3);
             SendMessageInfo sendMessageInfo = new SendMessageInfo(senderId, nickname, "테스트 메세지 " + i,
-                    LocalDateTime.now());
+                    LocalDateTime.now(), (long) i);
             dtos.add(sendMessageInfo);
         }
 
@@ -0,0 +1,99 @@
+package com.jaeseok.groupStudy.unit.chat.presentation;
+
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.jaeseok.groupStudy.auth.application.MemberDetailsService;
+import com.jaeseok.groupStudy.auth.domain.UserPrincipal;
+import com.jaeseok.groupStudy.auth.infrastructure.jwt.JwtTokenProvider;
+import com.jaeseok.groupStudy.chat.application.ChatService;
+import com.jaeseok.groupStudy.chat.application.dto.UnreadCountInfo;
+import com.jaeseok.groupStudy.chat.presentation.ChatReadController;
+import com.jaeseok.groupStudy.config.SecurityConfig;
+import com.jaeseok.groupStudy.studyGroup.exception.StudyGroupMemberAccessException;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+@WebMvcTest(ChatReadController.class)
+@Import(SecurityConfig.class)
+@DisplayName("Chat Read Controller 단위 테스트")
+class ChatReadControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockitoBean
+    ChatService chatService;
+
+    @MockitoBean
+    JwtTokenProvider jwtTokenProvider;
+
+    @MockitoBean
+    MemberDetailsService memberDetailsService;
+
+    Long USER_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        UserPrincipal testUserPrincipal = new UserPrincipal(USER_ID, "test@test.com", "password1234");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(testUserPrincipal, null, testUserPrincipal.getAuthorities())
+        );
+    }
+
+    @Test
+    @DisplayName("유저가 참여 중인 모든 채팅방의 안 읽은 메세지 수를 200 OK로 응답한다.")
+    void givenUser_whenGetUnreadCounts_thenReturnCountsAndOK() throws Exception {
+        // given
+        given(chatService.getUnreadCounts(USER_ID)).willReturn(List.of(
+                new UnreadCountInfo(10L, 3L, 120L),
+                new UnreadCountInfo(11L, 0L, 42L)));
+
+        // when
+        ResultActions actions = mockMvc.perform(get("/api/chat/unread"));
+
+        // then
+        actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].roomId").value(10))
+                .andExpect(jsonPath("$[0].unreadCount").value(3))
+                .andExpect(jsonPath("$[0].lastSeq").value(120));
+    }
+
+    @Test
+    @DisplayName("읽음 처리 요청 시 204 No Content로 응답한다.")
+    void givenSeq_whenMarkRead_thenNoContent() throws Exception {
+        // when
+        ResultActions actions = mockMvc.perform(put("/api/chat/read/{roomId}", 10L).param("seq", "120"));
+
+        // then
+        actions.andExpect(status().isNoContent());
+        verify(chatService, times(1)).markRead(10L, USER_ID, 120L);
+    }
+
+    @Test
+    @DisplayName("참여자가 아닌 채팅방을 읽음 처리하면 예외를 응답한다.")
+    void givenNotMember_whenMarkRead_thenReturnError() throws Exception {
+        // given
+        willThrow(new StudyGroupMemberAccessException("해당 유저는 승인된 참여자가 아닙니다."))
+                .given(chatService).markRead(10L, USER_ID, 120L);
+
+        // when
+        ResultActions actions = mockMvc.perform(put("/api/chat/read/{roomId}", 10L).param("seq", "120"));
+
+        // then
+        actions.andExpect(status().isForbidden());
+    }
+}
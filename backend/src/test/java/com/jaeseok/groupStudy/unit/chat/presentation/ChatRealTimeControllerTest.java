@@ -10,8 +10,13 @@ import com.jaeseok.groupStudy.chat.application.dto.SendMessageCommand;
 import com.jaeseok.groupStudy.chat.application.dto.SendMessageInfo;
 import com.jaeseok.groupStudy.chat.domain.MessageType;
 import com.jaeseok.groupStudy.chat.exception.ChatRoomNotFoundException;
+import com.jaeseok.groupStudy.chat.infrastructure.SessionResumeRegistry;
+import com.jaeseok.groupStudy.chat.infrastructure.TypingIndicatorBroadcaster;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.SessionResumeInfo;
 import com.jaeseok.groupStudy.chat.presentation.ChatRealTimeController;
 import com.jaeseok.groupStudy.chat.presentation.dto.SendMessagePayload;
+import com.jaeseok.groupStudy.chat.presentation.dto.TypingPayload;
+import com.jaeseok.groupStudy.common.broadcast.BroadcastPublisher;
 import com.jaeseok.groupStudy.studyGroup.exception.StudyGroupMemberAccessException;
 import com.jaeseok.groupStudy.studyGroup.exception.StudyGroupNotFoundException;
 import java.time.LocalDateTime;
@@ -24,7 +29,6 @@ import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 
@@ -32,11 +36,17 @@ import org.springframework.security.core.context.SecurityContextHolder;
 class ChatRealTimeControllerTest {
 
     @Mock
-    SimpMessageSendingOperations messagingTemplate;
+    BroadcastPublisher broadcastPublisher;
 
     @Mock
     ChatService chatService;
 
+    @Mock
+    TypingIndicatorBroadcaster typingIndicatorBroadcaster;
+
+    @Mock
+    SessionResumeRegistry sessionResumeRegistry;
+
     @InjectMocks
     ChatRealTimeController chatRealTimeController;
 
@@ -51,6 +61,26 @@ class ChatRealTimeControllerTest {
         setUserPrincipal(SENDER_ID);
     }
 
+    @Test
+    @DisplayName("재전송되어 버려진 메세지는 다시 브로드캐스팅 하지 않는다.")
+    void givenDuplicatedChatMessage_whenSendMessage_thenSkipBroadcast() {
+        // given
+        Long senderId = SENDER_ID;
+        Long roomId = ROOM_ID;
+
+        SendMessagePayload payload = new SendMessagePayload("안녕하세요 여러분", MessageType.CHAT, "client-1");
+        SendMessageCommand command = payload.toCommand(roomId, senderId);
+
+        given(chatService.sendMessage(command)).willReturn(null);
+
+        // when
+        chatRealTimeController.sendMessage(userPrincipal, roomId, payload);
+
+        // then
+        verify(chatService).sendMessage(eq(command));
+        verifyNoInteractions(broadcastPublisher);
+    }
+
     @Test
     @DisplayName("일반 메세지가 수신되면 메세지를 브로드캐스팅 한다.")
     void givenValidChatMessage_whenSendMessage_thenBroadcastChatMessage() {
@@ -61,7 +91,7 @@ class ChatRealTimeControllerTest {
         SendMessagePayload payload = new SendMessagePayload("안녕하세요 여러분", MessageType.CHAT);
         SendMessageCommand command = payload.toCommand(roomId, senderId);
         SendMessageInfo willBroadcastInfo = new SendMessageInfo(senderId, "nickname1", "테스트 메세지",
-                LocalDateTime.now());
+                LocalDateTime.now(), 1L);
 
         given(chatService.sendMessage(command)).willReturn(willBroadcastInfo);
 
@@ -70,7 +100,8 @@ class ChatRealTimeControllerTest {
 
         // then
         verify(chatService).sendMessage(eq(command));
-        verify(messagingTemplate).convertAndSend(eq("/sub/chatroom/" + roomId), eq(willBroadcastInfo));
+        verify(broadcastPublisher).publish(eq("/sub/chatroom/" + roomId), eq(willBroadcastInfo));
+        verify(typingIndicatorBroadcaster).clear(roomId, senderId);
     }
 
     @Test
@@ -82,7 +113,7 @@ class ChatRealTimeControllerTest {
 
         SendMessagePayload payload = new SendMessagePayload(null, MessageType.ENTER);
         SendMessageInfo willBroadcastInfo = new SendMessageInfo(senderId, "nickname1",
-                "nickname1 님이 입장하셨습니다.", LocalDateTime.now());
+                "nickname1 님이 입장하셨습니다.", LocalDateTime.now(), 1L);
 
         given(chatService.enterChatRoom(roomId,senderId)).willReturn(willBroadcastInfo);
 
@@ -91,7 +122,7 @@ class ChatRealTimeControllerTest {
 
         // then
         verify(chatService).enterChatRoom(eq(roomId), eq(senderId));
-        verify(messagingTemplate).convertAndSend(eq("/sub/chatroom/" + roomId), eq(willBroadcastInfo));
+        verify(broadcastPublisher).publish(eq("/sub/chatroom/" + roomId), eq(willBroadcastInfo));
     }
 
     @Test
@@ -103,7 +134,7 @@ class ChatRealTimeControllerTest {
 
         SendMessagePayload payload = new SendMessagePayload(null, MessageType.LEAVE);
         SendMessageInfo willBroadcastInfo = new SendMessageInfo(senderId, "nickname1", "nickname1 님이 퇴장하셨습니다.",
-                LocalDateTime.now());
+                LocalDateTime.now(), 2L);
 
         given(chatService.leaveChatRoom(roomId, senderId)).willReturn(willBroadcastInfo);
 
@@ -112,7 +143,7 @@ class ChatRealTimeControllerTest {
 
         // then
         verify(chatService).leaveChatRoom(eq(roomId), eq(senderId));
-        verify(messagingTemplate).convertAndSend(eq("/sub/chatroom/" + roomId), eq(willBroadcastInfo));
+        verify(broadcastPublisher).publish(eq("/sub/chatroom/" + roomId), eq(willBroadcastInfo));
     }
 
     @Test
@@ -133,7 +164,7 @@ class ChatRealTimeControllerTest {
                 .hasMessageContaining("존재하지 않는");
 
         verify(chatService).sendMessage(eq(cmd));
-        verify(messagingTemplate, never()).convertAndSend(any(), (Object) any());
+        verify(broadcastPublisher, never()).publish(any(), any());
     }
 
     @Test
@@ -157,6 +188,37 @@ class ChatRealTimeControllerTest {
                 .hasMessageContaining("해당 유저는 승인된 참여자가 아닙니다.");
     }
 
+    @Test
+    @DisplayName("입력 중 신호는 채팅 서비스를 거치지 않고 입력 중 상태만 갱신한다.")
+    void givenTypingSignal_whenTyping_thenUpdateTypingStateOnly() {
+        // given
+        Long roomId = ROOM_ID;
+        String sessionId = "session-1";
+
+        // when
+        chatRealTimeController.typing(roomId, sessionId, new TypingPayload(true));
+
+        // then
+        verify(typingIndicatorBroadcaster).update(roomId, sessionId, true);
+        verifyNoInteractions(chatService, broadcastPublisher);
+    }
+
+    @Test
+    @DisplayName("세션 구독 요청에는 연결 시 발급한 이어받기 토큰을 응답한다.")
+    void givenConnectedSession_whenSubscribeSession_thenReturnResumeToken() {
+        // given
+        String sessionId = "session-1";
+        SessionResumeInfo resumeInfo = new SessionResumeInfo("resume-token", true);
+        given(sessionResumeRegistry.find(sessionId)).willReturn(resumeInfo);
+
+        // when
+        SessionResumeInfo result = chatRealTimeController.session(sessionId);
+
+        // then
+        assertThat(result).isEqualTo(resumeInfo);
+        verifyNoInteractions(chatService, broadcastPublisher);
+    }
+
     private void setUserPrincipal(Long memberId) {
         userPrincipal = new UserPrincipal(memberId, "test@test.com", "password1234");
         SecurityContextHolder.getContext().setAuthentication(
@@ -2,30 +2,42 @@ package com.jaeseok.groupStudy.unit.chat.presentation;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.jaeseok.groupStudy.auth.domain.UserPrincipal;
+import com.jaeseok.groupStudy.chat.application.ChatService;
+import com.jaeseok.groupStudy.chat.application.dto.ChatReplayInfo;
+import com.jaeseok.groupStudy.chat.application.dto.SendMessageInfo;
 import com.jaeseok.groupStudy.chat.infrastructure.OnlineParticipantRepository;
+import com.jaeseok.groupStudy.chat.infrastructure.PresenceBroadcaster;
+import com.jaeseok.groupStudy.chat.infrastructure.SessionResumeRegistry;
 import com.jaeseok.groupStudy.chat.infrastructure.dto.ParticipantInfo;
+import com.jaeseok.groupStudy.chat.infrastructure.dto.PresenceDelta;
 import com.jaeseok.groupStudy.chat.presentation.StompLifecycleEventListener;
+import com.jaeseok.groupStudy.common.broadcast.BroadcastPublisher;
 import com.jaeseok.groupStudy.member.application.MemberService;
 import com.jaeseok.groupStudy.member.application.dto.MemberInfoDto;
-import java.util.Set;
+import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 import org.springframework.web.socket.messaging.SessionSubscribeEvent;
 
@@ -40,11 +52,20 @@ class StompLifecycleEventListenerTest {
     OnlineParticipantRepository onlineParticipantRepository;
 
     @Mock
-    SimpMessagingTemplate simpMessagingTemplate;
+    PresenceBroadcaster presenceBroadcaster;
 
     @Mock
     MemberService memberService;
 
+    @Mock
+    SessionResumeRegistry sessionResumeRegistry;
+
+    @Mock
+    ChatService chatService;
+
+    @Mock
+    BroadcastPublisher broadcastPublisher;
+
     @Test
     @DisplayName("채팅방 구독 이벤트가 발생하면 참여자 추가 및 메시지 전송 로직이 실행된다.")
     void givenSessionSubscribeEvent_whenHandleSessionSubscribe_thenAddParticipantInMap() {
@@ -66,26 +87,26 @@ class StompLifecycleEventListenerTest {
 
         // memberService.getMemberInfo(5L)가 호출되면, 가짜 MemberInfoDto를 반환하도록 설정
         when(memberService.getMemberInfo(userId)).thenReturn(new MemberInfoDto(userId, "testUser", "test@test.com"));
+        ParticipantInfo joined = ParticipantInfo.of(roomId, userId, "testUser", sessionId);
+        List<PresenceDelta> deltas = List.of(PresenceDelta.join(roomId, 1L, 0L, joined));
+        when(onlineParticipantRepository.add(roomId, joined)).thenReturn(deltas);
 
         // when: 실제 테스트할 메서드를 호출합니다.
         stompLifecycleEventListener.handleSessionSubscribe(event);
 
         // then: onlineParticipantRepository의 add 메서드가 올바른 인자들로 1번 호출되었는지 검증
         verify(onlineParticipantRepository, times(1)).add(eq(roomId), any(ParticipantInfo.class));
+        verify(presenceBroadcaster, times(1)).broadcastDeltas(deltas);
     }
 
     @Test
-    @DisplayName("연결 종료 이벤트가 발생하면 참여자가 제거되고, 갱신된 목록이 방송된다")
-    void handleSessionDisconnect_RemovesParticipantAndBroadcastsList() {
-        // given: 방에 두 명(userA, userB)이 이미 접속해있는 상황을 가정
+    @DisplayName("연결 종료 이벤트가 발생하면 참여자가 제거되고, 퇴장 변경분이 방송된다")
+    void handleSessionDisconnect_RemovesParticipantAndBroadcastsDelta() {
+        // given: userA가 나가는 상황을 가정
         Long roomId = 4L;
         ParticipantInfo userA = ParticipantInfo.of(roomId, 5L, "userA", "session-A");
-        ParticipantInfo userB = ParticipantInfo.of(roomId, 6L, "userB", "session-B");
-        onlineParticipantRepository.add(roomId, userA);
-        onlineParticipantRepository.add(roomId, userB);
-
-        // userA가 나가는 상황을 가정
-        when(onlineParticipantRepository.remove(userA.sessionId())).thenReturn(userA);
+        List<PresenceDelta> deltas = List.of(PresenceDelta.leave(roomId, 3L, 2L, userA));
+        when(onlineParticipantRepository.remove(userA.sessionId())).thenReturn(deltas);
 
         Message<byte[]> message = MessageBuilder
                 .withPayload(new byte[0])
@@ -102,12 +123,85 @@ class StompLifecycleEventListenerTest {
         // remove 메서드가 올바른 sessionId로 호출되었는지 검증
         verify(onlineParticipantRepository, times(1)).remove("session-A");
 
-        // simpMessagingTemplate.convertAndSend가 호출되었는지,
-        //    그리고 어떤 내용으로 호출되었는지 확인하기 위해 ArgumentCaptor를 사용
-        ArgumentCaptor<Set<ParticipantInfo>> captor = ArgumentCaptor.forClass(Set.class);
-        verify(simpMessagingTemplate, times(1)).convertAndSend(
-                eq("/sub/chatroom/" + roomId + "/participants"),
-                captor.capture()
-        );
+        // 전체 명단이 아닌 변경분만 방송되었는지 검증
+        verify(presenceBroadcaster, times(1)).broadcastDeltas(deltas);
+    }
+
+    @Test
+    @DisplayName("연결 이벤트가 발생하면 CONNECT 헤더의 이전 토큰으로 이어받기 토큰을 발급한다.")
+    void givenConnectWithResumeToken_whenHandleSessionConnect_thenConnectRegistry() {
+        // given
+        Long userId = 5L;
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId("session-new");
+        accessor.setUser(authentication(userId));
+        accessor.setNativeHeader("resume-token", "previous-token");
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+        // when
+        stompLifecycleEventListener.handleSessionConnect(new SessionConnectEvent(this, message));
+
+        // then
+        verify(sessionResumeRegistry, times(1)).connect("session-new", userId, "previous-token");
+    }
+
+    @Test
+    @DisplayName("이전 세션을 이어받은 세션이 채팅방을 다시 구독하면 놓친 메세지만 다시 보내고 입장 처리는 하지 않는다.")
+    void givenResumedSession_whenHandleSessionSubscribe_thenReplayWithoutEntry() {
+        // given
+        Long roomId = 4L;
+        Long userId = 5L;
+        String sessionId = "session-new";
+        Authentication auth = authentication(userId);
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination("/sub/chatroom/" + roomId);
+        accessor.setSessionId(sessionId);
+        accessor.setUser(auth);
+        accessor.setNativeHeader("resume-seq", "40");
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+        ChatReplayInfo replay = ChatReplayInfo.complete(roomId,
+                List.of(new SendMessageInfo(6L, "other", "놓친 메세지", LocalDateTime.now(), 41L)), 41L);
+        byte[] json = new byte[]{1};
+        when(chatService.replayAfter(roomId, userId, 40L)).thenReturn(replay);
+        when(broadcastPublisher.serialize(replay)).thenReturn(json);
+        when(onlineParticipantRepository.findBySessionId(sessionId))
+                .thenReturn(ParticipantInfo.of(roomId, userId, "testUser", sessionId));
+
+        // when
+        stompLifecycleEventListener.handleSessionSubscribe(new SessionSubscribeEvent(this, message));
+
+        // then
+        verify(broadcastPublisher, times(1)).sendJsonToSession(auth.getName(), sessionId,
+                "/queue/chatroom/" + roomId + "/replay", json);
+        verify(onlineParticipantRepository, never()).add(any(), any());
+        verifyNoInteractions(memberService, presenceBroadcaster);
+    }
+
+    @Test
+    @DisplayName("비정상 종료된 세션은 이어받기를 기다리며 바로 퇴장 처리하지 않는다.")
+    void givenAbnormalClose_whenHandleSessionDisconnect_thenDeferLeave() {
+        // given
+        Message<byte[]> message = MessageBuilder
+                .withPayload(new byte[0])
+                .setHeader(SimpMessageHeaderAccessor.SESSION_ID_HEADER, "session-A")
+                .build();
+        when(sessionResumeRegistry.detach("session-A", true)).thenReturn(true);
+
+        SessionDisconnectEvent event = new SessionDisconnectEvent(this, message, "session-A",
+                CloseStatus.SESSION_NOT_RELIABLE);
+
+        // when
+        stompLifecycleEventListener.handleSessionDisconnect(event);
+
+        // then
+        verify(onlineParticipantRepository, never()).remove(any());
+        verifyNoInteractions(presenceBroadcaster);
+    }
+
+    private Authentication authentication(Long userId) {
+        UserPrincipal userPrincipal = new UserPrincipal(userId, "test@test.com", "password");
+        return new UsernamePasswordAuthenticationToken(userPrincipal, null, null);
     }
 }
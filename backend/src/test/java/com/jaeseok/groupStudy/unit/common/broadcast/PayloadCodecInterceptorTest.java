@@ -0,0 +1,126 @@
+package com.jaeseok.groupStudy.unit.common.broadcast;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.jaeseok.groupStudy.common.broadcast.BinaryFrameHandshakeInterceptor;
+import com.jaeseok.groupStudy.common.broadcast.BroadcastFrame;
+import com.jaeseok.groupStudy.common.broadcast.BroadcastFrameInterceptor;
+import com.jaeseok.groupStudy.common.broadcast.PayloadCodec;
+import com.jaeseok.groupStudy.common.broadcast.PayloadCodecInterceptor;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+@DisplayName("세션별 본문 인코딩 협상 테스트")
+class PayloadCodecInterceptorTest {
+
+    final byte[] JSON = "{\"senderId\":1,\"content\":\"안녕하세요\"}".getBytes(StandardCharsets.UTF_8);
+
+    ObjectMapper objectMapper;
+    PayloadCodecInterceptor payloadCodecInterceptor;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        payloadCodecInterceptor = new PayloadCodecInterceptor(objectMapper);
+    }
+
+    @Test
+    @DisplayName("바이너리 엔드포인트 세션이 CBOR 를 요청하면 브로드캐스트 본문이 CBOR 로 바뀐다.")
+    void givenBinarySessionRequestsCbor_whenSendMessage_thenPayloadIsCbor() throws Exception {
+        // given
+        connect("session-1", "cbor", true);
+
+        // when
+        Message<?> sent = payloadCodecInterceptor.preSend(brokerMessage("session-1", new BroadcastFrame(JSON)), null);
+
+        // then
+        JsonNode decoded = new CBORMapper().readTree((byte[]) sent.getPayload());
+        assertThat(decoded).isEqualTo(objectMapper.readTree(JSON));
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(sent);
+        assertThat(accessor.getContentType()).isEqualTo(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        assertThat(accessor.getFirstNativeHeader(PayloadCodec.HEADER)).isEqualTo("cbor");
+    }
+
+    @Test
+    @DisplayName("SockJS 세션은 CBOR 를 요청해도 JSON 으로 받는다.")
+    void givenSockJsSessionRequestsCbor_whenSendMessage_thenPayloadStaysJson() {
+        // given
+        connect("session-1", "cbor", false);
+        Message<?> message = brokerMessage("session-1", new BroadcastFrame(JSON));
+
+        // when
+        Message<?> sent = payloadCodecInterceptor.preSend(message, null);
+
+        // then
+        assertThat(sent).isSameAs(message);
+        assertThat(payloadCodecInterceptor.getCodec("session-1")).isEqualTo(PayloadCodec.JSON);
+    }
+
+    @Test
+    @DisplayName("같은 브로드캐스트를 받는 CBOR 세션들은 한 번 인코딩된 본문을 공유한다.")
+    void givenSameFrame_whenSendToManyCborSessions_thenEncodeOnce() {
+        // given
+        connect("session-1", "cbor", true);
+        connect("session-2", "cbor", true);
+        BroadcastFrame frame = new BroadcastFrame(JSON);
+
+        // when
+        Object first = payloadCodecInterceptor.preSend(brokerMessage("session-1", frame), null).getPayload();
+        Object second = payloadCodecInterceptor.preSend(brokerMessage("session-2", frame), null).getPayload();
+
+        // then
+        assertThat(first).isSameAs(second);
+    }
+
+    @Test
+    @DisplayName("브로커 채널 인터셉터는 프레임이 없는 JSON 메세지에 BroadcastFrame 을 붙인다.")
+    void givenJsonMessageWithoutFrame_whenBrokerPreSend_thenAttachFrame() {
+        // given
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination("/sub/chatroom/1");
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        Message<byte[]> message = MessageBuilder.createMessage(JSON, accessor.getMessageHeaders());
+
+        // when
+        Message<?> sent = new BroadcastFrameInterceptor().preSend(message, null);
+
+        // then
+        assertThat(sent.getHeaders().get(BroadcastFrame.HEADER))
+                .isInstanceOfSatisfying(BroadcastFrame.class, frame -> assertThat(frame.json()).isSameAs(JSON));
+    }
+
+    private void connect(String sessionId, String codec, boolean binaryEndpoint) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId(sessionId);
+        accessor.setNativeHeader(PayloadCodec.HEADER, codec);
+        Map<String, Object> attributes = new HashMap<>();
+        if (binaryEndpoint) {
+            attributes.put(BinaryFrameHandshakeInterceptor.ATTRIBUTE, Boolean.TRUE);
+        }
+        accessor.setSessionAttributes(attributes);
+        payloadCodecInterceptor.preSend(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), null);
+    }
+
+    private Message<byte[]> brokerMessage(String sessionId, BroadcastFrame frame) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setDestination("/sub/chatroom/1");
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setHeader(BroadcastFrame.HEADER, frame);
+        return MessageBuilder.createMessage(frame.json(), accessor.getMessageHeaders());
+    }
+}
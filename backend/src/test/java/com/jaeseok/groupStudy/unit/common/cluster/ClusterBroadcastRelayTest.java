@@ -0,0 +1,210 @@
+package com.jaeseok.groupStudy.unit.common.cluster;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.jaeseok.groupStudy.common.cluster.ClusterBroadcastRelay;
+import com.jaeseok.groupStudy.common.cluster.LoopbackClusterTransport;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Cluster Broadcast Relay 테스트")
+class ClusterBroadcastRelayTest {
+
+    @Mock
+    MessageChannel brokerChannelA;
+
+    @Mock
+    MessageChannel brokerChannelB;
+
+    LoopbackClusterTransport transportA;
+    ClusterBroadcastRelay relayA;
+    ClusterBroadcastRelay relayB;
+
+    @BeforeEach
+    void setUp() {
+        LoopbackClusterTransport.Hub hub = new LoopbackClusterTransport.Hub();
+        transportA = spy(new LoopbackClusterTransport(hub));
+        // 주기 flush 가 테스트 중에 끼어들지 않도록 주기를 길게 설정
+        relayA = new ClusterBroadcastRelay(transportA, brokerChannelA, "node-a", 60_000, 64);
+        relayB = new ClusterBroadcastRelay(new LoopbackClusterTransport(hub), brokerChannelB, "node-b", 60_000, 64);
+    }
+
+    @AfterEach
+    void tearDown() {
+        relayA.shutdown();
+        relayB.shutdown();
+    }
+
+    @Test
+    @DisplayName("채팅방을 구독 중인 다른 노드의 로컬 브로커로 메세지가 전달된다.")
+    void givenSubscriberOnOtherNode_whenBroadcast_thenDeliverToOtherNode() {
+        // given
+        relayB.handleSessionSubscribe(subscribeEvent("session-b", "sub-0", "/sub/chatroom/1"));
+
+        // when
+        relayA.preSend(brokerMessage("/sub/chatroom/1", "hello"), brokerChannelA);
+        relayA.flush();
+
+        // then
+        ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(brokerChannelB, times(1)).send(captor.capture());
+
+        Message<?> delivered = captor.getValue();
+        assertThat(SimpMessageHeaderAccessor.getDestination(delivered.getHeaders())).isEqualTo("/sub/chatroom/1");
+        assertThat(new String((byte[]) delivered.getPayload(), StandardCharsets.UTF_8)).isEqualTo("hello");
+        assertThat(delivered.getHeaders().get(ClusterBroadcastRelay.ORIGIN_HEADER)).isEqualTo("node-a");
+    }
+
+    @Test
+    @DisplayName("같은 토픽의 메세지는 한 프레임으로 묶어 발행한다.")
+    void givenMessagesOfSameRoom_whenFlush_thenPublishSingleFrame() {
+        // given
+        relayB.handleSessionSubscribe(subscribeEvent("session-b", "sub-0", "/sub/chatroom/1"));
+        relayA.preSend(brokerMessage("/sub/chatroom/1", "m1"), brokerChannelA);
+        relayA.preSend(brokerMessage("/sub/chatroom/1", "m2"), brokerChannelA);
+        relayA.preSend(brokerMessage("/sub/chatroom/1", "m3"), brokerChannelA);
+
+        // when
+        relayA.flush();
+
+        // then
+        verify(transportA, times(1)).publish(eq("group-study:ws:chatroom:1"), any(byte[].class));
+
+        ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(brokerChannelB, times(3)).send(captor.capture());
+        List<String> payloads = captor.getAllValues().stream()
+                .map(message -> new String((byte[]) message.getPayload(), StandardCharsets.UTF_8))
+                .toList();
+        assertThat(payloads).containsExactly("m1", "m2", "m3");
+    }
+
+    @Test
+    @DisplayName("온라인 명단 변경분은 노드마다 버전이 달라 다른 노드로 중계하지 않는다.")
+    void givenPresenceDelta_whenBroadcast_thenNotRelayed() {
+        // given
+        relayB.handleSessionSubscribe(subscribeEvent("session-b", "sub-0", "/sub/chatroom/1"));
+        relayB.handleSessionSubscribe(subscribeEvent("session-b", "sub-1", "/sub/chatroom/1/participants"));
+
+        // when
+        relayA.preSend(brokerMessage("/sub/chatroom/1/participants", "join"), brokerChannelA);
+        relayA.flush();
+
+        // then
+        verify(transportA, never()).publish(anyString(), any(byte[].class));
+        verifyNoInteractions(brokerChannelB);
+    }
+
+    @Test
+    @DisplayName("입력 중 목록은 노드마다 합쳐 방송하므로 다른 노드로 중계하지 않는다.")
+    void givenTypingState_whenBroadcast_thenNotRelayed() {
+        // given
+        relayB.handleSessionSubscribe(subscribeEvent("session-b", "sub-0", "/sub/chatroom/1"));
+        relayB.handleSessionSubscribe(subscribeEvent("session-b", "sub-1", "/sub/chatroom/1/typing"));
+
+        // when
+        relayA.preSend(brokerMessage("/sub/chatroom/1/typing", "typing"), brokerChannelA);
+        relayA.flush();
+
+        // then
+        verify(transportA, never()).publish(anyString(), any(byte[].class));
+        verifyNoInteractions(brokerChannelB);
+    }
+
+    @Test
+    @DisplayName("토픽의 첫 구독 때만 채널을 구독하고, 마지막 구독이 끝나면 채널 구독을 해제한다.")
+    void givenSubscriptionsOfSameTopic_whenSubscribeAndDisconnect_thenSubscribeChannelOnce() {
+        // given
+        relayA.handleSessionSubscribe(subscribeEvent("session-a1", "sub-0", "/sub/chatroom/1"));
+        relayA.handleSessionSubscribe(subscribeEvent("session-a2", "sub-0", "/sub/chatroom/1"));
+
+        // when
+        relayA.handleSessionDisconnect(new SessionDisconnectEvent(this, disconnectMessage("session-a1"), "session-a1",
+                CloseStatus.NORMAL));
+        verify(transportA, never()).unsubscribe(anyString());
+        relayA.handleSessionDisconnect(new SessionDisconnectEvent(this, disconnectMessage("session-a2"), "session-a2",
+                CloseStatus.NORMAL));
+
+        // then
+        verify(transportA, times(1)).subscribe(eq("group-study:ws:chatroom:1"), any());
+        verify(transportA, times(1)).unsubscribe("group-study:ws:chatroom:1");
+    }
+
+    @Test
+    @DisplayName("구독하지 않은 토픽이나 연결이 끊긴 노드로는 전달하지 않는다.")
+    void givenNoSubscriberOrDisconnected_whenBroadcast_thenNotDelivered() {
+        // given
+        relayB.handleSessionSubscribe(subscribeEvent("session-b", "sub-0", "/sub/chatroom/1"));
+        relayB.handleSessionDisconnect(new SessionDisconnectEvent(this, disconnectMessage("session-b"), "session-b",
+                CloseStatus.NORMAL));
+
+        // when
+        relayA.preSend(brokerMessage("/sub/chatroom/1", "hello"), brokerChannelA);
+        relayA.preSend(brokerMessage("/sub/chatroom/2", "hello"), brokerChannelA);
+        relayA.flush();
+
+        // then
+        verifyNoInteractions(brokerChannelB);
+    }
+
+    @Test
+    @DisplayName("자기 노드가 발행한 메세지나 다른 노드에서 받은 메세지는 다시 처리하지 않는다.")
+    void givenOwnOrRelayedMessage_whenBroadcast_thenIgnore() {
+        // given
+        relayA.handleSessionSubscribe(subscribeEvent("session-a", "sub-0", "/sub/signal/user/7"));
+        SimpMessageHeaderAccessor relayed = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        relayed.setDestination("/sub/signal/user/7");
+        relayed.setHeader(ClusterBroadcastRelay.ORIGIN_HEADER, "node-b");
+
+        // when
+        relayA.preSend(brokerMessage("/sub/signal/user/7", "offer"), brokerChannelA);
+        relayA.preSend(MessageBuilder.createMessage("answer".getBytes(StandardCharsets.UTF_8),
+                relayed.getMessageHeaders()), brokerChannelA);
+        relayA.flush();
+
+        // then
+        verify(transportA, times(1)).publish(eq("group-study:ws:signal:user:7"), any(byte[].class));
+        verifyNoInteractions(brokerChannelA);
+    }
+
+    private Message<byte[]> brokerMessage(String destination, String payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        return MessageBuilder.createMessage(payload.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+
+    private SessionSubscribeEvent subscribeEvent(String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return new SessionSubscribeEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+
+    private Message<byte[]> disconnectMessage(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
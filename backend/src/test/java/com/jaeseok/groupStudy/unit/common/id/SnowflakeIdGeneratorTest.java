@@ -0,0 +1,107 @@
+package com.jaeseok.groupStudy.unit.common.id;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.jaeseok.groupStudy.common.id.SnowflakeIdGenerator;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Snowflake Id Generator 테스트")
+class SnowflakeIdGeneratorTest {
+
+    final long NOW = Instant.parse("2026-01-01T00:00:00Z").toEpochMilli();
+
+    @Test
+    @DisplayName("같은 ms 안에서 발급한 id도 증가하고, 순번을 모두 쓰면 다음 ms로 넘어간다.")
+    void givenFixedClock_whenNextIdManyTimes_thenIncreasing() {
+        // given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, () -> NOW);
+
+        // when & then
+        long previous = generator.nextId();
+        for (int i = 0; i < 1_000; i++) {
+            long next = generator.nextId();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 id는 감소하지 않는다.")
+    void givenClockMovesBackward_whenNextId_thenStillIncreasing() {
+        // given
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, clock::get);
+        long before = generator.nextId();
+
+        // when
+        clock.set(NOW - 1_000);
+        long after = generator.nextId();
+
+        // then
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("id는 JS 에서 안전한 정수 범위 안에 있고 발급 시각을 담고 있다.")
+    void givenGenerator_whenNextId_thenJsSafeAndContainsTimestamp() {
+        // given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID, () -> NOW);
+
+        // when
+        long id = generator.nextId();
+
+        // then
+        assertThat(id).isLessThan(1L << 53);
+        assertThat(SnowflakeIdGenerator.extractEpochMillis(id)).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("노드 id가 다르면 같은 시각에도 id가 겹치지 않는다.")
+    void givenDifferentNodes_whenNextIdAtSameTime_thenDifferentIds() {
+        // given
+        SnowflakeIdGenerator node0 = new SnowflakeIdGenerator(0, () -> NOW);
+        SnowflakeIdGenerator node1 = new SnowflakeIdGenerator(1, () -> NOW);
+
+        // when & then
+        assertThat(node0.nextId()).isNotEqualTo(node1.nextId());
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 발급해도 id가 중복되지 않는다.")
+    void givenConcurrentCallers_whenNextId_thenUnique() throws InterruptedException {
+        // given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 8; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 5_000; j++) {
+                    ids.add(generator.nextId());
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(ids).hasSize(40_000);
+    }
+
+    @Test
+    @DisplayName("노드 id 범위를 벗어나면 예외를 던진다.")
+    void givenInvalidNodeId_whenCreate_thenThrowException() {
+        // when & then
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
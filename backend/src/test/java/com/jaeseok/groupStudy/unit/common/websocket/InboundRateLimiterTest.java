@@ -0,0 +1,137 @@
+package com.jaeseok.groupStudy.unit.common.websocket;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.jaeseok.groupStudy.common.websocket.InboundRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.security.Principal;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+
+@DisplayName("채팅 발행 속도 제한 테스트")
+class InboundRateLimiterTest {
+
+    final int SESSION_BURST = 3;
+    final int ROOM_BURST = 5;
+    // 테스트 중에는 토큰이 다시 차지 않도록 아주 느리게 설정
+    final double REFILL_PER_SECOND = 0.001;
+
+    SimpleMeterRegistry meterRegistry;
+    SimpMessageSendingOperations messagingTemplate;
+    InboundRateLimiter inboundRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        messagingTemplate = mock(SimpMessageSendingOperations.class);
+        inboundRateLimiter = new InboundRateLimiter(messagingTemplate, meterRegistry,
+                SESSION_BURST, REFILL_PER_SECOND, ROOM_BURST, REFILL_PER_SECOND);
+    }
+
+    @Test
+    @DisplayName("세션 버스트를 넘긴 발행은 거절하고, 보낸 세션의 에러 큐로 거절 메세지를 보낸다.")
+    void givenSessionBurstExceeded_whenPreSend_thenRejectAndNotifySession() {
+        // given
+        for (int i = 0; i < SESSION_BURST; i++) {
+            assertThat(inboundRateLimiter.preSend(send("session-1", "/pub/chatroom/1/message"), null)).isNotNull();
+        }
+
+        // when
+        Message<?> rejected = inboundRateLimiter.preSend(send("session-1", "/pub/chatroom/1/message"), null);
+
+        // then
+        assertThat(rejected).isNull();
+        assertThat(meterRegistry.get("websocket.inbound.rate-limited").tag("scope", "session").counter().count())
+                .isEqualTo(1);
+
+        ArgumentCaptor<Map<String, Object>> headersCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(messagingTemplate).convertAndSendToUser(eq("user-session-1"), eq("/queue/errors"), anyString(),
+                headersCaptor.capture());
+        assertThat(SimpMessageHeaderAccessor.getSessionId(headersCaptor.getValue())).isEqualTo("session-1");
+    }
+
+    @Test
+    @DisplayName("세션마다 한도를 지켜도 채팅방 전체 발행량이 버스트를 넘기면 거절한다.")
+    void givenRoomBurstExceeded_whenPreSendFromManySessions_thenRejectByRoom() {
+        // given
+        for (int i = 0; i < ROOM_BURST; i++) {
+            inboundRateLimiter.preSend(send("session-" + i, "/pub/chatroom/1/message"), null);
+        }
+
+        // when
+        Message<?> sameRoom = inboundRateLimiter.preSend(send("session-new", "/pub/chatroom/1/message"), null);
+        Message<?> otherRoom = inboundRateLimiter.preSend(send("session-new", "/pub/chatroom/2/message"), null);
+
+        // then
+        assertThat(sameRoom).isNull();
+        assertThat(otherRoom).isNotNull();
+        assertThat(meterRegistry.get("websocket.inbound.rate-limited").tag("scope", "room").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("채팅 발행이 아닌 메세지는 제한하지 않는다.")
+    void givenOtherDestination_whenPreSend_thenPassThrough() {
+        // when & then
+        for (int i = 0; i < SESSION_BURST * 3; i++) {
+            assertThat(inboundRateLimiter.preSend(send("session-1", "/pub/chatroom/1/request-participants"), null))
+                    .isNotNull();
+        }
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 발행해도 버스트만큼만 통과한다.")
+    void givenConcurrentPublishers_whenPreSend_thenPassExactlyBurst() throws InterruptedException {
+        // given
+        int threads = 8;
+        AtomicInteger passed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < 10; i++) {
+                        if (inboundRateLimiter.preSend(send("session-1", "/pub/chatroom/1/message"), null) != null) {
+                            passed.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        assertThat(passed.get()).isEqualTo(SESSION_BURST);
+    }
+
+    private Message<byte[]> send(String sessionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setDestination(destination);
+        Principal user = () -> "user-" + sessionId;
+        accessor.setUser(user);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
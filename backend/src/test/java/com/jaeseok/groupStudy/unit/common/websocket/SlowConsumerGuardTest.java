@@ -0,0 +1,126 @@
+package com.jaeseok.groupStudy.unit.common.websocket;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.jaeseok.groupStudy.common.websocket.SlowConsumerGuard;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+@DisplayName("느린 세션 보호기 테스트")
+class SlowConsumerGuardTest {
+
+    final String SESSION_ID = "session-1";
+    final long THROTTLE_BYTES = 100;
+
+    SimpleMeterRegistry meterRegistry;
+    SlowConsumerGuard slowConsumerGuard;
+    WebSocketHandler delegate;
+    WebSocketHandler decorated;
+    WebSocketSession session;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        slowConsumerGuard = new SlowConsumerGuard(meterRegistry, 10_000, 512 * 1024, THROTTLE_BYTES);
+        delegate = mock(WebSocketHandler.class);
+        decorated = slowConsumerGuard.decorate(delegate);
+        session = mock(WebSocketSession.class);
+        given(session.getId()).willReturn(SESSION_ID);
+        decorated.afterConnectionEstablished(session);
+    }
+
+    @Test
+    @DisplayName("대기 바이트가 기준을 넘은 세션에는 명단 변경분을 보내지 않지만 채팅 메세지는 보낸다.")
+    void givenThrottledSession_whenPreSend_thenDropDeltaButKeepChat() {
+        // given
+        slowConsumerGuard.preSend(message("/sub/chatroom/1", 150), null);
+
+        // when
+        Message<?> delta = slowConsumerGuard.preSend(message("/sub/chatroom/1/participants", 10), null);
+        Message<?> chat = slowConsumerGuard.preSend(message("/sub/chatroom/1", 10), null);
+
+        // then
+        assertThat(delta).isNull();
+        assertThat(chat).isNotNull();
+        assertThat(slowConsumerGuard.getThrottledSessionCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("websocket.outbound.skipped").tag("policy", "drop").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 명단 스냅샷이 대기 중이면 새 스냅샷은 보내지 않고, 보내고 나면 다시 허용한다.")
+    void givenPendingSnapshot_whenPreSendSnapshot_thenCoalesceUntilSent() throws Exception {
+        // given
+        String snapshotDestination = "/user/queue/chatroom/1/participants";
+        slowConsumerGuard.preSend(userMessage(snapshotDestination, 10), null);
+
+        // when
+        Message<?> coalesced = slowConsumerGuard.preSend(userMessage(snapshotDestination, 10), null);
+        trackingSession().sendMessage(new TextMessage("snapshot"));
+        Message<?> afterSent = slowConsumerGuard.preSend(userMessage(snapshotDestination, 10), null);
+
+        // then
+        assertThat(coalesced).isNull();
+        assertThat(afterSent).isNotNull();
+    }
+
+    @Test
+    @DisplayName("소켓으로 보낸 만큼 대기 바이트가 줄어든다.")
+    void givenSentMessage_whenSendMessage_thenReducePendingBytes() throws Exception {
+        // given
+        slowConsumerGuard.preSend(message("/sub/chatroom/1", 150), null);
+        slowConsumerGuard.preSend(message("/sub/chatroom/1", 30), null);
+
+        // when
+        trackingSession().sendMessage(new TextMessage("first"));
+
+        // then
+        assertThat(slowConsumerGuard.getPendingBytes(SESSION_ID)).isEqualTo(30);
+        assertThat(slowConsumerGuard.getThrottledSessionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("전송 한도를 넘겨 끊긴 세션은 지표로 남기고 대기 현황을 정리한다.")
+    void givenSessionNotReliable_whenAfterConnectionClosed_thenCountDisconnect() throws Exception {
+        // when
+        decorated.afterConnectionClosed(session, CloseStatus.SESSION_NOT_RELIABLE);
+
+        // then
+        assertThat(meterRegistry.get("websocket.outbound.disconnected").counter().count()).isEqualTo(1);
+        assertThat(slowConsumerGuard.getPendingBytes(SESSION_ID)).isZero();
+        verify(delegate).afterConnectionClosed(session, CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    private WebSocketSession trackingSession() throws Exception {
+        ArgumentCaptor<WebSocketSession> captor = ArgumentCaptor.forClass(WebSocketSession.class);
+        verify(delegate).afterConnectionEstablished(captor.capture());
+        return captor.getValue();
+    }
+
+    private Message<byte[]> message(String destination, int size) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(SESSION_ID);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[size], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> userMessage(String originalDestination, int size) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(SESSION_ID);
+        accessor.setDestination("/queue/chatroom/1/participants-user" + SESSION_ID);
+        accessor.setHeader(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION, originalDestination);
+        return MessageBuilder.createMessage(new byte[size], accessor.getMessageHeaders());
+    }
+}
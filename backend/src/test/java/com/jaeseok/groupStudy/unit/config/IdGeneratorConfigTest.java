@@ -0,0 +1,40 @@
+package com.jaeseok.groupStudy.unit.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.jaeseok.groupStudy.config.IdGeneratorConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Id 생성기 설정 테스트")
+class IdGeneratorConfigTest {
+
+    @Test
+    @DisplayName("단일 인스턴스에서 노드 id 설정이 없으면 0을 쓴다.")
+    void givenLoopbackWithoutNodeId_whenResolveNodeId_thenZero() {
+        // when
+        int nodeId = IdGeneratorConfig.resolveNodeId("", "loopback");
+
+        // then
+        assertThat(nodeId).isZero();
+    }
+
+    @Test
+    @DisplayName("클러스터 모드에서 노드 id 설정이 없으면 시작하지 않는다.")
+    void givenRedisWithoutNodeId_whenResolveNodeId_thenThrowException() {
+        // when & then
+        assertThatThrownBy(() -> IdGeneratorConfig.resolveNodeId("", "redis"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("id.node-id");
+    }
+
+    @Test
+    @DisplayName("노드 id가 0 ~ 15 밖이면 설정 이름과 범위를 담아 예외를 던진다.")
+    void givenOutOfRangeNodeId_whenResolveNodeId_thenThrowException() {
+        // when & then
+        assertThatThrownBy(() -> IdGeneratorConfig.resolveNodeId("16", "redis"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("id.node-id 는 0 ~ 15 사이여야 합니다. id.node-id=16");
+        assertThat(IdGeneratorConfig.resolveNodeId("15", "redis")).isEqualTo(15);
+    }
+}
@@ -0,0 +1,82 @@
+package com.jaeseok.groupStudy.unit.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.jaeseok.groupStudy.config.VirtualThreadConfig;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+@DisplayName("가상 스레드 STOMP 인바운드 실행기 부하 테스트")
+class VirtualThreadConfigTest {
+
+    static final int TASKS = 2_000;
+    static final long BLOCKING_MILLIS = 200;
+
+    @Test
+    @DisplayName("블로킹 작업이 스레드 풀 크기(코어 수 x 2)에 묶이지 않고 동시에 처리된다.")
+    void givenBlockingTasks_whenRunOnInboundExecutor_thenNoThreadPoolCeiling() throws Exception {
+        // given
+        SimpleAsyncTaskExecutor executor = VirtualThreadConfig.inboundExecutor(-1);
+        int platformPoolSize = Runtime.getRuntime().availableProcessors() * 2; // 스프링 기본 인바운드 풀 크기
+
+        // when
+        Load load = runBlockingTasks(executor);
+
+        // then
+        assertThat(load.completed()).isTrue();
+        assertThat(load.peakConcurrency()).isGreaterThan(platformPoolSize);
+        // 고정 풀이라면 TASKS / poolSize * BLOCKING_MILLIS 가 걸린다.
+        long platformPoolMillis = TASKS / platformPoolSize * BLOCKING_MILLIS;
+        assertThat(load.elapsedMillis()).isLessThan(Math.max(5_000, platformPoolMillis / 2));
+    }
+
+    @Test
+    @DisplayName("동시 처리 수 제한을 주면 그 이상 동시에 실행하지 않는다.")
+    void givenConcurrencyLimit_whenRunOnInboundExecutor_thenPeakWithinLimit() throws Exception {
+        // given
+        SimpleAsyncTaskExecutor executor = VirtualThreadConfig.inboundExecutor(10);
+
+        // when
+        Load load = runBlockingTasks(executor, 50, 20);
+
+        // then
+        assertThat(load.completed()).isTrue();
+        assertThat(load.peakConcurrency()).isLessThanOrEqualTo(10);
+    }
+
+    private Load runBlockingTasks(SimpleAsyncTaskExecutor executor) throws InterruptedException {
+        return runBlockingTasks(executor, TASKS, BLOCKING_MILLIS);
+    }
+
+    private Load runBlockingTasks(SimpleAsyncTaskExecutor executor, int tasks, long blockingMillis)
+            throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(tasks);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < tasks; i++) {
+            executor.execute(() -> {
+                peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(blockingMillis); // 느린 DB 조회 대신
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    active.decrementAndGet();
+                    done.countDown();
+                }
+            });
+        }
+        boolean completed = done.await(30, TimeUnit.SECONDS);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        return new Load(completed, peak.get(), elapsedMillis);
+    }
+
+    private record Load(boolean completed, int peakConcurrency, long elapsedMillis) {
+    }
+}
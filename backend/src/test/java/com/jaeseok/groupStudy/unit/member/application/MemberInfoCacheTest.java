@@ -0,0 +1,170 @@
+package com.jaeseok.groupStudy.unit.member.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jaeseok.groupStudy.common.cluster.ClusterBroadcastRelay;
+import com.jaeseok.groupStudy.common.cluster.LoopbackClusterTransport;
+import com.jaeseok.groupStudy.member.application.MemberInfoCache;
+import com.jaeseok.groupStudy.member.application.dto.MemberInfoDto;
+import com.jaeseok.groupStudy.member.domain.Member;
+import com.jaeseok.groupStudy.member.domain.MemberRepository;
+import com.jaeseok.groupStudy.member.domain.vo.MemberInfo;
+import com.jaeseok.groupStudy.member.event.MemberInfoChangedEvent;
+import com.jaeseok.groupStudy.member.exception.MemberNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MemberInfoCache 테스트")
+class MemberInfoCacheTest {
+
+    @Mock
+    MemberRepository memberRepository;
+
+    @Mock
+    ClusterBroadcastRelay relayA;
+
+    @Mock
+    ClusterBroadcastRelay relayB;
+
+    LoopbackClusterTransport.Hub hub;
+    SimpleMeterRegistry meterRegistry;
+    MemberInfoCache memberInfoCache;
+
+    @BeforeEach
+    void setUp() {
+        hub = new LoopbackClusterTransport.Hub();
+        meterRegistry = new SimpleMeterRegistry();
+        given(relayA.getNodeId()).willReturn("node-a");
+        memberInfoCache = cache(relayA, 2, 600_000);
+    }
+
+    @Test
+    @DisplayName("같은 유저를 여러 번 조회해도 DB는 한 번만 조회한다.")
+    void givenCachedMember_whenGetTwice_thenLoadOnce() {
+        // given
+        given(memberRepository.findById(1L)).willReturn(Optional.of(member(1L, "유저001")));
+
+        // when
+        MemberInfoDto first = memberInfoCache.get(1L);
+        MemberInfoDto second = memberInfoCache.get(1L);
+
+        // then
+        assertThat(first.nickname()).isEqualTo("유저001");
+        assertThat(second).isEqualTo(first);
+        verify(memberRepository, times(1)).findById(1L);
+
+        assertThat(meterRegistry.get("member.info-cache.requests").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("member.info-cache.requests").tag("result", "miss").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 유저를 조회하면 예외를 던진다.")
+    void givenNotExistMember_whenGet_thenThrowException() {
+        // given
+        given(memberRepository.findById(404L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> memberInfoCache.get(404L))
+                .isInstanceOf(MemberNotFoundException.class)
+                .hasMessage("존재하지 않는 유저입니다.");
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 먼저 들어온 항목부터 제거한다.")
+    void givenFullCache_whenGetNewMember_thenEvictOldest() {
+        // given
+        given(memberRepository.findById(1L)).willReturn(Optional.of(member(1L, "유저001")));
+        given(memberRepository.findById(2L)).willReturn(Optional.of(member(2L, "유저002")));
+        given(memberRepository.findById(3L)).willReturn(Optional.of(member(3L, "유저003")));
+
+        // when
+        memberInfoCache.get(1L);
+        memberInfoCache.get(2L);
+        memberInfoCache.get(3L);
+        memberInfoCache.get(1L);
+
+        // then
+        verify(memberRepository, times(2)).findById(1L);
+        assertThat(meterRegistry.get("member.info-cache.evictions").functionCounter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("member.info-cache.size").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("유저 정보 변경 이벤트를 받으면 캐시에서 제거하고 다시 조회한다.")
+    void givenMemberInfoChangedEvent_whenGet_thenReload() {
+        // given
+        given(memberRepository.findById(1L))
+                .willReturn(Optional.of(member(1L, "유저001")))
+                .willReturn(Optional.of(member(1L, "변경된유저")));
+        memberInfoCache.get(1L);
+
+        // when
+        memberInfoCache.onMemberInfoChanged(new MemberInfoChangedEvent(1L));
+        MemberInfoDto reloaded = memberInfoCache.get(1L);
+
+        // then
+        assertThat(reloaded.nickname()).isEqualTo("변경된유저");
+        verify(memberRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 유저 정보가 변경되면 이 노드의 캐시에서도 제거하고 다시 조회한다.")
+    void givenMemberInfoChangedOnOtherNode_whenGet_thenReload() {
+        // given
+        given(relayB.getNodeId()).willReturn("node-b");
+        MemberInfoCache otherNodeCache = cache(relayB, 2, 600_000);
+        given(memberRepository.findById(1L))
+                .willReturn(Optional.of(member(1L, "유저001")))
+                .willReturn(Optional.of(member(1L, "변경된유저")));
+        memberInfoCache.get(1L);
+
+        // when
+        otherNodeCache.onMemberInfoChanged(new MemberInfoChangedEvent(1L));
+        MemberInfoDto reloaded = memberInfoCache.get(1L);
+
+        // then
+        assertThat(reloaded.nickname()).isEqualTo("변경된유저");
+        verify(memberRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("ttl 이 지난 항목은 DB에서 다시 조회한다.")
+    void givenExpiredEntry_whenGet_thenReload() {
+        // given
+        meterRegistry = new SimpleMeterRegistry();
+        memberInfoCache = cache(relayA, 2, 0);
+        given(memberRepository.findById(1L))
+                .willReturn(Optional.of(member(1L, "유저001")))
+                .willReturn(Optional.of(member(1L, "변경된유저")));
+        memberInfoCache.get(1L);
+
+        // when
+        MemberInfoDto reloaded = memberInfoCache.get(1L);
+
+        // then
+        assertThat(reloaded.nickname()).isEqualTo("변경된유저");
+        assertThat(meterRegistry.get("member.info-cache.size").gauge().value()).isEqualTo(1.0);
+    }
+
+    private MemberInfoCache cache(ClusterBroadcastRelay relay, int maxSize, long ttlMillis) {
+        MemberInfoCache cache = new MemberInfoCache(memberRepository, meterRegistry,
+                new LoopbackClusterTransport(hub), new ObjectMapper(), relay, maxSize, ttlMillis);
+        cache.start();
+        return cache;
+    }
+
+    private Member member(Long id, String nickname) {
+        return Member.from(id, MemberInfo.of(nickname, "test" + id + "@test.com", "password1234"));
+    }
+}
@@ -17,6 +17,7 @@ import com.jaeseok.groupStudy.studyGroup.domain.participant.Participant;
 import com.jaeseok.groupStudy.studyGroup.domain.participant.ParticipantRole;
 import com.jaeseok.groupStudy.studyGroup.domain.participant.ParticipantStatus;
 import com.jaeseok.groupStudy.studyGroup.domain.vo.StudyGroupInfo;
+import com.jaeseok.groupStudy.studyGroup.event.ParticipantStatusChangedEvent;
 import com.jaeseok.groupStudy.studyGroup.exception.NoHostAuthorityException;
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -30,6 +31,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -46,6 +48,9 @@ class StudyGroupHostServiceImplTest {
     @Mock
     MemberRepository memberRepository;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     final Long HOST_ID = 1L;
     final Long USER_ID = 2L;
     final Long STUDY_GROUP_ID = 100L;
@@ -94,6 +99,8 @@ class StudyGroupHostServiceImplTest {
         verify(studyGroupCommandRepository, times(1)).update(studyGroupCaptor.capture());
 
         assertParticipantStatus(studyGroupCaptor, applicantUserId, ParticipantStatus.APPROVED);
+        verify(eventPublisher, times(1)).publishEvent(
+                new ParticipantStatusChangedEvent(studyGroupId, applicantUserId, ParticipantStatus.APPROVED));
     }
 
     @Test
@@ -15,6 +15,7 @@ import com.jaeseok.groupStudy.studyGroup.domain.participant.Participant;
 import com.jaeseok.groupStudy.studyGroup.domain.participant.ParticipantRole;
 import com.jaeseok.groupStudy.studyGroup.domain.participant.ParticipantStatus;
 import com.jaeseok.groupStudy.studyGroup.domain.vo.StudyGroupInfo;
+import com.jaeseok.groupStudy.studyGroup.event.ParticipantStatusChangedEvent;
 import com.jaeseok.groupStudy.studyGroup.exception.StudyGroupMemberAccessException;
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -28,6 +29,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("StudyGroup Participant Service 테스트")
@@ -39,6 +41,9 @@ class StudyGroupParticipantServiceImplTest {
     @Mock
     StudyGroupCommandRepository studyGroupCommandRepository;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     final Long STUDY_GROUP_ID = 100L;
     final Long HOST_ID = 1L;
     final Long USER_ID = 2L;
@@ -132,6 +137,8 @@ class StudyGroupParticipantServiceImplTest {
         verify(studyGroupCommandRepository, times(1)).update(studyGroupCaptor.capture());
 
         assertParticipantStatus(studyGroupCaptor, applicantId, ParticipantStatus.CANCELED);
+        verify(eventPublisher, times(1)).publishEvent(
+                new ParticipantStatusChangedEvent(STUDY_GROUP_ID, applicantId, ParticipantStatus.CANCELED));
     }
 
     @Test
@@ -0,0 +1,165 @@
+package com.jaeseok.groupStudy.unit.studyGroup.infrastructure.membership;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jaeseok.groupStudy.common.cluster.ClusterBroadcastRelay;
+import com.jaeseok.groupStudy.common.cluster.LoopbackClusterTransport;
+import com.jaeseok.groupStudy.studyGroup.domain.StudyGroupCommandRepository;
+import com.jaeseok.groupStudy.studyGroup.domain.participant.ParticipantStatus;
+import com.jaeseok.groupStudy.studyGroup.event.ParticipantStatusChangedEvent;
+import com.jaeseok.groupStudy.studyGroup.exception.StudyGroupMemberAccessException;
+import com.jaeseok.groupStudy.studyGroup.exception.StudyGroupNotFoundException;
+import com.jaeseok.groupStudy.studyGroup.infrastructure.membership.StudyGroupMembershipIndex;
+import com.jaeseok.groupStudy.studyGroup.infrastructure.persistence.repository.JpaParticipantRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudyGroup Membership Index 테스트")
+class StudyGroupMembershipIndexTest {
+
+    StudyGroupMembershipIndex membershipIndex;
+
+    @Mock
+    JpaParticipantRepository jpaParticipantRepository;
+
+    @Mock
+    StudyGroupCommandRepository studyGroupCommandRepository;
+
+    @Mock
+    ClusterBroadcastRelay clusterBroadcastRelay;
+
+    LoopbackClusterTransport.Hub hub;
+
+    final Long STUDY_GROUP_ID = 100L;
+
+    @BeforeEach
+    void setUp() {
+        hub = new LoopbackClusterTransport.Hub();
+        given(clusterBroadcastRelay.getNodeId()).willReturn("node-a");
+        membershipIndex = newIndex(300_000);
+    }
+
+    @Test
+    @DisplayName("처음 조회할 때만 DB에서 승인된 참여자를 적재하고 이후에는 메모리에서 확인한다.")
+    void givenLoadedGroup_whenCheckMemberTwice_thenQueryOnce() {
+        // given
+        given(jpaParticipantRepository.findUserIdsByStudyGroupIdAndStatus(STUDY_GROUP_ID, ParticipantStatus.APPROVED))
+                .willReturn(List.of(3L, 1L, 2L));
+
+        // when
+        membershipIndex.checkMember(STUDY_GROUP_ID, 1L);
+        boolean isMember = membershipIndex.isMember(STUDY_GROUP_ID, 3L);
+
+        // then
+        assertThat(isMember).isTrue();
+        assertThat(membershipIndex.getMemberIds(STUDY_GROUP_ID)).containsExactly(1L, 2L, 3L);
+        verify(jpaParticipantRepository, times(1))
+                .findUserIdsByStudyGroupIdAndStatus(STUDY_GROUP_ID, ParticipantStatus.APPROVED);
+    }
+
+    @Test
+    @DisplayName("승인된 참여자가 아니면 예외를 던진다.")
+    void givenNotApprovedMember_whenCheckMember_thenThrowException() {
+        // given
+        given(jpaParticipantRepository.findUserIdsByStudyGroupIdAndStatus(STUDY_GROUP_ID, ParticipantStatus.APPROVED))
+                .willReturn(List.of(1L));
+
+        // when & then
+        assertThatThrownBy(() -> membershipIndex.checkMember(STUDY_GROUP_ID, 2L))
+                .isInstanceOf(StudyGroupMemberAccessException.class)
+                .hasMessage("해당 유저는 승인된 참여자가 아닙니다.");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 스터디 그룹이면 예외를 던진다.")
+    void givenNotExistGroup_whenCheckMember_thenThrowException() {
+        // given
+        given(jpaParticipantRepository.findUserIdsByStudyGroupIdAndStatus(STUDY_GROUP_ID, ParticipantStatus.APPROVED))
+                .willReturn(List.of());
+        given(studyGroupCommandRepository.existsById(STUDY_GROUP_ID)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> membershipIndex.checkMember(STUDY_GROUP_ID, 1L))
+                .isInstanceOf(StudyGroupNotFoundException.class)
+                .hasMessage("존재하지 않는 스터디 그룹 입니다.");
+    }
+
+    @Test
+    @DisplayName("참여자 상태 변경 이벤트를 받으면 인덱스를 갱신한다.")
+    void givenStatusChangedEvent_whenOnParticipantStatusChanged_thenUpdateIndex() {
+        // given
+        given(jpaParticipantRepository.findUserIdsByStudyGroupIdAndStatus(STUDY_GROUP_ID, ParticipantStatus.APPROVED))
+                .willReturn(List.of(1L, 2L));
+        membershipIndex.checkMember(STUDY_GROUP_ID, 1L);
+
+        // when
+        membershipIndex.onParticipantStatusChanged(
+                new ParticipantStatusChangedEvent(STUDY_GROUP_ID, 3L, ParticipantStatus.APPROVED));
+        membershipIndex.onParticipantStatusChanged(
+                new ParticipantStatusChangedEvent(STUDY_GROUP_ID, 2L, ParticipantStatus.KICKED));
+
+        // then
+        assertThat(membershipIndex.getMemberIds(STUDY_GROUP_ID)).containsExactly(1L, 3L);
+        verify(jpaParticipantRepository, times(1))
+                .findUserIdsByStudyGroupIdAndStatus(STUDY_GROUP_ID, ParticipantStatus.APPROVED);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 커밋된 참여자 상태 변경도 인덱스에 반영한다.")
+    void givenStatusChangedOnOtherNode_whenRelayed_thenUpdateIndex() {
+        // given
+        given(jpaParticipantRepository.findUserIdsByStudyGroupIdAndStatus(STUDY_GROUP_ID, ParticipantStatus.APPROVED))
+                .willReturn(List.of(1L, 2L));
+        membershipIndex.checkMember(STUDY_GROUP_ID, 1L);
+
+        ClusterBroadcastRelay otherRelay = mock(ClusterBroadcastRelay.class);
+        given(otherRelay.getNodeId()).willReturn("node-b");
+        StudyGroupMembershipIndex otherIndex = new StudyGroupMembershipIndex(jpaParticipantRepository,
+                studyGroupCommandRepository, new LoopbackClusterTransport(hub), new ObjectMapper(), otherRelay,
+                300_000);
+        otherIndex.start();
+
+        // when
+        otherIndex.onParticipantStatusChanged(
+                new ParticipantStatusChangedEvent(STUDY_GROUP_ID, 2L, ParticipantStatus.LEAVE));
+
+        // then
+        assertThat(membershipIndex.isMember(STUDY_GROUP_ID, 2L)).isFalse();
+        verify(jpaParticipantRepository, times(1))
+                .findUserIdsByStudyGroupIdAndStatus(STUDY_GROUP_ID, ParticipantStatus.APPROVED);
+    }
+
+    @Test
+    @DisplayName("ttl 이 지난 그룹은 DB에서 다시 적재한다.")
+    void givenExpiredGroup_whenCheckMember_thenReload() {
+        // given
+        StudyGroupMembershipIndex expiringIndex = newIndex(0);
+        given(jpaParticipantRepository.findUserIdsByStudyGroupIdAndStatus(STUDY_GROUP_ID, ParticipantStatus.APPROVED))
+                .willReturn(List.of(1L), List.of(1L, 2L));
+        expiringIndex.checkMember(STUDY_GROUP_ID, 1L);
+
+        // when
+        boolean isMember = expiringIndex.isMember(STUDY_GROUP_ID, 2L);
+
+        // then
+        assertThat(isMember).isTrue();
+        verify(jpaParticipantRepository, times(2))
+                .findUserIdsByStudyGroupIdAndStatus(STUDY_GROUP_ID, ParticipantStatus.APPROVED);
+    }
+
+    private StudyGroupMembershipIndex newIndex(long ttlMillis) {
+        StudyGroupMembershipIndex index = new StudyGroupMembershipIndex(jpaParticipantRepository,
+                studyGroupCommandRepository, new LoopbackClusterTransport(hub), new ObjectMapper(),
+                clusterBroadcastRelay, ttlMillis);
+        index.start();
+        return index;
+    }
+}
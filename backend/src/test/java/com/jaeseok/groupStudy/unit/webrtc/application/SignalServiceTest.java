@@ -3,13 +3,11 @@ package com.jaeseok.groupStudy.unit.webrtc.application;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
-import com.jaeseok.groupStudy.studyGroup.domain.StudyGroup;
-import com.jaeseok.groupStudy.studyGroup.domain.StudyGroupCommandRepository;
 import com.jaeseok.groupStudy.studyGroup.exception.StudyGroupMemberAccessException;
 import com.jaeseok.groupStudy.studyGroup.exception.StudyGroupNotFoundException;
+import com.jaeseok.groupStudy.studyGroup.infrastructure.membership.StudyGroupMembershipIndex;
 import com.jaeseok.groupStudy.webrtc.application.SignalService;
 import com.jaeseok.groupStudy.webrtc.dto.SignalMessage;
-import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -30,10 +28,7 @@ class SignalServiceTest {
     SimpMessagingTemplate messagingTemplate;
 
     @Mock
-    StudyGroupCommandRepository studyGroupRepository;
-
-    @Mock
-    StudyGroup mockStudyGroup;
+    StudyGroupMembershipIndex studyGroupMembershipIndex;
 
     Long roomId;
     Long senderId;
@@ -52,10 +47,8 @@ class SignalServiceTest {
     @DisplayName("sender의 시그널을 receiver에게 방송한다.")
     void givenRoomIdAndSignalMessage_whenRelaySignal_thenCollectExecute() {
         // given
-        given(studyGroupRepository.findById(roomId)).willReturn(Optional.of(mockStudyGroup));
-
-        willDoNothing().given(mockStudyGroup).isMember(senderId);
-        willDoNothing().given(mockStudyGroup).isMember(receiverId);
+        willDoNothing().given(studyGroupMembershipIndex).checkMember(roomId, senderId);
+        willDoNothing().given(studyGroupMembershipIndex).checkMember(roomId, receiverId);
 
         String expectedDestination = "/sub/signal/user/" + receiverId;
 
@@ -63,9 +56,8 @@ class SignalServiceTest {
         signalService.relaySignal(roomId, signalMessage);
 
         // then
-        verify(studyGroupRepository, times(1)).findById(roomId);
-        verify(mockStudyGroup, times(1)).isMember(senderId);
-        verify(mockStudyGroup, times(1)).isMember(receiverId);
+        verify(studyGroupMembershipIndex, times(1)).checkMember(roomId, senderId);
+        verify(studyGroupMembershipIndex, times(1)).checkMember(roomId, receiverId);
 
         verify(messagingTemplate, times(1)).convertAndSend(expectedDestination, signalMessage);
     }
@@ -74,7 +66,8 @@ class SignalServiceTest {
     @DisplayName("시그널링 중계할 때, 해당 스터디 그룹이 존재하지 않으면 예외를 던진다.")
     void givenNotExistRoomId_whenRelaySignal_thenThrowException() {
         // given
-        given(studyGroupRepository.findById(roomId)).willReturn(Optional.empty());
+        willThrow(new StudyGroupNotFoundException("존재하지 않는 스터디 그룹 입니다."))
+                .given(studyGroupMembershipIndex).checkMember(roomId, senderId);
 
         // when & then
         assertThatThrownBy(() -> signalService.relaySignal(roomId, signalMessage))
@@ -88,38 +81,34 @@ class SignalServiceTest {
     @DisplayName("시그널링 중계할 때, sender가 해당 스터디 그룹의 멤버가 아니라면 예외를 던진다.")
     void givenNotExistSenderMember_whenRelaySignal_thenThrowException() {
         // given
-        given(studyGroupRepository.findById(roomId)).willReturn(Optional.of(mockStudyGroup));
 
         willThrow(new StudyGroupMemberAccessException("해당 유저는 승인된 참여자가 아닙니다."))
-                .given(mockStudyGroup).isMember(senderId);
+                .given(studyGroupMembershipIndex).checkMember(roomId, senderId);
 
         // when & then
         assertThatThrownBy(() -> signalService.relaySignal(roomId, signalMessage))
                 .isInstanceOf(StudyGroupMemberAccessException.class)
                 .hasMessage("해당 유저는 승인된 참여자가 아닙니다.");
 
-        verify(studyGroupRepository, times(1)).findById(roomId);
         verify(messagingTemplate, never()).convertAndSend(anyString(), any(SignalMessage.class));
-        verify(mockStudyGroup, never()).isMember(receiverId);
+        verify(studyGroupMembershipIndex, never()).checkMember(roomId, receiverId);
     }
 
     @Test
     @DisplayName("시그널링 중계할 때, receiver가 해당 스터디 그룹의 멤버가 아니라면 예외를 던진다.")
     void givenNotExistReceiverMember_whenRelaySignal_thenThrowException() {
         // given
-        given(studyGroupRepository.findById(roomId)).willReturn(Optional.of(mockStudyGroup));
-        willDoNothing().given(mockStudyGroup).isMember(senderId);
+        willDoNothing().given(studyGroupMembershipIndex).checkMember(roomId, senderId);
 
         willThrow(new StudyGroupMemberAccessException("해당 유저는 승인된 참여자가 아닙니다."))
-                .given(mockStudyGroup).isMember(receiverId);
+                .given(studyGroupMembershipIndex).checkMember(roomId, receiverId);
 
         // when & then
         assertThatThrownBy(() -> signalService.relaySignal(roomId, signalMessage))
                 .isInstanceOf(StudyGroupMemberAccessException.class)
                 .hasMessage("해당 유저는 승인된 참여자가 아닙니다.");
 
-        verify(studyGroupRepository, times(1)).findById(roomId);
         verify(messagingTemplate, never()).convertAndSend(anyString(), any(SignalMessage.class));
-        verify(mockStudyGroup, times(1)).isMember(senderId);
+        verify(studyGroupMembershipIndex, times(1)).checkMember(roomId, senderId);
     }
 }
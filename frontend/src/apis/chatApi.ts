@@ -1,4 +1,8 @@
-import type { ReceivedMessage } from "../types/chat";
+import type {
+  ChatHistorySlice,
+  ReceivedMessage,
+  UnreadCount,
+} from "../types/chat";
 import api from "./instance";
 
 export const fetchChatHistoryAPI = async (roomId: string) => {
@@ -11,3 +15,115 @@ export const fetchChatHistoryAPI = async (roomId: string) => {
     throw err;
   }
 };
+
+// 순번이 (fromSeq, toSeq] 인 메세지만 조회 (브로드캐스트를 놓친 구간)
+export const fetchChatHistoryRangeAPI = async (
+  roomId: string,
+  fromSeq: number,
+  toSeq: number
+) => {
+  try {
+    const response = await api.get(`/chat/history/${roomId}/range`, {
+      params: { fromSeq, toSeq },
+    });
+
+    return response.data as ReceivedMessage[];
+  } catch (err) {
+    console.error("Fetch Chat History Range API Error: ", err);
+    throw err;
+  }
+};
+
+// 채팅 내용 검색 (최신순, before 는 이전 응답의 nextCursor)
+export const searchChatHistoryAPI = async (
+  roomId: string,
+  q: string,
+  before?: string
+) => {
+  try {
+    const response = await api.get(`/chat/history/${roomId}/search`, {
+      params: { q, before, size: 20 },
+    });
+
+    return response.data as ChatHistorySlice;
+  } catch (err) {
+    console.error("Search Chat History API Error: ", err);
+    throw err;
+  }
+};
+
+// 참여 중인 모든 채팅방의 안 읽은 메세지 수
+export const fetchUnreadCountsAPI = async () => {
+  try {
+    const response = await api.get(`/chat/unread`);
+
+    return response.data as UnreadCount[];
+  } catch (err) {
+    console.error("Fetch Unread Counts API Error: ", err);
+    throw err;
+  }
+};
+
+// 채팅방을 seq 까지 읽은 것으로 처리
+export const markReadAPI = async (roomId: string, seq: number) => {
+  try {
+    await api.put(`/chat/read/${roomId}`, null, { params: { seq } });
+  } catch (err) {
+    console.error("Mark Read API Error: ", err);
+    throw err;
+  }
+};
+
+// 채팅방 전체 내역 내보내기 (NDJSON 파일)
+export const exportChatHistoryAPI = async (roomId: string) => {
+  try {
+    const response = await api.get(`/chat/history/${roomId}/export`, {
+      params: { gzip: true },
+      responseType: "blob",
+    });
+
+    return response.data as Blob;
+  } catch (err) {
+    console.error("Export Chat History API Error: ", err);
+    throw err;
+  }
+};
+
+// 첨부 파일 업로드 (서버가 첨부 파일 메세지를 채팅방에 방송한다)
+export const uploadAttachmentAPI = async (
+  roomId: string,
+  file: File,
+  clientMessageId: string
+) => {
+  try {
+    const formData = new FormData();
+    formData.append("file", file);
+    const response = await api.post(`/chat/attachments/${roomId}`, formData, {
+      params: { clientMessageId },
+      headers: { "Content-Type": "multipart/form-data" },
+    });
+
+    return response.data as ReceivedMessage | "";
+  } catch (err) {
+    console.error("Upload Attachment API Error: ", err);
+    throw err;
+  }
+};
+
+// 첨부 파일 다운로드
+export const downloadAttachmentAPI = async (
+  roomId: string,
+  attachmentId: number
+) => {
+  try {
+    const response = await api.get(
+      `/chat/attachments/${roomId}/${attachmentId}`,
+      { responseType: "blob" }
+    );
+
+    return response.data as Blob;
+  } catch (err) {
+    console.error("Download Attachment API Error: ", err);
+    throw err;
+  }
+};
@@ -0,0 +1,46 @@
+import { downloadAttachmentAPI } from "../../apis/chatApi";
+import type { ChatAttachment } from "../../types/chat";
+
+interface ChatAttachmentLinkProps {
+  roomId: string;
+  attachment: ChatAttachment;
+}
+
+const formatSize = (size: number) => {
+  if (size < 1024) {
+    return `${size}B`;
+  }
+  if (size < 1024 * 1024) {
+    return `${(size / 1024).toFixed(1)}KB`;
+  }
+  return `${(size / (1024 * 1024)).toFixed(1)}MB`;
+};
+
+function ChatAttachmentLink({ roomId, attachment }: ChatAttachmentLinkProps) {
+  // 다운로드에도 인증 헤더가 필요하므로 링크 대신 API 로 받아 저장한다.
+  const handleDownload = async () => {
+    try {
+      const blob = await downloadAttachmentAPI(roomId, attachment.id);
+      const url = URL.createObjectURL(blob);
+      const link = document.createElement("a");
+      link.href = url;
+      link.download = attachment.fileName;
+      link.click();
+      URL.revokeObjectURL(url);
+    } catch {
+      alert("첨부 파일을 내려받지 못했습니다.");
+    }
+  };
+
+  return (
+    <button
+      type="button"
+      onClick={handleDownload}
+      className="text-indigo-600 underline hover:text-indigo-800"
+    >
+      📎 {attachment.fileName} ({formatSize(attachment.size)})
+    </button>
+  );
+}
+
+export default ChatAttachmentLink;
@@ -0,0 +1,40 @@
+import { useState } from "react";
+import { exportChatHistoryAPI } from "../../apis/chatApi";
+
+interface ChatExportButtonProps {
+  roomId: string;
+}
+
+function ChatExportButton({ roomId }: ChatExportButtonProps) {
+  const [isExporting, setIsExporting] = useState(false);
+
+  const handleExport = async () => {
+    setIsExporting(true);
+    try {
+      const blob = await exportChatHistoryAPI(roomId);
+      const url = URL.createObjectURL(blob);
+      const link = document.createElement("a");
+      link.href = url;
+      link.download = `chat-${roomId}.ndjson.gz`;
+      link.click();
+      URL.revokeObjectURL(url);
+    } catch {
+      alert("채팅 내역을 내보내지 못했습니다. 잠시 후 다시 시도해주세요.");
+    } finally {
+      setIsExporting(false);
+    }
+  };
+
+  return (
+    <button
+      type="button"
+      onClick={handleExport}
+      disabled={isExporting}
+      className="text-xs text-gray-500 hover:text-gray-800 disabled:text-gray-300"
+    >
+      {isExporting ? "내보내는 중..." : "채팅 내역 내보내기"}
+    </button>
+  );
+}
+
+export default ChatExportButton;
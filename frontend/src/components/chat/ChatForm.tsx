@@ -1,11 +1,35 @@
-import React, { useState } from "react";
+import React, { useRef, useState } from "react";
 
 interface ChatFormProps {
   onSendMessage: (message: string) => void;
+  onTyping?: (typing: boolean) => void;
+  onSendAttachment?: (file: File) => Promise<void>;
 }
 
-function ChatForm({ onSendMessage }: ChatFormProps) {
+function ChatForm({
+  onSendMessage,
+  onTyping,
+  onSendAttachment,
+}: ChatFormProps) {
   const [newMessage, setNewMessage] = useState("");
+  const [isUploading, setIsUploading] = useState(false);
+  const fileInputRef = useRef<HTMLInputElement>(null);
+
+  const handleFileChange = async (e: React.ChangeEvent<HTMLInputElement>) => {
+    const file = e.target.files?.[0];
+    e.target.value = "";
+    if (!file || !onSendAttachment) {
+      return;
+    }
+    setIsUploading(true);
+    try {
+      await onSendAttachment(file);
+    } catch {
+      alert("첨부 파일을 올리지 못했습니다.");
+    } finally {
+      setIsUploading(false);
+    }
+  };
 
   const handleSendMessage = (e: React.FormEvent<HTMLFormElement>) => {
     e.preventDefault();
@@ -20,12 +44,34 @@ function ChatForm({ onSendMessage }: ChatFormProps) {
       className="p-4 border-t border-gray-200 flex"
       onSubmit={handleSendMessage}
     >
+      {onSendAttachment && (
+        <>
+          <input
+            ref={fileInputRef}
+            type="file"
+            className="hidden"
+            onChange={handleFileChange}
+          />
+          <button
+            type="button"
+            className="mr-2 px-2 text-gray-500 hover:text-gray-800 disabled:text-gray-300"
+            onClick={() => fileInputRef.current?.click()}
+            disabled={isUploading}
+            aria-label="파일 첨부"
+          >
+            {isUploading ? "⏳" : "📎"}
+          </button>
+        </>
+      )}
       <input
         type="text"
         className="flex-1 border border-gray-300 rounded-l-md p-2 focus:outline-none focus:ring-2 focus:ring-indigo-500"
         placeholder="메시지 입력..."
         value={newMessage}
-        onChange={(e) => setNewMessage(e.target.value)}
+        onChange={(e) => {
+          setNewMessage(e.target.value);
+          onTyping?.(e.target.value.trim() !== "");
+        }}
       />
       <button
         type="submit"
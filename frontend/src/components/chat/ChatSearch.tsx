@@ -0,0 +1,91 @@
+import React, { useState } from "react";
+import { format } from "date-fns";
+import { ko } from "date-fns/locale";
+import { searchChatHistoryAPI } from "../../apis/chatApi";
+import type { ReceivedMessage } from "../../types/chat";
+
+interface ChatSearchProps {
+  roomId: string;
+}
+
+function ChatSearch({ roomId }: ChatSearchProps) {
+  const [query, setQuery] = useState("");
+  const [searchedQuery, setSearchedQuery] = useState("");
+  const [results, setResults] = useState<ReceivedMessage[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [error, setError] = useState<string | null>(null);
+
+  const search = async (q: string, before?: string) => {
+    try {
+      const slice = await searchChatHistoryAPI(roomId, q, before);
+      setResults((prev) =>
+        before ? [...prev, ...slice.messages] : slice.messages
+      );
+      setNextCursor(slice.hasNext ? slice.nextCursor : null);
+      setSearchedQuery(q);
+      setError(null);
+    } catch {
+      setError("검색어는 붙어 있는 두 글자 이상이어야 합니다.");
+    }
+  };
+
+  const handleSubmit = (e: React.FormEvent<HTMLFormElement>) => {
+    e.preventDefault();
+    if (query.trim() !== "") {
+      search(query.trim());
+    }
+  };
+
+  return (
+    <div className="p-4 border-b border-gray-200">
+      <form className="flex" onSubmit={handleSubmit}>
+        <input
+          type="text"
+          className="flex-1 border border-gray-300 rounded-l-md p-1 text-sm focus:outline-none focus:ring-2 focus:ring-indigo-500"
+          placeholder="채팅 검색..."
+          value={query}
+          onChange={(e) => setQuery(e.target.value)}
+        />
+        <button
+          type="submit"
+          className="bg-gray-200 px-3 rounded-r-md text-sm hover:bg-gray-300"
+        >
+          검색
+        </button>
+      </form>
+
+      {error && <p className="mt-2 text-xs text-red-500">{error}</p>}
+
+      {searchedQuery && !error && (
+        <ul className="mt-2 max-h-48 overflow-y-auto space-y-2">
+          {results.length === 0 && (
+            <li className="text-xs text-gray-500">검색 결과가 없습니다.</li>
+          )}
+          {results.map((msg) => (
+            <li key={msg.seq} className="text-xs">
+              <span className="font-bold">{msg.nickname}: </span>
+              <span>{msg.content}</span>
+              <span className="text-gray-500 ml-2">
+                {format(new Date(msg.timestamp), "yyyy. M. d. a h:mm", {
+                  locale: ko,
+                })}
+              </span>
+            </li>
+          ))}
+          {nextCursor && (
+            <li>
+              <button
+                className="text-xs text-indigo-600 hover:underline"
+                onClick={() => search(searchedQuery, nextCursor)}
+              >
+                더 보기
+              </button>
+            </li>
+          )}
+        </ul>
+      )}
+    </div>
+  );
+}
+
+export default ChatSearch;
@@ -3,9 +3,10 @@ import type { StudySummary } from "../../types/study";
 
 type StudyCardProps = {
   study: StudySummary;
+  unreadCount?: number;
 };
 
-function StudyCard({ study }: StudyCardProps) {
+function StudyCard({ study, unreadCount = 0 }: StudyCardProps) {
   const statusStyles = {
     RECRUITING: "bg-green-100 text-grenn-800",
     START: "bg-blue-100 text-blue-800",
@@ -35,10 +36,15 @@ function StudyCard({ study }: StudyCardProps) {
         <p className="mt-2 text-sm text-gray-600">
           모집 방식: {study.policy === "AUTO" ? "선착순" : "승인제"}
         </p>
-        <div className="mt-4 text-sm font-medium text-gray-700">
+        <div className="mt-4 flex justify-between items-center text-sm font-medium text-gray-700">
           <span>
             인원: {study.curMemberCount} / {study.capacity}
           </span>
+          {unreadCount > 0 && (
+            <span className="px-2 py-0.5 text-xs font-semibold text-white bg-red-500 rounded-full">
+              {unreadCount > 99 ? "99+" : unreadCount}
+            </span>
+          )}
         </div>
       </div>
     </Link>
@@ -3,11 +3,31 @@ import { useUserStore } from "../store/userStore";
 import { Client, type IMessage } from "@stomp/stompjs";
 import SockJS from "sockjs-client";
 import type {
+  ChatMention,
+  ChatReplay,
   OnlineParticipant,
+  ParticipantsDelta,
+  ParticipantsSnapshot,
   ReceivedMessage,
   SendMessagePayload,
+  SessionResume,
+  TypingState,
+  TypingUser,
 } from "../types/chat";
-import { fetchChatHistoryAPI } from "../apis/chatApi";
+import {
+  fetchChatHistoryAPI,
+  fetchChatHistoryRangeAPI,
+  markReadAPI,
+  uploadAttachmentAPI,
+} from "../apis/chatApi";
+
+// 서버의 입력 중 만료 시간(5초)보다 짧게 신호를 다시 보낸다.
+const TYPING_SIGNAL_INTERVAL = 2000;
+const TYPING_TTL = 6000;
+// 읽음 처리는 메세지마다 보내지 않고 마지막 순번만 모아서 보낸다.
+const MARK_READ_DELAY = 3000;
+// 서버의 구간 조회 한도 (놓친 구간이 더 길면 내역을 다시 불러온다)
+const MAX_GAP_FETCH = 100;
 
 export const useChat = (
   roomId: string | undefined,
@@ -17,8 +37,11 @@ export const useChat = (
   const [onlineParticipants, setOnlineParticipants] = useState<
     OnlineParticipant[]
   >([]);
+  const [typingUsers, setTypingUsers] = useState<TypingUser[]>([]);
   const nickname = useUserStore((state) => state.userInfo?.nickname);
   const clientRef = useRef<Client | null>(null);
+  // 마지막으로 입력 중 신호를 보낸 시각 (신호는 TYPING_SIGNAL_INTERVAL 마다 한 번만 보낸다)
+  const lastTypingSignalRef = useRef(0);
 
   useEffect(() => {
     if (!roomId || !memberId) {
@@ -26,9 +49,63 @@ export const useChat = (
       return;
     }
 
+    // 마지막으로 받은 메세지 순번 (내역을 아직 받지 못했으면 null)
+    let lastSeq: number | null = null;
+    // 서버에 마지막으로 읽음 처리한 순번
+    let lastReadSeq: number | null = null;
+    let markReadTimer: ReturnType<typeof setTimeout> | undefined;
+    const flushRead = () => {
+      markReadTimer = undefined;
+      if (
+        lastSeq === null ||
+        (lastReadSeq !== null && lastSeq <= lastReadSeq)
+      ) {
+        return;
+      }
+      lastReadSeq = lastSeq;
+      markReadAPI(roomId, lastSeq).catch(() => {
+        lastReadSeq = null;
+      });
+    };
+    const advanceSeq = (seq: number | undefined) => {
+      if (seq !== undefined && (lastSeq === null || seq > lastSeq)) {
+        lastSeq = seq;
+        if (markReadTimer === undefined) {
+          markReadTimer = setTimeout(flushRead, MARK_READ_DELAY);
+        }
+      }
+    };
+
+    // 놓친 메세지를 이미 받은 메세지와 합쳐 순번 순으로 끼워 넣는다.
+    const mergeMessages = (missed: ReceivedMessage[]) => {
+      missed.forEach((m) => advanceSeq(m.seq));
+      setMessages((prevMessages) => {
+        const known = new Set(prevMessages.map((m) => m.seq));
+        const merged = [
+          ...prevMessages,
+          ...missed.filter(
+            (m) => !known.has(m.seq) && m.senderId != memberId
+          ),
+        ];
+        return merged.sort(
+          (a, b) => (a.seq ?? Infinity) - (b.seq ?? Infinity)
+        );
+      });
+    };
+
+    // 순번이 건너뛰면 놓친 구간만 다시 받는다.
+    const fetchGap = async (fromSeq: number, toSeq: number) => {
+      try {
+        mergeMessages(await fetchChatHistoryRangeAPI(roomId, fromSeq, toSeq));
+      } catch (err) {
+        console.error("놓친 채팅 내역 로딩 실패: ", err);
+      }
+    };
+
     const loadChatHistory = async () => {
       try {
         const chatHistory = await fetchChatHistoryAPI(roomId);
+        chatHistory.forEach((m) => advanceSeq(m.seq));
         setMessages(chatHistory.reverse());
         console.log("history: ", chatHistory);
       } catch (err) {
@@ -39,6 +116,8 @@ export const useChat = (
     loadChatHistory();
 
     const accessToken = localStorage.getItem("accessToken");
+    // 다음 재연결 때 이전 세션을 이어받기 위한 토큰 (연결할 때마다 새로 받는다)
+    let resumeToken: string | null = null;
 
     // STOMP Client 생성
     const client = new Client({
@@ -46,6 +125,13 @@ export const useChat = (
       connectHeaders: {
         Authorization: `Bearer ${accessToken}`,
       },
+      // 재연결 때는 이어받기 토큰을 함께 보내 입장 처리를 다시 하지 않게 한다.
+      beforeConnect: () => {
+        client.connectHeaders = {
+          Authorization: `Bearer ${accessToken}`,
+          ...(resumeToken ? { "resume-token": resumeToken } : {}),
+        };
+      },
       reconnectDelay: 5000,
       heartbeatIncoming: 10000,
       heartbeatOutgoing: 10000,
@@ -67,31 +153,150 @@ export const useChat = (
       onConnect: () => {
         console.log("STOMP 연결");
 
-        // 채팅 메세지 구독
-        client.subscribe(`/sub/chatroom/${roomId}`, (message: IMessage) => {
-          const newMessage = JSON.parse(message.body) as ReceivedMessage;
-          if (newMessage.senderId == memberId) {
+        // 이 연결의 이어받기 토큰 (구독하면 한 번 응답한다)
+        client.subscribe("/pub/session", (message: IMessage) => {
+          const session = JSON.parse(message.body) as SessionResume;
+          resumeToken = session.resumeToken;
+        });
+
+        // 나를 언급한 메세지 (어느 채팅방이든 내 모든 세션으로 온다)
+        client.subscribe("/user/queue/mentions", (message: IMessage) => {
+          const mention = JSON.parse(message.body) as ChatMention;
+          // 보고 있는 채팅방의 메세지는 화면에 이미 보인다.
+          if (String(mention.roomId) === roomId && !document.hidden) {
             return;
           }
-          setMessages((prevMessages) => [...prevMessages, newMessage]);
+          if (
+            "Notification" in window &&
+            Notification.permission === "granted"
+          ) {
+            new Notification(`${mention.nickname}님이 나를 언급했습니다.`, {
+              body: mention.content,
+              tag: `mention-${mention.roomId}-${mention.seq}`,
+            });
+          }
         });
 
-        // 최신 온라인 명단 구독
+        // 재연결 전에 놓친 메세지 (채팅방 구독에 마지막 순번을 실어 보냈을 때만 온다)
+        client.subscribe(
+          `/user/queue/chatroom/${roomId}/replay`,
+          (message: IMessage) => {
+            const replay = JSON.parse(message.body) as ChatReplay;
+            if (replay.complete) {
+              mergeMessages(replay.messages);
+            } else if (lastSeq !== null && replay.latestSeq > lastSeq) {
+              if (replay.latestSeq - lastSeq > MAX_GAP_FETCH) {
+                loadChatHistory();
+              } else {
+                fetchGap(lastSeq, replay.latestSeq);
+              }
+            }
+          }
+        );
+
+        // 채팅 메세지 구독 (재연결이면 마지막으로 받은 순번 이후를 다시 받는다)
+        const resumeHeaders: Record<string, string> =
+          lastSeq !== null ? { "resume-seq": String(lastSeq) } : {};
+        client.subscribe(
+          `/sub/chatroom/${roomId}`,
+          (message: IMessage) => {
+            const newMessage = JSON.parse(message.body) as ReceivedMessage;
+            if (
+              lastSeq !== null &&
+              newMessage.seq !== undefined &&
+              newMessage.seq > lastSeq + 1
+            ) {
+              fetchGap(lastSeq, newMessage.seq - 1);
+            }
+            advanceSeq(newMessage.seq);
+            setMessages((prevMessages) => {
+              // 내가 보낸 메세지는 낙관적으로 추가한 메세지를 서버 응답(순번 포함)으로 바꾼다.
+              if (
+                newMessage.clientMessageId &&
+                prevMessages.some(
+                  (m) => m.clientMessageId === newMessage.clientMessageId
+                )
+              ) {
+                return prevMessages.map((m) =>
+                  m.clientMessageId === newMessage.clientMessageId
+                    ? newMessage
+                    : m
+                );
+              }
+              return newMessage.seq !== undefined &&
+                prevMessages.some((m) => m.seq === newMessage.seq)
+                ? prevMessages
+                : [...prevMessages, newMessage];
+            });
+          },
+          resumeHeaders
+        );
+
+        // 입력 중 목록 구독 (바뀔 때만 오므로, 한동안 소식이 없으면 스스로 지운다)
+        let typingExpiry: ReturnType<typeof setTimeout> | undefined;
+        client.subscribe(
+          `/sub/chatroom/${roomId}/typing`,
+          (message: IMessage) => {
+            const state = JSON.parse(message.body) as TypingState;
+            setTypingUsers(state.users.filter((u) => u.userId != memberId));
+            clearTimeout(typingExpiry);
+            typingExpiry = setTimeout(() => setTypingUsers([]), TYPING_TTL);
+          }
+        );
+
+        // 현재 명단의 버전 (전체 명단을 아직 받지 못했으면 null)
+        let participantsVersion: number | null = null;
+        const requestParticipants = () => {
+          client.publish({
+            destination: `/pub/chatroom/${roomId}/request-participants`,
+          });
+        };
+
+        // 전체 온라인 명단 (요청한 세션에만 전송됨)
+        client.subscribe(
+          `/user/queue/chatroom/${roomId}/participants`,
+          (message: IMessage) => {
+            const snapshot = JSON.parse(message.body) as ParticipantsSnapshot;
+            if (
+              participantsVersion !== null &&
+              snapshot.version < participantsVersion
+            ) {
+              return;
+            }
+            participantsVersion = snapshot.version;
+            setOnlineParticipants(snapshot.participants);
+          }
+        );
+
+        // 온라인 명단 변경분 구독 (버전이 이어지지 않으면 전체 명단을 다시 요청)
         client.subscribe(
           `/sub/chatroom/${roomId}/participants`,
           (message: IMessage) => {
-            const latestParticipants = JSON.parse(
-              message.body
-            ) as OnlineParticipant[];
-            setOnlineParticipants(latestParticipants);
-            console.log("최신 온라인 명단: ", latestParticipants);
+            const delta = JSON.parse(message.body) as ParticipantsDelta;
+            if (participantsVersion === null) {
+              return;
+            }
+            if (delta.previousVersion !== participantsVersion) {
+              if (delta.version > participantsVersion) {
+                participantsVersion = null;
+                requestParticipants();
+              }
+              return;
+            }
+            participantsVersion = delta.version;
+            setOnlineParticipants((prev) => {
+              const others = prev.filter(
+                (p) => p.userId !== delta.participant.userId
+              );
+              return delta.type === "JOIN"
+                ? [...others, delta.participant]
+                : others;
+            });
           }
         );
 
         // 모든 구독이 완료된 후 최신 온라인 명단 요청
-        client.publish({
-          destination: `/pub/chatroom/${roomId}/request-participants`,
-        });
+        requestParticipants();
       },
 
       onDisconnect: () => {
@@ -99,10 +304,18 @@ export const useChat = (
       },
     });
 
+    // 언급 알림을 띄울 수 있도록 한 번 권한을 요청한다.
+    if ("Notification" in window && Notification.permission === "default") {
+      Notification.requestPermission();
+    }
+
     client.activate();
     clientRef.current = client;
 
     return () => {
+      // 방을 나갈 때 아직 보내지 않은 읽음 처리를 보낸다.
+      clearTimeout(markReadTimer);
+      flushRead();
       if (client?.active) {
         client.deactivate();
       }
@@ -117,18 +330,23 @@ export const useChat = (
     });
 
     if (clientRef.current?.connected && nickname && memberId && roomId) {
+      const clientMessageId = crypto.randomUUID();
       const optimisticMessage: ReceivedMessage = {
         senderId: memberId,
         nickname: nickname,
         content: messageText,
         timestamp: new Date().toISOString(),
+        clientMessageId,
       };
 
       setMessages((prevMessage) => [...prevMessage, optimisticMessage]);
+      // 메세지를 보내면 서버에서 입력 중 상태를 지우므로 다음 입력 때 다시 알린다.
+      lastTypingSignalRef.current = 0;
 
       const messagePayload: SendMessagePayload = {
         message: messageText,
         type: "CHAT",
+        clientMessageId,
       };
       clientRef.current.publish({
         destination: `/pub/chatroom/${roomId}/message`,
@@ -137,6 +355,30 @@ export const useChat = (
     }
   };
 
+  // 첨부 파일은 업로드 API 로 보내고, 메세지는 채팅방 방송으로 받는다.
+  const sendAttachment = async (file: File) => {
+    if (!roomId) {
+      return;
+    }
+    await uploadAttachmentAPI(roomId, file, crypto.randomUUID());
+  };
+
+  // 입력 중 신호 (키 입력마다 호출해도 일정 간격으로만 전송)
+  const notifyTyping = (typing: boolean) => {
+    if (!clientRef.current?.connected || !roomId) {
+      return;
+    }
+    const now = Date.now();
+    if (typing && now - lastTypingSignalRef.current < TYPING_SIGNAL_INTERVAL) {
+      return;
+    }
+    lastTypingSignalRef.current = typing ? now : 0;
+    clientRef.current.publish({
+      destination: `/pub/chatroom/${roomId}/typing`,
+      body: JSON.stringify({ typing }),
+    });
+  };
+
   const disconnect = () => {
     if (clientRef.current) {
       clientRef.current.deactivate();
@@ -144,5 +386,13 @@ export const useChat = (
     }
   };
 
-  return { messages, onlineParticipants, sendMessage, disconnect };
+  return {
+    messages,
+    onlineParticipants,
+    typingUsers,
+    sendMessage,
+    sendAttachment,
+    notifyTyping,
+    disconnect,
+  };
 };
@@ -0,0 +1,27 @@
+import { useEffect, useState } from "react";
+import { fetchUnreadCountsAPI } from "../apis/chatApi";
+
+// 참여 중인 스터디 채팅방별 안 읽은 메세지 수 <스터디 그룹 ID, 수>
+export const useUnreadCounts = () => {
+  const [unreadCounts, setUnreadCounts] = useState<Record<number, number>>(
+    {}
+  );
+
+  useEffect(() => {
+    const getUnreadCounts = async () => {
+      try {
+        const counts = await fetchUnreadCountsAPI();
+        setUnreadCounts(
+          Object.fromEntries(counts.map((c) => [c.roomId, c.unreadCount]))
+        );
+      } catch (err) {
+        // 배지만 표시하지 않는다.
+        console.error(err);
+      }
+    };
+
+    getUnreadCounts();
+  }, []);
+
+  return { unreadCounts };
+};
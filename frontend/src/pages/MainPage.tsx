@@ -1,8 +1,10 @@
 import StudyCard from "../components/study/StudyCard";
 import { useStuides } from "../hooks/useStudies";
+import { useUnreadCounts } from "../hooks/useUnreadCounts";
 
 function MainPage() {
   const { studies, isLoading, error } = useStuides();
+  const { unreadCounts } = useUnreadCounts();
 
   if (isLoading) {
     return <div className="text-center p-10">스터디 목록을 불러오는 중...</div>;
@@ -26,7 +28,11 @@ function MainPage() {
       {/* 스터디가 있으면 그리드 레이아웃으로 표시*/}
       <div className="grid grid-cols-1 sm:grid-cols-2 lg:grid-cols-3 xl:grid-cols-4 gap-8">
         {studies.map((study) => (
-          <StudyCard key={study.studyGroupId} study={study} />
+          <StudyCard
+            key={study.studyGroupId}
+            study={study}
+            unreadCount={unreadCounts[study.studyGroupId]}
+          />
         ))}
       </div>
     </div>
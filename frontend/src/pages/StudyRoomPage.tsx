@@ -7,7 +7,10 @@ import { ko } from "date-fns/locale";
 import { useUserStore } from "../store/userStore";
 import { useStudyDetail } from "../hooks/useStudyDetail";
 import { useWebRTC } from "../hooks/useWebRTC";
+import ChatAttachmentLink from "../components/chat/ChatAttachmentLink";
+import ChatExportButton from "../components/chat/ChatExportButton";
 import ChatForm from "../components/chat/ChatForm";
+import ChatSearch from "../components/chat/ChatSearch";
 import VideoStreamPlayer from "../components/study/VideoStreamPlayer";
 
 function StudyRoomPage() {
@@ -21,10 +24,14 @@ function StudyRoomPage() {
   const approvedParticipants =
     studyGroupData?.participants.filter((p) => p.status === "APPROVED") || [];
 
-  const { messages, onlineParticipants, sendMessage } = useChat(
-    studyGroupId,
-    memberId
-  );
+  const {
+    messages,
+    onlineParticipants,
+    typingUsers,
+    sendMessage,
+    sendAttachment,
+    notifyTyping,
+  } = useChat(studyGroupId, memberId);
 
   const [isSharingScreen, setIsSharingScreen] = useState(false);
 
@@ -293,6 +300,14 @@ function StudyRoomPage() {
           </ul>
         </div>
 
+        {/* --- 채팅 검색 --- */}
+        {studyGroupId && <ChatSearch roomId={studyGroupId} />}
+        {studyGroupId && (
+          <div className="px-4 py-2 border-b border-gray-200 text-right">
+            <ChatExportButton roomId={studyGroupId} />
+          </div>
+        )}
+
         {/* --- 채팅 메시지 목록 --- */}
         <div className="flex-1 p-4 overflow-y-auto space-y-4">
           {messages.map((msg, index) => {
@@ -309,7 +324,17 @@ function StudyRoomPage() {
                   {isMyMessage ? "나" : msg.nickname}:
                 </span>
 
-                <span> {msg.content}</span>
+                {msg.attachment && studyGroupId ? (
+                  <span>
+                    {" "}
+                    <ChatAttachmentLink
+                      roomId={studyGroupId}
+                      attachment={msg.attachment}
+                    />
+                  </span>
+                ) : (
+                  <span> {msg.content}</span>
+                )}
 
                 <span className="text-xs text-gray-500 ml-2">
                   {format(new Date(msg.timestamp), "yyyy. M. d. a h:mm", {
@@ -321,8 +346,19 @@ function StudyRoomPage() {
           })}
         </div>
 
+        {/* --- 입력 중 표시 --- */}
+        {typingUsers.length > 0 && (
+          <div className="px-4 pb-1 text-xs text-gray-500">
+            {typingUsers.map((u) => u.nickname).join(", ")}님이 입력 중...
+          </div>
+        )}
+
         {/* --- 메시지 입력 폼 --- */}
-        <ChatForm onSendMessage={sendMessage} />
+        <ChatForm
+          onSendMessage={sendMessage}
+          onTyping={notifyTyping}
+          onSendAttachment={sendAttachment}
+        />
       </aside>
     </div>
   );
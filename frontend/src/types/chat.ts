@@ -1,8 +1,10 @@
-export type MessageType = "ENTER" | "CHAT" | "LEAVE";
+export type MessageType = "ENTER" | "CHAT" | "LEAVE" | "ATTACHMENT";
 
 export interface SendMessagePayload {
   message: string;
   type: MessageType;
+  // 재전송된 같은 메세지를 서버가 걸러낼 수 있도록 클라이언트가 만든 ID
+  clientMessageId?: string;
 }
 
 export interface ReceivedMessage {
@@ -10,6 +12,20 @@ export interface ReceivedMessage {
   nickname: string;
   content: string;
   timestamp: string;
+  // 채팅방 안에서 단조 증가하는 순번 (낙관적으로 추가한 내 메세지에는 없음)
+  seq?: number;
+  // 내가 보낸 메세지면 보낼 때 만든 ID (낙관적으로 추가한 메세지와 맞춰 보는 데 쓴다)
+  clientMessageId?: string | null;
+  // 첨부 파일 메세지일 때만 있다
+  attachment?: ChatAttachment | null;
+}
+
+export interface ChatAttachment {
+  id: number;
+  fileName: string;
+  contentType: string;
+  // 바이트 단위
+  size: number;
 }
 export interface OnlineParticipant {
   roomId: number;
@@ -17,3 +33,66 @@ export interface OnlineParticipant {
   nickname: String;
   sessionId: String;
 }
+
+export interface ParticipantsSnapshot {
+  type: "SNAPSHOT";
+  roomId: number;
+  version: number;
+  participants: OnlineParticipant[];
+}
+
+export interface ParticipantsDelta {
+  type: "JOIN" | "LEAVE";
+  roomId: number;
+  version: number;
+  previousVersion: number;
+  participant: OnlineParticipant;
+}
+
+export interface TypingUser {
+  userId: number;
+  nickname: string;
+}
+
+export interface TypingState {
+  roomId: number;
+  users: TypingUser[];
+}
+
+// 커서 기반 채팅 내역 응답 (최신순)
+export interface ChatHistorySlice {
+  messages: ReceivedMessage[];
+  hasNext: boolean;
+  nextCursor: string | null;
+}
+
+// 채팅방별 안 읽은 메세지 수
+export interface UnreadCount {
+  roomId: number;
+  unreadCount: number;
+  lastSeq: number;
+}
+
+// 재연결 후 다시 받은 놓친 메세지 (complete 가 false 면 구간 조회로 다시 받는다)
+export interface ChatReplay {
+  roomId: number;
+  messages: ReceivedMessage[];
+  latestSeq: number;
+  complete: boolean;
+}
+
+// 다른 참여자가 '@닉네임' 으로 나를 언급했을 때 오는 알림
+export interface ChatMention {
+  roomId: number;
+  seq: number;
+  senderId: number;
+  nickname: string;
+  content: string;
+  timestamp: string;
+}
+
+// 재연결 때 이전 세션을 이어받기 위한 토큰
+export interface SessionResume {
+  resumeToken: string;
+  resumed: boolean;
+}